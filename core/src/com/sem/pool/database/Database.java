@@ -1,5 +1,6 @@
 package com.sem.pool.database;
 
+import com.sem.pool.database.tables.PlayerStatsTable;
 import com.sem.pool.database.tables.ResultTable;
 import com.sem.pool.database.tables.UserTable;
 
@@ -10,6 +11,8 @@ import java.util.HashMap;
 
 /**
  * Handle the database.
+ * The database is shared by every game in the process, so the singleton
+ * is created and replaced under the lock of the class.
  */
 public class Database {
     /**
@@ -46,7 +49,9 @@ public class Database {
 
             // Add all tables.
             this.tables.put(UserTable.TABLE_NAME, new UserTable(conn));
-            this.tables.put(ResultTable.TABLE_NAME, new ResultTable(conn));
+            ResultTable results = new ResultTable(conn);
+            this.tables.put(ResultTable.TABLE_NAME, results);
+            this.tables.put(PlayerStatsTable.TABLE_NAME, results.getPlayerStats());
         } catch (SQLException e) {
             System.err.println(e.getClass().getName() + ": " + e.getMessage());
             System.exit(1);
@@ -61,7 +66,7 @@ public class Database {
      *
      * @return The database instance.
      */
-    public static Database getInstance() {
+    public static synchronized Database getInstance() {
         if (Database.db == null) {
             Database.db = new Database(false);
         }
@@ -73,7 +78,7 @@ public class Database {
      * Set the database in test mode.
      * This means the data is stored in memory, not in a file.
      */
-    public static void setTestMode() {
+    public static synchronized void setTestMode() {
         Database.db = new Database(true);
     }
 
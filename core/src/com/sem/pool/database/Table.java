@@ -26,6 +26,47 @@ public abstract class Table {
         this.ensureTable();
     }
 
+    /**
+     * Body of a transaction, which may throw SQL errors.
+     *
+     * @param <T> Type of the result of the body.
+     */
+    protected interface Transaction<T> {
+        T run() throws SQLException;
+    }
+
+    /**
+     * Run the body in a single transaction, which is rolled back if the body fails.
+     * If a transaction is already running, the body becomes part of it.
+     *
+     * @param body The body of the transaction.
+     * @param <T> Type of the result of the body.
+     * @return The result of the body.
+     * @throws SQLException Throws on SQL error.
+     */
+    protected <T> T inTransaction(Transaction<T> body) throws SQLException {
+        synchronized (this.conn) {
+            boolean autoCommit = this.conn.getAutoCommit();
+
+            if (!autoCommit) {
+                return body.run();
+            }
+
+            this.conn.setAutoCommit(false);
+
+            try {
+                T result = body.run();
+                this.conn.commit();
+                return result;
+            } catch (SQLException e) {
+                this.conn.rollback();
+                throw e;
+            } finally {
+                this.conn.setAutoCommit(true);
+            }
+        }
+    }
+
     /**
      * Create the table.
      * Should be implemented by the extenders.
@@ -0,0 +1,164 @@
+package com.sem.pool.database;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-memory queue of rows that are written to the database by a
+ * single writer thread, so that the thread which submits a row does not
+ * wait for the database. The writer drains the queue in batches, and
+ * writes every batch in one transaction, so that slow storage only costs
+ * a single sync per batch. When the queue is full, submitting blocks until
+ * the writer caught up. A row is durable once flush returns, as SQLite
+ * syncs the database file when a transaction is committed; rows that are
+ * still queued when the process crashes are lost.
+ *
+ * @param <T> Type of the rows
+ */
+public class WriteBehindQueue<T> implements AutoCloseable {
+    public static final int CAPACITY = 256;
+    public static final int MAX_BATCH = 64;
+    // Time after which the writer checks whether the queue is closed
+    private static final long POLL_MILLIS = 100;
+
+    /**
+     * Writes a batch of rows to the database, in a single transaction.
+     *
+     * @param <T> Type of the rows
+     */
+    public interface BatchWriter<T> {
+        void write(List<T> batch) throws SQLException;
+    }
+
+    private final transient BlockingQueue<T> queue = new ArrayBlockingQueue<>(CAPACITY);
+    private final transient BatchWriter<T> writer;
+    private final transient Thread thread;
+
+    // Number of submitted and handled rows, and whether the queue is closed,
+    // guarded by the lock
+    private final transient Object lock = new Object();
+    private transient long submitted;
+    private transient long handled;
+    private transient boolean closed;
+
+    /**
+     * Creates a new queue and starts its writer thread.
+     * @param name  Name of the writer thread
+     * @param writer  Writer of the batches of rows
+     */
+    public WriteBehindQueue(String name, BatchWriter<T> writer) {
+        this.writer = writer;
+        this.thread = new Thread(this::drain, name);
+        // Rows are flushed on shutdown by close, not by keeping the process alive
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Submits a row to be written, blocking while the queue is full.
+     * @param row  Row to write
+     * @throws InterruptedException  If the thread was interrupted while waiting
+     */
+    public void submit(T row) throws InterruptedException {
+        // A row that is counted before the queue closes is always written,
+        // as the writer only stops once all submitted rows are handled
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("The write-behind queue is closed");
+            }
+            submitted++;
+        }
+        try {
+            queue.put(row);
+        } catch (InterruptedException e) {
+            // The row was not queued, so it is not waited for either
+            synchronized (lock) {
+                submitted--;
+                lock.notifyAll();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits until all rows that were submitted before are written,
+     * or failed to be written.
+     * @throws InterruptedException  If the thread was interrupted while waiting
+     */
+    public void flush() throws InterruptedException {
+        synchronized (lock) {
+            long target = submitted;
+            while (handled < target) {
+                lock.wait();
+            }
+        }
+    }
+
+    /**
+     * Stops accepting rows, and waits until the writer wrote all queued rows.
+     * If the thread is interrupted while waiting, the interrupt is restored
+     * and the remaining rows are still written in the background.
+     */
+    @Override
+    public void close() {
+        synchronized (lock) {
+            closed = true;
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns whether the queue is closed, and all submitted rows are handled.
+     * @return  True if the writer can stop
+     */
+    private boolean isDrained() {
+        synchronized (lock) {
+            return closed && handled == submitted;
+        }
+    }
+
+    /**
+     * Writes the queued rows in batches until the queue is closed and empty.
+     * Failed batches are reported and dropped, so that they do not block
+     * the rows after them.
+     */
+    // False positive for DU anomalies caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    private void drain() {
+        List<T> batch = new ArrayList<>(MAX_BATCH);
+        while (!isDrained()) {
+            T first;
+            try {
+                first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // Only close stops the writer, once all rows are handled
+                continue;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, MAX_BATCH - 1);
+            try {
+                writer.write(batch);
+            } catch (SQLException | RuntimeException stack) {
+                stack.printStackTrace();
+            } finally {
+                // Failed batches are handled too, so that flush never waits for them
+                synchronized (lock) {
+                    handled += batch.size();
+                    lock.notifyAll();
+                }
+                batch.clear();
+            }
+        }
+    }
+}
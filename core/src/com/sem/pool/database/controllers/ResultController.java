@@ -40,6 +40,22 @@ public class ResultController {
         }
     }
 
+    /**
+     * Save a result in the background, without waiting for the database.
+     * @param winner Winner of the game.
+     * @param loser Loser of the game.
+     * @return If the result was queued for storing.
+     */
+    public boolean submitResult(User winner, User loser) {
+        try {
+            this.table.saveLater(new Result(winner, loser));
+            return true;
+        } catch (InterruptedException stack) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     /**
      * Get a list of results.
      * @return A list of results. Empty if an error occurred.
@@ -1,72 +1,55 @@
 package com.sem.pool.database.controllers;
 
 import com.sem.pool.database.Database;
-import com.sem.pool.database.models.Result;
 import com.sem.pool.database.models.Stats;
+import com.sem.pool.database.tables.PlayerStatsTable;
+import com.sem.pool.database.tables.ResultTable;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.HashMap;
 
 /**
- * Controller of the Stats virtual table.
+ * Controller of the PlayerStats table.
  */
 public class StatsController {
-    private transient ResultController resultController;
+    /**
+     * Number of players shown on the leaderboard.
+     */
+    public static final int TOP_COUNT = 10;
+
+    private transient PlayerStatsTable table;
+    private transient ResultTable results;
 
     /**
      * Create a new statistics database.
      * @param db The database class to use.
      */
     public StatsController(Database db) {
-        this.resultController = new ResultController(db);
+        this.table = (PlayerStatsTable) db.table(PlayerStatsTable.TABLE_NAME);
+        this.results = (ResultTable) db.table(ResultTable.TABLE_NAME);
     }
 
     /**
      * Get the top statistics.
-     * Warnings suppressed as this is an known bug within PMD.
-     * @return A list of statistics, ordered in descending order.
+     * @return A list of the top statistics, ordered in descending order.
      */
-    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     public ArrayList<Stats> getTop() {
-        ArrayList<Stats> statsArray = this.getStats();
-
-        statsArray.sort((stats1, stats2) -> {
-            float difference = stats1.getWinLossRatio() - stats2.getWinLossRatio();
-
-            if (difference == 0) {
-                return 0;
-            }
-
-            return difference < 0 ? 1 : -1;
-        });
-
-        return statsArray;
+        return this.getTop(TOP_COUNT);
     }
 
     /**
-     * Get a list of all stats.
-     * This is equal to the `.getTop()` method, except the list is not sorted.
-     * Warnings suppressed as this is an known bug within PMD.
-     * @return A unordered statistics list.
+     * Get the top statistics, including the results that
+     * are still being saved in the background.
+     * @param count The maximum number of players.
+     * @return A list of statistics, ordered in descending order. Empty if an error occurred.
      */
-    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
-    private ArrayList<Stats> getStats() {
-        ArrayList<Result> results = this.resultController.getAll();
-        HashMap<Integer, Stats> stats = new HashMap<>();
-
-        for (Result res : results) {
-            if (!stats.containsKey(res.getWinner().getUserID())) {
-                stats.put(res.getWinner().getUserID(), new Stats(res.getWinner()));
-            }
-
-            if (!stats.containsKey(res.getLoser().getUserID())) {
-                stats.put(res.getLoser().getUserID(), new Stats(res.getLoser()));
-            }
-
-            stats.get(res.getWinner().getUserID()).addResult(res);
-            stats.get(res.getLoser().getUserID()).addResult(res);
+    public ArrayList<Stats> getTop(int count) {
+        try {
+            this.results.flush();
+            return this.table.getTop(count);
+        } catch (SQLException stack) {
+            stack.printStackTrace();
+            return new ArrayList<>();
         }
-
-        return new ArrayList<>(stats.values());
     }
 }
@@ -3,6 +3,7 @@ package com.sem.pool.database.controllers;
 import com.sem.pool.database.Database;
 import com.sem.pool.database.models.User;
 import com.sem.pool.database.tables.UserTable;
+import com.sem.pool.game.ComputerPlayer;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -49,12 +50,17 @@ public class UserController {
 
     /**
      * Try to register a user.
+     * The username of the computer opponent is reserved.
      *
      * @param username The username of the user to create.
      * @param password The password associate with it.
      * @return Null if registration failed. User object if it succeeded.
      */
     public User register(String username, String password) {
+        if (ComputerPlayer.USERNAME.equalsIgnoreCase(username)) {
+            return null;
+        }
+
         User user = new User(username, password);
 
         try {
@@ -1,25 +1,33 @@
 package com.sem.pool.database.models;
 
-import java.util.ArrayList;
 import java.util.Objects;
 
 /**
- * Statistic model. This is a virtual table derived from the Result and User table.
+ * Statistic model, from the PlayerStats table.
  */
 public class Stats {
     private transient User user;
-    private transient ArrayList<Result> results;
-    private transient ArrayList<Result> wins;
+    private transient int wins;
+    private transient int games;
 
     /**
      * Create a new stats object.
      * @param user The user this object is about.
      */
     public Stats(User user) {
-        this.user = user;
+        this(user, 0, 0);
+    }
 
-        this.results = new ArrayList<>();
-        this.wins = new ArrayList<>();
+    /**
+     * Create a stats object with existing statistics.
+     * @param user The user this object is about.
+     * @param wins The amount of games the user won.
+     * @param games The amount of games the user played.
+     */
+    public Stats(User user, int wins, int games) {
+        this.user = user;
+        this.wins = wins;
+        this.games = games;
     }
 
     /**
@@ -28,10 +36,10 @@ public class Stats {
      * @param result The result to add.
      */
     public void addResult(Result result) {
-        this.results.add(result);
+        this.games++;
 
         if (result.getWinner().equals(this.user)) {
-            this.wins.add(result);
+            this.wins++;
         }
     }
 
@@ -40,11 +48,11 @@ public class Stats {
      * @return THe win / lose ratio.
      */
     public float getWinLossRatio() {
-        if (this.results.size() == 0) {
+        if (this.games == 0) {
             return 0;
         }
 
-        return (float) this.wins.size() / this.results.size();
+        return (float) this.wins / this.games;
     }
 
     /**
@@ -52,7 +60,15 @@ public class Stats {
      * @return The games count.
      */
     public int getGameCount() {
-        return this.results.size();
+        return this.games;
+    }
+
+    public int getWins() {
+        return this.wins;
+    }
+
+    public int getLosses() {
+        return this.games - this.wins;
     }
 
     public User getUser() {
@@ -72,13 +88,11 @@ public class Stats {
 
         Stats other = (Stats) object;
 
-        if (!this.results.equals(other.results)) {
-            return false;
-        } else if (!this.user.equals(other.user)) {
+        if (this.games != other.games || this.wins != other.wins) {
             return false;
         }
 
-        return this.wins.equals(other.wins);
+        return this.user.equals(other.user);
     }
 
     /**
@@ -87,6 +101,6 @@ public class Stats {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(this.user, this.results, this.wins);
+        return Objects.hash(this.user, this.wins, this.games);
     }
 }
@@ -0,0 +1,164 @@
+package com.sem.pool.database.tables;
+
+import com.sem.pool.database.Table;
+import com.sem.pool.database.models.Result;
+import com.sem.pool.database.models.Stats;
+import com.sem.pool.database.models.User;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Player statistics table, for in the database.
+ * Holds the wins, losses and games of every player, and their rating, which
+ * is their win / loss ratio. The statistics are updated by the Result table
+ * in the same transaction as the results, so that the leaderboard only
+ * reads the top players, independent of the number of results.
+ */
+public class PlayerStatsTable extends Table {
+    public static final String TABLE_NAME = "PlayerStats";
+
+    /**
+     * Create the new instance.
+     * If the table does not exist yet, it is filled from the existing results.
+     *
+     * @param conn Conection to use.
+     */
+    public PlayerStatsTable(Connection conn) throws SQLException {
+        super(conn);
+    }
+
+    /**
+     * Add the specified results to the statistics of their players.
+     * This should be called in the transaction that saves the results.
+     * Warnings suppressed as this is an known bug within PMD.
+     * @param results The results to add.
+     * @throws SQLException SQL errors.
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public void record(List<Result> results) throws SQLException {
+        String insert = "insert or ignore into PlayerStats (userId) values (?)";
+        String update = "update PlayerStats set wins = wins + ?, losses = losses + ?,"
+                + " games = games + 1, rating = cast(wins + ? as real) / (games + 1)"
+                + " where userId = ?";
+
+        try (PreparedStatement insertStmt = this.conn.prepareStatement(insert);
+                PreparedStatement updateStmt = this.conn.prepareStatement(update)) {
+            for (Result result : results) {
+                this.addPlayer(insertStmt, updateStmt, result.getWinner(), 1);
+                this.addPlayer(insertStmt, updateStmt, result.getLoser(), 0);
+            }
+
+            insertStmt.executeBatch();
+            updateStmt.executeBatch();
+        }
+    }
+
+    /**
+     * Get the statistics of the top players, ordered by their rating,
+     * and by their number of games for players with the same rating.
+     * The users of the statistics only have their id and username.
+     * Warnings suppressed as this is an known bug within PMD.
+     * @param count The maximum number of players.
+     * @return A list of statistics, ordered in descending order.
+     * @throws SQLException SQL errors.
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public ArrayList<Stats> getTop(int count) throws SQLException {
+        String sql = "select s.userId, u.username, s.wins, s.games from PlayerStats s"
+                + " join User u on u.id = s.userId"
+                + " order by s.rating desc, s.games desc limit ?";
+        ArrayList<Stats> stats = new ArrayList<>();
+
+        synchronized (this.conn) {
+            try (PreparedStatement stmt = this.conn.prepareStatement(sql)) {
+                stmt.setInt(1, count);
+
+                try (ResultSet res = stmt.executeQuery()) {
+                    while (res.next()) {
+                        User user = new User(res.getInt("userId"),
+                                res.getString("username"), null);
+                        stats.add(new Stats(user, res.getInt("wins"), res.getInt("games")));
+                    }
+                }
+            }
+        }
+
+        return stats;
+    }
+
+    /**
+     * Rebuild the statistics of all players from the saved results,
+     * e.g. for databases that were created before this table.
+     * @throws SQLException SQL errors.
+     */
+    public void backfill() throws SQLException {
+        this.inTransaction(() -> {
+            try (Statement stmt = this.conn.createStatement()) {
+                stmt.execute("delete from PlayerStats");
+                stmt.execute("insert into PlayerStats (userId, wins, losses, games, rating)"
+                        + " select userId, sum(win), count(*) - sum(win), count(*),"
+                        + "   cast(sum(win) as real) / count(*)"
+                        + " from (select winner as userId, 1 as win from Result"
+                        + "   union all select loser, 0 from Result)"
+                        + " group by userId");
+            }
+
+            return null;
+        });
+    }
+
+    /**
+     * Create the table, with an index on the ranking of the players,
+     * and fill it from the existing results.
+     * This is only called if the table does not exist.
+     * @throws SQLException SQL Errors.
+     */
+    @Override
+    protected void createTable() throws SQLException {
+        try (Statement stmt = this.conn.createStatement()) {
+            String query = "create table " + this.getTableName() + " ("
+                    + "   userId    integer primary key,"
+                    + "   wins      integer not null default 0,"
+                    + "   losses    integer not null default 0,"
+                    + "   games     integer not null default 0,"
+                    + "   rating    real    not null default 0,"
+                    + "   FOREIGN KEY(userId) REFERENCES User(id)"
+                    + ")";
+            stmt.execute(query);
+            stmt.execute("create index PlayerStats_rank on "
+                    + this.getTableName() + " (rating desc, games desc)");
+        }
+
+        this.backfill();
+    }
+
+    protected String getTableName() {
+        return PlayerStatsTable.TABLE_NAME;
+    }
+
+    /**
+     * Add a game of a player to the batches of the statements.
+     * @param insertStmt The statement that inserts the player.
+     * @param updateStmt The statement that adds the game to the player.
+     * @param user The player.
+     * @param win 1 if the player won the game, 0 if they lost.
+     * @throws SQLException SQL errors.
+     */
+    private void addPlayer(PreparedStatement insertStmt, PreparedStatement updateStmt,
+                           User user, int win) throws SQLException {
+        insertStmt.setInt(1, user.getUserID());
+        insertStmt.addBatch();
+
+        updateStmt.setInt(1, win);
+        updateStmt.setInt(2, 1 - win);
+        updateStmt.setInt(3, win);
+        updateStmt.setInt(4, user.getUserID());
+        updateStmt.addBatch();
+    }
+}
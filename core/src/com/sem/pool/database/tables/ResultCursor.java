@@ -0,0 +1,127 @@
+package com.sem.pool.database.tables;
+
+import com.sem.pool.database.models.Result;
+import com.sem.pool.database.models.User;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Cursor over the results of a query of the Result table, joined with the
+ * usernames of the winner and the loser. The results are read one row at
+ * a time, so that callers can process all results without loading the
+ * whole table in memory. The users of the results only have their id and
+ * username, their passwords are not loaded.
+ * Every row is read while holding the lock of the connection, so that the
+ * cursor can be used while results are written on another thread.
+ * The cursor should be closed, which closes its statement.
+ */
+public class ResultCursor implements Iterator<Result>, AutoCloseable {
+    private final transient PreparedStatement stmt;
+    private final transient Object lock;
+    private final transient ResultSet res;
+    // Whether the next row was fetched, whether it exists, and its result
+    private transient boolean fetched;
+    private transient boolean hasRow;
+    private transient Result current;
+
+    /**
+     * Create a cursor over the results of the query of the statement.
+     * The statement is closed when the cursor is closed.
+     *
+     * @param stmt The statement with the query of the results.
+     * @param lock The lock of the connection of the statement.
+     * @throws SQLException SQL errors.
+     */
+    ResultCursor(PreparedStatement stmt, Object lock) throws SQLException {
+        this.stmt = stmt;
+        this.lock = lock;
+
+        synchronized (lock) {
+            try {
+                this.res = stmt.executeQuery();
+            } catch (SQLException e) {
+                stmt.close();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Fetch the next row, if it was not fetched yet.
+     * This is equal to `.hasNext()`, except SQL errors are not wrapped.
+     *
+     * @return If there is a next result.
+     * @throws SQLException SQL errors.
+     */
+    public boolean fetch() throws SQLException {
+        if (this.fetched) {
+            return this.hasRow;
+        }
+
+        synchronized (this.lock) {
+            this.hasRow = this.res.next();
+            this.fetched = true;
+
+            if (this.hasRow) {
+                User winner = new User(this.res.getInt("winner"),
+                        this.res.getString("winnerName"), null);
+                User loser = new User(this.res.getInt("loser"),
+                        this.res.getString("loserName"), null);
+                this.current = new Result(this.res.getInt("gameId"), winner, loser);
+            }
+        }
+
+        return this.hasRow;
+    }
+
+    /**
+     * Check if there is a next result.
+     *
+     * @return If there is a next result.
+     * @throws IllegalStateException If the next row could not be read.
+     */
+    @Override
+    public boolean hasNext() {
+        try {
+            return this.fetch();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read the next result", e);
+        }
+    }
+
+    /**
+     * Get the next result.
+     *
+     * @return The next result.
+     * @throws NoSuchElementException If there are no more results.
+     */
+    @Override
+    public Result next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        this.fetched = false;
+        return this.current;
+    }
+
+    /**
+     * Close the cursor and its statement.
+     *
+     * @throws SQLException SQL errors.
+     */
+    @Override
+    public void close() throws SQLException {
+        synchronized (this.lock) {
+            try {
+                this.res.close();
+            } finally {
+                this.stmt.close();
+            }
+        }
+    }
+}
@@ -1,83 +1,187 @@
 package com.sem.pool.database.tables;
 
-import com.sem.pool.database.Database;
 import com.sem.pool.database.Table;
-import com.sem.pool.database.controllers.UserController;
+import com.sem.pool.database.WriteBehindQueue;
 import com.sem.pool.database.models.Result;
-import com.sem.pool.database.models.User;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Users table, for in the database.
  */
 public class ResultTable extends Table {
     public static final String TABLE_NAME = "Result";
+    private static final String INSERT = "insert into Result (winner, loser) values (?, ?)";
+    private static final String SELECT_ALL = "select r.gameId, r.winner, r.loser,"
+            + " w.username as winnerName, l.username as loserName from Result r"
+            + " join User w on w.id = r.winner"
+            + " join User l on l.id = r.loser"
+            + " order by r.gameId";
 
     /**
-     * Create the new instance.
+     * Statistics of the players, updated together with the results.
+     */
+    private final transient PlayerStatsTable playerStats;
+
+    /**
+     * Queue of the results that are saved in the background, started on first use.
+     */
+    private transient WriteBehindQueue<Result> writeBehind;
+
+    /**
+     * Create the new instance, together with the statistics of the players.
      *
      * @param conn Conection to use.
      */
     public ResultTable(Connection conn) throws SQLException {
         super(conn);
+
+        // Created after the results exist, as it is filled from them
+        this.playerStats = new PlayerStatsTable(conn);
+    }
+
+    public PlayerStatsTable getPlayerStats() {
+        return this.playerStats;
     }
 
     /**
-     * Get a list of all results.
-     * Warnings suppressed as this is an known bug within PMD.
+     * Get a list of all results, including the results that
+     * are still being saved in the background.
+     * The users of the results only have their id and username.
      * @return An Arraylist of results.
      */
-    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     public ArrayList<Result> getAll() throws SQLException {
-        UserController userController = new UserController(Database.getInstance());
-        String sql = "select gameId, winner, loser from Result";
-        PreparedStatement stmt = this.conn.prepareStatement(sql);
-
-        try (ResultSet res = stmt.executeQuery()) {
-            ArrayList<Result> results = new ArrayList<>();
+        ArrayList<Result> results = new ArrayList<>();
 
-            if (res.isAfterLast()) {
-                stmt.close();
-                res.close();
-                return results;
+        try (ResultCursor cursor = this.cursor()) {
+            while (cursor.fetch()) {
+                results.add(cursor.next());
             }
+        }
 
-            while (res.next()) {
-                int id = res.getInt("gameId");
-                int winnerId = res.getInt("winner");
-                int loserId = res.getInt("loser");
-
-                User winner = userController.getUser(winnerId);
-                User loser = userController.getUser(loserId);
+        return results;
+    }
 
-                results.add(new Result(id, winner, loser));
-            }
+    /**
+     * Get a cursor over all results, in the order they were saved,
+     * including the results that are still being saved in the background.
+     * The results are read with a single query, joined with the usernames
+     * of the users. The cursor should be closed after use.
+     * Warning suppressed as the statement is closed by the cursor.
+     * @return A cursor over the results.
+     * @throws SQLException SQL errors.
+     */
+    @SuppressWarnings("PMD.CloseResource")
+    public ResultCursor cursor() throws SQLException {
+        this.flush();
 
-            stmt.close();
-            res.close();
-            return results;
+        synchronized (this.conn) {
+            return new ResultCursor(this.conn.prepareStatement(SELECT_ALL), this.conn);
         }
     }
 
     /**
-     * Save a Result.
+     * Save a Result, and add it to the statistics of its players
+     * in the same transaction.
      * @param result The result to save.
      * @return If the saving succeeded.
      * @throws SQLException SQL errors.
      */
     public boolean save(Result result) throws SQLException {
-        String sql = "insert into Result (winner, loser) values (?, ?)";
-        PreparedStatement stmt = this.conn.prepareStatement(sql);
-        stmt.setInt(1, result.getWinner().getUserID());
-        stmt.setInt(2, result.getLoser().getUserID());
+        return this.inTransaction(() -> {
+            try (PreparedStatement stmt = this.conn.prepareStatement(INSERT)) {
+                stmt.setInt(1, result.getWinner().getUserID());
+                stmt.setInt(2, result.getLoser().getUserID());
+
+                if (stmt.executeUpdate() == 0) {
+                    return false;
+                }
+            }
+
+            this.playerStats.record(Collections.singletonList(result));
+            return true;
+        });
+    }
+
+    /**
+     * Save a list of results in a single transaction, together with
+     * the statistics of their players.
+     * Nothing is saved if saving any of the results fails.
+     * Warnings suppressed as this is an known bug within PMD.
+     * @param results The results to save.
+     * @throws SQLException SQL errors.
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public void saveAll(List<Result> results) throws SQLException {
+        this.inTransaction(() -> {
+            try (PreparedStatement stmt = this.conn.prepareStatement(INSERT)) {
+                for (Result result : results) {
+                    stmt.setInt(1, result.getWinner().getUserID());
+                    stmt.setInt(2, result.getLoser().getUserID());
+                    stmt.addBatch();
+                }
+
+                stmt.executeBatch();
+            }
+
+            this.playerStats.record(results);
+            return null;
+        });
+    }
+
+    /**
+     * Save a result in the background, so that the caller does not wait
+     * for the database. The result is saved in a batch with the results
+     * around it, and is flushed when the application shuts down.
+     * @param result The result to save.
+     * @throws InterruptedException If interrupted while the queue is full.
+     */
+    public void saveLater(Result result) throws InterruptedException {
+        this.getWriteBehind().submit(result);
+    }
+
+    /**
+     * Wait until all results that are saved in the background are saved.
+     * @throws SQLException If interrupted while waiting.
+     */
+    public void flush() throws SQLException {
+        WriteBehindQueue<Result> queue;
+        synchronized (this) {
+            queue = this.writeBehind;
+        }
+
+        if (queue == null) {
+            return;
+        }
+
+        try {
+            queue.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while saving results", e);
+        }
+    }
+
+    /**
+     * Get the queue of the results that are saved in the background,
+     * starting its writer and its flush on shutdown on first use.
+     * @return The write-behind queue of the results.
+     */
+    private synchronized WriteBehindQueue<Result> getWriteBehind() {
+        if (this.writeBehind == null) {
+            WriteBehindQueue<Result> queue = new WriteBehindQueue<>("result-writer",
+                    this::saveAll);
+            Runtime.getRuntime().addShutdownHook(new Thread(queue::close));
+            this.writeBehind = queue;
+        }
 
-        return stmt.executeUpdate() > 0;
+        return this.writeBehind;
     }
 
     /**
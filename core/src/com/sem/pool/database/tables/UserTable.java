@@ -12,6 +12,9 @@ import java.util.ArrayList;
 
 /**
  * Users table, for in the database.
+ * The statements are run while holding the lock of the connection, like
+ * the transactions of the other tables, as the connection is shared with
+ * the writer thread of the results.
  */
 public class UserTable extends Table {
     public static final String TABLE_NAME = "User";
@@ -35,11 +38,13 @@ public class UserTable extends Table {
      */
     @SuppressWarnings("PMD.CloseResource")
     public User getUser(int id) throws SQLException {
-        String sql = "select id, username, password from User where id = ?";
-        PreparedStatement stmt = this.conn.prepareStatement(sql);
-        stmt.setInt(1, id);
+        synchronized (this.conn) {
+            String sql = "select id, username, password from User where id = ?";
+            PreparedStatement stmt = this.conn.prepareStatement(sql);
+            stmt.setInt(1, id);
 
-        return this.statementToSingleUser(stmt);
+            return this.statementToSingleUser(stmt);
+        }
     }
 
     /**
@@ -52,11 +57,13 @@ public class UserTable extends Table {
      */
     @SuppressWarnings("PMD.CloseResource")
     public User getUser(String username) throws SQLException {
-        String sql = "select id, username, password from User where username = ?";
-        PreparedStatement stmt = this.conn.prepareStatement(sql);
-        stmt.setString(1, username);
+        synchronized (this.conn) {
+            String sql = "select id, username, password from User where username = ?";
+            PreparedStatement stmt = this.conn.prepareStatement(sql);
+            stmt.setString(1, username);
 
-        return this.statementToSingleUser(stmt);
+            return this.statementToSingleUser(stmt);
+        }
     }
 
     /**
@@ -67,28 +74,30 @@ public class UserTable extends Table {
      */
     @SuppressWarnings({"PMD.CloseResource", "PMD.DataflowAnomalyAnalysis"})
     public ArrayList<User> getUsers() throws SQLException {
-        String sql = "select id, username, password from User";
-        PreparedStatement stmt = this.conn.prepareStatement(sql);
-        ArrayList<User> users = new ArrayList<>();
+        synchronized (this.conn) {
+            String sql = "select id, username, password from User";
+            PreparedStatement stmt = this.conn.prepareStatement(sql);
+            ArrayList<User> users = new ArrayList<>();
+
+            try (ResultSet res = stmt.executeQuery()) {
+                if (res.isAfterLast()) {
+                    stmt.close();
+                    res.close();
+                    return users;
+                }
+
+                while (res.next()) {
+                    int id = res.getInt("id");
+                    String dataUser = res.getString("username");
+                    String pass = res.getString("password");
+
+                    users.add(new User(id, dataUser, pass));
+                }
 
-        try (ResultSet res = stmt.executeQuery()) {
-            if (res.isAfterLast()) {
                 stmt.close();
                 res.close();
                 return users;
             }
-
-            while (res.next()) {
-                int id = res.getInt("id");
-                String dataUser = res.getString("username");
-                String pass = res.getString("password");
-
-                users.add(new User(id, dataUser, pass));
-            }
-
-            stmt.close();
-            res.close();
-            return users;
         }
     }
 
@@ -100,12 +109,14 @@ public class UserTable extends Table {
      * @throws SQLException SQL errors.
      */
     public boolean save(User user) throws SQLException {
-        String sql = "insert into User (username, password) values (?, ?)";
-        PreparedStatement stmt = this.conn.prepareStatement(sql);
-        stmt.setString(1, user.getUsername());
-        stmt.setString(2, user.getPassword());
+        synchronized (this.conn) {
+            String sql = "insert into User (username, password) values (?, ?)";
+            PreparedStatement stmt = this.conn.prepareStatement(sql);
+            stmt.setString(1, user.getUsername());
+            stmt.setString(2, user.getPassword());
 
-        return stmt.executeUpdate() > 0;
+            return stmt.executeUpdate() > 0;
+        }
     }
 
     /**
@@ -119,19 +130,21 @@ public class UserTable extends Table {
             return false;
         }
 
-        String sql = "update User set username = ?, password = ? where id = ?";
-        PreparedStatement stmt = this.conn.prepareStatement(sql);
-        stmt.setString(1, user.getUsername());
-        stmt.setString(2, user.getPassword());
-        stmt.setInt(3, user.getUserID());
+        synchronized (this.conn) {
+            String sql = "update User set username = ?, password = ? where id = ?";
+            PreparedStatement stmt = this.conn.prepareStatement(sql);
+            stmt.setString(1, user.getUsername());
+            stmt.setString(2, user.getPassword());
+            stmt.setInt(3, user.getUserID());
+
+            try {
+                return stmt.executeUpdate() > 0;
+            } catch (Exception ignored) {
+                ignored.printStackTrace();
+            }
 
-        try {
-            return stmt.executeUpdate() > 0;
-        } catch (Exception ignored) {
-            ignored.printStackTrace();
+            return false;
         }
-
-        return false;
     }
 
     /**
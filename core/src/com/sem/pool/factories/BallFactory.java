@@ -3,13 +3,8 @@ package com.sem.pool.factories;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.graphics.g3d.attributes.TextureAttribute;
-import com.badlogic.gdx.physics.bullet.collision.btCollisionAlgorithmConstructionInfo;
-import com.badlogic.gdx.physics.bullet.collision.btCollisionDispatcher;
-import com.badlogic.gdx.physics.bullet.collision.btDefaultCollisionConfiguration;
-import com.badlogic.gdx.physics.bullet.collision.btDispatcherInfo;
 import com.sem.pool.game.GameConstants;
 import com.sem.pool.scene.Ball3D;
-import com.sem.pool.scene.CollisionHandler;
 import com.sem.pool.scene.CueBall3D;
 import com.sem.pool.scene.EightBall3D;
 import com.sem.pool.scene.RegularBall3D;
@@ -32,6 +27,7 @@ public class BallFactory extends Base3DFactory {
     protected static final String BALL_MATERIAL_NAME = "ball";
 
     private List<Texture> textures;
+    private transient CollisionHandlerFactory collisionHandlerFactory;
 
     /**
      * Creates a new Ball Factory instance with the specified
@@ -44,6 +40,7 @@ public class BallFactory extends Base3DFactory {
     public BallFactory(List<Texture> textures, AssetLoader assetLoader) {
         super(assetLoader);
         this.textures = textures;
+        this.collisionHandlerFactory = new CollisionHandlerFactory();
     }
 
     public List<Texture> getTextures() {
@@ -54,6 +51,14 @@ public class BallFactory extends Base3DFactory {
         this.textures = textures;
     }
     
+    public CollisionHandlerFactory getCollisionHandlerFactory() {
+        return collisionHandlerFactory;
+    }
+
+    public void setCollisionHandlerFactory(CollisionHandlerFactory collisionHandlerFactory) {
+        this.collisionHandlerFactory = collisionHandlerFactory;
+    }
+
     public int getId() {
         return id;
     }
@@ -92,7 +97,7 @@ public class BallFactory extends Base3DFactory {
             ballInstance.getMaterial(BALL_MATERIAL_NAME).set(attribute);
         }
         Ball3D ball = returnBall(id, ballInstance);
-        setUpCollisionHandler(ball);
+        ball.setCollisionHandler(collisionHandlerFactory.createCollisionHandler());
         return ball;
     }
 
@@ -102,7 +107,7 @@ public class BallFactory extends Base3DFactory {
      * @param ballInstance model instance of the ball.
      * @return An instance of Ball3D.
      */
-    private Ball3D returnBall(int id, ModelInstance ballInstance) {
+    static Ball3D returnBall(int id, ModelInstance ballInstance) {
         if (id == GameConstants.CUEBALL_ID) {
             return new CueBall3D(id, ballInstance);
         } else if (id == GameConstants.EIGHTBALL_ID) {
@@ -111,25 +116,4 @@ public class BallFactory extends Base3DFactory {
             return new RegularBall3D(id, ballInstance);
         }
     }
-
-    /**
-     * Method called to set up the collision handler for a ball.
-     * @param ball ball that needs collision handler.
-     */
-    private void setUpCollisionHandler(Ball3D ball) {
-        // configuration for the collisions
-        btDefaultCollisionConfiguration configuration = new  btDefaultCollisionConfiguration();
-        // dispatcher for the collisions
-        btCollisionDispatcher dispatcher = new btCollisionDispatcher(configuration);
-        // info regarding construction of collision algorithm
-        btCollisionAlgorithmConstructionInfo constructionInfo =
-                new btCollisionAlgorithmConstructionInfo();
-        // info regarding dispatcher
-        btDispatcherInfo dispatcherInfo = new btDispatcherInfo();
-
-        // creation of collision handler
-        CollisionHandler collisionHandler = new CollisionHandler(configuration, dispatcher,
-                constructionInfo, dispatcherInfo);
-        ball.setCollisionHandler(collisionHandler);
-    }
 }
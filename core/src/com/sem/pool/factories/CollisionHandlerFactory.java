@@ -0,0 +1,115 @@
+package com.sem.pool.factories;
+
+import com.sem.pool.scene.AnalyticCollisionBackend;
+import com.sem.pool.scene.BulletCollisionBackend;
+import com.sem.pool.scene.CollisionBackend;
+import com.sem.pool.scene.CollisionContext;
+import com.sem.pool.scene.CollisionHandler;
+
+/**
+ * Factory class which creates the collision handlers for the
+ * 3D objects of the scene, with the configured collision backend.
+ * The handlers are stateless, so all objects of a scene share a single
+ * handler. For the Bullet backend, the handler uses one CollisionContext,
+ * which is handed over to the scene to be disposed with it. Simulations
+ * on several threads may share a factory, so the shared handler is
+ * created under the lock of the factory.
+ */
+public class CollisionHandlerFactory {
+
+    public enum Backend {
+        ANALYTIC,
+        BULLET,
+        // Bullet hit boxes, which the scene checks in a single collision world
+        BULLET_WORLD
+    }
+
+    private transient Backend backend;
+
+    // Handler shared by the objects of the current scene, and its native context
+    private transient CollisionHandler handler;
+    private transient CollisionContext context;
+    // Whether the handler belongs to the current scene
+    private transient boolean shared;
+    private transient int contextCount;
+
+    /**
+     * Creates a new Collision Handler Factory which uses
+     * the pure-Java analytic collision backend.
+     */
+    public CollisionHandlerFactory() {
+        this(Backend.ANALYTIC);
+    }
+
+    /**
+     * Creates a new Collision Handler Factory which uses
+     * the specified collision backend.
+     * @param backend  Collision backend to create handlers with
+     */
+    public CollisionHandlerFactory(Backend backend) {
+        this.backend = backend;
+    }
+
+    public Backend getBackend() {
+        return backend;
+    }
+
+    /**
+     * Sets the collision backend of the handlers created from now on.
+     * The backend is to be set before the objects of a scene are created.
+     * @param backend  Collision backend to create handlers with
+     */
+    public synchronized void setBackend(Backend backend) {
+        this.backend = backend;
+        this.shared = false;
+    }
+
+    /**
+     * Returns the number of native collision contexts created by this factory.
+     * @return  Number of collision contexts created
+     */
+    public int getContextCount() {
+        return contextCount;
+    }
+
+    /**
+     * Returns the collision handler of the current scene with the configured
+     * backend, and creates it when it is first used.
+     * @return  CollisionHandler object instance shared by the current scene
+     */
+    public synchronized CollisionHandler createCollisionHandler() {
+        if (!shared) {
+            handler = new CollisionHandler(createBackend());
+            shared = true;
+        }
+        return handler;
+    }
+
+    /**
+     * Hands over the native collision context of the current scene, which
+     * the scene is then responsible for disposing. The next handler that
+     * is created belongs to a new scene, with a new context.
+     * @return  Collision context of the current scene, or null if no
+     *          handler of the scene needed one
+     */
+    public synchronized CollisionContext releaseContext() {
+        final boolean owned = shared && handler.getBackend().requiresNativeObjects();
+        shared = false;
+        return owned ? context : null;
+    }
+
+    /**
+     * Creates the collision backend of a new handler. The Bullet backend
+     * gets a new collision context for the scene.
+     * @return  New collision backend
+     */
+    private CollisionBackend createBackend() {
+        if (backend != Backend.ANALYTIC) {
+            context = new CollisionContext();
+            contextCount++;
+            return new BulletCollisionBackend(context);
+        }
+
+        return new AnalyticCollisionBackend();
+    }
+}
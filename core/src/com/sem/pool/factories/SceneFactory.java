@@ -8,6 +8,8 @@ import com.badlogic.gdx.graphics.g3d.environment.DirectionalLight;
 import com.badlogic.gdx.math.Vector3;
 import com.sem.pool.game.GameConstants;
 import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.BulletCollisionWorld;
+import com.sem.pool.scene.CollisionContext;
 import com.sem.pool.scene.Cue3D;
 import com.sem.pool.scene.GameElements;
 import com.sem.pool.scene.Scene3D;
@@ -26,6 +28,8 @@ public class SceneFactory {
     private transient CameraFactory cameraFactory;
     private transient CueFactory cueFactory;
     private transient SoundPlayer soundPlayer;
+    // Creates the collision handler shared by the balls and the table of a scene
+    private transient CollisionHandlerFactory collisionHandlerFactory;
 
     private final transient ModelBatch modelBatch;
 
@@ -51,6 +55,7 @@ public class SceneFactory {
         this.cueFactory = cueFactory;
         this.modelBatch = modelBatch;
         this.soundPlayer = soundPlayer;
+        this.collisionHandlerFactory = new CollisionHandlerFactory();
     }
 
     public TableFactory getTableFactory() {
@@ -77,6 +82,14 @@ public class SceneFactory {
         this.cameraFactory = cameraFactory;
     }
 
+    public CollisionHandlerFactory getCollisionHandlerFactory() {
+        return collisionHandlerFactory;
+    }
+
+    public void setCollisionHandlerFactory(CollisionHandlerFactory collisionHandlerFactory) {
+        this.collisionHandlerFactory = collisionHandlerFactory;
+    }
+
     public CueFactory getCueFactory() {
         return cueFactory;
     }
@@ -90,7 +103,10 @@ public class SceneFactory {
      * Instantiates the 3D scene by setting up the environment, camera
      * and models. The method instantiates all the necessary models,
      * positions them in the necessary locations and sets the camera
-     * in its right location.
+     * in its right location. The balls and the table share a single
+     * collision handler, of which the native context is disposed with the scene.
+     * With the BULLET_WORLD backend, their hit boxes are registered in a
+     * collision world, which detects the collisions of the scene.
      */
     // ballFactory variable gets tagged as a DU anomaly, even
     // though it is initialized and used to create the pool
@@ -104,6 +120,9 @@ public class SceneFactory {
         environment.add(new DirectionalLight().set(0.8f, 0.8f, 0.8f, 0f, -1f, 0f));
 
 
+        ballFactory.setCollisionHandlerFactory(collisionHandlerFactory);
+        tableFactory.setCollisionHandlerFactory(collisionHandlerFactory);
+
         // Create pool balls
         List<Ball3D> poolBalls = new ArrayList<>();
 
@@ -120,6 +139,7 @@ public class SceneFactory {
         Table3D table = tableFactory.createObject();
         tableFactory.setBoundingBoxes(table);
         tableFactory.setUpPotHitBoxes(table);
+        tableFactory.setUpGeometry(table);
 
         // Create cue
         Cue3D cue = cueFactory.createObject();
@@ -134,17 +154,36 @@ public class SceneFactory {
         GameElements gameElements = new GameElements(poolBalls, table, cue);
         SceneElements sceneElements = new SceneElements(environment, camera, soundPlayer);
 
-        return new Scene3D(modelBatch, gameElements, sceneElements);
+        Scene3D scene = new Scene3D(modelBatch, gameElements, sceneElements);
+        setUpCollisions(scene);
+        return scene;
+    }
+
+    /**
+     * Hands the collision context over to the scene, and registers the
+     * hit boxes of the scene in a collision world if the backend uses one.
+     * @param scene  Scene of which the hit boxes are set up
+     */
+    private void setUpCollisions(Scene3D scene) {
+        CollisionContext context = collisionHandlerFactory.releaseContext();
+        scene.setCollisionContext(context);
+        if (collisionHandlerFactory.getBackend() == CollisionHandlerFactory.Backend.BULLET_WORLD) {
+            BulletCollisionWorld collisionWorld = new BulletCollisionWorld(context);
+            collisionWorld.add(scene.getPoolBalls(), scene.getTable());
+            scene.getPhysicsWorld().setCollisionWorld(collisionWorld);
+        }
     }
 
     /**
      * Positions pool balls in the right setup for the break shot.
+     * Also used to set up the balls of headless simulations.
+     * @param poolBalls  List of pool balls, with the cue ball first
      */
     // The method seems to produce quite a lot of false positives
     // for DU anomalies (for row and count), possibly due to the
     // introduced loop.
     @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
-    private void positionPoolBalls(List<Ball3D> poolBalls) {
+    static void positionPoolBalls(List<Ball3D> poolBalls) {
         // Position cue ball to it's right position
         poolBalls.get(0).translate(CUE_BALL_OFFSET);
 
@@ -188,7 +227,7 @@ public class SceneFactory {
         }
     }
 
-    private Vector3 getPyramidOffset(float spacing, int row, int entry) {
+    private static Vector3 getPyramidOffset(float spacing, int row, int entry) {
         float xspacing = spacing * row;
         float zspacing = spacing * (entry - 0.5f * row);
 
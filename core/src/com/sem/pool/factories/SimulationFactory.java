@@ -0,0 +1,127 @@
+package com.sem.pool.factories;
+
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.sem.pool.game.GameConstants;
+import com.sem.pool.game.GameState;
+import com.sem.pool.game.Player;
+import com.sem.pool.game.Simulation;
+import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.Table3D;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Factory class which creates headless Simulations of a Pool game.
+ * The balls and table are created with empty models and analytic hit
+ * boxes, so no assets, GL context or Bullet natives are needed.
+ */
+public class SimulationFactory {
+    // Radius of the ball model (models/ball.obj), so that the balls
+    // of a simulation have the same size as in the interactive game
+    public static final float BALL_RADIUS = 0.118204f;
+
+    private transient CollisionHandlerFactory collisionHandlerFactory;
+    private final transient TableFactory tableFactory;
+
+    /**
+     * Creates a new Simulation Factory which uses the
+     * pure-Java analytic collision backend.
+     */
+    public SimulationFactory() {
+        this.collisionHandlerFactory =
+                new CollisionHandlerFactory(CollisionHandlerFactory.Backend.ANALYTIC);
+        // The table factory is only used to set up the hit boxes,
+        // so it does not need a texture or asset loader.
+        this.tableFactory = new TableFactory(null, null);
+    }
+
+    public CollisionHandlerFactory getCollisionHandlerFactory() {
+        return collisionHandlerFactory;
+    }
+
+    public void setCollisionHandlerFactory(CollisionHandlerFactory collisionHandlerFactory) {
+        this.collisionHandlerFactory = collisionHandlerFactory;
+    }
+
+    /**
+     * Creates a new simulation of a started game between the specified
+     * players, with the balls set up for the break shot.
+     * @param players  List of Players for the game
+     * @return  New Simulation object instance
+     */
+    public Simulation createSimulation(List<Player> players) {
+        return createSimulation(players, createTable());
+    }
+
+    /**
+     * Creates a new simulation of a started game between the specified
+     * players on an existing table. A table with analytic hit boxes is not
+     * changed by a simulation, so it can be shared by simulations on any thread.
+     * @param players  List of Players for the game
+     * @param table  Table to simulate the game on
+     * @return  New Simulation object instance
+     */
+    public Simulation createSimulation(List<Player> players, Table3D table) {
+        return createSimulation(players, table, new Random().nextLong());
+    }
+
+    /**
+     * Creates a new simulation of a started game between the specified
+     * players, of which the starting player is picked from the specified
+     * seed, e.g. to replay a recorded game.
+     * @param players  List of Players for the game
+     * @param seed  Seed to pick the starting player with
+     * @return  New Simulation object instance
+     */
+    public Simulation createSimulation(List<Player> players, long seed) {
+        return createSimulation(players, createTable(), seed);
+    }
+
+    private Simulation createSimulation(List<Player> players, Table3D table, long seed) {
+        List<Ball3D> poolBalls = new ArrayList<>();
+        for (int i = 0; i < GameConstants.BALL_COUNT; ++i) {
+            poolBalls.add(createBall(i));
+        }
+        SceneFactory.positionPoolBalls(poolBalls);
+
+        GameState state = new GameState(players, poolBalls);
+        state.setSeed(seed);
+        Simulation simulation = new Simulation(poolBalls, table, state);
+        state.onGameStarted();
+        return simulation;
+    }
+
+    /**
+     * Creates a headless ball with the specified id.
+     * @param id  ID of the ball
+     * @return  New Ball3D object instance with an empty model
+     */
+    protected Ball3D createBall(int id) {
+        Ball3D ball = BallFactory.returnBall(id, new ModelInstance(new Model()));
+        ball.setBoundingBox(new BoundingBox(
+                new Vector3(-BALL_RADIUS, -BALL_RADIUS, -BALL_RADIUS),
+                new Vector3(BALL_RADIUS, BALL_RADIUS, BALL_RADIUS)));
+        ball.setCollisionHandler(collisionHandlerFactory.createCollisionHandler());
+        return ball;
+    }
+
+    /**
+     * Creates a headless table with the borders and pots of the interactive game.
+     * The compiled geometry of the borders and pots is shared by all tables
+     * of the factory, but every table owns its hit boxes.
+     * @return  New Table3D object instance with an empty model
+     */
+    public Table3D createTable() {
+        Table3D table = new Table3D(new ModelInstance(new Model()));
+        table.setCollisionHandler(collisionHandlerFactory.createCollisionHandler());
+        tableFactory.setBoundingBoxes(table);
+        tableFactory.setUpPotHitBoxes(table);
+        tableFactory.setUpGeometry(table);
+        return table;
+    }
+}
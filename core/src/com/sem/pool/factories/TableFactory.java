@@ -5,18 +5,18 @@ import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.bullet.collision.btBoxShape;
-import com.badlogic.gdx.physics.bullet.collision.btCollisionAlgorithmConstructionInfo;
-import com.badlogic.gdx.physics.bullet.collision.btCollisionDispatcher;
 import com.badlogic.gdx.physics.bullet.collision.btCollisionObject;
 import com.badlogic.gdx.physics.bullet.collision.btCollisionShape;
 import com.badlogic.gdx.physics.bullet.collision.btCylinderShape;
-import com.badlogic.gdx.physics.bullet.collision.btDefaultCollisionConfiguration;
-import com.badlogic.gdx.physics.bullet.collision.btDispatcherInfo;
 import com.sem.pool.scene.CollisionHandler;
 import com.sem.pool.scene.HitBox;
 import com.sem.pool.scene.Table3D;
+import com.sem.pool.scene.TableGeometry;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Factory class which allows the instantiation
@@ -25,21 +25,23 @@ import java.util.ArrayList;
 public class TableFactory extends Base3DFactory {
     protected static final AssetLoader.ModelType MODEL_TYPE = AssetLoader.ModelType.TABLE;
     
-    protected static final Vector3 POT_BOX_DIMENSION = new Vector3(0.175f,10f,0.175f);
-
-    public static final ArrayList<Vector3> POT_LOCATIONS;
-
-    static {
-        POT_LOCATIONS = new ArrayList<>();
-        POT_LOCATIONS.add(new Vector3(3.05f, 0, 1.45f));
-        POT_LOCATIONS.add(new Vector3(-3.05f, 0, 1.45f));
-        POT_LOCATIONS.add(new Vector3(3.05f, 0, -1.45f));
-        POT_LOCATIONS.add(new Vector3(-3.05f, 0, 1.45f));
-        POT_LOCATIONS.add(new Vector3(-0.0125f, 0, 1.525f));
-        POT_LOCATIONS.add(new Vector3(-0.0125f, 0, -1.525f));
-    }
+    // Half extents of the pots, which are copied for every hit box as vectors are mutable
+    private static final Vector3 POT_BOX_DIMENSION = new Vector3(0.175f,10f,0.175f);
+
+    // Locations of the pots, which are copied on read as vectors are mutable
+    private static final List<Vector3> POT_LOCATIONS = Collections.unmodifiableList(
+            Arrays.asList(
+                    new Vector3(3.05f, 0, 1.45f),
+                    new Vector3(-3.05f, 0, 1.45f),
+                    new Vector3(3.05f, 0, -1.45f),
+                    new Vector3(-3.05f, 0, -1.45f),
+                    new Vector3(-0.0125f, 0, 1.525f),
+                    new Vector3(-0.0125f, 0, -1.525f)));
 
     private Texture texture;
+    private transient CollisionHandlerFactory collisionHandlerFactory;
+    // Geometry compiled from the first analytic table, shared by the next ones
+    private transient TableGeometry geometry;
 
     /**
      * Creates a new Board Factory instance with the specified
@@ -50,6 +52,7 @@ public class TableFactory extends Base3DFactory {
     public TableFactory(Texture texture, AssetLoader assetLoader) {
         super(assetLoader);
         this.texture = texture;
+        this.collisionHandlerFactory = new CollisionHandlerFactory();
     }
 
     public Texture getTexture() {
@@ -60,6 +63,28 @@ public class TableFactory extends Base3DFactory {
         this.texture = texture;
     }
 
+    /**
+     * Returns the locations of the pots of the table.
+     * @return  New list with copies of the locations of the pots
+     */
+    // False positive for UR anomalies caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public static List<Vector3> getPotLocations() {
+        List<Vector3> locations = new ArrayList<>(POT_LOCATIONS.size());
+        for (Vector3 location : POT_LOCATIONS) {
+            locations.add(location.cpy());
+        }
+        return locations;
+    }
+
+    public CollisionHandlerFactory getCollisionHandlerFactory() {
+        return collisionHandlerFactory;
+    }
+
+    public void setCollisionHandlerFactory(CollisionHandlerFactory collisionHandlerFactory) {
+        this.collisionHandlerFactory = collisionHandlerFactory;
+    }
+
     /**
      * Creates a 3D Board object instance.
      * The appearance of the board is set accordingly to the
@@ -73,32 +98,10 @@ public class TableFactory extends Base3DFactory {
         // TODO: Set texture accordingly
         Table3D table = new Table3D(boardInstance);
 
-        setUpCollisionHandler(table);
-        Table3D.potHitBoxes = new ArrayList<>();
+        table.setCollisionHandler(collisionHandlerFactory.createCollisionHandler());
         return table;
     }
 
-    /**
-     * Method called to set up the collision handler for a table.
-     * @param table table that needs collision handler.
-     */
-    private void setUpCollisionHandler(Table3D table) {
-        // configuration for the collisions
-        btDefaultCollisionConfiguration configuration = new  btDefaultCollisionConfiguration();
-        // dispatcher for the collisions
-        btCollisionDispatcher dispatcher = new btCollisionDispatcher(configuration);
-        // info regarding construction of collision algorithm
-        btCollisionAlgorithmConstructionInfo constructionInfo =
-                new btCollisionAlgorithmConstructionInfo();
-        // info regarding dispatcher
-        btDispatcherInfo dispatcherInfo = new btDispatcherInfo();
-
-        // creation of collision handler
-        CollisionHandler collisionHandler = new CollisionHandler(configuration, dispatcher,
-                constructionInfo, dispatcherInfo);
-        table.setCollisionHandler(collisionHandler);
-    }
-
     /**
      * Sets up the bounding borders for the table by creating four HitBoxes objects to
      * create walls that keep the ball on the table.
@@ -111,16 +114,30 @@ public class TableFactory extends Base3DFactory {
     protected void setBoundingBoxes(Table3D table) {
         // set up bounding borders
         setUpBox(new Vector3(10f, 10f, 0.1f), new Matrix4().trn(new Vector3(0,0,1.45f)),
-                table, new btCollisionObject(), new Vector3(0,0,1));
+                table, createCollisionObject(table), new Vector3(0,0,1));
 
         setUpBox(new Vector3(10f, 10f, 0.1f), new Matrix4().trn(new Vector3(0,0,-1.45f)),
-                table, new btCollisionObject(), new Vector3(0,0, -1));
+                table, createCollisionObject(table), new Vector3(0,0, -1));
 
         setUpBox(new Vector3(.1f, 10f, 10f), new Matrix4().trn(new Vector3(3.05f,0,0)),
-                table, new btCollisionObject(), new Vector3(1, 0, 0));
+                table, createCollisionObject(table), new Vector3(1, 0, 0));
 
         setUpBox(new Vector3(.1f, 10f, 10f), new Matrix4().trn(new Vector3(-3.05f,0,0)),
-                table, new btCollisionObject(), new Vector3(-1,0,0));
+                table, createCollisionObject(table), new Vector3(-1,0,0));
+    }
+
+    /**
+     * Creates the Bullet collision object for a hit box of the table, if the
+     * collision handler of the table needs one.
+     * @param table the table object for which the hit box is created.
+     * @return a new collision object, or null if the handler does not need native objects.
+     */
+    protected btCollisionObject createCollisionObject(Table3D table) {
+        CollisionHandler handler = table.getCollisionHandler();
+        if (handler == null || handler.requiresNativeObjects()) {
+            return new btCollisionObject();
+        }
+        return null;
     }
 
     /**
@@ -128,15 +145,22 @@ public class TableFactory extends Base3DFactory {
      * @param shape btCollisionShape for the box, should in this case always be a cube.
      * @param position position where the box will be placed.
      * @param table the table object for which the bounding box should be created.
-     * @param btCollisionObject the collision object required to create a HitBox instance.
+     * @param btCollisionObject the collision object required to create a HitBox instance,
+     *                          or null to create a HitBox without Bullet objects.
      * @param normal the normal vector of the bounding box that is to be created.
      */
     protected void setUpBox(Vector3 shape, Matrix4 position, Table3D table,
                          btCollisionObject btCollisionObject, Vector3 normal) {
-        btCollisionShape btCollisionShape = new btBoxShape(shape);
-        btCollisionObject.setCollisionShape(btCollisionShape);
-        btCollisionObject.setWorldTransform(position);
-        HitBox hitBox = new HitBox(btCollisionShape, btCollisionObject);
+        HitBox hitBox;
+        if (btCollisionObject == null) {
+            hitBox = new HitBox(HitBox.Type.BOX, shape);
+        } else {
+            btCollisionShape btCollisionShape = new btBoxShape(shape);
+            btCollisionObject.setCollisionShape(btCollisionShape);
+            hitBox = new HitBox(btCollisionShape, btCollisionObject,
+                    HitBox.Type.BOX, shape);
+        }
+        hitBox.updateLocation(position);
         hitBox.setNormal(normal);
         table.getHitBoxes().add(hitBox);
     }
@@ -150,7 +174,7 @@ public class TableFactory extends Base3DFactory {
     // Checking for UR anomalies has been removed in updated versions of PMD: https://pmd.github.io/2019/10/31/PMD-6.19.0/
     protected void setUpPotHitBoxes(Table3D table) {
         for (Vector3 position: TableFactory.POT_LOCATIONS) {
-            setUpPotBox(new Matrix4().trn(position), table, new btCollisionObject());
+            setUpPotBox(new Matrix4().trn(position), table, createCollisionObject(table));
         }
     }
 
@@ -160,18 +184,41 @@ public class TableFactory extends Base3DFactory {
      * There should be 6 pot boxes, 4 corners and 2 in the up and lower middle.
      * @param position position where the box will be placed.
      * @param table the table object for which the pot box should be created.
-     * @param btCollisionObject the collision object required to create a HitBox instance.
+     * @param btCollisionObject the collision object required to create a HitBox instance,
+     *                          or null to create a HitBox without Bullet objects.
      */
     protected void setUpPotBox(Matrix4 position, Table3D table,
                                btCollisionObject btCollisionObject) {
-        btCollisionShape collisionShape = new btCylinderShape(POT_BOX_DIMENSION);
-        btCollisionObject.setCollisionShape(collisionShape);
-        btCollisionObject.setWorldTransform(position);
-        HitBox hitBox = new HitBox(collisionShape, btCollisionObject);
+        Vector3 halfExtents = POT_BOX_DIMENSION.cpy();
+        HitBox hitBox;
+        if (btCollisionObject == null) {
+            hitBox = new HitBox(HitBox.Type.CYLINDER, halfExtents);
+        } else {
+            btCollisionShape collisionShape = new btCylinderShape(halfExtents);
+            btCollisionObject.setCollisionShape(collisionShape);
+            hitBox = new HitBox(collisionShape, btCollisionObject,
+                    HitBox.Type.CYLINDER, halfExtents);
+        }
+        hitBox.updateLocation(position);
         table.getPotHitBoxes().add(hitBox);
     }
 
-
+    /**
+     * Compiles the borders and pots of a table into its geometry, if the
+     * collision handler of the table checks the hit boxes analytically.
+     * All tables of the factory have the same layout, so the geometry
+     * is compiled once and shared by the tables that are created after,
+     * also by tables that are created on other threads.
+     * @param table the table object of which the hit boxes are set up.
+     */
+    protected synchronized void setUpGeometry(Table3D table) {
+        CollisionHandler handler = table.getCollisionHandler();
+        if (handler == null || handler.requiresNativeObjects()) {
+            return;
+        }
+        if (geometry == null) {
+            geometry = new TableGeometry(table.getHitBoxes(), table.getPotHitBoxes());
+        }
+        table.setGeometry(geometry);
+    }
 }
-
-
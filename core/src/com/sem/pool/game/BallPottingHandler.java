@@ -35,12 +35,8 @@ public class BallPottingHandler {
     // Since the issue is raised due to a bug in PMD, it is suppressed.
     @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     public void potBallsToPlayers(TurnHandler turnHandler) {
-        for (Ball3D pottedBall: gameBallState.getAllPottedBalls()) {
-            if (pottedBall instanceof RegularBall3D) {
-                for (Player player : turnHandler.getPlayers()) {
-                    player.potBall((RegularBall3D) pottedBall);
-                }
-            }
+        for (Player player : turnHandler.getPlayers()) {
+            player.potBalls(gameBallState.getAllPottedBalls());
         }
         gameBallState.clearPreAssignedPottedBalls();
     }
@@ -0,0 +1,65 @@
+package com.sem.pool.game;
+
+import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.RegularBall3D;
+
+/**
+ * Stateless class for sets of pool balls, represented as bit masks of
+ * the ids of the balls. A Pool game only has 16 balls, so the rules can
+ * keep and compare their sets of balls in a single int, without
+ * allocating or hashing any objects. The type of a regular ball follows
+ * from its id, so the balls of a type are a fixed mask as well.
+ */
+public final class BallSet {
+    public static final int EMPTY = 0;
+    // Full balls have the ids below the eight ball, striped balls the ids above it
+    public static final int FULL = ((1 << GameConstants.EIGHTBALL_ID) - 1)
+            ^ (1 << GameConstants.CUEBALL_ID);
+    public static final int STRIPED = ((1 << GameConstants.BALL_COUNT) - 1)
+            ^ ((1 << (GameConstants.EIGHTBALL_ID + 1)) - 1);
+
+    private BallSet() {
+    }
+
+    /**
+     * Returns the set with only the ball with the specified id.
+     * @param id  ID of the ball, below the ball count
+     * @return  Set of the ball
+     */
+    public static int of(int id) {
+        return 1 << id;
+    }
+
+    /**
+     * Returns the set with only the specified ball.
+     * @param ball  Ball to put in the set
+     * @return  Set of the ball
+     */
+    public static int of(Ball3D ball) {
+        return of(ball.getId());
+    }
+
+    public static boolean contains(int set, int id) {
+        return (set & of(id)) != 0;
+    }
+
+    public static int size(int set) {
+        return Integer.bitCount(set);
+    }
+
+    /**
+     * Returns the set of all balls of the specified type.
+     * @param type  Type of the balls
+     * @return  Set of the balls of the type, or the empty set if unassigned
+     */
+    public static int ofType(RegularBall3D.Type type) {
+        switch (type) {
+            case FULL:
+                return FULL;
+            case STRIPED:
+                return STRIPED;
+            default:
+                return EMPTY;
+        }
+    }
+}
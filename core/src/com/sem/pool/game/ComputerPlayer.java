@@ -0,0 +1,92 @@
+package com.sem.pool.game;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.scene.Ball3D;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Player that is controlled by the computer. The computer picks its shots
+ * with a parallel Monte-Carlo ShotSearch over headless simulations.
+ */
+public class ComputerPlayer extends Player {
+    // User that represents the computer, which is not registered in the
+    // user table: ids of registered users start at 1, and the name is reserved
+    public static final int USER_ID = 0;
+    public static final String USERNAME = "Computer";
+
+    // Spots to place the cue ball on after it was potted, in order of preference,
+    // which are copied on read as vectors are mutable
+    private static final List<Vector3> CUE_BALL_SPOTS = Collections.unmodifiableList(
+            Arrays.asList(
+                    new Vector3(-1.75f, 0, 0),
+                    new Vector3(-1.75f, 0, 0.5f),
+                    new Vector3(-1.75f, 0, -0.5f),
+                    new Vector3(-2.5f, 0, 0),
+                    new Vector3(-1f, 0, 0),
+                    new Vector3(0, 0, 0)));
+
+    private final transient ShotSearch search;
+
+    /**
+     * Creates a new computer player with the specified id, which searches
+     * its shots on all cores within the default time budget.
+     * @param id  ID to assign to the player
+     */
+    public ComputerPlayer(int id) {
+        this(id, new ShotSearch(ForkJoinPool.commonPool(),
+                GameConstants.AI_TIME_BUDGET, System.nanoTime()));
+    }
+
+    /**
+     * Creates a new computer player with the specified id and shot search.
+     * @param id  ID to assign to the player
+     * @param search  Search to pick the shots of the player with
+     */
+    public ComputerPlayer(int id, ShotSearch search) {
+        super(id);
+        this.search = search;
+    }
+
+    /**
+     * Returns the spots to place the cue ball on after it was potted.
+     * @return  New list with copies of the spots, in order of preference
+     */
+    // False positive for UR anomalies caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public static List<Vector3> getCueBallSpots() {
+        List<Vector3> spots = new ArrayList<>(CUE_BALL_SPOTS.size());
+        for (Vector3 spot : CUE_BALL_SPOTS) {
+            spots.add(spot.cpy());
+        }
+        return spots;
+    }
+
+    public ShotSearch getSearch() {
+        return search;
+    }
+
+    /**
+     * Picks the shot to take with the balls at their current positions.
+     * @param poolBalls  Pool balls of the game, with the cue ball first
+     * @return  Shot to take
+     */
+    public Shot chooseShot(List<Ball3D> poolBalls) {
+        return search.findShot(poolBalls, this);
+    }
+
+    /**
+     * Starts to pick the shot to take with the balls at their current
+     * positions, without blocking the calling thread, e.g. the render thread.
+     * @param poolBalls  Pool balls of the game, with the cue ball first
+     * @return  Future of the shot to take
+     */
+    public CompletableFuture<Shot> chooseShotAsync(List<Ball3D> poolBalls) {
+        return search.findShotAsync(poolBalls, this);
+    }
+}
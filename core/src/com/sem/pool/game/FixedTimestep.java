@@ -0,0 +1,76 @@
+package com.sem.pool.game;
+
+/**
+ * Accumulator that converts variable frame times into a whole
+ * number of fixed physics steps. Since the physics are always
+ * advanced with the same step, the outcome of a shot does not
+ * depend on the frame rate the game is rendered at.
+ */
+public class FixedTimestep {
+    private final transient float step;
+    private final transient int maxSubSteps;
+    private transient float accumulator;
+
+    /**
+     * Creates a new fixed timestep with the specified step and sub-step limit.
+     *
+     * @param step  Duration of a single physics step in seconds
+     * @param maxSubSteps  Maximum number of steps to take in a single frame
+     */
+    public FixedTimestep(float step, int maxSubSteps) {
+        assert (step > 0 && maxSubSteps > 0);
+
+        this.step = step;
+        this.maxSubSteps = maxSubSteps;
+    }
+
+    /**
+     * Adds the time of the last frame to the accumulator, and returns the
+     * number of physics steps to take for the frame. When more steps are
+     * due than the sub-step limit allows, the remaining time is dropped,
+     * so that a slow frame slows down the simulation instead of stalling it.
+     *
+     * @param frameTime  Time between the last and current frame in seconds
+     * @return  Number of fixed steps to take for the current frame
+     */
+    public int advance(float frameTime) {
+        accumulator += frameTime;
+
+        int steps = (int) (accumulator / step);
+        if (steps > maxSubSteps) {
+            steps = maxSubSteps;
+            accumulator = 0;
+        } else {
+            accumulator -= steps * step;
+        }
+
+        return steps;
+    }
+
+    /**
+     * Returns how far the current frame lies between the last and the next
+     * physics step, as a value in [0, 1). To be used to interpolate
+     * between the previous and current physics state when rendering.
+     *
+     * @return  Interpolation factor between the previous and current state
+     */
+    public float getAlpha() {
+        return Math.min(1f, accumulator / step);
+    }
+
+    /**
+     * Clears the accumulated time. To be called when the simulation
+     * is (re)started, so every shot starts at the same step phase.
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+
+    public float getStep() {
+        return step;
+    }
+
+    public int getMaxSubSteps() {
+        return maxSubSteps;
+    }
+}
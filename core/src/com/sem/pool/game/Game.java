@@ -5,12 +5,13 @@ import com.badlogic.gdx.math.Vector3;
 import com.sem.pool.scene.Ball3D;
 import com.sem.pool.scene.Cue3D;
 import com.sem.pool.scene.CueBall3D;
+import com.sem.pool.scene.InstantReplay;
+import com.sem.pool.scene.ReplayBuffer;
 import com.sem.pool.scene.Scene3D;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class that handles everything related to the pool game.
@@ -21,7 +22,19 @@ public class Game implements ObservableGame {
     private transient Scene3D scene;
     private transient Input input;
     private transient GameState state;
-    private transient Set<GameObserver> observers;
+    private transient GameEventBus events;
+    private transient FixedTimestep timestep;
+    // Inputs of the game, recorded from its start to replay it
+    private transient ReplayLog replayLog;
+    // Positions of the balls since the last shot started, to replay the shot
+    private transient InstantReplay instantReplay;
+    // Game before the last shot, and the size of the replay log at that time
+    private transient GameSnapshot lastShot;
+    private transient int lastShotLogSize;
+    // Shot of the computer that is being searched in the background
+    private transient CompletableFuture<Shot> computerShot;
+    // Whether the end of the game was published, which happens only once
+    private transient boolean ended;
 
     /**
      * Constructs a new Game object with the given scene, input, and state.
@@ -34,12 +47,18 @@ public class Game implements ObservableGame {
         this.scene = scene;
         this.input = input;
         this.state = state;
-        this.observers = new HashSet<>();
+        this.events = new GameEventBus();
+        this.timestep = new FixedTimestep(GameConstants.PHYSICS_STEP,
+                GameConstants.MAX_SUB_STEPS);
         // Add State as an observer to the game
         // NOTE: Since the Game State is an observer,
         // it will react to al the required functionality for
-        // starting the game, potting balls and reacting to motion.
-        this.observers.add(state);
+        // starting the game, potting balls and reacting to motion,
+        // so it has to receive the events inline.
+        this.events.subscribe(state, GameEventBus.Delivery.INLINE);
+        this.replayLog = new ReplayLog(state.getSeed());
+        this.instantReplay = new InstantReplay(ReplayBuffer.forDuration(
+                GameConstants.BALL_COUNT, GameConstants.REPLAY_SECONDS));
     }
 
     /**
@@ -68,6 +87,67 @@ public class Game implements ObservableGame {
         return state;
     }
 
+    public FixedTimestep getTimestep() {
+        return timestep;
+    }
+
+    public void setTimestep(FixedTimestep timestep) {
+        this.timestep = timestep;
+    }
+
+    public ReplayLog getReplayLog() {
+        return replayLog;
+    }
+
+    public InstantReplay getInstantReplay() {
+        return instantReplay;
+    }
+
+    /**
+     * Starts to replay the last shot, if the balls are at rest.
+     * @param speed  Playback speed, where 1 is real time
+     * @return  True if the replay started
+     */
+    public boolean replayLastShot(float speed) {
+        if (state.isIdle()) {
+            instantReplay.start(speed);
+        }
+        return instantReplay.isPlaying();
+    }
+
+    /**
+     * Undoes the last shot, if the balls are at rest: the game and the
+     * balls are restored to right before the shot, and the shot is
+     * removed from the replay log. Only a single shot can be undone.
+     * @return  True if the last shot was undone
+     */
+    @SuppressWarnings("PMD.NullAssignment") // No shot can be undone until the next shot
+    public boolean undoLastShot() {
+        if (lastShot == null || !state.isIdle()) {
+            return false;
+        }
+        state.restore(lastShot, scene.getPoolBalls(), scene.getBallStates());
+        scene.wakeBalls();
+        // A shot searched for the positions before the undo does not apply anymore
+        computerShot = null;
+        replayLog.truncate(lastShotLogSize);
+        lastShot = null;
+        return true;
+    }
+
+    /**
+     * Returns how far the current frame lies between the previous and
+     * the current physics step, to be used for rendering the balls.
+     * When the balls are not in motion, the current state is rendered.
+     * @return  Interpolation factor between the previous and current state
+     */
+    public float getInterpolationAlpha() {
+        if (state.isInMotion()) {
+            return timestep.getAlpha();
+        }
+        return 1f;
+    }
+
     /**
      * Publicly accessible method call that handles all of the
      * logic for the current game loop iteration, such as
@@ -88,7 +168,12 @@ public class Game implements ObservableGame {
         } else {
             // Check if any ball is in motion
             determineIsInMotion();
-            performGameLoopAction(deltaTime);
+
+            // The shot that just stopped may have decided the winner,
+            // in which case no next shot may be taken
+            if (!state.getWinningPlayer().isPresent()) {
+                performGameLoopAction(deltaTime);
+            }
         }
     }
 
@@ -96,29 +181,43 @@ public class Game implements ObservableGame {
      * Performs an action in the game loop based on the
      * internal state of the game.
      * This could be moving the balls or responding
-     * to user input.
+     * to user input. The balls are moved in fixed physics
+     * steps, so the result of a shot does not depend on the frame rate.
      * @param deltaTime  deltaTime, time between current and last frame.
      */
     private void performGameLoopAction(float deltaTime) {
         if (state.isInMotion()) {
-            moveBalls(deltaTime);
-        } else if (state.isIdle()) {
-            respondToInput();
+            int steps = timestep.advance(deltaTime);
+            for (int i = 0; i < steps; i++) {
+                moveBalls(timestep.getStep());
+            }
+        } else {
+            // Start the next shot at the same step phase
+            timestep.reset();
+
+            if (instantReplay.isPlaying()) {
+                // Input is ignored while the last shot is replayed
+                instantReplay.advance(deltaTime);
+            } else if (state.isIdle()) {
+                respondToInput();
+            }
         }
     }
 
     /**
-     * Moves the balls according to our physics implementation. This method will be called
-     * every frame in the render() method.
+     * Moves the balls according to our physics implementation over a single
+     * fixed physics step. This method is called zero or more times per frame,
+     * depending on the time accumulated since the last step.
+     * @param deltaTime  Duration of the physics step in seconds
      */
     // Seems like there is a false positive with regards to UR anomalies that
     // is caused by the loop.
     @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     protected void moveBalls(float deltaTime) {
-        // Move all the balls in the scene, regardless of whether
-        // they are in motion or not. Here, we assume that the ball
-        // is simply not moved if it is not in motion (via internal logic of ball)
-        for (Ball3D ball : scene.getPoolBalls()) {
+        // Only move the balls that are awake; balls at rest
+        // and potted balls are skipped by the physics world.
+        for (Ball3D ball : scene.updateActiveBalls()) {
+            ball.storePreviousPosition();
             ball.move(deltaTime);
         }
 
@@ -130,13 +229,25 @@ public class Game implements ObservableGame {
         for (Ball3D ball : potted) {
             potBall(ball);
         }
+
+        instantReplay.getBuffer().record(scene.getBallStates());
     }
 
     /**
      * Method to handle any input by the player(s), should ignore input if invalid.
+     * When the active player is a computer, the computer plays instead.
+     * Pressing R replays the last shot, in slow motion while holding shift,
+     * and pressing U undoes the last shot.
      */
     protected void respondToInput() {
-        if (this.state.isCueBallPotted()) {
+        if (respondToHistoryInput()) {
+            return;
+        }
+
+        Player active = this.state.getTurnHandler().getActivePlayer();
+        if (active instanceof ComputerPlayer) {
+            playComputerTurn((ComputerPlayer) active);
+        } else if (this.state.isCueBallPotted()) {
             handleCueBallPlacement();
         } else {
             processCueInput();
@@ -144,6 +255,62 @@ public class Game implements ObservableGame {
         
     }
 
+    /**
+     * Replays or undoes the last shot if the corresponding key was pressed.
+     * @return  True if a key for the last shot was pressed
+     */
+    private boolean respondToHistoryInput() {
+        if (input.isKeyJustPressed(Input.Keys.R)) {
+            boolean slow = input.isKeyPressed(Input.Keys.SHIFT_LEFT);
+            replayLastShot(slow ? GameConstants.REPLAY_SLOW_MOTION : 1f);
+            return true;
+        }
+        if (input.isKeyJustPressed(Input.Keys.U)) {
+            undoLastShot();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Lets the computer play its turn: the cue ball is placed on the first
+     * free spot if it was potted, and the search of the best shot is started
+     * in the background, so that the game keeps rendering. The shot is taken
+     * in the first iteration of the game loop after the search completed.
+     * @param computer  Computer player that is active
+     */
+    // False positive for UR anomalies caused by the loop, and the
+    // shot of the computer is cleared once it is taken.
+    @SuppressWarnings({"PMD.DataflowAnomalyAnalysis", "PMD.NullAssignment"})
+    protected void playComputerTurn(ComputerPlayer computer) {
+        if (computerShot == null) {
+            if (this.state.isCueBallPotted()) {
+                for (Vector3 spot : ComputerPlayer.getCueBallSpots()) {
+                    if (scene.placeCueBall(spot)) {
+                        this.state.getGameBallState().resetCueBall();
+                        replayLog.recordPlacement(spot);
+                        break;
+                    }
+                }
+            }
+            computerShot = computer.chooseShotAsync(scene.getPoolBalls());
+        }
+        if (!computerShot.isDone()) {
+            return;
+        }
+
+        Shot shot = computerShot.join();
+        computerShot = null;
+        startMotion();
+
+        CueBall3D cueBall = scene.getCueBall();
+        cueBall.setDirection(shot.getDirection());
+        cueBall.setSpeed(shot.getForce());
+        replayLog.recordShot(shot.getDirection(), shot.getForce());
+        scene.getCue().hideCue();
+        scene.getSoundPlayer().playCueSound();
+    }
+
     /**
      * Method to handle the replacement of the cue ball when necessary.
      */
@@ -152,6 +319,7 @@ public class Game implements ObservableGame {
         // if this is the case, the cueBallPotted variable will be set to false.
         if (this.scene.placeCueBall(input)) {
             this.state.getGameBallState().resetCueBall();
+            replayLog.recordPlacement(scene.getCueBall().getCoordinates());
         }
     }
     
@@ -182,6 +350,7 @@ public class Game implements ObservableGame {
 
                 CueBall3D cueBall = scene.getCueBall();
                 cue.shoot(cueBall);
+                replayLog.recordShot(cueBall.getDirection(), cue.getCurrentForce());
                 scene.getSoundPlayer().playCueSound();
             } else {
                 // Cancel shot -> go back to rotating
@@ -202,17 +371,11 @@ public class Game implements ObservableGame {
      * ending a movement loop iteration.
      * @return  True if at least one ball is in motion, and false otherwise.
      */
-    // Seems like there is a false positive with regards to UR anomalies that
-    // is caused by the loop.
-    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     protected boolean determineIsInMotion() {
-        // Check all the balls currently in the scene
-        for (Ball3D ball : scene.getPoolBalls()) {
-            // Found one that is in motion;
-            // Game should also be in motion.
-            if (ball.isInMotion()) {
-                return true;
-            }
+        // Only the balls that are awake in the scene are checked;
+        // if one is in motion, the Game should also be in motion.
+        if (scene.isInMotion()) {
+            return true;
         }
 
         // No ball in motion; Game should not be in motion either.
@@ -237,57 +400,78 @@ public class Game implements ObservableGame {
      * active Player.
      * @param ball  Ball to be potted
      */
-    // False positive in the foreach loop with regards to variable 'o'.
-    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     public void potBall(Ball3D ball) {
         // Pot the ball (handles potting the ball visually)
         ball.pot();
 
         // Notify all observers of the potted ball
-        for (GameObserver o : observers) {
-            o.onBallPotted(ball);
-        }
+        events.publishBallPotted(ball);
     }
 
+    /**
+     * Adds an observer that receives the events inline, on the thread of the game loop.
+     * @param observer  Game Observer to add
+     */
     @Override
     public void addObserver(GameObserver observer) {
-        observers.add(observer);
+        addObserver(observer, GameEventBus.Delivery.INLINE);
+    }
+
+    /**
+     * Adds an observer that receives the events on the specified thread.
+     * Slow observers, e.g. ones that store results, should receive the
+     * events in the background, so that they do not stall the game loop.
+     * @param observer  Game Observer to add
+     * @param delivery  Thread on which the events are delivered to the observer
+     */
+    public void addObserver(GameObserver observer, GameEventBus.Delivery delivery) {
+        events.subscribe(observer, delivery);
     }
 
     @Override
     public void removeObserver(GameObserver observer) {
-        observers.remove(observer);
+        events.unsubscribe(observer);
     }
 
     /**
-     * End the game.
-     * Error suppressed as this is a bug in PMD.
+     * End the game. The observers are only notified the first time,
+     * as background observers, e.g. the one that stores the result,
+     * may receive the event after the next frames were played.
      * @param winner The winner of the game.
      * @param players All players in the game.
      */
-    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     public void endGame(Player winner, List<Player> players) {
-        for (GameObserver observer : this.observers) {
-            observer.onGameEnded(winner, players);
+        if (ended) {
+            return;
         }
+        ended = true;
+        events.publishGameEnded(winner, players);
     }
     
     public Collection<GameObserver> getObservers() {
-        return observers;
+        return events.getSubscribers();
     }
 
     @Override
     public void startGame() {
-        observers.forEach(GameObserver::onGameStarted);
+        events.publishGameStarted();
     }
 
     @Override
     public void startMotion() {
-        observers.forEach(GameObserver::onMotion);
+        // Balls at rest should not be interpolated from stale positions
+        scene.getPoolBalls().forEach(Ball3D::storePreviousPosition);
+        lastShot = state.snapshot(scene.getBallStates());
+        lastShotLogSize = replayLog.size();
+        // The replay of the shot starts at the positions it is taken from
+        instantReplay.getBuffer().clear();
+        instantReplay.getBuffer().record(scene.getBallStates());
+        scene.wakeBalls();
+        events.publishMotion();
     }
 
     @Override
     public void stopMotion(Ball3D touched) {
-        observers.forEach(x -> x.onMotionStop(touched));
+        events.publishMotionStop(touched);
     }
 }
@@ -5,9 +5,7 @@ import com.sem.pool.scene.CueBall3D;
 import com.sem.pool.scene.RegularBall3D;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Class that holds the Pool Ball state during a Pool game.
@@ -16,9 +14,9 @@ import java.util.Set;
  * and the first touched ball.
  */
 public class GameBallState {
-    private transient Set<Ball3D> remainingBalls; // Balls remaining to be potted
-    private transient List<Ball3D> currentPottedBalls; // Balls potted in current turn
-    private transient List<Ball3D> allPottedBalls; // All Balls potted in any turn.
+    private transient int remainingBalls; // Set of balls remaining to be potted
+    private transient List<Ball3D> currentPottedBalls; // Balls potted in current turn, in order
+    private transient int allPottedBalls; // Set of balls potted before the types were assigned
 
     // Cue & eight ball potted flags
     private transient boolean cueBallPotted;
@@ -33,31 +31,39 @@ public class GameBallState {
      * @param poolBalls  List of Pool Balls to initialize Ball State with
      */
     public GameBallState(List<Ball3D> poolBalls) {
-        this.remainingBalls = new HashSet<>();
+        this.remainingBalls = BallSet.EMPTY;
         this.currentPottedBalls = new ArrayList<>();
-        this.allPottedBalls = new ArrayList<>();
+        this.allPottedBalls = BallSet.EMPTY;
         this.cueBallPotted = false;
 
         // Add all pool balls except cue ball to remaining balls set
         for (Ball3D ball : poolBalls) {
             if (!(ball instanceof CueBall3D)) {
-                remainingBalls.add(ball);
+                remainingBalls |= BallSet.of(ball);
             }
         }
     }
 
-    public Set<Ball3D> getRemainingBalls() {
+    public int getRemainingBalls() {
         return remainingBalls;
     }
 
+    public void setRemainingBalls(int remainingBalls) {
+        this.remainingBalls = remainingBalls;
+    }
+
     public List<Ball3D> getCurrentPottedBalls() {
         return currentPottedBalls;
     }
 
-    public List<Ball3D> getAllPottedBalls() {
+    public int getAllPottedBalls() {
         return allPottedBalls;
     }
 
+    public void setAllPottedBalls(int allPottedBalls) {
+        this.allPottedBalls = allPottedBalls;
+    }
+
     public Ball3D getFirstBallTouched() {
         return firstBallTouched;
     }
@@ -96,7 +102,7 @@ public class GameBallState {
      * @param ball  Ball to remove
      */
     public void removeBall(Ball3D ball) {
-        remainingBalls.remove(ball);
+        remainingBalls &= ~BallSet.of(ball);
     }
 
     /**
@@ -105,14 +111,14 @@ public class GameBallState {
      * @param ball  Ball to pot
      */
     public void addPreAssignedPottedBall(Ball3D ball) {
-        allPottedBalls.add(ball);
+        allPottedBalls |= BallSet.of(ball);
     }
 
     /**
      * Clears the pre- assignment collection of pool balls.
      */
     public void clearPreAssignedPottedBalls() {
-        allPottedBalls.clear();
+        allPottedBalls = BallSet.EMPTY;
     }
 
     /**
@@ -151,7 +157,7 @@ public class GameBallState {
      * @return  True iff potted ball exists
      */
     public boolean existsPottedPreassignedBall() {
-        return !allPottedBalls.isEmpty();
+        return allPottedBalls != BallSet.EMPTY;
     }
 
     /**
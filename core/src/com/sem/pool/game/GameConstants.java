@@ -19,6 +19,25 @@ public final class GameConstants {
     // Minimal speed for a ball before its speed it set to 0.
     public static final float MIN_SPEED = 0.0001f;
 
+    // PHYSICS
+    // Ball speeds are tuned as distance per frame at this frame rate,
+    // so a ball moves speed * deltaTime * REFERENCE_FRAME_RATE per step.
+    public static final float REFERENCE_FRAME_RATE = 60f;
+
+    // Duration of a single fixed physics step (240 Hz).
+    public static final float PHYSICS_STEP = 1f / 240f;
+
+    // Maximum number of physics steps taken in a single rendered frame.
+    public static final int MAX_SUB_STEPS = 16;
+
+    // Fraction of its hit box radius a ball may move in a physics step,
+    // beyond which its collisions with other balls are swept over the step.
+    public static final float CCD_THRESHOLD = 0.5f;
+
+    // Maximum number of swept collisions resolved in a single physics step;
+    // further collisions in the step fall back to the overlap test.
+    public static final int MAX_CCD_SUB_STEPS = 8;
+
 
     // CUE
     // Cue max shooting force
@@ -30,5 +49,16 @@ public final class GameConstants {
     // The distance between the cueBall and the tip of the cue.
     public static final float CUE_OFFSET = 0.05f;
 
+    // COMPUTER OPPONENT
+    // Time the computer may spend on searching a single shot, in milliseconds
+    public static final long AI_TIME_BUDGET = 200;
+
+    // INSTANT REPLAY
+    // Duration of the physics steps kept for replaying the last shot, in seconds
+    public static final float REPLAY_SECONDS = 30f;
+
+    // Playback speed of the replay when played in slow motion
+    public static final float REPLAY_SLOW_MOTION = 0.25f;
+
 
 }
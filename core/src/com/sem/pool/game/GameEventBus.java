@@ -0,0 +1,189 @@
+package com.sem.pool.game;
+
+import com.sem.pool.scene.Ball3D;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Bus that delivers the events of a Game to its observers. Every observer
+ * declares how its events are delivered: inline observers, like the
+ * GameState, are called on the simulation thread while the event is
+ * published, and background observers, like persistence and UI, are called
+ * on a bounded pool of background threads, so that they never stall a frame.
+ * Every background observer receives its events in the order they were
+ * published, one at a time, through a bounded queue of its own. When that
+ * queue is full, publishing blocks until the observer caught up.
+ * Subscribing and publishing happen on the simulation thread.
+ */
+public class GameEventBus {
+    // Pending events per background observer before publishing blocks
+    public static final int QUEUE_CAPACITY = 64;
+    private static final int BACKGROUND_THREADS = 2;
+
+    /**
+     * Thread on which the events of an observer are delivered.
+     */
+    public enum Delivery {
+        INLINE,
+        BACKGROUND
+    }
+
+    private final transient Executor executor;
+    private final transient Map<GameObserver, Subscriber> subscribers = new LinkedHashMap<>();
+
+    /**
+     * Creates a new event bus that delivers background events on the
+     * background threads shared by all games.
+     */
+    public GameEventBus() {
+        this(SharedExecutor.INSTANCE);
+    }
+
+    /**
+     * Creates a new event bus that delivers background events on the specified executor.
+     * @param executor  Executor to deliver background events on
+     */
+    public GameEventBus(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Subscribes the specified observer to the events of the bus.
+     * Subscribing an observer again changes how its events are delivered.
+     * @param observer  Observer to subscribe
+     * @param delivery  Thread on which the events of the observer are delivered
+     */
+    public void subscribe(GameObserver observer, Delivery delivery) {
+        subscribers.put(observer, new Subscriber(observer, delivery));
+    }
+
+    /**
+     * Unsubscribes the specified observer. Events that were already
+     * queued for the observer are still delivered.
+     * @param observer  Observer to unsubscribe
+     */
+    public void unsubscribe(GameObserver observer) {
+        subscribers.remove(observer);
+    }
+
+    public Set<GameObserver> getSubscribers() {
+        return Collections.unmodifiableSet(subscribers.keySet());
+    }
+
+    /**
+     * Publishes an event to all subscribers, in the order they subscribed.
+     * @param event  Event to publish, e.g. GameObserver::onMotion
+     */
+    public void publish(Consumer<GameObserver> event) {
+        subscribers.values().forEach(subscriber -> subscriber.deliver(event));
+    }
+
+    public void publishGameStarted() {
+        publish(GameObserver::onGameStarted);
+    }
+
+    public void publishBallPotted(Ball3D ball) {
+        publish(observer -> observer.onBallPotted(ball));
+    }
+
+    public void publishMotion() {
+        publish(GameObserver::onMotion);
+    }
+
+    public void publishMotionStop(Ball3D firstTouched) {
+        publish(observer -> observer.onMotionStop(firstTouched));
+    }
+
+    public void publishGameEnded(Player winner, List<Player> players) {
+        publish(observer -> observer.onGameEnded(winner, players));
+    }
+
+    /**
+     * Subscribed observer, together with the queue of its background events.
+     * At most one task drains the queue at any time, which keeps the events
+     * in order without a dedicated thread per observer.
+     */
+    private final class Subscriber implements Runnable {
+        private final transient GameObserver observer;
+        private final transient Delivery delivery;
+        private final transient BlockingQueue<Consumer<GameObserver>> queue;
+        // Whether a task to drain the queue is submitted or running
+        private final transient AtomicBoolean scheduled = new AtomicBoolean();
+
+        Subscriber(GameObserver observer, Delivery delivery) {
+            this.observer = observer;
+            this.delivery = delivery;
+            this.queue = delivery == Delivery.BACKGROUND
+                    ? new ArrayBlockingQueue<>(QUEUE_CAPACITY) : null;
+        }
+
+        /**
+         * Delivers the event inline, or queues it for the background threads.
+         * @param event  Event to deliver
+         */
+        void deliver(Consumer<GameObserver> event) {
+            if (delivery == Delivery.INLINE) {
+                event.accept(observer);
+                return;
+            }
+            try {
+                queue.put(event);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while publishing a game event", e);
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        // False positive for DU anomalies caused by the loop.
+        @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+        @Override
+        public void run() {
+            try {
+                for (Consumer<GameObserver> event = queue.poll(); event != null;
+                        event = queue.poll()) {
+                    event.accept(observer);
+                }
+            } finally {
+                // Events queued after the last poll did not schedule a task
+                scheduled.set(false);
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+
+    /**
+     * Holder of the background threads shared by all games, which are
+     * only started when the first background event is published.
+     */
+    private static final class SharedExecutor {
+        static final ExecutorService INSTANCE = Executors.newFixedThreadPool(
+                BACKGROUND_THREADS, SharedExecutor::newThread);
+
+        private static Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "game-events");
+            // Pending events do not keep the application running
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
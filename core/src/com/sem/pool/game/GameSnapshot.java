@@ -0,0 +1,168 @@
+package com.sem.pool.game;
+
+import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.BallStateBuffer;
+import com.sem.pool.scene.RegularBall3D;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of a Pool game: the rules state of the GameState,
+ * its GameBallState, TurnHandler, BallPottingHandler and Players, and
+ * the physics state of the balls. Balls are referred to by their id: the
+ * sets of balls are a BallSet, and the balls potted in the current turn are
+ * packed as ids in order, so taking a snapshot only allocates a few small arrays.
+ * Snapshots can be restored any number of times, e.g. for the lookahead
+ * of the computer, undoing a shot or rolling back a networked game.
+ */
+public final class GameSnapshot {
+    // Marks a missing winner or first touched ball
+    private static final int NONE = -1;
+    // Bits per ball id in the ordered list of balls potted in the current turn
+    private static final int ID_BITS = 4;
+    private static final int ID_MASK = (1 << ID_BITS) - 1;
+    // Bits of a player: the mask of its potted balls, its ball type and the correct pot flag
+    private static final int TYPE_SHIFT = GameConstants.BALL_COUNT;
+    private static final int TYPE_MASK = 3;
+    private static final int POTTED_CORRECT = 1 << (TYPE_SHIFT + 2);
+    private static final int BALLS_MASK = (1 << TYPE_SHIFT) - 1;
+    private static final RegularBall3D.Type[] TYPES = RegularBall3D.Type.values();
+
+    private final transient GameState.State state;
+    private final transient int winner;
+    private final transient int playerTurn;
+    private final transient int turnCount;
+    private final transient boolean typesAssigned;
+
+    private final transient int remainingBalls;
+    private final transient long currentPottedBalls;
+    private final transient int currentPottedCount;
+    private final transient int allPottedBalls;
+    private final transient boolean cueBallPotted;
+    private final transient boolean eightBallPotted;
+    private final transient int firstTouched;
+
+    private final transient int[] players;
+    private final transient float[] balls;
+
+    /**
+     * Takes a snapshot of the specified game and the physics state of its balls.
+     * @param game  State of the game
+     * @param ballStates  Physics state of the balls of the game
+     */
+    public GameSnapshot(GameState game, BallStateBuffer ballStates) {
+        TurnHandler turnHandler = game.getTurnHandler();
+        state = game.getCurrentState();
+        winner = game.getWinningPlayer().map(turnHandler.getPlayers()::indexOf).orElse(NONE);
+        playerTurn = turnHandler.getPlayerTurn();
+        turnCount = turnHandler.getTurnCount();
+        typesAssigned = game.getBallPottingHandler().getTypesAssigned();
+
+        GameBallState ballState = game.getGameBallState();
+        remainingBalls = ballState.getRemainingBalls();
+        List<Ball3D> currentPotted = ballState.getCurrentPottedBalls();
+        currentPottedCount = currentPotted.size();
+        currentPottedBalls = pack(currentPotted);
+        allPottedBalls = ballState.getAllPottedBalls();
+        cueBallPotted = ballState.isCueBallPotted();
+        eightBallPotted = ballState.isEightBallPotted();
+        Ball3D touched = ballState.getFirstBallTouched();
+        firstTouched = touched == null ? NONE : touched.getId();
+
+        players = new int[turnHandler.getPlayers().size()];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = pack(turnHandler.getPlayers().get(i));
+        }
+        balls = ballStates.saveState();
+    }
+
+    /**
+     * Restores the snapshot on the game it was taken of, or on a game with
+     * the same players and balls. The balls are at their positions of the
+     * snapshot afterwards, and the physics world should be woken up.
+     * @param game  State of the game
+     * @param poolBalls  Balls of the game, in the order of their ids
+     * @param ballStates  Physics state of the balls of the game
+     */
+    public void restore(GameState game, List<Ball3D> poolBalls, BallStateBuffer ballStates) {
+        assert poolBalls.stream().allMatch(ball -> poolBalls.indexOf(ball) == ball.getId());
+        TurnHandler turnHandler = game.getTurnHandler();
+        List<Player> gamePlayers = turnHandler.getPlayers();
+        game.restoreCurrentState(state, winner == NONE ? null : gamePlayers.get(winner));
+        turnHandler.restoreTurn(playerTurn, turnCount);
+        game.getBallPottingHandler().setTypesAssigned(typesAssigned);
+
+        restoreBallState(game.getGameBallState(), poolBalls);
+        for (int i = 0; i < players.length; i++) {
+            restorePlayer(gamePlayers.get(i), players[i]);
+        }
+
+        ballStates.restoreState(balls);
+        poolBalls.forEach(Ball3D::updateHitBox);
+    }
+
+    /**
+     * Restores the collections and flags of the ball state of the game.
+     * @param ballState  Ball state to restore
+     * @param poolBalls  Balls of the game, in the order of their ids
+     */
+    private void restoreBallState(GameBallState ballState, List<Ball3D> poolBalls) {
+        ballState.setRemainingBalls(remainingBalls);
+        ballState.setAllPottedBalls(allPottedBalls);
+
+        List<Ball3D> currentPotted = ballState.getCurrentPottedBalls();
+        currentPotted.clear();
+        for (int i = 0; i < currentPottedCount; i++) {
+            int id = (int) (currentPottedBalls >>> (i * ID_BITS)) & ID_MASK;
+            currentPotted.add(poolBalls.get(id));
+        }
+
+        ballState.resetBallPotFlags();
+        if (cueBallPotted) {
+            ballState.markCueBallAsPotted();
+        }
+        if (eightBallPotted) {
+            ballState.markEightBallAsPotted();
+        }
+        ballState.setFirstBallTouched(firstTouched == NONE ? null : poolBalls.get(firstTouched));
+    }
+
+    /**
+     * Restores the ball type and the potted balls of a player.
+     * @param player  Player to restore
+     * @param packed  Packed state of the player
+     */
+    private static void restorePlayer(Player player, int packed) {
+        player.assignBallType(TYPES[(packed >>> TYPE_SHIFT) & TYPE_MASK]);
+        player.setPottedCorrectBall((packed & POTTED_CORRECT) != 0);
+        player.setPottedBalls(packed & BALLS_MASK);
+    }
+
+    /**
+     * Packs the ball type and the potted balls of a player.
+     * @param player  Player to pack
+     * @return  Packed state of the player
+     */
+    private static int pack(Player player) {
+        int packed = player.getPottedBalls() | player.getBallType().ordinal() << TYPE_SHIFT;
+        return player.getPottedCorrectBall() ? packed | POTTED_CORRECT : packed;
+    }
+
+    /**
+     * Packs the ids of the specified balls in order.
+     * @param balls  Balls to pack, at most 16
+     * @return  Ids of the balls, with the id of the first ball in the lowest bits
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags ball
+    // as a UR anomaly / being undefined
+    private static long pack(List<Ball3D> balls) {
+        assert balls.size() * ID_BITS <= Long.SIZE;
+        long packed = 0;
+        int shift = 0;
+        for (Ball3D ball : balls) {
+            packed |= (long) ball.getId() << shift;
+            shift += ID_BITS;
+        }
+        return packed;
+    }
+}
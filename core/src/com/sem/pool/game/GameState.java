@@ -1,9 +1,11 @@
 package com.sem.pool.game;
 
 import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.BallStateBuffer;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
 
 /**
  * Class to keep track of the current state of the game with regards to the rules.
@@ -29,6 +31,8 @@ public class GameState implements GameObserver {
     private transient GameBallState gameBallState;
     private transient TurnHandler turnHandler;
     private transient BallPottingHandler ballPottingHandler;
+    // Seed that picks the starting player
+    private transient long seed = new Random().nextLong();
 
     /**
      * Creates a new game state with the specified Players and
@@ -71,12 +75,55 @@ public class GameState implements GameObserver {
         return this.ballPottingHandler;
     }
 
+    State getCurrentState() {
+        return state;
+    }
+
+    /**
+     * Restores the state and the winner of the game from a snapshot.
+     * @param state  State of the game
+     * @param winner  Winning Player, or null if there is none
+     */
+    @SuppressWarnings("PMD.NullAssignment") // A game without a winner has a null winner
+    void restoreCurrentState(State state, Player winner) {
+        this.state = state;
+        this.winningPlayer = winner;
+    }
+
+    /**
+     * Takes a snapshot of the game and the physics state of its balls.
+     * @param ballStates  Physics state of the balls of the game
+     * @return  Immutable snapshot of the game
+     */
+    public GameSnapshot snapshot(BallStateBuffer ballStates) {
+        return new GameSnapshot(this, ballStates);
+    }
+
+    /**
+     * Restores a snapshot that was taken of this game.
+     * @param snapshot  Snapshot to restore
+     * @param poolBalls  Balls of the game, in the order of their ids
+     * @param ballStates  Physics state of the balls of the game
+     */
+    public void restore(GameSnapshot snapshot, List<Ball3D> poolBalls,
+                        BallStateBuffer ballStates) {
+        snapshot.restore(this, poolBalls, ballStates);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
     /**
      * Starts the pool game by picking a random Player
-     * for the break shot.
+     * for the break shot, from the seed of the game.
      */
     public void onGameStarted() {
-        turnHandler.initializeStartingPlayer();
+        turnHandler.initializeStartingPlayer(seed);
         this.state = State.Idle;
     }
 
@@ -0,0 +1,253 @@
+package com.sem.pool.game;
+
+import com.badlogic.gdx.math.Vector3;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Host of many independent headless matches between computer players in
+ * one process, e.g. for leagues of computer players, regression runs or
+ * load tests. Every match is a Simulation with its own table, balls and
+ * GameState. The turns of the matches are played on a work-stealing
+ * ForkJoinPool with a worker per core: a turn forks the next turn of its
+ * match, so matches that are still playing keep the workers busy, and
+ * matches that ended do not cost anything. The players created by the
+ * host search their shots on the same pool, so the searches are split over
+ * the workers as well. Observers of the host are notified through
+ * onGameEnded when a match ends.
+ */
+public class MatchHost {
+    // Turns after which a match without a winner is stopped
+    public static final int MAX_TURNS = 500;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double SECONDS_PER_MINUTE = 60;
+
+    private final transient ForkJoinPool pool;
+    private final transient long searchBudgetMillis;
+    // Searches of the players created by the host, of which the steps are counted
+    private final transient List<ShotSearch> searches = new CopyOnWriteArrayList<>();
+    private final transient List<GameObserver> observers = new CopyOnWriteArrayList<>();
+    private final transient long startTime = System.nanoTime();
+
+    // Number of matches that are still playing, guarded by itself
+    private final transient Object lock = new Object();
+    private transient int playing;
+
+    // Metrics over all the matches of the host
+    private final transient LongAdder steps = new LongAdder();
+    private final transient LongAdder completed = new LongAdder();
+
+    /**
+     * Creates a new match host with a worker thread per core, of which
+     * the players search their shots within the default time budget.
+     */
+    public MatchHost() {
+        this(new ForkJoinPool(Runtime.getRuntime().availableProcessors()),
+                GameConstants.AI_TIME_BUDGET);
+    }
+
+    /**
+     * Creates a new match host that plays its matches on the specified pool.
+     * @param pool  Pool to play the turns of the matches on
+     * @param searchBudgetMillis  Time budget of the shot searches of the players
+     *                            created by the host, in milliseconds
+     */
+    public MatchHost(ForkJoinPool pool, long searchBudgetMillis) {
+        this.pool = pool;
+        this.searchBudgetMillis = searchBudgetMillis;
+    }
+
+    /**
+     * Creates a computer player that searches its shots on the pool of the host.
+     * @param id  ID to assign to the player
+     * @param seed  Seed for sampling the candidate shots of the player
+     * @return  New computer player
+     */
+    public ComputerPlayer createPlayer(int id, long seed) {
+        ShotSearch search = new ShotSearch(pool, searchBudgetMillis, seed);
+        searches.add(search);
+        return new ComputerPlayer(id, search);
+    }
+
+    public void addObserver(GameObserver observer) {
+        observers.add(observer);
+    }
+
+    public void removeObserver(GameObserver observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Starts to play a match, of which all players are computer players.
+     * @param match  Simulation of the match, at the break shot
+     */
+    public void addMatch(Simulation match) {
+        assert match.getState().getTurnHandler().getPlayers().stream()
+                .allMatch(player -> player instanceof ComputerPlayer);
+        synchronized (lock) {
+            playing++;
+        }
+        pool.execute(new Turn(match, 0));
+    }
+
+    /**
+     * Waits until all matches of the host ended or were stopped.
+     * @param timeout  Maximum time to wait
+     * @param unit  Unit of the timeout
+     * @return  True if all matches are done, false if the timeout passed before
+     * @throws InterruptedException  If the thread was interrupted while waiting
+     */
+    public boolean awaitMatches(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (lock) {
+            long remaining = deadline - System.nanoTime();
+            while (playing > 0 && remaining > 0) {
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+            return playing == 0;
+        }
+    }
+
+    /**
+     * Counts a match that ended or was stopped as done.
+     */
+    private void onMatchDone() {
+        synchronized (lock) {
+            playing--;
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Stops the workers of the host, after the turns that were started.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Returns the number of physics steps simulated over all matches:
+     * the steps of the played shots, and of the candidate shots
+     * simulated by the searches of the players created by the host.
+     * @return  Simulated steps
+     */
+    public long getSteps() {
+        return steps.sum() + searches.stream().mapToLong(ShotSearch::getSimulatedSteps).sum();
+    }
+
+    public long getCompletedMatches() {
+        return completed.sum();
+    }
+
+    /**
+     * Returns the number of physics steps simulated per second over all
+     * matches, including the searches, since the host was created.
+     * @return  Simulated steps per second
+     */
+    public double getStepsPerSecond() {
+        return getSteps() / getElapsedSeconds();
+    }
+
+    /**
+     * Returns the number of matches that ended with a winner per minute,
+     * since the host was created.
+     * @return  Completed matches per minute
+     */
+    public double getMatchesPerMinute() {
+        return completed.sum() * SECONDS_PER_MINUTE / getElapsedSeconds();
+    }
+
+    private double getElapsedSeconds() {
+        return Math.max(1, System.nanoTime() - startTime) / NANOS_PER_SECOND;
+    }
+
+    /**
+     * Notifies the observers of the host that a match ended.
+     * @param winner  Winner of the match
+     * @param players  Players of the match, including the winner
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags observer
+    // as a UR anomaly / being undefined
+    private void onMatchEnded(Player winner, List<Player> players) {
+        completed.increment();
+        for (GameObserver observer : observers) {
+            observer.onGameEnded(winner, players);
+        }
+    }
+
+    /**
+     * Single turn of a match, which forks the next turn of the match
+     * until there is a winner or the match ran out of turns. A match
+     * of which a turn fails is stopped.
+     */
+    private class Turn extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Simulation match;
+        private final transient int number;
+
+        Turn(Simulation match, int number) {
+            super();
+            this.match = match;
+            this.number = number;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags next
+        // as a DD anomaly, while it stays false if the turn fails
+        protected void compute() {
+            boolean next = false;
+            try {
+                next = play();
+            } finally {
+                if (!next) {
+                    onMatchDone();
+                }
+            }
+        }
+
+        /**
+         * Plays the turn of the active player.
+         * @return  True if the next turn of the match was forked
+         */
+        private boolean play() {
+            GameState state = match.getState();
+            if (state.isCueBallPotted()) {
+                placeCueBall();
+            }
+            ComputerPlayer player = (ComputerPlayer) state.getTurnHandler().getActivePlayer();
+            Shot shot = player.chooseShot(match.getPoolBalls());
+            ShotOutcome outcome = match.shoot(shot.getDirection(), shot.getForce());
+            steps.add(outcome.getSteps());
+
+            if (outcome.getWinner().isPresent()) {
+                onMatchEnded(outcome.getWinner().get(), state.getTurnHandler().getPlayers());
+                return false;
+            }
+            if (number + 1 < MAX_TURNS) {
+                new Turn(match, number + 1).fork();
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Places the potted cue ball on the first free spot, like the Game does.
+         */
+        @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags spot
+        // as a UR anomaly / being undefined
+        private void placeCueBall() {
+            for (Vector3 spot : ComputerPlayer.getCueBallSpots()) {
+                if (match.placeCueBall(spot)) {
+                    return;
+                }
+            }
+        }
+    }
+}
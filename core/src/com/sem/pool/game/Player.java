@@ -1,16 +1,12 @@
 package com.sem.pool.game;
 
-import com.sem.pool.scene.Ball3D;
 import com.sem.pool.scene.RegularBall3D;
 
-import java.util.HashSet;
-import java.util.Set;
-
 public class Player {
     private transient int id;
     private transient RegularBall3D.Type ballType;
-    private transient Set<RegularBall3D> pottedBalls;
-    private transient int ballsLeft;
+    // Set of the balls of the type of the player that the player potted
+    private transient int pottedBalls;
     
     // Attribute to help make turn advancement easy
     private boolean pottedCorrectBall;
@@ -21,7 +17,7 @@ public class Player {
      */
     public Player(int id) {
         this.id = id;
-        pottedBalls = new HashSet<>();
+        this.pottedBalls = BallSet.EMPTY;
         this.ballType = RegularBall3D.Type.UNASSIGNED;
         this.pottedCorrectBall = false;
     }
@@ -34,10 +30,14 @@ public class Player {
         return ballType;
     }
 
-    public Set<RegularBall3D> getPottedBalls() {
+    public int getPottedBalls() {
         return pottedBalls;
     }
 
+    public void setPottedBalls(int pottedBalls) {
+        this.pottedBalls = pottedBalls;
+    }
+
     public boolean getPottedCorrectBall() {
         return pottedCorrectBall;
     }
@@ -60,33 +60,28 @@ public class Player {
      * @param ball  Ball that the player has potted
      */
     public void potBall(RegularBall3D ball) {
-        if (ball.getType() == ballType) {
-            pottedBalls.add(ball);
-            ballsLeft--;
-            pottedCorrectBall = true;
-        }
+        potBalls(BallSet.of(ball));
+    }
+
+    /**
+     * Pots the balls of the type of the Player out of the specified set.
+     * Balls of the other type are ignored.
+     * @param balls  Set of balls that were potted
+     */
+    public void potBalls(int balls) {
+        int own = balls & BallSet.ofType(ballType);
+        pottedBalls |= own;
+        pottedCorrectBall |= own != BallSet.EMPTY;
     }
 
     /**
      * Checks whether the Player has potted all of their balls, given
-     * a Set of balls that are not yet potted.
+     * a set of balls that are not yet potted.
      * @param unpotted - Set of unpotted balls
      * @return  True iff Player has ball type assigned & all balls were potted.
      */
-    // UR anomaly false positive triggered by foreach loop (ball variable)
-    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
-    public boolean allBallsPotted(Set<Ball3D> unpotted) {
-        if (ballType == RegularBall3D.Type.UNASSIGNED) {
-            return false;
-        }
-
-        for (Ball3D ball : unpotted) {
-            if (ball instanceof RegularBall3D
-                    && ((RegularBall3D)ball).getType() == ballType) {
-                return false;
-            }
-        }
-
-        return true;
+    public boolean allBallsPotted(int unpotted) {
+        return ballType != RegularBall3D.Type.UNASSIGNED
+                && (unpotted & BallSet.ofType(ballType)) == BallSet.EMPTY;
     }
 }
@@ -0,0 +1,188 @@
+package com.sem.pool.game;
+
+import com.badlogic.gdx.math.Vector3;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only binary log of the inputs of a match: the seed that picked
+ * the starting player, every shot as a direction and force, and every
+ * placement of the cue ball. The physics are deterministic, so replaying
+ * the inputs on a new Simulation reproduces the whole match, at a few
+ * bytes per turn instead of the positions of every frame.
+ * All values are stored as varints; floats are stored by their exact
+ * bits, so that the replayed shots are bit for bit the recorded shots.
+ */
+public class ReplayLog {
+    // Tags of the records that follow the seed
+    static final int SHOT = 1;
+    static final int PLACEMENT = 2;
+
+    // Payload bits of a single varint byte, and the flag of a following byte
+    private static final int PAYLOAD_BITS = 7;
+    private static final int PAYLOAD = 0x7F;
+    private static final int MORE = 0x80;
+    private static final long UNSIGNED_INT = 0xFFFFFFFFL;
+
+    private final transient long seed;
+    private final transient ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    /**
+     * Creates a new empty log for a match that started with the specified seed.
+     * @param seed  Seed that picked the starting player of the match
+     */
+    public ReplayLog(long seed) {
+        this.seed = seed;
+        // Zigzag encoding, so that negative seeds stay short as well
+        writeVarint((seed << 1) ^ (seed >> (Long.SIZE - 1)));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the size of the encoded log.
+     * @return  Number of bytes of the log
+     */
+    public int size() {
+        return bytes.size();
+    }
+
+    public byte[] toByteArray() {
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Appends a shot of the cue ball to the log.
+     * @param direction  Direction the cue ball was shot in (y is ignored)
+     * @param force  Force the cue ball was shot with
+     */
+    public void recordShot(Vector3 direction, float force) {
+        writeVarint(SHOT);
+        writeFloat(direction.x);
+        writeFloat(direction.z);
+        writeFloat(force);
+    }
+
+    /**
+     * Appends a placement of the cue ball after it was potted to the log.
+     * @param position  Position the cue ball was placed at (y is ignored)
+     */
+    public void recordPlacement(Vector3 position) {
+        writeVarint(PLACEMENT);
+        writeFloat(position.x);
+        writeFloat(position.z);
+    }
+
+    /**
+     * Removes the records after the specified size of the log,
+     * e.g. when the shots that were recorded after it are undone.
+     * @param size  Size of the log to keep, as returned by size
+     */
+    public void truncate(int size) {
+        byte[] kept = bytes.toByteArray();
+        bytes.reset();
+        bytes.write(kept, 0, Math.min(size, kept.length));
+    }
+
+    /**
+     * Writes the encoded log to the specified stream, e.g. a file.
+     * @param out  Stream to write the log to
+     * @throws IOException  If the log could not be written
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        bytes.writeTo(out);
+    }
+
+    /**
+     * Reads a log that was written by writeTo. New inputs can be appended to it.
+     * @param in  Stream to read the log from, up to its end
+     * @return  Log with the seed and the records of the stream
+     * @throws IOException  If the log could not be read, or is truncated
+     */
+    public static ReplayLog readFrom(InputStream in) throws IOException {
+        long zigzag = readVarint(in);
+        ReplayLog log = new ReplayLog((zigzag >>> 1) ^ -(zigzag & 1));
+        int next = in.read();
+        while (next >= 0) {
+            log.bytes.write(next);
+            next = in.read();
+        }
+        return log;
+    }
+
+    /**
+     * Replays the inputs of the log on a simulation that was created with
+     * the seed of the log, and applies the rules of the game to every shot.
+     * @param simulation  Simulation of the match at the break shot
+     * @return  Outcomes of the replayed shots, in order
+     * @throws IOException  If the log is corrupt
+     */
+    // False positive for DU anomalies caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public List<ShotOutcome> replay(Simulation simulation) throws IOException {
+        List<ShotOutcome> outcomes = new ArrayList<>();
+        InputStream in = new ByteArrayInputStream(bytes.toByteArray());
+        readVarint(in);
+        int tag = in.read();
+        while (tag >= 0) {
+            if (tag == SHOT) {
+                Vector3 direction = new Vector3(readFloat(in), 0, readFloat(in));
+                outcomes.add(simulation.shoot(direction, readFloat(in)));
+            } else if (tag == PLACEMENT) {
+                simulation.placeCueBall(new Vector3(readFloat(in), 0, readFloat(in)));
+            } else {
+                throw new IOException("Unknown replay record " + tag);
+            }
+            tag = in.read();
+        }
+        return outcomes;
+    }
+
+    private void writeFloat(float value) {
+        writeVarint(Float.floatToIntBits(value) & UNSIGNED_INT);
+    }
+
+    private void writeVarint(long value) {
+        long rest = value;
+        while ((rest & ~PAYLOAD) != 0) {
+            bytes.write((int) (rest & PAYLOAD) | MORE);
+            rest >>>= PAYLOAD_BITS;
+        }
+        bytes.write((int) rest);
+    }
+
+    private static float readFloat(InputStream in) throws IOException {
+        return Float.intBitsToFloat((int) readVarint(in));
+    }
+
+    /**
+     * Reads a single varint from a stream.
+     * @param in  Stream to read from
+     * @return  Value of the varint
+     * @throws IOException  If the stream ends within the varint
+     */
+    // False positive for DU anomalies caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    private static long readVarint(InputStream in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        int next = MORE;
+        while ((next & MORE) != 0) {
+            next = in.read();
+            if (next < 0) {
+                throw new IOException("Truncated replay log");
+            }
+            value |= (long) (next & PAYLOAD) << shift;
+            shift += PAYLOAD_BITS;
+        }
+        return value;
+    }
+}
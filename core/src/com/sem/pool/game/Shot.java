@@ -0,0 +1,37 @@
+package com.sem.pool.game;
+
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * Immutable candidate shot of the cue ball, with the score
+ * the ShotScorer gave to its simulated outcome.
+ */
+public final class Shot {
+    private final transient Vector3 direction;
+    private final transient float force;
+    private final transient int score;
+
+    /**
+     * Creates a new shot.
+     * @param direction  Direction to shoot the cue ball in
+     * @param force  Force of the shot
+     * @param score  Score of the outcome of the shot
+     */
+    public Shot(Vector3 direction, float force, int score) {
+        this.direction = new Vector3(direction);
+        this.force = force;
+        this.score = score;
+    }
+
+    public Vector3 getDirection() {
+        return new Vector3(direction);
+    }
+
+    public float getForce() {
+        return force;
+    }
+
+    public int getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,70 @@
+package com.sem.pool.game;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable result of a single shot simulated by the Simulation.
+ */
+public final class ShotOutcome {
+    // ID reported as the first touched ball when no ball was touched
+    public static final int NO_BALL = -1;
+
+    private final transient List<Integer> pottedBalls;
+    private final transient int firstTouched;
+    private final transient boolean cueBallPotted;
+    private final transient boolean turnKept;
+    private final transient Player winner;
+    private final transient int steps;
+    private final transient int ballCollisions;
+
+    /**
+     * Creates a new shot outcome.
+     * @param pottedBalls  IDs of the balls potted during the shot, in potting order
+     * @param firstTouched  ID of the first ball touched by the cue ball, or NO_BALL
+     * @param cueBallPotted  True if the cue ball has to be placed for the next shot
+     * @param turnKept  True if the shooting player keeps their turn
+     * @param winner  Winning player after the shot, or null if there is none
+     * @param steps  Number of physics steps the shot took
+     * @param ballCollisions  Number of collisions between balls during the shot
+     */
+    public ShotOutcome(List<Integer> pottedBalls, int firstTouched, boolean cueBallPotted,
+                       boolean turnKept, Player winner, int steps, int ballCollisions) {
+        this.pottedBalls = Collections.unmodifiableList(pottedBalls);
+        this.firstTouched = firstTouched;
+        this.cueBallPotted = cueBallPotted;
+        this.turnKept = turnKept;
+        this.winner = winner;
+        this.steps = steps;
+        this.ballCollisions = ballCollisions;
+    }
+
+    public List<Integer> getPottedBalls() {
+        return pottedBalls;
+    }
+
+    public int getFirstTouched() {
+        return firstTouched;
+    }
+
+    public boolean isCueBallPotted() {
+        return cueBallPotted;
+    }
+
+    public boolean isTurnKept() {
+        return turnKept;
+    }
+
+    public Optional<Player> getWinner() {
+        return Optional.ofNullable(winner);
+    }
+
+    public int getSteps() {
+        return steps;
+    }
+
+    public int getBallCollisions() {
+        return ballCollisions;
+    }
+}
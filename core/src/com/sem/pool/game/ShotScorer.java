@@ -0,0 +1,107 @@
+package com.sem.pool.game;
+
+import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.CueBall3D;
+import com.sem.pool.scene.RegularBall3D;
+
+/**
+ * Stateless class that scores the simulated outcome of a shot for a
+ * Player, following the rules of the GameBallState and the Player:
+ * the first touched ball has to be of the type of the player, the
+ * player should pot their own balls, and should not pot the cue ball.
+ */
+public final class ShotScorer {
+    public static final int WIN = 1000;
+    public static final int LOSS = -1000;
+    public static final int SCRATCH = -100;
+    public static final int WRONG_TOUCH = -50;
+    public static final int OWN_POT = 10;
+    public static final int OPPONENT_POT = -5;
+
+    private ShotScorer() {
+    }
+
+    /**
+     * Scores the outcome of a shot simulated by the specified simulation.
+     * The player is only read, so it can be shared by concurrent scorings.
+     * @param outcome  Physical outcome of the shot
+     * @param simulation  Simulation that simulated the shot
+     * @param player  Player that would take the shot
+     * @return  Score of the shot, where a higher score is better
+     */
+    public static int score(ShotOutcome outcome, Simulation simulation, Player player) {
+        boolean legalTouch = isCorrectTouch(simulation.getBall(outcome.getFirstTouched()),
+                player);
+        if (outcome.getPottedBalls().contains(GameConstants.EIGHTBALL_ID)) {
+            boolean won = legalTouch && !outcome.isCueBallPotted()
+                    && player.allBallsPotted(getRemainingBalls(simulation));
+            return won ? WIN : LOSS;
+        }
+
+        int score = legalTouch ? 0 : WRONG_TOUCH;
+        if (outcome.isCueBallPotted()) {
+            score += SCRATCH;
+        }
+        return score + scorePots(outcome, simulation, player);
+    }
+
+    /**
+     * Scores the regular balls potted by a shot.
+     * @param outcome  Physical outcome of the shot
+     * @param simulation  Simulation that simulated the shot
+     * @param player  Player that would take the shot
+     * @return  Sum of the scores of the potted regular balls
+     */
+    // False positive for UR anomalies caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    private static int scorePots(ShotOutcome outcome, Simulation simulation, Player player) {
+        int score = 0;
+        for (int id : outcome.getPottedBalls()) {
+            Ball3D ball = simulation.getBall(id);
+            if (ball instanceof RegularBall3D) {
+                score += isOwnBall((RegularBall3D) ball, player) ? OWN_POT : OPPONENT_POT;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Returns whether the first touched ball is correct for the player,
+     * like the GameBallState checks at the end of a turn.
+     * @param touched  Ball touched first by the cue ball
+     * @param player  Player that took the shot
+     * @return  True iff the first touch was correct
+     */
+    private static boolean isCorrectTouch(Ball3D touched, Player player) {
+        return touched instanceof RegularBall3D && isOwnBall((RegularBall3D) touched, player);
+    }
+
+    /**
+     * Returns whether the ball belongs to the player. Before the types are
+     * assigned, every regular ball belongs to the player.
+     * @param ball  Ball to check
+     * @param player  Player to check the ball for
+     * @return  True iff the ball belongs to the player
+     */
+    private static boolean isOwnBall(RegularBall3D ball, Player player) {
+        return player.getBallType() == RegularBall3D.Type.UNASSIGNED
+                || ball.getType() == player.getBallType();
+    }
+
+    /**
+     * Returns the balls of the simulation that are not potted.
+     * @param simulation  Simulation to get the balls of
+     * @return  Set of the balls on the table, except for the cue ball
+     */
+    // False positive for UR anomalies caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    private static int getRemainingBalls(Simulation simulation) {
+        int remaining = BallSet.EMPTY;
+        for (Ball3D ball : simulation.getPoolBalls()) {
+            if (!(ball instanceof CueBall3D) && !ball.isPotted()) {
+                remaining |= BallSet.of(ball);
+            }
+        }
+        return remaining;
+    }
+}
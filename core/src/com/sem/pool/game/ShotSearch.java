@@ -0,0 +1,326 @@
+package com.sem.pool.game;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.RegularBall3D;
+import com.sem.pool.scene.Table3D;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monte-Carlo search for the best shot of a Player. Candidate shots are
+ * sampled around the cue ball, simulated headless in parallel on a
+ * ForkJoinPool, and scored by the ShotScorer. The search runs in batches
+ * until its time budget is used up, and returns the best shot found.
+ * Every thread keeps a Simulation of its own, which is restored to the
+ * positions of the search before each candidate, so that the balls, table
+ * and physics world are not created again for every task.
+ * A search that is started on a worker of its own pool, e.g. by a
+ * MatchHost, runs its tasks on that worker and the idle workers of the pool.
+ */
+public class ShotSearch {
+    // Number of candidates simulated by a single leaf task
+    static final int LEAF_SIZE = 4;
+    // Number of leaf tasks per thread in a single batch of the search
+    static final int LEAVES_PER_THREAD = 2;
+    // Lowest force of a candidate shot, relative to the maximum cue force
+    static final float MIN_FORCE_RATIO = 0.2f;
+    // Maximum deviation of an aimed shot from the direction of its target, in radians
+    static final double AIM_SPREAD = 0.05;
+
+    private final transient ForkJoinPool pool;
+    private final transient long budgetMillis;
+    private final transient long seed;
+    private final transient SimulationFactory factory;
+    private final transient Table3D table;
+    // Simulation of every thread that evaluates candidates of this search
+    private final transient ThreadLocal<Worker> workers = ThreadLocal.withInitial(Worker::new);
+
+    // Number of candidates evaluated by the last search
+    private final transient AtomicLong evaluated = new AtomicLong();
+    // Number of physics steps simulated by all searches
+    private final transient LongAdder simulatedSteps = new LongAdder();
+
+    /**
+     * Creates a new shot search that runs on the specified pool.
+     * @param pool  Pool to simulate the candidate shots on
+     * @param budgetMillis  Time budget of a single search in milliseconds
+     * @param seed  Seed for sampling the candidate shots
+     */
+    public ShotSearch(ForkJoinPool pool, long budgetMillis, long seed) {
+        this.pool = pool;
+        this.budgetMillis = budgetMillis;
+        this.seed = seed;
+        this.factory = new SimulationFactory();
+        // The table is only read by the simulations, so it is shared by all tasks
+        this.table = factory.createTable();
+    }
+
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    public long getEvaluatedShots() {
+        return evaluated.get();
+    }
+
+    public long getSimulatedSteps() {
+        return simulatedSteps.sum();
+    }
+
+    /**
+     * Searches the best shot for the specified player with the balls at
+     * their current positions. At least one batch of candidates is
+     * evaluated, even if the time budget is used up before.
+     * @param poolBalls  Pool balls of the game, with the cue ball first
+     * @param player  Player to search the shot for
+     * @return  Best shot found within the time budget
+     */
+    public Shot findShot(List<Ball3D> poolBalls, Player player) {
+        return run(prepare(poolBalls, player));
+    }
+
+    /**
+     * Starts to search the best shot for the specified player with the balls
+     * at their current positions, on the pool of the search. The positions
+     * are read on the calling thread, so the caller can keep moving the
+     * balls, e.g. to render them, while the shot is searched.
+     * @param poolBalls  Pool balls of the game, with the cue ball first
+     * @param player  Player to search the shot for
+     * @return  Future of the best shot found within the time budget
+     */
+    public CompletableFuture<Shot> findShotAsync(List<Ball3D> poolBalls, Player player) {
+        return CompletableFuture.completedFuture(prepare(poolBalls, player))
+                .thenApplyAsync(this::run, pool);
+    }
+
+    /**
+     * Reads the positions of the balls and the targets of the player.
+     * @param poolBalls  Pool balls of the game, with the cue ball first
+     * @param player  Player to search the shot for
+     * @return  Search with the positions of the balls, and its deadline
+     */
+    // False positive for UR anomalies caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    private Search prepare(List<Ball3D> poolBalls, Player player) {
+        List<Vector3> positions = new ArrayList<>();
+        List<Vector3> targets = new ArrayList<>();
+        for (Ball3D ball : poolBalls) {
+            positions.add(ball.getCoordinates());
+            if (ball instanceof RegularBall3D && !ball.isPotted()
+                    && isTarget((RegularBall3D) ball, player)) {
+                targets.add(ball.getCoordinates());
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + budgetMillis;
+        return new Search(positions, targets, player, deadline);
+    }
+
+    /**
+     * Evaluates batches of candidates until the deadline of the search.
+     * At least one batch is evaluated.
+     * @param search  Search to run
+     * @return  Best shot found
+     */
+    private Shot run(Search search) {
+        evaluated.set(0);
+        int batchSize = pool.getParallelism() * LEAVES_PER_THREAD * LEAF_SIZE;
+        Shot best = null;
+        int start = 0;
+        do {
+            SearchTask task = new SearchTask(search, start, start + batchSize);
+            // Workers of the pool run the task themselves, instead of waiting for it
+            Shot shot = ForkJoinTask.getPool() == pool ? task.invoke() : pool.invoke(task);
+            best = better(best, shot);
+            start += batchSize;
+        } while (!search.isExpired());
+
+        return best;
+    }
+
+    /**
+     * Samples the candidate shot with the specified index. Half of the
+     * candidates are aimed at one of the target balls, the others are
+     * shot in a random direction. Candidates only depend on the seed
+     * and their index, so they are the same on every thread.
+     * @param search  Search to sample the candidate for
+     * @param index  Index of the candidate
+     * @return  Direction and force of the candidate, with a score of 0
+     */
+    // False positive for DU anomalies caused by the branches.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    Shot sample(Search search, int index) {
+        SplittableRandom random = new SplittableRandom(seed * 31 + index);
+        Vector3 cueBall = search.positions.get(GameConstants.CUEBALL_ID);
+        Vector3 direction;
+        if (index % 2 == 0 && !search.targets.isEmpty()) {
+            Vector3 target = search.targets.get(random.nextInt(search.targets.size()));
+            double angle = Math.atan2(target.z - cueBall.z, target.x - cueBall.x)
+                    + random.nextDouble(-AIM_SPREAD, AIM_SPREAD);
+            direction = new Vector3((float) Math.cos(angle), 0, (float) Math.sin(angle));
+        } else {
+            double angle = random.nextDouble(0, 2 * Math.PI);
+            direction = new Vector3((float) Math.cos(angle), 0, (float) Math.sin(angle));
+        }
+        float force = GameConstants.MAX_CUE_FORCE
+                * (float) random.nextDouble(MIN_FORCE_RATIO, 1);
+        return new Shot(direction, force, 0);
+    }
+
+    /**
+     * Evaluates the candidates in the specified range on the simulation of
+     * the current thread. Candidates are skipped once the deadline of the
+     * search has passed, except for the first one, so every search finds
+     * a shot. Every candidate is simulated from a snapshot of the search
+     * positions.
+     * @param search  Search to evaluate the candidates for
+     * @param from  Index of the first candidate (inclusive)
+     * @param to  Index of the last candidate (exclusive)
+     * @return  Best of the evaluated candidates, or null if none were evaluated
+     */
+    // False positive for DU anomalies caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    Shot evaluate(Search search, int from, int to) {
+        Worker worker = workers.get();
+        Simulation simulation = worker.simulation;
+        final GameSnapshot start = worker.startOf(search);
+
+        Shot best = null;
+        for (int i = from; i < to && (i == from || !search.isExpired()); i++) {
+            Shot candidate = sample(search, i);
+            simulation.restore(start);
+            ShotOutcome outcome = simulation.simulate(candidate.getDirection(),
+                    candidate.getForce());
+            int score = ShotScorer.score(outcome, simulation, search.player);
+            simulatedSteps.add(outcome.getSteps());
+            best = better(best, new Shot(candidate.getDirection(), candidate.getForce(), score));
+            evaluated.incrementAndGet();
+        }
+        return best;
+    }
+
+    /**
+     * Returns whether the ball is a legal target for the player.
+     * @param ball  Ball to check
+     * @param player  Player to check the ball for
+     * @return  True iff the player may hit the ball first
+     */
+    private static boolean isTarget(RegularBall3D ball, Player player) {
+        return player.getBallType() == RegularBall3D.Type.UNASSIGNED
+                || ball.getType() == player.getBallType();
+    }
+
+    /**
+     * Returns the better of two shots. On equal scores the first shot is kept,
+     * so that the result does not depend on the order the tasks finish in.
+     * @param first  First shot, or null
+     * @param second  Second shot, or null
+     * @return  Shot with the highest score
+     */
+    static Shot better(Shot first, Shot second) {
+        if (first == null) {
+            return second;
+        } else if (second == null || first.getScore() >= second.getScore()) {
+            return first;
+        }
+        return second;
+    }
+
+    /**
+     * Immutable input of a single search, shared by all of its tasks.
+     */
+    static final class Search {
+        private final transient List<Vector3> positions;
+        private final transient List<Vector3> targets;
+        private final transient Player player;
+        private final transient long deadline;
+
+        Search(List<Vector3> positions, List<Vector3> targets, Player player, long deadline) {
+            this.positions = positions;
+            this.targets = targets;
+            this.player = player;
+            this.deadline = deadline;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= deadline;
+        }
+    }
+
+    /**
+     * Simulation of a single thread, together with the snapshot of the
+     * positions of the last search it evaluated candidates for.
+     */
+    private final class Worker {
+        private final transient Simulation simulation;
+        private transient Search search;
+        private transient GameSnapshot start;
+
+        Worker() {
+            // The rules are not applied, and the scorer gets the player of
+            // the search, so the players of the simulation are never read
+            List<Player> players = new ArrayList<>();
+            players.add(new Player(0));
+            players.add(new Player(1));
+            this.simulation = factory.createSimulation(players, table);
+        }
+
+        /**
+         * Returns the snapshot of the positions of the specified search,
+         * which is only taken for the first candidate of the search. Moving
+         * the balls resets their physics state, and simulating a candidate
+         * does not change the game state, so the simulation can be reused.
+         * @param search  Search to get the snapshot of the positions of
+         * @return  Snapshot to restore before every candidate
+         */
+        GameSnapshot startOf(Search search) {
+            if (this.search != search) {
+                simulation.setPositions(search.positions);
+                this.start = simulation.snapshot();
+                this.search = search;
+            }
+            return start;
+        }
+    }
+
+    /**
+     * Fork-join task that splits a range of candidates in halves until
+     * a range is small enough to be evaluated on a single simulation.
+     */
+    private final class SearchTask extends RecursiveTask<Shot> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Search search;
+        private final transient int from;
+        private final transient int to;
+
+        SearchTask(Search search, int from, int to) {
+            this.search = search;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Shot compute() {
+            if (to - from <= LEAF_SIZE) {
+                return evaluate(search, from, to);
+            }
+
+            int middle = (from + to) >>> 1;
+            SearchTask left = new SearchTask(search, from, middle);
+            left.fork();
+            Shot right = new SearchTask(search, middle, to).compute();
+            return better(left.join(), right);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.sem.pool.game;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.BallStateBuffer;
+import com.sem.pool.scene.CollisionListener;
+import com.sem.pool.scene.CueBall3D;
+import com.sem.pool.scene.KineticSimulator;
+import com.sem.pool.scene.NullBall;
+import com.sem.pool.scene.PhysicsWorld;
+import com.sem.pool.scene.Table3D;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Headless engine that simulates the shots of a single Pool game without
+ * any rendering, input, assets or Bullet natives. Shots are advanced with
+ * the same fixed physics steps, collisions and GameState rules as the
+ * interactive Game, so a shot has the same outcome in both.
+ * Alternatively, shots can be resolved by the event-driven KineticSimulator,
+ * which is much faster, but only approximates the outcome of the steps.
+ */
+public class Simulation implements CollisionListener {
+    // Upper bound on the physics steps of a single shot (one minute of play)
+    public static final int MAX_SHOT_STEPS = (int) (60 / GameConstants.PHYSICS_STEP);
+
+    /**
+     * The ways in which the physics of a shot can be resolved.
+     */
+    public enum Mode {
+        // Fixed physics steps, exactly like the interactive Game
+        STEPPED,
+        // Jumps between the collision events, see KineticSimulator
+        KINETIC
+    }
+
+    // Height of the center of a ball above the table
+    private static final float BALL_HEIGHT = 0.28f;
+
+    private final transient List<Ball3D> poolBalls;
+    private final transient GameState state;
+    private final transient PhysicsWorld physicsWorld;
+    private final transient KineticSimulator kineticSimulator;
+    private final transient BallStateBuffer ballStates;
+    private transient Mode mode = Mode.STEPPED;
+    private transient int ballCollisions;
+
+    /**
+     * Creates a new simulation of the specified balls and table, following
+     * the rules of the specified game state. The balls should already be
+     * positioned, and their hit boxes are set up like in the Scene3D.
+     * @param poolBalls  List of pool balls, with the cue ball first
+     * @param table  Table the balls are on
+     * @param state  State of the game to simulate the shots for
+     */
+    public Simulation(List<Ball3D> poolBalls, Table3D table, GameState state) {
+        this.poolBalls = poolBalls;
+        this.state = state;
+        this.physicsWorld = new PhysicsWorld(poolBalls, table, this);
+        this.kineticSimulator = new KineticSimulator(poolBalls, table, this);
+
+        this.ballStates = new BallStateBuffer(poolBalls.size());
+        for (Ball3D ball : poolBalls) {
+            ball.setUpBoxes();
+            ball.bindState(ballStates);
+        }
+    }
+
+    public List<Ball3D> getPoolBalls() {
+        return poolBalls;
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public PhysicsWorld getPhysicsWorld() {
+        return physicsWorld;
+    }
+
+    public KineticSimulator getKineticSimulator() {
+        return kineticSimulator;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public CueBall3D getCueBall() {
+        return (CueBall3D) poolBalls.get(GameConstants.CUEBALL_ID);
+    }
+
+    /**
+     * Returns the ball with the specified id.
+     * @param id  ID of the ball
+     * @return  Ball with the specified id, or a NullBall if there is none
+     */
+    public Ball3D getBall(int id) {
+        return poolBalls.stream().filter(ball -> ball.getId() == id)
+                .findFirst().orElse(new NullBall());
+    }
+
+    /**
+     * Shoots the cue ball in the specified direction with the specified
+     * force, and advances the simulation until all balls are at rest.
+     * The game state is then updated like at the end of an interactive turn.
+     * @param direction  Direction to shoot the cue ball in (y is ignored)
+     * @param force  Force of the shot, capped to the maximum cue force
+     * @return  Outcome of the shot
+     */
+    public ShotOutcome shoot(Vector3 direction, float force) {
+        assert (state.isIdle() && !state.isCueBallPotted());
+        final Player shooter = state.getTurnHandler().getActivePlayer();
+
+        state.onMotion();
+        List<Integer> potted = new ArrayList<>();
+        final int steps = play(direction, force, potted, true);
+
+        Ball3D touched = takeFirstTouched();
+        state.onMotionStop(touched);
+
+        Player winner = state.getWinningPlayer().orElse(null);
+        if (winner != null) {
+            state.onGameEnded(winner, state.getTurnHandler().getPlayers());
+        }
+
+        return new ShotOutcome(potted, idOf(touched), state.isCueBallPotted(),
+                state.getTurnHandler().getActivePlayer() == shooter, winner,
+                steps, ballCollisions);
+    }
+
+    /**
+     * Simulates a shot like shoot, but without applying the rules of the
+     * game, so the game state is not changed. The outcome therefore only
+     * holds the physical result of the shot, and never keeps the turn.
+     * @param direction  Direction to shoot the cue ball in (y is ignored)
+     * @param force  Force of the shot, capped to the maximum cue force
+     * @return  Physical outcome of the shot
+     */
+    public ShotOutcome simulate(Vector3 direction, float force) {
+        List<Integer> potted = new ArrayList<>();
+        int steps = play(direction, force, potted, false);
+
+        Ball3D touched = takeFirstTouched();
+
+        return new ShotOutcome(potted, idOf(touched),
+                potted.contains(GameConstants.CUEBALL_ID), false, null,
+                steps, ballCollisions);
+    }
+
+    /**
+     * Moves the balls to the specified positions, in the order of the pool balls.
+     * Positions below the table are potted balls, which are potted again.
+     * @param positions  New positions of the balls
+     */
+    public void setPositions(List<Vector3> positions) {
+        for (int i = 0; i < poolBalls.size(); i++) {
+            Ball3D ball = poolBalls.get(i);
+            ball.setSpeed(0);
+            ball.setDirection(new Vector3());
+            ball.getModel().transform.setToTranslation(positions.get(i));
+            ball.syncFromModel();
+            if (positions.get(i).y < 0) {
+                ball.pot();
+            }
+        }
+    }
+
+    /**
+     * Takes a snapshot of the game state and the balls of the simulation.
+     * @return  Immutable snapshot of the simulation
+     */
+    public GameSnapshot snapshot() {
+        return state.snapshot(ballStates);
+    }
+
+    /**
+     * Restores a snapshot that was taken of this simulation, e.g. to
+     * try another shot from the same position.
+     * @param snapshot  Snapshot to restore
+     */
+    public void restore(GameSnapshot snapshot) {
+        state.restore(snapshot, poolBalls, ballStates);
+        physicsWorld.wakeAll();
+    }
+
+    /**
+     * Places the cue ball at the specified position after it has been potted.
+     * The cue ball is only placed if it is within the bounds of the
+     * table and does not collide with any other ball.
+     * @param position  Position to place the cue ball at (y is ignored)
+     * @return  True iff the cue ball was placed correctly
+     */
+    public boolean placeCueBall(Vector3 position) {
+        CueBall3D cueBall = getCueBall();
+        cueBall.getModel().transform.setTranslation(position.x, BALL_HEIGHT, position.z);
+        cueBall.syncFromModel();
+
+        if (cueBall.checkWithinBounds() && !existsCollidingBall(cueBall)) {
+            state.getGameBallState().resetCueBall();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Shoots the cue ball and advances the physics until all balls are at rest.
+     * @param direction  Direction to shoot the cue ball in (y is ignored)
+     * @param force  Force of the shot, capped to the maximum cue force
+     * @param potted  List to add the IDs of the potted balls to
+     * @param applyRules  True if potted balls should be potted in the game state
+     * @return  Number of physics steps the shot took, or would have taken
+     */
+    private int play(Vector3 direction, float force, List<Integer> potted, boolean applyRules) {
+        // Same order as the Game: store the positions, then hit the cue ball
+        poolBalls.forEach(Ball3D::storePreviousPosition);
+        CueBall3D cueBall = getCueBall();
+        cueBall.setDirection(new Vector3(direction.x, 0, direction.z));
+        cueBall.setSpeed(Math.min(Math.max(0, force), GameConstants.MAX_CUE_FORCE));
+        physicsWorld.wakeAll();
+
+        ballCollisions = 0;
+        if (mode == Mode.KINETIC) {
+            return playKinetic(potted, applyRules);
+        }
+        int steps = 0;
+        while (physicsWorld.isInMotion() && steps < MAX_SHOT_STEPS) {
+            step(GameConstants.PHYSICS_STEP, potted, applyRules);
+            steps++;
+        }
+        // A shot that did not settle within the limit is stopped where it is
+        poolBalls.forEach(ball -> ball.setSpeed(0));
+        return steps;
+    }
+
+    /**
+     * Advances all balls over a single physics step, exactly like
+     * the Game does for every fixed step of a frame.
+     * @param deltaTime  Duration of the physics step in seconds
+     * @param potted  List to add the IDs of the balls potted in the step to
+     * @param applyRules  True if potted balls should be potted in the game state
+     */
+    // False positive for UR anomalies caused by the loops.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    private void step(float deltaTime, List<Integer> potted, boolean applyRules) {
+        for (Ball3D ball : physicsWorld.updateActiveBalls()) {
+            ball.storePreviousPosition();
+            ball.move(deltaTime);
+        }
+
+        for (Ball3D ball : physicsWorld.triggerCollisions()) {
+            pot(ball, potted, applyRules);
+        }
+    }
+
+    /**
+     * Resolves the shot with the kinetic simulator, within the same time
+     * limit as the steps. The balls are at rest at their final positions
+     * afterwards, and the potted balls are potted in potting order.
+     * @param potted  List to add the IDs of the potted balls to
+     * @param applyRules  True if potted balls should be potted in the game state
+     * @return  Number of physics steps the shot would have taken
+     */
+    // False positive for UR anomalies caused by the loops.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    private int playKinetic(List<Integer> potted, boolean applyRules) {
+        for (Ball3D ball : kineticSimulator.run(MAX_SHOT_STEPS * GameConstants.PHYSICS_STEP)) {
+            pot(ball, potted, applyRules);
+        }
+        poolBalls.forEach(ball -> {
+            ball.setSpeed(0);
+            // Do not interpolate the jump to the final position
+            ball.storePreviousPosition();
+        });
+        return (int) Math.ceil(kineticSimulator.getEndTime() / GameConstants.PHYSICS_STEP);
+    }
+
+    /**
+     * Pots the specified ball, like the Game does at the end of a physics step.
+     * @param ball  Ball to pot
+     * @param potted  List to add the ID of the ball to
+     * @param applyRules  True if the ball should be potted in the game state
+     */
+    private void pot(Ball3D ball, List<Integer> potted, boolean applyRules) {
+        ball.pot();
+        if (applyRules) {
+            state.onBallPotted(ball);
+        }
+        potted.add(ball.getId());
+    }
+
+    /**
+     * Returns the first ball touched by the cue ball in the last shot,
+     * and clears it for the next shot.
+     * @return  Ball touched first, or a NullBall if no ball was touched
+     */
+    private Ball3D takeFirstTouched() {
+        if (mode == Mode.KINETIC) {
+            Ball3D touched = kineticSimulator.getFirstTouched();
+            kineticSimulator.clearFirstTouched();
+            return touched;
+        }
+        Ball3D touched = physicsWorld.getFirstTouched();
+        physicsWorld.clearFirstTouched();
+        return touched;
+    }
+
+    /**
+     * Returns the id of the specified touched ball.
+     * @param touched  Ball touched first by the cue ball
+     * @return  ID of the ball, or NO_BALL if no ball was touched
+     */
+    private static int idOf(Ball3D touched) {
+        return touched instanceof NullBall ? ShotOutcome.NO_BALL : touched.getId();
+    }
+
+    /**
+     * Checks whether there exists a ball that collides with the specified ball.
+     * @param ball  Ball to check for collision
+     * @return  True if there is a ball that collides with the specified ball.
+     */
+    private boolean existsCollidingBall(Ball3D ball) {
+        return poolBalls.stream().anyMatch(other -> !ball.equals(other)
+                && ball.getCollisionHandler()
+                .checkHitBoxCollision(ball.getHitBox(), other.getHitBox()));
+    }
+
+    @Override
+    public void onTableCollision(Ball3D ball) {
+        // Collisions with the table do not affect the outcome of a shot
+    }
+
+    @Override
+    public void onBallCollision(Ball3D ball, Ball3D other) {
+        ballCollisions++;
+    }
+
+    @Override
+    public void onPot(Ball3D ball) {
+        // Potted balls are recorded once they are potted in the game state
+    }
+}
@@ -1,6 +1,7 @@
 package com.sem.pool.game;
 
 import java.util.List;
+import java.util.Random;
 
 /**
  * Class responsible for handling the turns in a Pool game.
@@ -46,16 +47,28 @@ public class TurnHandler {
     }
 
     /**
-     * Initializes the starting player at random.
+     * Initializes the starting player at random, from the specified seed
+     * so that the start of a recorded game can be replayed.
+     * @param seed  Seed to pick the starting player with
      */
-    public void initializeStartingPlayer() {
-        playerTurn = (int) Math.round(Math.random());
+    public void initializeStartingPlayer(long seed) {
+        playerTurn = new Random(seed).nextBoolean() ? 1 : 0;
     }
 
     public int getTurnCount() {
         return this.turnCount;
     }
 
+    /**
+     * Restores the active player and the turn count from a snapshot.
+     * @param playerTurn  Index of the active player
+     * @param turnCount  Number of turns played
+     */
+    void restoreTurn(int playerTurn, int turnCount) {
+        this.playerTurn = playerTurn;
+        this.turnCount = turnCount;
+    }
+
     /**
      * Advances to the next turn. The end result might be
      * that the player still keeps their turn.
@@ -0,0 +1,111 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * Pure-Java collision backend that uses closed-form tests between
+ * a sphere and another sphere, an axis aligned box or a cylinder
+ * aligned with the y axis. The tests only read the analytic shape
+ * of the hit boxes, so no native objects are created or allocated.
+ */
+public class AnalyticCollisionBackend implements CollisionBackend {
+
+    /**
+     * Checks whether the two hit boxes collide. At least one of the
+     * hit boxes has to be a sphere, otherwise no collision is reported.
+     * @param obj1 first object.
+     * @param obj2 second object.
+     * @return whether the two hit boxes collide.
+     */
+    @Override
+    public boolean checkHitBoxCollision(HitBox obj1, HitBox obj2) {
+        if (obj1.getType() == HitBox.Type.SPHERE) {
+            return checkSphereCollision(obj1, obj2);
+        } else if (obj2.getType() == HitBox.Type.SPHERE) {
+            return checkSphereCollision(obj2, obj1);
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the sphere collides with the other hit box.
+     * @param sphere hit box of the sphere.
+     * @param other other hit box.
+     * @return whether the two hit boxes collide.
+     */
+    // False positive DU anomalies for the center & radius, which
+    // are only used in some of the branches.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    private boolean checkSphereCollision(HitBox sphere, HitBox other) {
+        Vector3 center = sphere.getPosition();
+        float radius = sphere.getHalfExtents().x;
+
+        if (other.getType() == HitBox.Type.SPHERE) {
+            return sphereSphere(center, radius, other.getPosition(), other.getHalfExtents().x);
+        } else if (other.getType() == HitBox.Type.BOX) {
+            return sphereBox(center, radius, other.getPosition(), other.getHalfExtents());
+        } else if (other.getType() == HitBox.Type.CYLINDER) {
+            return sphereCylinder(center, radius, other.getPosition(), other.getHalfExtents());
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether two spheres overlap.
+     * @param center1 center of the first sphere.
+     * @param radius1 radius of the first sphere.
+     * @param center2 center of the second sphere.
+     * @param radius2 radius of the second sphere.
+     * @return whether the spheres overlap.
+     */
+    public static boolean sphereSphere(Vector3 center1, float radius1,
+                                       Vector3 center2, float radius2) {
+        float radii = radius1 + radius2;
+        return center1.dst2(center2) < radii * radii;
+    }
+
+    /**
+     * Checks whether a sphere overlaps an axis aligned box, by
+     * measuring the distance from the sphere to the closest point of the box.
+     * For the thin cushion boxes this is the distance to the cushion plane.
+     * @param center center of the sphere.
+     * @param radius radius of the sphere.
+     * @param boxCenter center of the box.
+     * @param halfExtents half extents of the box.
+     * @return whether the sphere overlaps the box.
+     */
+    public static boolean sphereBox(Vector3 center, float radius,
+                                    Vector3 boxCenter, Vector3 halfExtents) {
+        float dx = outside(center.x - boxCenter.x, halfExtents.x);
+        float dy = outside(center.y - boxCenter.y, halfExtents.y);
+        float dz = outside(center.z - boxCenter.z, halfExtents.z);
+        return dx * dx + dy * dy + dz * dz < radius * radius;
+    }
+
+    /**
+     * Checks whether a sphere overlaps a cylinder that is aligned with the y axis.
+     * @param center center of the sphere.
+     * @param radius radius of the sphere.
+     * @param cylinderCenter center of the cylinder.
+     * @param halfExtents half extents of the cylinder (radius in x, half height in y).
+     * @return whether the sphere overlaps the cylinder.
+     */
+    public static boolean sphereCylinder(Vector3 center, float radius,
+                                         Vector3 cylinderCenter, Vector3 halfExtents) {
+        float dx = center.x - cylinderCenter.x;
+        float dz = center.z - cylinderCenter.z;
+        float radial = outside((float) Math.sqrt(dx * dx + dz * dz), halfExtents.x);
+        float dy = outside(center.y - cylinderCenter.y, halfExtents.y);
+        return radial * radial + dy * dy < radius * radius;
+    }
+
+    /**
+     * Returns how far an offset lies outside of the range [-extent, extent].
+     * @param offset offset from the center on one axis.
+     * @param extent half extent on that axis.
+     * @return distance outside of the range, or 0 if the offset is inside.
+     */
+    private static float outside(float offset, float extent) {
+        return Math.max(0, Math.abs(offset) - extent);
+    }
+}
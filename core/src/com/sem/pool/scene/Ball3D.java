@@ -1,6 +1,7 @@
 package com.sem.pool.scene;
 
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.physics.bullet.collision.btCollisionObject;
@@ -20,6 +21,17 @@ public abstract class Ball3D extends Object3D {
     private transient Vector3 direction;
     private transient float speed;
     private transient CollisionHandler collisionHandler;
+    // Position of the ball before the last physics step, used for interpolation
+    private transient Vector3 previousPosition;
+    // Physics state buffer the ball is bound to (if any), and the slot of the ball in it
+    private transient BallStateBuffer state;
+    private transient int slot;
+    // Reused transform to move the hit box of a bound ball
+    private final transient Matrix4 hitBoxTransform = new Matrix4();
+    // Reused vectors to resolve collisions without allocating
+    private final transient Vector3 collisionNormal = new Vector3();
+    private final transient Vector3 velocity = new Vector3();
+    private final transient Vector3 otherVelocity = new Vector3();
     // The ratio of the model to the hitbox's radius
     static final float hitBoxRatio = 0.95f;
 
@@ -58,13 +70,24 @@ public abstract class Ball3D extends Object3D {
     /**
      * Sets up the bounding box and hit boxes after the game is loaded.
      * This should be called when a ball is loaded into the scene.
+     * The Bullet objects are only created if the collision handler needs them.
+     * A hit box that was set up before is disposed.
      */
     public void setUpBoxes() {
-        btSphereShape ballShape = new btSphereShape(this.getRadius() * hitBoxRatio);
-        btCollisionObject ballObject = new btCollisionObject();
-        ballObject.setCollisionShape(ballShape);
-        ballObject.setWorldTransform(this.model.transform);
-        hitBox = new HitBox(ballShape, ballObject);
+        float radius = this.getRadius() * hitBoxRatio;
+        Vector3 halfExtents = new Vector3(radius, radius, radius);
+        if (hitBox != null) {
+            hitBox.dispose();
+        }
+        if (collisionHandler == null || collisionHandler.requiresNativeObjects()) {
+            btSphereShape ballShape = new btSphereShape(radius);
+            btCollisionObject ballObject = new btCollisionObject();
+            ballObject.setCollisionShape(ballShape);
+            hitBox = new HitBox(ballShape, ballObject, HitBox.Type.SPHERE, halfExtents);
+        } else {
+            hitBox = new HitBox(HitBox.Type.SPHERE, halfExtents);
+        }
+        hitBox.updateLocation(this.model.transform);
     }
 
     public int getId() {
@@ -79,20 +102,89 @@ public abstract class Ball3D extends Object3D {
         return hitBox;
     }
 
+    /**
+     * Binds the physics state of the ball to a new slot in the specified buffer.
+     * From then on, the position, direction and speed of the ball are kept
+     * in the buffer, and the model of the ball is only updated when rendered.
+     * @param buffer  Buffer to keep the physics state of the ball in
+     */
+    public void bindState(BallStateBuffer buffer) {
+        direction = new Vector3(direction);
+        slot = buffer.add(getCoordinates(), direction, speed);
+        state = buffer;
+    }
+
+    /**
+     * Updates the physics state of a bound ball to the current position
+     * of its model. To be called after the model was moved directly.
+     */
+    public void syncFromModel() {
+        if (state != null) {
+            state.setPosition(slot, model.transform.getTranslation(new Vector3()));
+            state.storePreviousPosition(slot);
+            state.clearFlag(slot, BallStateBuffer.POTTED);
+            updateHitBox();
+        }
+    }
+
+    /**
+     * Writes the current coordinates of the ball to the specified vector.
+     * @param out Vector to write the coordinates to.
+     * @return The specified vector.
+     */
+    @Override
+    public Vector3 getCoordinates(Vector3 out) {
+        if (state == null) {
+            return super.getCoordinates(out);
+        }
+        return out.set(state.getX(slot), state.getY(slot), state.getZ(slot));
+    }
+
+    /**
+     * Returns the direction of the ball. The direction of a bound ball is
+     * read into the same vector on every call, so callers should copy it.
+     * @return  Normalized direction of the ball
+     */
     public Vector3 getDirection() {
-        return direction;
+        if (state == null) {
+            return direction;
+        }
+        return state.getDirection(slot, direction);
     }
 
+    /**
+     * Sets the direction of the ball. The specified vector is normalized.
+     * @param direction  New direction of the ball
+     */
     public void setDirection(Vector3 direction) {
-        this.direction = direction.nor();
+        if (state == null) {
+            this.direction = new Vector3(direction.nor());
+        } else {
+            state.setDirection(slot, direction.nor());
+        }
     }
 
+    /**
+     * Returns the speed of the ball.
+     * @return  Speed of the ball
+     */
     public float getSpeed() {
-        return speed;
+        if (state == null) {
+            return speed;
+        }
+        return state.getSpeed(slot);
     }
 
+    /**
+     * Sets the speed of the ball.
+     * @param speed  New speed of the ball
+     */
     public void setSpeed(float speed) {
-        this.speed = speed;
+        if (state == null) {
+            this.speed = speed;
+        } else {
+            state.setSpeed(slot, speed);
+        }
     }
 
     /**
@@ -100,19 +192,27 @@ public abstract class Ball3D extends Object3D {
      * @return  True if the ball is in motion.
      */
     public boolean isInMotion() {
-        return speed != 0;
+        return getSpeed() != 0;
     }
     
     /**
-     * Moves the ball with current direction and speed.
-     * @param deltaTime deltaTime, time between current and last frame.
+     * Moves the ball with current direction and speed over a single physics step.
+     * @param deltaTime deltaTime, duration of the physics step in seconds.
      */
     public void move(float deltaTime) {
         setSpeed(getSpeed() - (deltaTime * GameConstants.DRAG_COEFFICIENT));
         if (getSpeed() <= GameConstants.MIN_SPEED) {
             setSpeed(0);
         }
-        Vector3 translation = new Vector3(getDirection()).scl(speed);
+        float distance = getSpeed() * deltaTime * GameConstants.REFERENCE_FRAME_RATE;
+        if (state != null) {
+            // Bound balls are moved within the buffer, without allocating
+            state.advance(slot, distance);
+            updateHitBox();
+            return;
+        }
+
+        Vector3 translation = new Vector3(getDirection()).scl(distance);
         translate(translation);
         // if we're outside of the bounds of the table, move back.
         if (!checkWithinBounds()) {
@@ -121,11 +221,47 @@ public abstract class Ball3D extends Object3D {
 
     }
 
+    /**
+     * Stores the current position of the ball as the position of the
+     * previous physics step. To be called before every physics step.
+     */
+    public void storePreviousPosition() {
+        if (state == null) {
+            previousPosition = getCoordinates();
+        } else {
+            state.storePreviousPosition(slot);
+        }
+    }
+
+    /**
+     * Returns the position of the ball interpolated between the previous
+     * and the current physics step. If no previous position is known,
+     * the current position is returned.
+     * @param alpha  Interpolation factor, where 0 is the previous and 1 the current step
+     * @param out  Vector to write the interpolated position to
+     * @return  The specified vector
+     */
+    public Vector3 getInterpolatedPosition(float alpha, Vector3 out) {
+        if (state != null) {
+            return state.getInterpolatedPosition(slot, alpha, out);
+        }
+        getCoordinates(out);
+        if (previousPosition == null) {
+            return out;
+        }
+        return out.scl(alpha).mulAdd(previousPosition, 1 - alpha);
+    }
+
     /**
      * Method called to move the ball in a direction.
      * @param translation direction of movement.
      */
     public void translate(Vector3 translation) {
+        if (state != null) {
+            state.translate(slot, translation.x, translation.y, translation.z);
+            updateHitBox();
+            return;
+        }
         // move the visual model of the ball, we update the value as well.
         this.model.transform = this.model.transform.trn(translation);
         // hit box needs to be moved too to make sure hit box
@@ -135,6 +271,18 @@ public abstract class Ball3D extends Object3D {
         }
     }
 
+    /**
+     * Moves the hit box of a bound ball to its position in the state buffer.
+     * To be called after the state buffer was restored directly.
+     */
+    public void updateHitBox() {
+        if (hitBox != null && state != null) {
+            hitBoxTransform.setToTranslation(state.getX(slot), state.getY(slot),
+                    state.getZ(slot));
+            hitBox.updateLocation(hitBoxTransform);
+        }
+    }
+
     /**
      * Returns the radius of the 3D Ball as a scalar.
      * @return  Radius of the 3D ball
@@ -173,36 +321,20 @@ public abstract class Ball3D extends Object3D {
 
     /**
      * Method that checks if this and another ball collide.
-     * If they do, both ball change directions and speed.
-     * If a ball with no speed or direction is hit, they get
-     * a new one. This is to respond to the cue ball hitting a ball that was just placed.
+     * If they do, the velocities of both balls are resolved as an elastic
+     * collision of equal masses. A ball with no speed that is hit gets the
+     * momentum along the line between the balls, e.g. when the cue ball
+     * hits a ball that was just placed.
      * @param other Other ball.
      * @return whether the ball collided with the other ball.
      */
     public boolean checkCollision(Ball3D other) {
         // balls placed below the table (when potted) should not collide.
-        if (this.getCoordinates().y < 0 || other.getCoordinates().y < 0) {
+        if (this.isPotted() || other.isPotted()) {
             return false;
         }
         if (getCollisionHandler().checkHitBoxCollision(getHitBox(), other.getHitBox())) {
-            // Create vector from ball to other
-            Vector3 directionToOther = new Vector3(other.getCoordinates())
-                    .sub(new Vector3(getCoordinates()));
-
-            // Calculate new speed for collision;
-            // Result returned as float of 2 elements, where the first
-            // is the new speed of this ball, and the second is the speed of the other ball.
-            float[] newSpeed = PhysicsUtils.getSpeedOnCollision(this.direction,
-                    this.getSpeed(), directionToOther.nor(), other.direction, other.getSpeed());
-
-            // Update speed & direction for this ball
-            this.setSpeed(newSpeed[0]);
-            Vector3 newDirection = new Vector3(getDirection()).sub(new Vector3(directionToOther));
-            setDirection(newDirection);
-
-            // Update speed & direction for other ball
-            other.setSpeed(newSpeed[1]);
-            other.setDirection(directionToOther);
+            PhysicsUtils.resolveCollision(this, other, collisionNormal, velocity, otherVelocity);
             return true;
         }
         return false;
@@ -220,6 +352,22 @@ public abstract class Ball3D extends Object3D {
         translate(new Vector3(0, -100, 0));
         setSpeed(0);
         setDirection(new Vector3());
+        // Do not interpolate the jump below the table
+        storePreviousPosition();
+        if (state != null) {
+            state.setFlag(slot, BallStateBuffer.POTTED);
+        }
+    }
+
+    /**
+     * Returns whether the ball has been potted, i.e. placed below the table.
+     * @return  True if the ball has been potted
+     */
+    public boolean isPotted() {
+        if (state == null) {
+            return getCoordinates().y < 0;
+        }
+        return state.isFlagSet(slot, BallStateBuffer.POTTED);
     }
 
     /**
@@ -227,6 +375,9 @@ public abstract class Ball3D extends Object3D {
      * @return whether the ball is within the bounds of the table.
      */
     public boolean checkWithinBounds() {
+        if (state != null) {
+            return state.isWithinBounds(slot);
+        }
         return Math.abs(getCoordinates().x) < Table3D.xBound
                 && Math.abs(getCoordinates().z) < Table3D.zBound;
     }
@@ -0,0 +1,264 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * Structure-of-arrays store for the physics state of the balls in a scene.
+ * Positions, directions, speeds and flags of all balls are kept in
+ * primitive arrays, indexed by the slot of a ball, so that the physics
+ * step can read and update them without allocating any objects.
+ * The models of the balls are only synchronized from this buffer
+ * when the scene is rendered.
+ */
+public class BallStateBuffer {
+    // Flag set for balls that have been potted
+    public static final int POTTED = 1;
+    // Floats per ball in a saved state: position, direction, speed and flags
+    public static final int SAVED_FLOATS = 8;
+
+    private final transient float[] positionX;
+    private final transient float[] positionY;
+    private final transient float[] positionZ;
+
+    // Positions before the last physics step, used for interpolation
+    private final transient float[] previousX;
+    private final transient float[] previousY;
+    private final transient float[] previousZ;
+
+    private final transient float[] directionX;
+    private final transient float[] directionY;
+    private final transient float[] directionZ;
+
+    private final transient float[] speed;
+    private final transient int[] flags;
+
+    private transient int count;
+
+    /**
+     * Creates a new empty buffer that can hold the specified number of balls.
+     *
+     * @param capacity  Maximum number of balls in the buffer
+     */
+    public BallStateBuffer(int capacity) {
+        positionX = new float[capacity];
+        positionY = new float[capacity];
+        positionZ = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        previousZ = new float[capacity];
+        directionX = new float[capacity];
+        directionY = new float[capacity];
+        directionZ = new float[capacity];
+        speed = new float[capacity];
+        flags = new int[capacity];
+    }
+
+    /**
+     * Adds a ball with the specified state to the buffer.
+     *
+     * @param position  Current position of the ball
+     * @param direction  Current (normalized) direction of the ball
+     * @param ballSpeed  Current speed of the ball
+     * @return  Slot of the ball in the buffer
+     */
+    public int add(Vector3 position, Vector3 direction, float ballSpeed) {
+        int slot = count++;
+        setPosition(slot, position);
+        storePreviousPosition(slot);
+        setDirection(slot, direction);
+        speed[slot] = ballSpeed;
+        flags[slot] = 0;
+        return slot;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public float getX(int slot) {
+        return positionX[slot];
+    }
+
+    public float getY(int slot) {
+        return positionY[slot];
+    }
+
+    public float getZ(int slot) {
+        return positionZ[slot];
+    }
+
+    /**
+     * Sets the position of the ball in the specified slot.
+     *
+     * @param slot  Slot of the ball
+     * @param position  New position of the ball
+     */
+    public void setPosition(int slot, Vector3 position) {
+        positionX[slot] = position.x;
+        positionY[slot] = position.y;
+        positionZ[slot] = position.z;
+    }
+
+    /**
+     * Translates the ball in the specified slot.
+     *
+     * @param slot  Slot of the ball
+     * @param x  Translation along the x axis
+     * @param y  Translation along the y axis
+     * @param z  Translation along the z axis
+     */
+    public void translate(int slot, float x, float y, float z) {
+        positionX[slot] += x;
+        positionY[slot] += y;
+        positionZ[slot] += z;
+    }
+
+    /**
+     * Moves the ball in the specified slot along its direction over the
+     * specified distance. If the ball would end up outside of the bounds
+     * of the table, the ball is not moved.
+     *
+     * @param slot  Slot of the ball
+     * @param distance  Distance to move the ball over
+     */
+    public void advance(int slot, float distance) {
+        float x = directionX[slot] * distance;
+        float y = directionY[slot] * distance;
+        float z = directionZ[slot] * distance;
+
+        translate(slot, x, y, z);
+        if (!isWithinBounds(slot)) {
+            translate(slot, -x, -y, -z);
+        }
+    }
+
+    /**
+     * Returns whether the ball in the specified slot is within the bounds of the table.
+     *
+     * @param slot  Slot of the ball
+     * @return  True if the ball is within the bounds of the table
+     */
+    public boolean isWithinBounds(int slot) {
+        return Math.abs(positionX[slot]) < Table3D.xBound
+                && Math.abs(positionZ[slot]) < Table3D.zBound;
+    }
+
+    /**
+     * Stores the current position of the ball in the specified slot
+     * as its position of the previous physics step.
+     *
+     * @param slot  Slot of the ball
+     */
+    public void storePreviousPosition(int slot) {
+        previousX[slot] = positionX[slot];
+        previousY[slot] = positionY[slot];
+        previousZ[slot] = positionZ[slot];
+    }
+
+    /**
+     * Writes the position of the ball in the specified slot, interpolated
+     * between the previous and the current physics step, to the output vector.
+     *
+     * @param slot  Slot of the ball
+     * @param alpha  Interpolation factor, where 0 is the previous and 1 the current step
+     * @param out  Vector to write the interpolated position to
+     * @return  The output vector
+     */
+    public Vector3 getInterpolatedPosition(int slot, float alpha, Vector3 out) {
+        return out.set(previousX[slot] + alpha * (positionX[slot] - previousX[slot]),
+                previousY[slot] + alpha * (positionY[slot] - previousY[slot]),
+                previousZ[slot] + alpha * (positionZ[slot] - previousZ[slot]));
+    }
+
+    /**
+     * Writes the direction of the ball in the specified slot to the output vector.
+     *
+     * @param slot  Slot of the ball
+     * @param out  Vector to write the direction to
+     * @return  The output vector
+     */
+    public Vector3 getDirection(int slot, Vector3 out) {
+        return out.set(directionX[slot], directionY[slot], directionZ[slot]);
+    }
+
+    /**
+     * Sets the direction of the ball in the specified slot.
+     *
+     * @param slot  Slot of the ball
+     * @param direction  New (normalized) direction of the ball
+     */
+    public void setDirection(int slot, Vector3 direction) {
+        directionX[slot] = direction.x;
+        directionY[slot] = direction.y;
+        directionZ[slot] = direction.z;
+    }
+
+    public float getSpeed(int slot) {
+        return speed[slot];
+    }
+
+    public void setSpeed(int slot, float ballSpeed) {
+        speed[slot] = ballSpeed;
+    }
+
+    public boolean isFlagSet(int slot, int flag) {
+        return (flags[slot] & flag) != 0;
+    }
+
+    public void setFlag(int slot, int flag) {
+        flags[slot] |= flag;
+    }
+
+    public void clearFlag(int slot, int flag) {
+        flags[slot] &= ~flag;
+    }
+
+    /**
+     * Saves the position, direction, speed and flags of all balls in a new
+     * flat array, e.g. for a snapshot of the game. The previous positions
+     * are not saved, as they only matter within a physics step.
+     *
+     * @return  Saved state, with SAVED_FLOATS floats per slot
+     */
+    // False positive for DD and DU anomalies caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public float[] saveState() {
+        float[] saved = new float[count * SAVED_FLOATS];
+        int i = 0;
+        for (int slot = 0; slot < count; slot++) {
+            saved[i++] = positionX[slot];
+            saved[i++] = positionY[slot];
+            saved[i++] = positionZ[slot];
+            saved[i++] = directionX[slot];
+            saved[i++] = directionY[slot];
+            saved[i++] = directionZ[slot];
+            saved[i++] = speed[slot];
+            saved[i++] = flags[slot];
+        }
+        return saved;
+    }
+
+    /**
+     * Restores the state of all balls that was saved by saveState.
+     * The balls are not interpolated from their positions before.
+     *
+     * @param saved  Saved state of a buffer with the same balls
+     */
+    // False positive for DU anomalies caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public void restoreState(float[] saved) {
+        assert saved.length == count * SAVED_FLOATS;
+        int i = 0;
+        for (int slot = 0; slot < count; slot++) {
+            positionX[slot] = saved[i++];
+            positionY[slot] = saved[i++];
+            positionZ[slot] = saved[i++];
+            directionX[slot] = saved[i++];
+            directionY[slot] = saved[i++];
+            directionZ[slot] = saved[i++];
+            speed[slot] = saved[i++];
+            flags[slot] = (int) saved[i++];
+            storePreviousPosition(slot);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.math.Vector3;
+
+import java.util.Arrays;
+
+/**
+ * Motion of a single ball during a shot of the KineticSimulator. The motion
+ * is stored as the segments between the events that changed it, so the
+ * position of the ball at any time of the shot can be reconstructed,
+ * e.g. to render or replay the shot frame by frame.
+ */
+public class BallTrajectory {
+    // Start time, position (x, y, z), direction (x, z) and speed of a segment
+    private static final int FIELDS = 7;
+    private static final int INITIAL_SEGMENTS = 8;
+
+    private transient float[] segments = new float[FIELDS * INITIAL_SEGMENTS];
+    private transient int count;
+
+    /**
+     * Removes all segments, to record the trajectory of a new shot.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Adds a segment in which the ball starts moving from the specified position.
+     * Segments have to be added in the order of their start times.
+     * @param time  Start time of the segment in seconds
+     * @param position  Position of the ball at the start of the segment
+     * @param direction  Normalized direction of the ball (y is ignored)
+     * @param speed  Speed of the ball at the start of the segment
+     */
+    public void add(float time, Vector3 position, Vector3 direction, float speed) {
+        if ((count + 1) * FIELDS > segments.length) {
+            segments = Arrays.copyOf(segments, segments.length * 2);
+        }
+        int base = count * FIELDS;
+        segments[base] = time;
+        segments[base + 1] = position.x;
+        segments[base + 2] = position.y;
+        segments[base + 3] = position.z;
+        segments[base + 4] = direction.x;
+        segments[base + 5] = direction.z;
+        segments[base + 6] = speed;
+        count++;
+    }
+
+    /**
+     * Returns the start time of the specified segment.
+     * @param segment  Index of the segment
+     * @return  Start time of the segment in seconds
+     */
+    public float getTime(int segment) {
+        return segments[segment * FIELDS];
+    }
+
+    /**
+     * Writes the position of the ball at the specified time to the output vector.
+     * Times before the first segment give the position at the start of the shot.
+     * @param time  Time in seconds since the start of the shot
+     * @param out  Vector to write the position to
+     * @return  The output vector
+     */
+    public Vector3 getPosition(float time, Vector3 out) {
+        assert (count > 0);
+        // Last segment that started at or before the time
+        int low = 0;
+        int high = count - 1;
+        while (low < high) {
+            int middle = (low + high + 1) / 2;
+            if (getTime(middle) <= time) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        int base = low * FIELDS;
+        float distance = (float) KineticSolver.travel(segments[base + 6],
+                Math.max(0, time - segments[base]));
+        return out.set(segments[base + 1] + segments[base + 4] * distance,
+                segments[base + 2],
+                segments[base + 3] + segments[base + 5] * distance);
+    }
+}
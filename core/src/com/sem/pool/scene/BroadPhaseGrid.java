@@ -0,0 +1,314 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.math.Vector3;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform grid broadphase over the play area of the table.
+ * Balls are bucketed into square cells the size of a ball's diameter,
+ * so two balls can only collide when they lie in the same or in
+ * neighbouring cells. All other pairs are culled before they
+ * reach the (expensive) narrowphase.
+ */
+public class BroadPhaseGrid {
+    // Marker for balls without a known position; these are
+    // conservatively paired with every other ball.
+    private static final int UNPLACED = -1;
+
+    // Marker for balls below the table (potted); these never collide.
+    private static final int REMOVED = -2;
+
+    private final transient float halfWidth;
+    private final transient float halfDepth;
+
+    private transient int columns = 1;
+    private transient int rows = 1;
+
+    // Head of the linked list of ball indices per cell, and the
+    // next ball index in the same cell per ball (-1 terminates).
+    private transient int[] cellHeads = new int[0];
+    private transient int[] next = new int[0];
+
+    // Cell index per ball, or one of the UNPLACED/REMOVED markers.
+    private transient int[] cellOf = new int[0];
+
+    // Positions of the balls on the table, reused between rebuilds.
+    private transient float[] xs = new float[0];
+    private transient float[] zs = new float[0];
+    private transient int size;
+    // Vector the coordinates of a ball are read into, so that updates do not allocate.
+    private final transient Vector3 scratch = new Vector3();
+
+    // Size of the cells of the last rebuild, the number of balls on
+    // the table and the number of those without a known position.
+    private transient float cellSize;
+    private transient int live;
+    private transient int unplaced;
+
+    private transient long pairsTested;
+    private transient long pairsCulled;
+
+    /**
+     * Creates a new grid covering the area [-halfWidth, halfWidth] x [-halfDepth, halfDepth].
+     *
+     * @param halfWidth  Half width of the play area along the x axis
+     * @param halfDepth  Half width of the play area along the z axis
+     */
+    public BroadPhaseGrid(float halfWidth, float halfDepth) {
+        this.halfWidth = halfWidth;
+        this.halfDepth = halfDepth;
+    }
+
+    /**
+     * Rebuilds the grid from the current positions of the specified balls.
+     * Should be called before querying any candidates, and again whenever
+     * balls were moved without updating them in the grid.
+     * The cell size is derived from the largest ball radius.
+     *
+     * @param balls  Balls to place in the grid, indexed by their List position
+     */
+    // Suppress false positive for Dataflow Anomalies caused by the
+    // position buffers only being written in one of the branches.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public void rebuild(List<Ball3D> balls) {
+        size = balls.size();
+        if (cellOf.length < size) {
+            cellOf = new int[size];
+            next = new int[size];
+            xs = new float[size];
+            zs = new float[size];
+        }
+        float diameter = 0;
+
+        for (int i = 0; i < size; i++) {
+            Ball3D ball = balls.get(i);
+            Vector3 coordinates = ball.getCoordinates(scratch);
+            if (coordinates == null) {
+                cellOf[i] = UNPLACED;
+            } else if (coordinates.y < 0) {
+                cellOf[i] = REMOVED;
+            } else {
+                cellOf[i] = 0;
+                xs[i] = coordinates.x;
+                zs[i] = coordinates.z;
+                diameter = Math.max(diameter, 2 * ball.getRadius());
+            }
+        }
+
+        resize(diameter);
+
+        live = 0;
+        unplaced = 0;
+        for (int i = 0; i < size; i++) {
+            if (cellOf[i] == UNPLACED) {
+                live++;
+                unplaced++;
+            } else if (cellOf[i] != REMOVED) {
+                insert(i, cellIndex(column(xs[i]), row(zs[i])));
+            }
+        }
+    }
+
+    /**
+     * Moves a single ball to the cell of its current position, keeping the
+     * cell size of the last rebuild. Used to only update the balls that moved
+     * during a step, instead of rebuilding the grid from all balls.
+     *
+     * @param index  Index of the ball, as passed to the last rebuild
+     * @param ball  Ball at the specified index
+     */
+    public void update(int index, Ball3D ball) {
+        remove(index);
+
+        Vector3 coordinates = ball.getCoordinates(scratch);
+        if (coordinates == null) {
+            cellOf[index] = UNPLACED;
+            live++;
+            unplaced++;
+        } else if (coordinates.y < 0) {
+            cellOf[index] = REMOVED;
+        } else {
+            insert(index, cellIndex(column(coordinates.x), row(coordinates.z)));
+        }
+    }
+
+    /**
+     * Adds the ball with the specified index to the specified cell.
+     *
+     * @param index  Index of the ball
+     * @param cell  Cell to add the ball to
+     */
+    private void insert(int index, int cell) {
+        cellOf[index] = cell;
+        next[index] = cellHeads[cell];
+        cellHeads[cell] = index;
+        live++;
+    }
+
+    /**
+     * Removes the ball with the specified index from the grid,
+     * after which it has to be placed again.
+     *
+     * @param index  Index of the ball
+     */
+    private void remove(int index) {
+        int cell = cellOf[index];
+        if (cell == REMOVED) {
+            return;
+        }
+        live--;
+        if (cell == UNPLACED) {
+            unplaced--;
+        } else if (cellHeads[cell] == index) {
+            cellHeads[cell] = next[index];
+        } else {
+            int previous = cellHeads[cell];
+            while (next[previous] != index) {
+                previous = next[previous];
+            }
+            next[previous] = next[index];
+        }
+    }
+
+    /**
+     * Writes the indices of all balls that may collide with the specified
+     * moving ball to the specified array, in ascending order. Balls that are
+     * awake and come before the specified ball are left out, since the pair
+     * was already returned for that ball. Every other ball on the table that
+     * is not returned is counted as culled.
+     *
+     * @param index  Index of the ball to get the candidates for
+     * @param awake  Whether each ball is awake (moving) in the current step
+     * @param candidates  Array to write the candidates to, of at least the ball count
+     * @return  Number of candidates written to the array
+     */
+    // Suppress false positive for Dataflow Anomalies caused by the loops.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public int neighboursOf(int index, boolean[] awake, int[] candidates) {
+        if (cellOf[index] == REMOVED) {
+            return 0;
+        }
+
+        int count = 0;
+        if (cellOf[index] == UNPLACED) {
+            for (int j = 0; j < size; j++) {
+                if (j != index && cellOf[j] != REMOVED && !(awake[j] && j < index)) {
+                    candidates[count++] = j;
+                }
+            }
+        } else {
+            int column = cellOf[index] % columns;
+            int row = cellOf[index] / columns;
+            for (int c = Math.max(0, column - 1); c <= Math.min(columns - 1, column + 1); c++) {
+                for (int r = Math.max(0, row - 1); r <= Math.min(rows - 1, row + 1); r++) {
+                    count = collectCell(cellIndex(c, r), index, awake, candidates, count);
+                }
+            }
+            count = collectUnplaced(index, awake, candidates, count);
+        }
+
+        pairsTested += count;
+        pairsCulled += live - 1 - count;
+
+        Arrays.sort(candidates, 0, count);
+        return count;
+    }
+
+    /**
+     * Appends the balls in the specified cell that the specified ball
+     * has to be tested against to the candidates.
+     *
+     * @param cell  Cell to collect the balls of
+     * @param index  Index of the moving ball
+     * @param awake  Whether each ball is awake (moving) in the current step
+     * @param candidates  Buffer to write the candidate indices to
+     * @param count  Number of candidates in the buffer so far
+     * @return  Number of candidates in the buffer afterwards
+     */
+    private int collectCell(int cell, int index, boolean[] awake, int[] candidates, int count) {
+        for (int j = cellHeads[cell]; j != -1; j = next[j]) {
+            if (j != index && !(awake[j] && j < index)) {
+                candidates[count++] = j;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Appends the balls without a known position that the specified ball
+     * has to be tested against to the candidates.
+     *
+     * @param index  Index of the moving ball
+     * @param awake  Whether each ball is awake (moving) in the current step
+     * @param candidates  Buffer to write the candidate indices to
+     * @param count  Number of candidates in the buffer so far
+     * @return  Number of candidates in the buffer afterwards
+     */
+    private int collectUnplaced(int index, boolean[] awake, int[] candidates, int count) {
+        if (unplaced == 0) {
+            return count;
+        }
+        for (int j = 0; j < size; j++) {
+            if (cellOf[j] == UNPLACED && !(awake[j] && j < index)) {
+                candidates[count++] = j;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Resizes the grid to cells of the specified size, and empties all cells.
+     * A non-positive cell size results in a single cell covering the table.
+     *
+     * @param cellSize  Size of a single cell
+     */
+    private void resize(float cellSize) {
+        this.cellSize = cellSize;
+        if (cellSize > 0) {
+            columns = Math.max(1, (int) Math.ceil(2 * halfWidth / cellSize));
+            rows = Math.max(1, (int) Math.ceil(2 * halfDepth / cellSize));
+        } else {
+            columns = 1;
+            rows = 1;
+        }
+
+        if (cellHeads.length != columns * rows) {
+            cellHeads = new int[columns * rows];
+        }
+        Arrays.fill(cellHeads, -1);
+    }
+
+    private int column(float x) {
+        return clamp(cellSize > 0 ? (int) Math.floor((x + halfWidth) / cellSize) : 0, columns);
+    }
+
+    private int row(float z) {
+        return clamp(cellSize > 0 ? (int) Math.floor((z + halfDepth) / cellSize) : 0, rows);
+    }
+
+    private int cellIndex(int column, int row) {
+        return row * columns + column;
+    }
+
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+
+    public long getPairsTested() {
+        return pairsTested;
+    }
+
+    public long getPairsCulled() {
+        return pairsCulled;
+    }
+
+    /**
+     * Resets the tested and culled pair counters to zero.
+     */
+    public void resetCounters() {
+        pairsTested = 0;
+        pairsCulled = 0;
+    }
+}
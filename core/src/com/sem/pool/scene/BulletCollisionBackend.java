@@ -0,0 +1,134 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.physics.bullet.collision.CollisionObjectWrapper;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionAlgorithm;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionAlgorithmConstructionInfo;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionDispatcher;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionObject;
+import com.badlogic.gdx.physics.bullet.collision.btDefaultCollisionConfiguration;
+import com.badlogic.gdx.physics.bullet.collision.btDispatcherInfo;
+import com.badlogic.gdx.physics.bullet.collision.btManifoldResult;
+import com.badlogic.gdx.physics.bullet.collision.btSphereBoxCollisionAlgorithm;
+
+/**
+ * Collision backend that uses the Bullet wrapper to detect collisions.
+ * Every check creates the native collision algorithm and wrappers,
+ * and disposes them again afterwards.
+ */
+public class BulletCollisionBackend implements CollisionBackend {
+
+    private transient btDefaultCollisionConfiguration collisionConfig;
+    private transient btCollisionDispatcher dispatcher;
+    private transient btCollisionAlgorithmConstructionInfo constructionInfo;
+    private transient btDispatcherInfo dispatcherInfo;
+    // Context the native objects belong to, if the backend was created from one
+    private transient CollisionContext context;
+
+    /**
+     * Constructor for a Bullet collision backend that uses the
+     * shared native infrastructure of a scene.
+     * @param context collision context of the scene.
+     */
+    public BulletCollisionBackend(CollisionContext context) {
+        this(context.getConfiguration(), context.getDispatcher(),
+                context.getConstructionInfo(), context.getDispatcherInfo());
+        this.context = context;
+    }
+
+    /**
+     * Constructor for a Bullet collision backend.
+     * @param configuration collision configuration.
+     * @param dispatcher dispatcher for collisions.
+     * @param constructionInfo algorithm construction info for collision algorithm.
+     * @param dispatcherInfo dispatcher information.
+     */
+    public BulletCollisionBackend(btDefaultCollisionConfiguration configuration,
+                                  btCollisionDispatcher dispatcher,
+                                  btCollisionAlgorithmConstructionInfo constructionInfo,
+                                  btDispatcherInfo dispatcherInfo) {
+        this.collisionConfig = configuration;
+        this.dispatcher = dispatcher;
+        this.constructionInfo = constructionInfo;
+        this.constructionInfo.setDispatcher1(dispatcher);
+        this.dispatcherInfo = dispatcherInfo;
+    }
+
+    public btDefaultCollisionConfiguration getCollisionConfig() {
+        return collisionConfig;
+    }
+
+    public btCollisionDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    public btCollisionAlgorithmConstructionInfo getConstructionInfo() {
+        return constructionInfo;
+    }
+
+    public btDispatcherInfo getDispatcherInfo() {
+        return dispatcherInfo;
+    }
+
+    @Override
+    public boolean requiresNativeObjects() {
+        return true;
+    }
+
+    /**
+     * Disposes the collision context the backend was created from.
+     * The native objects passed in separately are owned by the caller.
+     */
+    @Override
+    public void dispose() {
+        if (context != null) {
+            context.dispose();
+        }
+    }
+
+    /**
+     * Checks for a single hit box whether it collided with the ball.
+     * @param obj1 first object.
+     * @param obj2 second object.
+     * @return whether the ball collided with the table.
+     */
+    @Override
+    public boolean checkHitBoxCollision(HitBox obj1, HitBox obj2) {
+        btCollisionObject collisionObject = obj1.getObject();
+        btCollisionObject collisionObject1 = obj2.getObject();
+        CollisionObjectWrapper co0 = new CollisionObjectWrapper(collisionObject);
+        CollisionObjectWrapper co1 = new CollisionObjectWrapper(collisionObject1);
+
+        // construct algorithm
+        btSphereBoxCollisionAlgorithm algorithm =
+                new btSphereBoxCollisionAlgorithm(null, this.constructionInfo,
+                co0.wrapper, co1.wrapper, false);
+
+        // create result using object wrappers
+        btManifoldResult result = new btManifoldResult(co0.wrapper, co1.wrapper);
+
+        return checkCollisionAlgorithm(algorithm, co0, co1, result);
+    }
+
+    /**
+     * Returns whether two objects passed as CollisionObjectWrappers
+     * collide.
+     * @param algorithm collision algorithm.
+     * @param co0 first object.
+     * @param co1 second object.
+     * @param result bt manifest result, used to determine collision.
+     * @return whether there was a collision between the two objects according to the algorithm.
+     */
+    public boolean checkCollisionAlgorithm(btCollisionAlgorithm algorithm,
+                                           CollisionObjectWrapper co0,
+                                           CollisionObjectWrapper co1,
+                                           btManifoldResult result) {
+        algorithm.processCollision(co0.wrapper, co1.wrapper, this.dispatcherInfo, result);
+
+        final boolean r = result.getPersistentManifold().getNumContacts() > 0;
+        result.dispose();
+        algorithm.dispose();
+        co1.dispose();
+        co0.dispose();
+        return r;
+    }
+}
@@ -0,0 +1,161 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.physics.bullet.collision.btBroadphaseInterface;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionConfiguration;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionObject;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionWorld;
+import com.badlogic.gdx.physics.bullet.collision.btDbvtBroadphase;
+import com.badlogic.gdx.physics.bullet.collision.btDispatcher;
+import com.badlogic.gdx.physics.bullet.collision.btPersistentManifold;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collision mode in which the hit boxes of all the balls, borders and pots
+ * of a scene are registered in a single Bullet collision world. Instead of
+ * a JNI call per pair of hit boxes, one collision detection call per step
+ * lets the incremental DBVT broadphase of Bullet cull the distant pairs,
+ * and the contact manifolds of the dispatcher are read back as contacts.
+ */
+public class BulletCollisionWorld implements Disposable {
+    // Collision filter groups; the hit boxes of the table overlap each
+    // other, so they only collide with the balls
+    static final int BALL_GROUP = 1;
+    static final int TABLE_GROUP = 2;
+
+    // The user value of a ball is its index, and the user value of
+    // a hit box of the table is its index offset by its kind
+    static final int CUSHION = 1 << 8;
+    static final int POT = 2 << 8;
+    private static final int INDEX_MASK = CUSHION - 1;
+
+    private final transient btDispatcher dispatcher;
+    private final transient btBroadphaseInterface broadphase;
+    private final transient btCollisionWorld world;
+    private final transient List<btCollisionObject> objects = new ArrayList<>();
+    private transient boolean disposed;
+
+    /**
+     * Creates an empty collision world with a DBVT broadphase, which uses
+     * the dispatcher and configuration of the collision context of the scene.
+     * @param context  Collision context of the scene
+     */
+    public BulletCollisionWorld(CollisionContext context) {
+        this(context.getDispatcher(), new btDbvtBroadphase(), context.getConfiguration());
+    }
+
+    private BulletCollisionWorld(btDispatcher dispatcher, btBroadphaseInterface broadphase,
+                                 btCollisionConfiguration configuration) {
+        this(dispatcher, broadphase,
+                new btCollisionWorld(dispatcher, broadphase, configuration));
+    }
+
+    /**
+     * Creates a collision world from the specified Bullet objects.
+     * @param dispatcher  Dispatcher that holds the contact manifolds
+     * @param broadphase  Broadphase of the world
+     * @param world  Bullet collision world
+     */
+    BulletCollisionWorld(btDispatcher dispatcher, btBroadphaseInterface broadphase,
+                         btCollisionWorld world) {
+        this.dispatcher = dispatcher;
+        this.broadphase = broadphase;
+        this.world = world;
+        NativeTracker.track(broadphase);
+        NativeTracker.track(world);
+    }
+
+    /**
+     * Registers the hit boxes of the balls, and the borders and pots of the table.
+     * The hit boxes need to have Bullet objects, and stay owned by their objects.
+     * @param poolBalls  Pool balls of the scene
+     * @param table  Table of the scene
+     */
+    public void add(List<Ball3D> poolBalls, Table3D table) {
+        for (int i = 0; i < poolBalls.size(); i++) {
+            add(poolBalls.get(i).getHitBox(), i, BALL_GROUP, BALL_GROUP | TABLE_GROUP);
+        }
+        List<HitBox> cushions = table.getHitBoxes();
+        for (int i = 0; i < cushions.size(); i++) {
+            add(cushions.get(i), CUSHION + i, TABLE_GROUP, BALL_GROUP);
+        }
+        List<HitBox> pots = table.getPotHitBoxes();
+        for (int i = 0; i < pots.size(); i++) {
+            add(pots.get(i), POT + i, TABLE_GROUP, BALL_GROUP);
+        }
+    }
+
+    private void add(HitBox hitBox, int userValue, int group, int mask) {
+        btCollisionObject object = hitBox.getObject();
+        assert object != null;
+        object.setUserValue(userValue);
+        world.addCollisionObject(object, group, mask);
+        objects.add(object);
+    }
+
+    public int getObjectCount() {
+        return objects.size();
+    }
+
+    /**
+     * Performs the collision detection of the step, and passes the
+     * contacts of the manifolds on to the handler.
+     * @param handler  Handler of the contacts
+     */
+    public void detect(ContactHandler handler) {
+        world.performDiscreteCollisionDetection();
+        final int manifolds = dispatcher.getNumManifolds();
+        for (int m = 0; m < manifolds; m++) {
+            btPersistentManifold manifold = dispatcher.getManifoldByIndexInternal(m);
+            if (manifold.getNumContacts() > 0) {
+                dispatch(manifold.getBody0().getUserValue(),
+                        manifold.getBody1().getUserValue(), handler);
+            }
+        }
+    }
+
+    /**
+     * Passes the contact between two hit boxes on to the handler. Balls
+     * have the lowest user values, and hit boxes of the table do not
+     * collide with each other, so the first of the sorted values is a ball.
+     * @param first  User value of the first hit box
+     * @param second  User value of the second hit box
+     * @param handler  Handler of the contacts
+     */
+    static void dispatch(int first, int second, ContactHandler handler) {
+        final int ball = Math.min(first, second);
+        final int other = Math.max(first, second);
+        if (other < CUSHION) {
+            handler.onBallContact(ball, other);
+        } else if (other < POT) {
+            handler.onCushionContact(ball, other & INDEX_MASK);
+        } else {
+            handler.onPotContact(ball);
+        }
+    }
+
+    /**
+     * Removes the hit boxes from the world, and releases the world and its
+     * broadphase. The hit boxes themselves are disposed by their objects,
+     * after the world. Disposing twice has no effect.
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags object
+    // as a UR anomaly / being undefined
+    @Override
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        for (btCollisionObject object : objects) {
+            world.removeCollisionObject(object);
+        }
+        objects.clear();
+        NativeTracker.release(world);
+        world.dispose();
+        NativeTracker.release(broadphase);
+        broadphase.dispose();
+        disposed = true;
+    }
+}
@@ -0,0 +1,31 @@
+package com.sem.pool.scene;
+
+/**
+ * Interface that represents a narrowphase collision test between two hit boxes.
+ * Implementations are plugged in behind the CollisionHandler, which allows
+ * switching between the Bullet wrapper and the pure-Java analytic tests.
+ */
+public interface CollisionBackend {
+    /**
+     * Checks whether the two hit boxes collide.
+     * @param obj1 first object.
+     * @param obj2 second object.
+     * @return whether the two hit boxes collide.
+     */
+    public boolean checkHitBoxCollision(HitBox obj1, HitBox obj2);
+
+    /**
+     * Returns whether the backend needs the Bullet objects of the hit boxes.
+     * Backends that do not can be used without loading the Bullet natives.
+     * @return whether hit boxes need native collision objects.
+     */
+    public default boolean requiresNativeObjects() {
+        return false;
+    }
+
+    /**
+     * Releases the native objects owned by the backend, if any.
+     */
+    public default void dispose() {
+    }
+}
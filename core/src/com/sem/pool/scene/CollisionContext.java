@@ -0,0 +1,82 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.physics.bullet.BulletBase;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionAlgorithmConstructionInfo;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionDispatcher;
+import com.badlogic.gdx.physics.bullet.collision.btDefaultCollisionConfiguration;
+import com.badlogic.gdx.physics.bullet.collision.btDispatcherInfo;
+import com.badlogic.gdx.utils.Disposable;
+
+/**
+ * Native Bullet collision infrastructure of a single scene. The configuration,
+ * dispatcher and algorithm infos are heavyweight native objects, so they are
+ * created once per scene, shared by the Bullet backend of every ball and the
+ * table, and released together when the scene is disposed.
+ */
+public class CollisionContext implements Disposable {
+    private final transient btDefaultCollisionConfiguration configuration;
+    private final transient btCollisionDispatcher dispatcher;
+    private final transient btCollisionAlgorithmConstructionInfo constructionInfo;
+    private final transient btDispatcherInfo dispatcherInfo;
+    private transient boolean disposed;
+
+    /**
+     * Creates the native collision infrastructure of a scene.
+     * Bullet has to be initialized before a context is created.
+     */
+    public CollisionContext() {
+        // configuration for the collisions
+        configuration = new btDefaultCollisionConfiguration();
+        // dispatcher for the collisions
+        dispatcher = new btCollisionDispatcher(configuration);
+        // info regarding construction of collision algorithm
+        constructionInfo = new btCollisionAlgorithmConstructionInfo();
+        // info regarding dispatcher
+        dispatcherInfo = new btDispatcherInfo();
+        NativeTracker.track(configuration);
+        NativeTracker.track(dispatcher);
+        NativeTracker.track(constructionInfo);
+        NativeTracker.track(dispatcherInfo);
+    }
+
+    public btDefaultCollisionConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    public btCollisionDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    public btCollisionAlgorithmConstructionInfo getConstructionInfo() {
+        return constructionInfo;
+    }
+
+    public btDispatcherInfo getDispatcherInfo() {
+        return dispatcherInfo;
+    }
+
+    public boolean isDisposed() {
+        return disposed;
+    }
+
+    /**
+     * Releases the native objects, in the reverse order of creation since
+     * the dispatcher refers to the configuration. Disposing twice has no effect.
+     */
+    @Override
+    public void dispose() {
+        if (disposed) {
+            return;
+        }
+        release(dispatcherInfo);
+        release(constructionInfo);
+        release(dispatcher);
+        release(configuration);
+        disposed = true;
+    }
+
+    private static void release(BulletBase object) {
+        NativeTracker.release(object);
+        object.dispose();
+    }
+}
@@ -0,0 +1,26 @@
+package com.sem.pool.scene;
+
+/**
+ * Interface for objects that react to the collisions detected
+ * by the PhysicsWorld, such as playing the collision sounds.
+ */
+public interface CollisionListener {
+    /**
+     * Called when a ball collided with one of the borders of the table.
+     * @param ball  Ball that collided with the table
+     */
+    void onTableCollision(Ball3D ball);
+
+    /**
+     * Called when two balls collided with each other.
+     * @param ball   First ball of the collision
+     * @param other  Second ball of the collision
+     */
+    void onBallCollision(Ball3D ball, Ball3D other);
+
+    /**
+     * Called when a ball ended up in one of the pots of the table.
+     * @param ball  Ball that was potted
+     */
+    void onPot(Ball3D ball);
+}
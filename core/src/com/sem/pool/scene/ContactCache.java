@@ -0,0 +1,111 @@
+package com.sem.pool.scene;
+
+import java.util.BitSet;
+
+/**
+ * Cache of the contacts between the balls, and between the balls and the
+ * borders of the table, over consecutive physics steps. A contact begins in
+ * the step in which its hit boxes first touch, persists while they keep
+ * touching in the next steps, and ends in the first step they do not touch.
+ * Only the begin of a contact gets an impulse and a sound; while it
+ * persists, the balls are only pushed apart so they do not sink in.
+ */
+public class ContactCache {
+    private final transient int ballCount;
+    private final transient int cushionCount;
+
+    // Contacts touching in the previous step, and in the current step
+    private transient BitSet previous = new BitSet();
+    private transient BitSet current = new BitSet();
+
+    /**
+     * Creates an empty contact cache for the specified number of balls and borders.
+     * @param ballCount  Number of pool balls
+     * @param cushionCount  Number of borders of the table
+     */
+    public ContactCache(int ballCount, int cushionCount) {
+        this.ballCount = ballCount;
+        this.cushionCount = cushionCount;
+    }
+
+    public int getBallCount() {
+        return ballCount;
+    }
+
+    /**
+     * Returns the key of the contact between two balls, which
+     * does not depend on the order of the balls.
+     * @param ball  Index of a ball
+     * @param other  Index of the other ball
+     * @return  Key of the contact
+     */
+    public int pairKey(int ball, int other) {
+        return Math.min(ball, other) * ballCount + Math.max(ball, other);
+    }
+
+    /**
+     * Returns the key of the contact between a ball and a border of the table.
+     * @param ball  Index of the ball
+     * @param cushion  Index of the border in the hit boxes of the table
+     * @return  Key of the contact
+     */
+    public int cushionKey(int ball, int cushion) {
+        assert cushion < cushionCount;
+        return ballCount * ballCount + ball * cushionCount + cushion;
+    }
+
+    /**
+     * Returns whether the contact was already handled in the current step,
+     * e.g. when both balls of a pair are moving and check each other.
+     * @param key  Key of the contact
+     * @return  True if the contact touches in the current step
+     */
+    public boolean isTouching(int key) {
+        return current.get(key);
+    }
+
+    /**
+     * Returns whether the contact touched in the previous step, so that
+     * it persists if it still touches in the current step.
+     * @param key  Key of the contact
+     * @return  True if the contact touched in the previous step
+     */
+    public boolean wasTouching(int key) {
+        return previous.get(key);
+    }
+
+    /**
+     * Marks a contact as touching in the current step.
+     * @param key  Key of the contact
+     */
+    public void touch(int key) {
+        current.set(key);
+    }
+
+    /**
+     * Starts the next physics step. The contacts that were
+     * not touched in the step that passed have ended.
+     */
+    public void nextStep() {
+        BitSet passed = previous;
+        previous = current;
+        current = passed;
+        current.clear();
+    }
+
+    /**
+     * Ends all contacts, e.g. when a new shot starts after the balls came to rest.
+     */
+    public void clear() {
+        previous.clear();
+        current.clear();
+    }
+
+    /**
+     * Returns the number of contacts touching in the current step.
+     * @return  Number of touching contacts
+     */
+    public int size() {
+        return current.cardinality();
+    }
+}
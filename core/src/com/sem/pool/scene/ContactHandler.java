@@ -0,0 +1,28 @@
+package com.sem.pool.scene;
+
+/**
+ * Interface for objects that handle the contacts read back from the
+ * BulletCollisionWorld. The hit boxes are identified by their index,
+ * as the contacts are reported for the Bullet objects of the hit boxes.
+ */
+public interface ContactHandler {
+    /**
+     * Called when the hit boxes of two balls touch.
+     * @param ball   Index of the first ball
+     * @param other  Index of the second ball
+     */
+    void onBallContact(int ball, int other);
+
+    /**
+     * Called when the hit box of a ball touches one of the borders of the table.
+     * @param ball     Index of the ball
+     * @param cushion  Index of the hit box in the hit boxes of the table
+     */
+    void onCushionContact(int ball, int cushion);
+
+    /**
+     * Called when the hit box of a ball touches one of the pots of the table.
+     * @param ball  Index of the ball
+     */
+    void onPotContact(int ball);
+}
@@ -0,0 +1,152 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.game.GameConstants;
+
+/**
+ * Continuous collision detection between fast moving balls. At a high cue
+ * force a ball moves a large part of its radius in a single physics step, so
+ * an overlap test after the move detects contacts late and deep, or misses
+ * balls that pass each other within the step. Instead, the balls are swept
+ * from their positions at the start of the step to their current positions,
+ * the collision is resolved at the time of impact, and the moving balls
+ * move on with their new velocities over the rest of the step. The number of swept
+ * collisions per step is bounded, so a break shot does not spike the frame time.
+ */
+public class ContinuousCollision {
+    // Returned when the swept balls do not touch within the step
+    public static final float NO_IMPACT = -1;
+    // Fraction of the step at its end
+    private static final float STEP_END = 1;
+
+    // Swept collisions resolved in the current physics step
+    private transient int subSteps;
+
+    // Reused vectors for the sweep, to not allocate in the physics step
+    private final transient Vector3 motion = new Vector3();
+    private final transient Vector3 otherMotion = new Vector3();
+    private final transient Vector3 start = new Vector3();
+    private final transient Vector3 relative = new Vector3();
+    private final transient Vector3 normal = new Vector3();
+    private final transient Vector3 velocity = new Vector3();
+    private final transient Vector3 otherVelocity = new Vector3();
+
+    /**
+     * Resets the swept collisions at the start of a physics step.
+     */
+    public void reset() {
+        subSteps = 0;
+    }
+
+    public int getSubSteps() {
+        return subSteps;
+    }
+
+    /**
+     * Returns whether the collision between two balls has to be swept. This is
+     * the case if one of the balls moves further than the threshold fraction of
+     * its radius in a physics step, and the budget of the step is not used up.
+     * @param ball  Ball that is checked
+     * @param other  Other ball that is checked
+     * @return  True if the collision should be swept
+     */
+    public boolean isFast(Ball3D ball, Ball3D other) {
+        return subSteps < GameConstants.MAX_CCD_SUB_STEPS
+                && (exceedsThreshold(ball) || exceedsThreshold(other));
+    }
+
+    /**
+     * Sweeps two balls over the last physics step, and resolves their
+     * collision at the time of impact if they touched within the step.
+     * Balls that already overlapped at the start of the step are checked
+     * for overlaps like slow balls.
+     * @param ball  Ball that moved in the step
+     * @param other  Other ball
+     * @param otherMoved  True if the other ball moved in the step as well
+     * @return  Whether the balls collided within the step
+     */
+    public boolean collide(Ball3D ball, Ball3D other, boolean otherMoved) {
+        if (ball.isPotted() || other.isPotted()) {
+            return false;
+        }
+        // The start and relative vectors are only used as scratch until they are set
+        ball.getCoordinates(motion).sub(ball.getInterpolatedPosition(0, start));
+        if (otherMoved) {
+            other.getCoordinates(otherMotion).sub(other.getInterpolatedPosition(0, start));
+        } else {
+            otherMotion.setZero();
+        }
+        // Offset from the ball to the other ball at the start of the step,
+        // and how the offset changes over the step
+        other.getCoordinates(start).sub(otherMotion)
+                .sub(ball.getCoordinates(relative)).add(motion);
+        relative.set(otherMotion).sub(motion);
+        final float contact = (ball.getRadius() + other.getRadius()) * Ball3D.hitBoxRatio;
+        if (start.len2() < contact * contact) {
+            return ball.checkCollision(other);
+        }
+
+        float time = timeOfImpact(start, relative, contact);
+        if (time < 0) {
+            return false;
+        }
+        // Move both balls back to where they touched, and the balls that moved
+        // in the step on after the collision. A ball at rest that is hit only
+        // starts to move in the next step, in which its own contacts are checked.
+        ball.translate(motion.scl(time - STEP_END));
+        other.translate(otherMotion.scl(time - STEP_END));
+        PhysicsUtils.resolveCollision(ball, other, normal, velocity, otherVelocity);
+        advance(ball, STEP_END - time);
+        if (otherMoved) {
+            advance(other, STEP_END - time);
+        }
+        subSteps++;
+        return true;
+    }
+
+    /**
+     * Returns the fraction of a step at which two spheres first touch.
+     * @param start  Offset between the centers at the start of the step
+     * @param motion  Change of the offset over the step
+     * @param contact  Distance between the centers at which the spheres touch
+     * @return  Fraction of the step in [0, 1], or NO_IMPACT if the spheres
+     *          do not approach each other far enough within the step
+     */
+    public static float timeOfImpact(Vector3 start, Vector3 motion, float contact) {
+        float approach = start.dot(motion);
+        float speed = motion.len2();
+        if (approach >= 0 || speed == 0) {
+            return NO_IMPACT;
+        }
+        float discriminant = approach * approach
+                - speed * (start.len2() - contact * contact);
+        if (discriminant < 0) {
+            return NO_IMPACT;
+        }
+        float time = (-approach - (float) Math.sqrt(discriminant)) / speed;
+        if (time > STEP_END) {
+            return NO_IMPACT;
+        }
+        return Math.max(0, time);
+    }
+
+    /**
+     * Moves a ball along its direction over a fraction of a physics step.
+     * The direction of a ball is read into the direction vector of that ball,
+     * so copying it into the motion does not allocate.
+     * @param ball  Ball to move
+     * @param fraction  Fraction of the step to move the ball over
+     */
+    private void advance(Ball3D ball, float fraction) {
+        ball.translate(motion.set(ball.getDirection()).scl(stepDistance(ball) * fraction));
+    }
+
+    private static boolean exceedsThreshold(Ball3D ball) {
+        return stepDistance(ball)
+                > GameConstants.CCD_THRESHOLD * ball.getRadius() * Ball3D.hitBoxRatio;
+    }
+
+    private static float stepDistance(Ball3D ball) {
+        return ball.getSpeed() * GameConstants.PHYSICS_STEP * GameConstants.REFERENCE_FRAME_RATE;
+    }
+}
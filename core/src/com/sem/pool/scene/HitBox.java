@@ -4,17 +4,35 @@ import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.bullet.collision.btCollisionObject;
 import com.badlogic.gdx.physics.bullet.collision.btCollisionShape;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.Objects;
 
 /**
  * Class used to manage the hitbox of an object.
  * This simplifies the usage of the Bullet wrapper a lot.
+ * Next to the Bullet objects, the hit box keeps a plain description
+ * of its shape and position, which the analytic collision backend uses.
+ * The Bullet objects are owned by the hit box, and released when it is disposed.
  */
-public class HitBox {
+public class HitBox implements Disposable {
+
+    public enum Type {
+        SPHERE,
+        BOX,
+        CYLINDER
+    }
     
     private transient btCollisionShape shape;
     private transient btCollisionObject object;
     private transient Vector3 normal;
 
+    // Analytic description of the hit box. For spheres, the x component
+    // of the half extents holds the radius. Cylinders are aligned with the y axis.
+    private transient Type type;
+    private transient Vector3 halfExtents;
+    private final transient Vector3 position = new Vector3();
+
     public Vector3 getNormal() {
         return normal;
     }
@@ -25,32 +43,73 @@ public class HitBox {
 
     /**
      * Constructs a new HitBox object with the specified Shape and Collision Object.
+     * The HitBox has no analytic shape, so it can only be used with the Bullet backend.
      * @param shape Collision Shape of the HitBox.
      * @param object Collision Object of the HitBox.
      */
     public HitBox(btCollisionShape shape, btCollisionObject object) {
+        this(shape, object, null, new Vector3());
+    }
+
+    /**
+     * Constructs a new HitBox object with only an analytic shape, without
+     * any Bullet objects, so it can be used without loading the Bullet natives.
+     * @param type Analytic shape type of the HitBox.
+     * @param halfExtents Half extents of the shape (radius in x for spheres).
+     */
+    public HitBox(Type type, Vector3 halfExtents) {
+        this(null, null, type, halfExtents);
+    }
+
+    /**
+     * Constructs a new HitBox object with the specified Shape and Collision Object,
+     * and the analytic description of the same shape.
+     * @param shape Collision Shape of the HitBox.
+     * @param object Collision Object of the HitBox.
+     * @param type Analytic shape type of the HitBox.
+     * @param halfExtents Half extents of the shape (radius in x for spheres).
+     */
+    public HitBox(btCollisionShape shape, btCollisionObject object,
+                  Type type, Vector3 halfExtents) {
         this.shape = shape;
         this.object = object;
+        this.type = type;
+        this.halfExtents = halfExtents;
+        NativeTracker.track(shape);
+        NativeTracker.track(object);
     }
 
     /**
      * Returns whether another Object is equal to this HitBox.
+     * Hit boxes with Bullet objects are equal if they share those objects,
+     * hit boxes with only an analytic shape are only equal to themselves.
      * @param obj other object.
      * @return whether they are equal.
      */
     @Override
     public boolean equals(Object obj) {
-        if (obj instanceof HitBox) {
-            HitBox hb = (HitBox) obj;
-            return  hb.getObject().equals(this.getObject())
-                    && hb.getShape().equals(this.getShape());
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof HitBox) || isAnalytic()) {
+            return false;
         }
-        return false;
+        HitBox hb = (HitBox) obj;
+        return Objects.equals(hb.getObject(), this.getObject())
+                && Objects.equals(hb.getShape(), this.getShape());
     }
 
     @Override
     public int hashCode() {
-        return super.hashCode();
+        return isAnalytic() ? System.identityHashCode(this) : Objects.hash(object, shape);
+    }
+
+    /**
+     * Returns whether the hit box only has an analytic shape, without Bullet objects.
+     * @return whether the hit box has no Bullet objects.
+     */
+    private boolean isAnalytic() {
+        return object == null && shape == null;
     }
 
     public btCollisionShape getShape() {
@@ -61,11 +120,42 @@ public class HitBox {
         return object;
     }
 
+    public Type getType() {
+        return type;
+    }
+
+    public Vector3 getHalfExtents() {
+        return halfExtents;
+    }
+
+    public Vector3 getPosition() {
+        return position;
+    }
+
     /**
      * Updates the location of the HitBox object according to the provided translation matrix.
      * @param translation matrix used to set translation.
      */
     public void updateLocation(Matrix4 translation) {
-        this.object.setWorldTransform(translation);
+        if (object != null) {
+            this.object.setWorldTransform(translation);
+        }
+        translation.getTranslation(position);
+    }
+
+    /**
+     * Releases the Bullet objects of the hit box, the collision object first
+     * as it refers to the shape. Disposing twice has no effect.
+     */
+    @Override
+    public void dispose() {
+        if (object != null && !object.isDisposed()) {
+            NativeTracker.release(object);
+            object.dispose();
+        }
+        if (shape != null && !shape.isDisposed()) {
+            NativeTracker.release(shape);
+            shape.dispose();
+        }
     }
 }
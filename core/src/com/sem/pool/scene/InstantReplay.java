@@ -0,0 +1,102 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.math.Vector3;
+
+import java.util.List;
+
+/**
+ * Playback of the frames of a ReplayBuffer, e.g. to replay the last shot.
+ * The playback can be sought to any time of the recorded frames, and be
+ * played in slow motion, in which case the balls are interpolated between
+ * the recorded frames. The playback only moves the models of the balls,
+ * so the physics state of the balls is left untouched.
+ */
+public class InstantReplay {
+    private final transient ReplayBuffer buffer;
+    // Reused for the positions of the balls, so that playback does not allocate
+    private final transient Vector3 position = new Vector3();
+
+    private transient boolean playing;
+    private transient float time;
+    private transient float speed = 1f;
+
+    public InstantReplay(ReplayBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    public ReplayBuffer getBuffer() {
+        return buffer;
+    }
+
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    public float getTime() {
+        return time;
+    }
+
+    public float getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Sets the playback speed, where 1 is real time and e.g. 0.25 slow motion.
+     * @param speed  Playback speed, greater than 0
+     */
+    public void setSpeed(float speed) {
+        assert speed > 0;
+        this.speed = speed;
+    }
+
+    /**
+     * Starts to play the recorded frames from the oldest frame.
+     * Nothing is played if no frames were recorded.
+     * @param speed  Playback speed, where 1 is real time
+     */
+    public void start(float speed) {
+        setSpeed(speed);
+        time = 0;
+        playing = buffer.getFrameCount() > 0;
+    }
+
+    public void stop() {
+        playing = false;
+    }
+
+    /**
+     * Seeks the playback to the specified time of the recorded frames.
+     * @param time  Time since the oldest frame in seconds, clamped to the frames
+     */
+    public void seek(float time) {
+        this.time = Math.min(Math.max(0, time), buffer.getDuration());
+    }
+
+    /**
+     * Advances the playback by the specified frame time, scaled by the speed.
+     * The playback stops after the newest frame was played.
+     * @param deltaTime  Time between the current and the last frame
+     */
+    public void advance(float deltaTime) {
+        if (!playing) {
+            return;
+        }
+        time += deltaTime * speed;
+        if (time >= buffer.getDuration()) {
+            time = buffer.getDuration();
+            playing = false;
+        }
+    }
+
+    /**
+     * Moves the models of the balls to their positions at the current
+     * time of the playback. The balls are in the order they were recorded.
+     * @param poolBalls  Balls to move the models of
+     */
+    public void apply(List<Ball3D> poolBalls) {
+        for (int i = 0; i < poolBalls.size(); i++) {
+            buffer.getPosition(i, time, position);
+            poolBalls.get(i).getModel().transform.setTranslation(position);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.math.Vector3;
+
+/**
+ * Motion of a single ball in the KineticSimulator. The position is only
+ * known at the time the ball was last updated, from which the ball moves
+ * in a straight line until it stops. The version of the ball is increased
+ * whenever its motion changes, which outdates the events predicted before.
+ */
+public class KineticBall {
+    // Position of a potted ball, the same as after Ball3D.pot
+    private static final Vector3 POTTED_POSITION = new Vector3(0, -100, 0);
+
+    private transient double positionX;
+    private transient double positionY;
+    private transient double positionZ;
+    private transient double directionX;
+    private transient double directionZ;
+    private transient double speed;
+    private transient double since;
+    private transient double radius;
+    private transient boolean potted;
+    private transient int version;
+    private final transient BallTrajectory trajectory = new BallTrajectory();
+
+    // Reused vectors to record the trajectory and store the final motion
+    private final transient Vector3 position = new Vector3();
+    private final transient Vector3 direction = new Vector3();
+
+    /**
+     * Reads the current motion of the specified ball, at the start of a shot.
+     * @param ball  Ball to read the motion of
+     */
+    public void load(Ball3D ball) {
+        Vector3 coordinates = ball.getCoordinates();
+        Vector3 heading = ball.getDirection();
+        final double length = Math.hypot(heading.x, heading.z);
+        positionX = coordinates.x;
+        positionY = coordinates.y;
+        positionZ = coordinates.z;
+        directionX = length > 0 ? heading.x / length : 0;
+        directionZ = length > 0 ? heading.z / length : 0;
+        speed = ball.getSpeed();
+        since = 0;
+        radius = ball.getRadius() * Ball3D.hitBoxRatio;
+        potted = ball.isPotted();
+        trajectory.clear();
+        record();
+    }
+
+    /**
+     * Moves the ball to its position and speed at the specified time,
+     * without changing its motion.
+     * @param now  Time in seconds since the start of the shot
+     */
+    public void update(double now) {
+        if (speed > 0) {
+            double elapsed = now - since;
+            double distance = KineticSolver.travel(speed, elapsed);
+            positionX += directionX * distance;
+            positionZ += directionZ * distance;
+            speed = KineticSolver.speedAfter(speed, elapsed);
+        }
+        since = now;
+    }
+
+    /**
+     * Marks the motion of the ball as changed at the time it was last
+     * updated, which outdates its events and starts a new trajectory segment.
+     */
+    public void changed() {
+        version++;
+        record();
+    }
+
+    /**
+     * Stops the ball at the time it was last updated.
+     */
+    public void stop() {
+        speed = 0;
+        changed();
+    }
+
+    /**
+     * Reflects the direction of the ball off a cushion with the specified normal.
+     * @param normalX  X of the normal of the cushion
+     * @param normalZ  Z of the normal of the cushion
+     */
+    public void reflect(double normalX, double normalZ) {
+        double approach = directionX * normalX + directionZ * normalZ;
+        directionX -= 2 * approach * normalX;
+        directionZ -= 2 * approach * normalZ;
+        changed();
+    }
+
+    /**
+     * Takes the ball out of the shot at the time it was last updated.
+     */
+    public void pot() {
+        potted = true;
+        speed = 0;
+        version++;
+        trajectory.add((float) since, POTTED_POSITION, Vector3.Zero, 0);
+    }
+
+    /**
+     * Writes the velocity of the ball to the output vector.
+     * @param out  Vector to write the velocity to
+     * @return  The output vector
+     */
+    public Vector3 getVelocity(Vector3 out) {
+        return out.set((float) directionX, 0, (float) directionZ).scl((float) speed);
+    }
+
+    /**
+     * Sets the direction and speed of the ball to the specified velocity.
+     * @param velocity  New velocity of the ball
+     */
+    public void setVelocity(Vector3 velocity) {
+        speed = velocity.len();
+        if (speed > 0) {
+            directionX = velocity.x / speed;
+            directionZ = velocity.z / speed;
+        }
+    }
+
+    /**
+     * Moves the specified ball to the position of this ball, with its
+     * current speed and direction, at the end of a shot.
+     * @param ball  Ball to move
+     */
+    public void store(Ball3D ball) {
+        position.set((float) positionX, (float) positionY, (float) positionZ);
+        ball.translate(position.sub(ball.getCoordinates()));
+        ball.setSpeed((float) speed);
+        ball.setDirection(direction.set((float) directionX, 0, (float) directionZ));
+    }
+
+    /**
+     * Records the current motion as a new segment of the trajectory.
+     */
+    private void record() {
+        position.set((float) positionX, (float) positionY, (float) positionZ);
+        direction.set((float) directionX, 0, (float) directionZ);
+        trajectory.add((float) since, position, direction, (float) speed);
+    }
+
+    public double getX() {
+        return positionX;
+    }
+
+    public double getZ() {
+        return positionZ;
+    }
+
+    public double getDirectionX() {
+        return directionX;
+    }
+
+    public double getDirectionZ() {
+        return directionZ;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public boolean isMoving() {
+        return speed > 0;
+    }
+
+    public double getRadius() {
+        return radius;
+    }
+
+    public boolean isPotted() {
+        return potted;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public BallTrajectory getTrajectory() {
+        return trajectory;
+    }
+}
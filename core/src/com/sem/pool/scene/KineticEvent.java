@@ -0,0 +1,80 @@
+package com.sem.pool.scene;
+
+/**
+ * Event predicted by the KineticSimulator: a ball hitting another ball,
+ * a cushion or a pot, or coming to rest. Every ball has a version that is
+ * increased whenever its motion changes, so an event is outdated once the
+ * version of one of its balls differs from the version it was predicted with.
+ */
+public class KineticEvent {
+    /**
+     * Type of the event, which determines what the other index refers to.
+     */
+    public enum Type {
+        // Other is the index of the other ball
+        BALL,
+        // Other is the index of the cushion
+        CUSHION,
+        // Other is the index of the pot
+        POT,
+        // Other is not used
+        STOP
+    }
+
+    private final transient double time;
+    private final transient long order;
+    private final transient Type type;
+    private final transient int ball;
+    private final transient int other;
+    private final transient int ballVersion;
+    private final transient int otherVersion;
+
+    /**
+     * Creates a new event.
+     * @param time  Time of the event in seconds since the start of the shot
+     * @param order  Order in which the event was predicted, to break ties in time
+     * @param type  Type of the event
+     * @param ball  Index of the ball
+     * @param other  Index of the other ball, cushion or pot
+     * @param ballVersion  Version of the ball the event was predicted with
+     * @param otherVersion  Version of the other ball, if the other is a ball
+     */
+    public KineticEvent(double time, long order, Type type, int ball, int other,
+                        int ballVersion, int otherVersion) {
+        this.time = time;
+        this.order = order;
+        this.type = type;
+        this.ball = ball;
+        this.other = other;
+        this.ballVersion = ballVersion;
+        this.otherVersion = otherVersion;
+    }
+
+    public double getTime() {
+        return time;
+    }
+
+    public long getOrder() {
+        return order;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getBall() {
+        return ball;
+    }
+
+    public int getOther() {
+        return other;
+    }
+
+    public int getBallVersion() {
+        return ballVersion;
+    }
+
+    public int getOtherVersion() {
+        return otherVersion;
+    }
+}
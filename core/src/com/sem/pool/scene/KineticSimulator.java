@@ -0,0 +1,366 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.math.Vector3;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Event-driven alternative to stepping the PhysicsWorld. Between two events
+ * a ball moves in a straight line with the constant deceleration of
+ * Ball3D.move, so the time at which it hits a cushion, a pot or another
+ * ball is computed in closed form by the KineticSolver. The predicted
+ * events are kept in a priority queue, and the simulator jumps from one
+ * event to the next, instead of taking thousands of small steps per shot.
+ * Whenever the motion of a ball changes, its outdated events are skipped
+ * and new ones are predicted. The motion of every ball is recorded as a
+ * BallTrajectory, so the frames of a shot can be reconstructed afterwards.
+ */
+public class KineticSimulator {
+    // Upper bound on the events of a single shot, in case balls keep colliding
+    public static final int MAX_EVENTS = 100_000;
+
+    private final transient List<Ball3D> poolBalls;
+    private final transient CollisionListener listener;
+    private final transient KineticTable table;
+    private transient KineticBall[] balls = new KineticBall[0];
+
+    private final transient PriorityQueue<KineticEvent> events = new PriorityQueue<>(
+            Comparator.comparingDouble(KineticEvent::getTime)
+                    .thenComparingLong(KineticEvent::getOrder));
+    private transient long order;
+    private transient double now;
+    private transient int eventCount;
+    private final transient List<Ball3D> pottedBalls = new ArrayList<>();
+    private transient Ball3D firstTouched = new NullBall();
+
+    // Reused storage for the predictions and collisions
+    private final transient double[] coefficients = new double[5];
+    private final transient double[] roots = new double[3];
+    private final transient Vector3 velocity = new Vector3();
+    private final transient Vector3 otherVelocity = new Vector3();
+    private final transient Vector3 normal = new Vector3();
+
+    /**
+     * Creates a new simulator for the specified balls on the specified table.
+     * @param poolBalls  List of pool balls to simulate
+     * @param table  Table the balls are on, of which the cushions and pots are used
+     * @param listener  Listener to notify of the collisions during a shot
+     */
+    public KineticSimulator(List<Ball3D> poolBalls, Table3D table, CollisionListener listener) {
+        this.poolBalls = poolBalls;
+        this.listener = listener;
+        this.table = new KineticTable(table);
+    }
+
+    /**
+     * Simulates the balls from their current motion until all of them
+     * are at rest, or the time limit is reached. Afterwards the balls that
+     * were not potted are moved to their final positions. Like the
+     * PhysicsWorld, potted balls are returned instead of potted directly.
+     * @param maxTime  Time limit of the simulation in seconds
+     * @return  Balls potted during the simulation, in potting order
+     */
+    public List<Ball3D> run(double maxTime) {
+        load();
+        while (!events.isEmpty() && eventCount < MAX_EVENTS) {
+            KineticEvent event = events.poll();
+            if (event.getTime() > maxTime) {
+                now = maxTime;
+                break;
+            }
+            if (isValid(event)) {
+                now = event.getTime();
+                handle(event);
+                eventCount++;
+            }
+        }
+
+        for (int i = 0; i < balls.length; i++) {
+            if (!balls[i].isPotted()) {
+                balls[i].update(now);
+                balls[i].store(poolBalls.get(i));
+            }
+        }
+        return pottedBalls;
+    }
+
+    /**
+     * Returns the time at which the last simulation ended.
+     * @return  Time in seconds since the start of the last simulation
+     */
+    public double getEndTime() {
+        return now;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public BallTrajectory getTrajectory(int index) {
+        return balls[index].getTrajectory();
+    }
+
+    /**
+     * Writes the position of a ball at the specified time of the last simulation.
+     * @param index  Index of the ball in the pool balls
+     * @param time  Time in seconds since the start of the simulation
+     * @param out  Vector to write the position to
+     * @return  The output vector
+     */
+    public Vector3 getPosition(int index, float time, Vector3 out) {
+        return getTrajectory(index).getPosition(time, out);
+    }
+
+    /**
+     * Returns the first ball touched by the Cue Ball since the last clear.
+     * @return Ball object of first ball touched, or a NullBall if does not apply.
+     */
+    public Ball3D getFirstTouched() {
+        return firstTouched;
+    }
+
+    /**
+     * Clears the first ball that is tracked as touched by the Cue Ball.
+     * To be called at the end of a turn.
+     */
+    public void clearFirstTouched() {
+        firstTouched = new NullBall();
+    }
+
+    /**
+     * Reads the motion of the balls, and predicts the first events.
+     */
+    private void load() {
+        if (balls.length != poolBalls.size()) {
+            balls = new KineticBall[poolBalls.size()];
+            for (int i = 0; i < balls.length; i++) {
+                balls[i] = new KineticBall();
+            }
+        }
+        events.clear();
+        pottedBalls.clear();
+        order = 0;
+        now = 0;
+        eventCount = 0;
+
+        for (int i = 0; i < balls.length; i++) {
+            balls[i].load(poolBalls.get(i));
+        }
+        for (int i = 0; i < balls.length; i++) {
+            if (balls[i].isMoving() && !balls[i].isPotted()) {
+                predict(i);
+            }
+        }
+    }
+
+    /**
+     * Returns whether none of the balls of the event changed after it was predicted.
+     * @param event  Event to check
+     * @return  True if the event still happens
+     */
+    private boolean isValid(KineticEvent event) {
+        KineticBall ball = balls[event.getBall()];
+        if (ball.isPotted() || ball.getVersion() != event.getBallVersion()) {
+            return false;
+        }
+        if (event.getType() != KineticEvent.Type.BALL) {
+            return true;
+        }
+        KineticBall other = balls[event.getOther()];
+        return !other.isPotted() && other.getVersion() == event.getOtherVersion();
+    }
+
+    /**
+     * Handles an event at the current time.
+     * @param event  Event to handle
+     */
+    private void handle(KineticEvent event) {
+        int i = event.getBall();
+        balls[i].update(now);
+        switch (event.getType()) {
+            case BALL:
+                collide(i, event.getOther());
+                break;
+            case CUSHION:
+                bounce(i, event.getOther());
+                break;
+            case POT:
+                pot(i);
+                break;
+            default:
+                balls[i].stop();
+                predict(i);
+                break;
+        }
+    }
+
+    /**
+     * Resolves the collision between two balls at the current time.
+     * @param i  Index of the first ball
+     * @param j  Index of the second ball
+     */
+    private void collide(int i, int j) {
+        balls[j].update(now);
+        normal.set((float) (balls[j].getX() - balls[i].getX()), 0,
+                (float) (balls[j].getZ() - balls[i].getZ())).nor();
+        balls[i].getVelocity(velocity);
+        balls[j].getVelocity(otherVelocity);
+        if (!PhysicsUtils.resolveCollision(velocity, otherVelocity, normal)) {
+            return;
+        }
+
+        balls[i].setVelocity(velocity);
+        balls[j].setVelocity(otherVelocity);
+        balls[i].changed();
+        balls[j].changed();
+        predict(i);
+        predict(j);
+
+        Ball3D ball = poolBalls.get(i);
+        Ball3D other = poolBalls.get(j);
+        listener.onBallCollision(ball, other);
+        if (firstTouched instanceof NullBall) {
+            firstTouched = PhysicsWorld.distinguishCueBall(ball, other);
+        }
+    }
+
+    /**
+     * Reflects the direction of a ball off a cushion at the current time,
+     * unless the ball drops into a pot at the cushion.
+     * @param i  Index of the ball
+     * @param cushion  Index of the cushion
+     */
+    private void bounce(int i, int cushion) {
+        KineticBall ball = balls[i];
+        if (table.reachesPot(cushion, ball.getX(), ball.getZ(), ball.getSpeed(),
+                ball.getRadius())) {
+            pot(i);
+            return;
+        }
+        ball.reflect(table.getNormalX(cushion), table.getNormalZ(cushion));
+        predict(i);
+        listener.onTableCollision(poolBalls.get(i));
+    }
+
+    /**
+     * Takes a ball that entered a pot out of the simulation.
+     * @param i  Index of the ball
+     */
+    private void pot(int i) {
+        balls[i].pot();
+        Ball3D ball = poolBalls.get(i);
+        listener.onPot(ball);
+        pottedBalls.add(ball);
+    }
+
+    /**
+     * Predicts the events of a ball with the table and all other balls.
+     * @param i  Index of the ball
+     */
+    private void predict(int i) {
+        KineticBall ball = balls[i];
+        if (ball.isMoving()) {
+            schedule(now + KineticSolver.stopTime(ball.getSpeed()), KineticEvent.Type.STOP, i, 0);
+            for (int c = 0; c < table.getCushionCount(); c++) {
+                scheduleAfter(i, table.cushionDistance(c, ball.getX(), ball.getZ(),
+                        ball.getDirectionX(), ball.getDirectionZ(), ball.getRadius()),
+                        KineticEvent.Type.CUSHION, c);
+            }
+            for (int p = 0; p < table.getPotCount(); p++) {
+                scheduleAfter(i, table.potDistance(p, ball.getX(), ball.getZ(),
+                        ball.getDirectionX(), ball.getDirectionZ(), ball.getRadius()),
+                        KineticEvent.Type.POT, p);
+            }
+        }
+        for (int j = 0; j < balls.length; j++) {
+            if (j != i && !balls[j].isPotted() && (ball.isMoving() || balls[j].isMoving())) {
+                predictPair(i, j);
+            }
+        }
+    }
+
+    /**
+     * Predicts when two balls that are not both at rest will collide.
+     * The squared distance between the balls minus the squared contact
+     * distance is a quartic in time, of which the first root is the contact.
+     * @param i  Index of the first ball
+     * @param j  Index of the second ball
+     */
+    private void predictPair(int i, int j) {
+        KineticBall ball = balls[i];
+        KineticBall other = balls[j];
+        other.update(now);
+        double linear = KineticSolver.linearTerm(ball.getSpeed());
+        double otherLinear = KineticSolver.linearTerm(other.getSpeed());
+        double quadratic = KineticSolver.quadraticTerm(ball.getSpeed());
+        double otherQuadratic = KineticSolver.quadraticTerm(other.getSpeed());
+        double contact = ball.getRadius() + other.getRadius();
+
+        // Position of the other ball relative to the ball over time
+        KineticSolver.squaredDistance(coefficients,
+                other.getX() - ball.getX(), other.getZ() - ball.getZ(),
+                other.getDirectionX() * otherLinear - ball.getDirectionX() * linear,
+                other.getDirectionZ() * otherLinear - ball.getDirectionZ() * linear,
+                other.getDirectionX() * otherQuadratic - ball.getDirectionX() * quadratic,
+                other.getDirectionZ() * otherQuadratic - ball.getDirectionZ() * quadratic);
+        coefficients[0] -= contact * contact;
+
+        if (coefficients[0] <= 0) {
+            // Balls that already overlap only collide if they approach each other
+            if (coefficients[1] < 0) {
+                schedule(now, KineticEvent.Type.BALL, i, j);
+            }
+            return;
+        }
+        // The motion is only quadratic until the first of the balls stops
+        double horizon = Math.min(movingTime(ball), movingTime(other));
+        double time = KineticSolver.firstRoot(coefficients, horizon, roots);
+        if (time >= 0) {
+            schedule(now + time, KineticEvent.Type.BALL, i, j);
+        }
+    }
+
+    /**
+     * Returns how long a ball keeps moving from the current time.
+     * @param ball  Ball to check
+     * @return  Time in seconds, or infinity for a ball at rest
+     */
+    private static double movingTime(KineticBall ball) {
+        if (ball.isMoving()) {
+            return KineticSolver.stopTime(ball.getSpeed());
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Schedules an event of a ball when it has travelled the specified distance.
+     * @param i  Index of the ball
+     * @param distance  Distance from the current position, or NO_CONTACT
+     * @param type  Type of the event
+     * @param other  Index of the cushion or pot
+     */
+    private void scheduleAfter(int i, double distance, KineticEvent.Type type, int other) {
+        if (distance != KineticSolver.NO_CONTACT) {
+            double time = KineticSolver.timeToTravel(balls[i].getSpeed(), distance);
+            if (time != KineticSolver.NO_CONTACT) {
+                schedule(now + time, type, i, other);
+            }
+        }
+    }
+
+    /**
+     * Adds an event with the current versions of its balls to the queue.
+     * @param time  Time of the event
+     * @param type  Type of the event
+     * @param i  Index of the ball
+     * @param other  Index of the other ball, cushion or pot
+     */
+    private void schedule(double time, KineticEvent.Type type, int i, int other) {
+        int otherVersion = type == KineticEvent.Type.BALL ? balls[other].getVersion() : 0;
+        events.add(new KineticEvent(time, order++, type, i, other,
+                balls[i].getVersion(), otherVersion));
+    }
+}
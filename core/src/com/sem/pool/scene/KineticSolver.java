@@ -0,0 +1,276 @@
+package com.sem.pool.scene;
+
+import com.sem.pool.game.GameConstants;
+
+import java.util.Arrays;
+
+/**
+ * Utility class with the closed-form motion of a ball. Ball3D.move slows
+ * a ball down with a constant deceleration, so the distance a ball travels
+ * is a quadratic function of time until it comes to rest. This allows the
+ * KineticSimulator to compute when a ball hits a cushion, a pot or another
+ * ball, instead of finding out by stepping through time.
+ */
+public class KineticSolver {
+    // Returned by the methods below when the contact never happens
+    public static final double NO_CONTACT = -1;
+
+    // Distance travelled per unit of speed per second, see Ball3D.move
+    private static final double RATE = GameConstants.REFERENCE_FRAME_RATE;
+    private static final double DRAG = GameConstants.DRAG_COEFFICIENT;
+
+    // Relative size below which a leading coefficient is considered zero
+    private static final double EPSILON = 1e-12;
+    private static final int BISECTIONS = 64;
+
+    /**
+     * Returns the time it takes a ball to come to rest.
+     * @param speed  Current speed of the ball
+     * @return  Time until the ball stops, in seconds
+     */
+    public static double stopTime(double speed) {
+        return speed / DRAG;
+    }
+
+    /**
+     * Returns the speed of a ball after the specified time.
+     * @param speed  Current speed of the ball
+     * @param time  Time in seconds
+     * @return  Speed of the ball after the time, which is 0 once it stopped
+     */
+    public static double speedAfter(double speed, double time) {
+        return Math.max(0, speed - DRAG * time);
+    }
+
+    /**
+     * Returns the distance a ball travels in the specified time.
+     * @param speed  Current speed of the ball
+     * @param time  Time in seconds
+     * @return  Distance travelled, which does not grow once the ball stopped
+     */
+    public static double travel(double speed, double time) {
+        double moving = Math.min(time, stopTime(speed));
+        return RATE * moving * (speed - DRAG * moving / 2);
+    }
+
+    /**
+     * Returns the linear term of the distance a ball travels over time,
+     * which is linearTerm * t + quadraticTerm * t^2 until the ball stops.
+     * @param speed  Current speed of the ball
+     * @return  Linear term of the distance
+     */
+    public static double linearTerm(double speed) {
+        return RATE * speed;
+    }
+
+    /**
+     * Returns the quadratic term of the distance a ball travels over time.
+     * @param speed  Current speed of the ball
+     * @return  Quadratic term of the distance, which is 0 for a ball at rest
+     */
+    public static double quadraticTerm(double speed) {
+        if (speed > 0) {
+            return -RATE * DRAG / 2;
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the time it takes a ball to travel the specified distance.
+     * @param speed  Current speed of the ball
+     * @param distance  Distance to travel
+     * @return  Time in seconds, or NO_CONTACT if the ball stops before
+     */
+    public static double timeToTravel(double speed, double distance) {
+        if (distance <= 0) {
+            return 0;
+        }
+        double discriminant = speed * speed - 2 * DRAG * distance / RATE;
+        if (discriminant < 0) {
+            return NO_CONTACT;
+        }
+        // Smallest root of the quadratic, in a form that does not lose
+        // precision when the distance is small compared to the speed.
+        return 2 * distance / (RATE * (speed + Math.sqrt(discriminant)));
+    }
+
+    /**
+     * Returns the distance a point moves along a ray before it enters a circle.
+     * @param offsetX  X offset of the point from the center of the circle
+     * @param offsetZ  Z offset of the point from the center of the circle
+     * @param directionX  X of the normalized direction of the ray
+     * @param directionZ  Z of the normalized direction of the ray
+     * @param radius  Radius of the circle
+     * @return  Distance along the ray, 0 if the point is already inside,
+     *          or NO_CONTACT if the ray misses the circle.
+     */
+    public static double circleEntry(double offsetX, double offsetZ,
+                                     double directionX, double directionZ, double radius) {
+        double outside = offsetX * offsetX + offsetZ * offsetZ - radius * radius;
+        if (outside <= 0) {
+            return 0;
+        }
+        double along = offsetX * directionX + offsetZ * directionZ;
+        double discriminant = along * along - outside;
+        if (along >= 0 || discriminant < 0) {
+            return NO_CONTACT;
+        }
+        return -along - Math.sqrt(discriminant);
+    }
+
+    /**
+     * Computes the coefficients of the squared length of the vector
+     * offset + linear t + quadratic t^2 on the table, which is a quartic in t.
+     * @param c  Storage of 5 elements for the coefficients, from the constant term up
+     * @param offsetX  X of the vector at time 0
+     * @param offsetZ  Z of the vector at time 0
+     * @param linearX  X of the linear term
+     * @param linearZ  Z of the linear term
+     * @param quadraticX  X of the quadratic term
+     * @param quadraticZ  Z of the quadratic term
+     */
+    public static void squaredDistance(double[] c, double offsetX, double offsetZ,
+                                       double linearX, double linearZ,
+                                       double quadraticX, double quadraticZ) {
+        c[0] = offsetX * offsetX + offsetZ * offsetZ;
+        c[1] = 2 * (offsetX * linearX + offsetZ * linearZ);
+        c[2] = linearX * linearX + linearZ * linearZ
+                + 2 * (offsetX * quadraticX + offsetZ * quadraticZ);
+        c[3] = 2 * (linearX * quadraticX + linearZ * quadraticZ);
+        c[4] = quadraticX * quadraticX + quadraticZ * quadraticZ;
+    }
+
+    /**
+     * Returns the first time in (0, horizon] at which the quartic
+     * c[0] + c[1] t + c[2] t^2 + c[3] t^3 + c[4] t^4 is at most zero, given
+     * that it is positive at time 0. The critical points of the quartic split
+     * the interval into parts on which it is monotone, so the first part that
+     * ends at or below zero holds the root, which is then found by bisection.
+     * @param c  Coefficients of the quartic, from the constant term up
+     * @param horizon  End of the interval to search
+     * @param roots  Storage of at least 3 elements for the critical points
+     * @return  First root, or NO_CONTACT if there is no root in the interval
+     */
+    // False positive DU anomalies for the start of the part, caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public static double firstRoot(double[] c, double horizon, double[] roots) {
+        int count = solveCubic(4 * c[4], 3 * c[3], 2 * c[2], c[1], roots);
+        Arrays.sort(roots, 0, count);
+
+        double start = 0;
+        for (int k = 0; k < count; k++) {
+            if (roots[k] > start && roots[k] < horizon) {
+                if (evaluate(c, roots[k]) <= 0) {
+                    return bisect(c, start, roots[k]);
+                }
+                start = roots[k];
+            }
+        }
+        if (evaluate(c, horizon) <= 0) {
+            return bisect(c, start, horizon);
+        }
+        return NO_CONTACT;
+    }
+
+    /**
+     * Finds the real roots of a x^3 + b x^2 + c x + d, falling back to
+     * the quadratic if the leading coefficient is zero.
+     * @param a  Cubic coefficient
+     * @param b  Quadratic coefficient
+     * @param c  Linear coefficient
+     * @param d  Constant term
+     * @param roots  Storage of at least 3 elements for the roots
+     * @return  Number of roots stored, in no particular order
+     */
+    // False positive DU anomalies for the variables used in the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public static int solveCubic(double a, double b, double c, double d, double[] roots) {
+        if (Math.abs(a) <= EPSILON * (Math.abs(b) + Math.abs(c) + Math.abs(d))) {
+            return solveQuadratic(b, c, d, roots);
+        }
+        // Substitute x = y - shift to get the depressed cubic y^3 - 3 q y - 2 r
+        double shift = b / (3 * a);
+        double q = shift * shift - c / (3 * a);
+        double r = (shift * c / a - d / a) / 2 - shift * shift * shift;
+
+        double discriminant = r * r - q * q * q;
+        if (discriminant >= 0) {
+            double root = Math.sqrt(discriminant);
+            roots[0] = Math.cbrt(r + root) + Math.cbrt(r - root) - shift;
+            return 1;
+        }
+        // Three real roots, found with the trigonometric method
+        double theta = Math.acos(r / Math.sqrt(q * q * q));
+        double scale = 2 * Math.sqrt(q);
+        for (int k = 0; k < 3; k++) {
+            roots[k] = scale * Math.cos((theta + 2 * Math.PI * k) / 3) - shift;
+        }
+        return 3;
+    }
+
+    /**
+     * Finds the real roots of a x^2 + b x + c, falling back to
+     * the linear equation if the leading coefficient is zero.
+     * @param a  Quadratic coefficient
+     * @param b  Linear coefficient
+     * @param c  Constant term
+     * @param roots  Storage of at least 2 elements for the roots
+     * @return  Number of roots stored, in no particular order
+     */
+    public static int solveQuadratic(double a, double b, double c, double[] roots) {
+        if (Math.abs(a) <= EPSILON * (Math.abs(b) + Math.abs(c))) {
+            if (b == 0) {
+                return 0;
+            }
+            roots[0] = -c / b;
+            return 1;
+        }
+        double discriminant = b * b - 4 * a * c;
+        if (discriminant < 0) {
+            return 0;
+        }
+        // Numerically stable form, which avoids subtracting close values
+        double q = -(b + Math.copySign(Math.sqrt(discriminant), b)) / 2;
+        if (q == 0) {
+            roots[0] = 0;
+            return 1;
+        }
+        roots[0] = q / a;
+        roots[1] = c / q;
+        return 2;
+    }
+
+    /**
+     * Evaluates the quartic with the specified coefficients.
+     * @param c  Coefficients of the quartic, from the constant term up
+     * @param t  Value to evaluate the quartic at
+     * @return  Value of the quartic
+     */
+    static double evaluate(double[] c, double t) {
+        return (((c[4] * t + c[3]) * t + c[2]) * t + c[1]) * t + c[0];
+    }
+
+    /**
+     * Narrows down the root of a quartic that is positive at the start
+     * and at most zero at the end of an interval.
+     * @param c  Coefficients of the quartic, from the constant term up
+     * @param start  Start of the interval
+     * @param end  End of the interval
+     * @return  Point at which the quartic is at most zero, closest to the root
+     */
+    // False positive DU anomalies for the bounds, caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    private static double bisect(double[] c, double start, double end) {
+        double low = start;
+        double high = end;
+        for (int i = 0; i < BISECTIONS; i++) {
+            double middle = (low + high) / 2;
+            if (evaluate(c, middle) <= 0) {
+                high = middle;
+            } else {
+                low = middle;
+            }
+        }
+        return high;
+    }
+}
@@ -0,0 +1,147 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.game.GameConstants;
+
+import java.util.List;
+
+/**
+ * Cushions and pots of a table, as used by the KineticSimulator. The
+ * cushions are the planes that the surface of a ball touches, and the pots
+ * the circles that it enters, so the distance a ball travels until it hits
+ * one of them follows directly from its position and direction.
+ */
+public class KineticTable {
+    // Cushions as the planes (normal . position = offset) of their inner faces
+    private final transient double[] cushionX;
+    private final transient double[] cushionZ;
+    private final transient double[] cushionOffset;
+    // Pots as circles on the table
+    private final transient double[] potX;
+    private final transient double[] potZ;
+    private final transient double[] potRadius;
+
+    /**
+     * Creates the cushions and pots of the specified table from its hit boxes.
+     * @param table  Table of which the cushions and pots are used
+     */
+    public KineticTable(Table3D table) {
+        List<HitBox> cushions = table.getHitBoxes();
+        cushionX = new double[cushions.size()];
+        cushionZ = new double[cushions.size()];
+        cushionOffset = new double[cushions.size()];
+        for (int c = 0; c < cushions.size(); c++) {
+            Vector3 normal = cushions.get(c).getNormal();
+            Vector3 center = cushions.get(c).getPosition();
+            Vector3 extents = cushions.get(c).getHalfExtents();
+            cushionX[c] = normal.x;
+            cushionZ[c] = normal.z;
+            // Inner face of the cushion box, facing the table
+            cushionOffset[c] = normal.x * center.x + normal.z * center.z
+                    - Math.abs(normal.x * extents.x) - Math.abs(normal.z * extents.z);
+        }
+
+        List<HitBox> pots = table.getPotHitBoxes();
+        potX = new double[pots.size()];
+        potZ = new double[pots.size()];
+        potRadius = new double[pots.size()];
+        for (int p = 0; p < pots.size(); p++) {
+            potX[p] = pots.get(p).getPosition().x;
+            potZ[p] = pots.get(p).getPosition().z;
+            potRadius[p] = pots.get(p).getHalfExtents().x;
+        }
+    }
+
+    public int getCushionCount() {
+        return cushionOffset.length;
+    }
+
+    public int getPotCount() {
+        return potRadius.length;
+    }
+
+    public double getNormalX(int cushion) {
+        return cushionX[cushion];
+    }
+
+    public double getNormalZ(int cushion) {
+        return cushionZ[cushion];
+    }
+
+    /**
+     * Returns the distance a ball travels until it touches a cushion.
+     * @param cushion  Index of the cushion
+     * @param x  X of the center of the ball
+     * @param z  Z of the center of the ball
+     * @param directionX  X of the normalized direction of the ball
+     * @param directionZ  Z of the normalized direction of the ball
+     * @param radius  Radius of the ball
+     * @return  Distance to the cushion, or NO_CONTACT if the ball moves away from it
+     */
+    public double cushionDistance(int cushion, double x, double z,
+                                  double directionX, double directionZ, double radius) {
+        double approach = directionX * cushionX[cushion] + directionZ * cushionZ[cushion];
+        if (approach <= 0) {
+            return KineticSolver.NO_CONTACT;
+        }
+        return (cushionOffset[cushion] - radius - x * cushionX[cushion]
+                - z * cushionZ[cushion]) / approach;
+    }
+
+    /**
+     * Returns the distance a ball travels until it enters a pot.
+     * @param pot  Index of the pot
+     * @param x  X of the center of the ball
+     * @param z  Z of the center of the ball
+     * @param directionX  X of the normalized direction of the ball
+     * @param directionZ  Z of the normalized direction of the ball
+     * @param radius  Radius of the ball
+     * @return  Distance to the pot, or NO_CONTACT if the ball misses it
+     */
+    public double potDistance(int pot, double x, double z,
+                              double directionX, double directionZ, double radius) {
+        return KineticSolver.circleEntry(x - potX[pot], z - potZ[pot],
+                directionX, directionZ, potRadius[pot] + radius);
+    }
+
+    /**
+     * Returns whether a ball that hits a cushion drops into one of the pots.
+     * The pots do not reach the cushions, so in the physics steps a ball is
+     * only potted after it moved into a cushion before bouncing off it. This is
+     * taken into account by sinking the ball into the cushion by the average
+     * distance it moves in a physics step, and checking if it then overlaps a pot.
+     * @param cushion  Index of the cushion the ball hits
+     * @param x  X of the center of the ball
+     * @param z  Z of the center of the ball
+     * @param speed  Speed of the ball
+     * @param radius  Radius of the ball
+     * @return  True if the ball ends up in a pot
+     */
+    public boolean reachesPot(int cushion, double x, double z, double speed, double radius) {
+        double depth = KineticSolver.linearTerm(speed) * GameConstants.PHYSICS_STEP / 2;
+        double sunkX = x + cushionX[cushion] * depth;
+        double sunkZ = z + cushionZ[cushion] * depth;
+        return potIndex(sunkX, sunkZ, radius) >= 0;
+    }
+
+    /**
+     * Returns the pot that a ball at the specified position overlaps.
+     * @param x  X of the center of the ball
+     * @param z  Z of the center of the ball
+     * @param radius  Radius of the ball
+     * @return  Index of the pot, or -1 if the ball does not overlap any pot
+     */
+    // False positive DU anomalies for the offsets, caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public int potIndex(double x, double z, double radius) {
+        for (int p = 0; p < potRadius.length; p++) {
+            double offsetX = x - potX[p];
+            double offsetZ = z - potZ[p];
+            double reach = potRadius[p] + radius;
+            if (offsetX * offsetX + offsetZ * offsetZ < reach * reach) {
+                return p;
+            }
+        }
+        return -1;
+    }
+}
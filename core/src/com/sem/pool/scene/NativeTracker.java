@@ -0,0 +1,90 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.physics.bullet.BulletBase;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Debug tracker of the live Bullet objects allocated for the hit boxes and
+ * collision contexts of the game. Native objects are not garbage collected,
+ * so every object that is tracked has to be released again when its owner
+ * is disposed. The tracker is disabled by default, and can be enabled by
+ * starting the game with -Dpool.trackNatives=true, or from tests.
+ */
+public final class NativeTracker {
+    private static boolean enabled = Boolean.getBoolean("pool.trackNatives");
+
+    // Live native objects, compared by identity as Bullet objects
+    // compare equal if they wrap the same native pointer
+    private static final Set<BulletBase> LIVE_OBJECTS =
+            Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private NativeTracker() {
+    }
+
+    public static synchronized boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables the tracker. Objects that are allocated
+     * while the tracker is disabled are not reported.
+     * @param enable  True to track native objects from now on
+     */
+    public static synchronized void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    /**
+     * Registers a newly allocated native object, if the tracker is enabled.
+     * @param object  Native object that was allocated
+     */
+    public static synchronized void track(BulletBase object) {
+        if (enabled && object != null) {
+            LIVE_OBJECTS.add(object);
+        }
+    }
+
+    /**
+     * Removes a native object that is about to be disposed. Objects
+     * that were never tracked or released before are ignored.
+     * @param object  Native object that is disposed
+     */
+    public static synchronized void release(BulletBase object) {
+        LIVE_OBJECTS.remove(object);
+    }
+
+    /**
+     * Returns the number of live native objects that are tracked.
+     * @return  Number of live native objects
+     */
+    public static synchronized int getLiveCount() {
+        return LIVE_OBJECTS.size();
+    }
+
+    /**
+     * Returns the number of live native objects per type, sorted by the
+     * simple name of the Bullet class, to report which objects leak.
+     * @return  Number of live native objects per type name
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags object
+    // as a UR anomaly / being undefined
+    public static synchronized Map<String, Integer> getLiveCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (BulletBase object : LIVE_OBJECTS) {
+            counts.merge(object.getClass().getSimpleName(), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Forgets all the tracked objects, without disposing them.
+     */
+    public static synchronized void reset() {
+        LIVE_OBJECTS.clear();
+    }
+}
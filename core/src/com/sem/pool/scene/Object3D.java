@@ -36,6 +36,16 @@ public abstract class Object3D {
      * @return The coordinates of the ball.
      */
     public Vector3 getCoordinates() {
-        return new Vector3(this.model.transform.getTranslation(new Vector3()));
+        return getCoordinates(new Vector3());
+    }
+
+    /**
+     * Writes the current coordinates of the object to the specified vector,
+     * so that callers which read them every step do not allocate.
+     * @param out Vector to write the coordinates to.
+     * @return The specified vector.
+     */
+    public Vector3 getCoordinates(Vector3 out) {
+        return this.model.transform.getTranslation(out);
     }
 }
@@ -29,10 +29,114 @@ public class PhysicsUtils {
         return new Vector3(reflectedVector.nor());
     }
 
+    /**
+     * Resolves an elastic collision between two balls of equal mass.
+     * The components of the velocities along the normal are exchanged,
+     * so momentum and kinetic energy are conserved. The velocities are
+     * updated in place, and no trigonometry or allocations are needed.
+     * Balls that are already moving apart are left unchanged.
+     * @param velocity1  Velocity of the collider, updated in place
+     * @param velocity2  Velocity of the collidee, updated in place
+     * @param normal  Normalized direction from collider to collidee
+     * @return  True iff the balls were approaching, and an impulse was applied
+     */
+    public static boolean resolveCollision(Vector3 velocity1, Vector3 velocity2,
+                                           Vector3 normal) {
+        // Relative speed of the collider towards the collidee along the normal
+        float impulse = (velocity1.x - velocity2.x) * normal.x
+                + (velocity1.y - velocity2.y) * normal.y
+                + (velocity1.z - velocity2.z) * normal.z;
+        if (impulse <= 0) {
+            return false;
+        }
+
+        velocity1.mulAdd(normal, -impulse);
+        velocity2.mulAdd(normal, impulse);
+        return true;
+    }
+
+    /**
+     * Resolves the collision between two balls that touch, and sets their new
+     * speeds and directions. The vectors to compute the collision in are passed
+     * in, so that the physics step does not allocate.
+     * @param ball  Ball that collides
+     * @param other  Ball that is collided with
+     * @param normal  Vector to write the normal of the collision to
+     * @param velocity  Vector to write the velocity of the ball to
+     * @param otherVelocity  Vector to write the velocity of the other ball to
+     * @return  True iff the balls were approaching, and their velocities changed
+     */
+    public static boolean resolveCollision(Ball3D ball, Ball3D other, Vector3 normal,
+                                           Vector3 velocity, Vector3 otherVelocity) {
+        // Normal of the collision, from the ball to the other
+        // The velocity is only used as scratch for the position of the ball here
+        other.getCoordinates(normal).sub(ball.getCoordinates(velocity)).nor();
+        velocity.set(ball.getDirection()).scl(ball.getSpeed());
+        otherVelocity.set(other.getDirection()).scl(other.getSpeed());
+
+        if (resolveCollision(velocity, otherVelocity, normal)) {
+            // Speeds are read before the directions are normalized in place
+            ball.setSpeed(velocity.len());
+            ball.setDirection(velocity);
+            other.setSpeed(otherVelocity.len());
+            other.setDirection(otherVelocity);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Pushes two balls whose hit boxes overlap apart along the line between
+     * their centers, until they just touch. Only the ball is moved if the
+     * other ball is at rest, so that balls at rest stay where they are.
+     * @param ball  Ball that is moving
+     * @param other  Ball that it overlaps with
+     * @param moveOther  True if the other ball may be moved as well
+     * @param offset  Vector to compute the push in
+     */
+    public static void separate(Ball3D ball, Ball3D other, boolean moveOther, Vector3 offset) {
+        final float contact = (ball.getRadius() + other.getRadius()) * Ball3D.hitBoxRatio;
+        other.getCoordinates(offset);
+        final float otherX = offset.x;
+        final float otherY = offset.y;
+        final float otherZ = offset.z;
+        final float distance = ball.getCoordinates(offset).sub(otherX, otherY, otherZ).len();
+        if (distance >= contact || distance == 0) {
+            return;
+        }
+        // Offset of the ball away from the other ball, over the overlap
+        offset.scl((contact - distance) / distance);
+        if (moveOther) {
+            offset.scl(-0.5f);
+            other.translate(offset);
+            offset.scl(-1);
+        }
+        ball.translate(offset);
+    }
+
+    /**
+     * Pushes a ball that overlaps with a border of the table back
+     * along the normal of the border, until it just touches the border.
+     * @param ball  Ball that overlaps with the border
+     * @param border  HitBox of the border, of which the normal points outwards
+     * @param offset  Vector to compute the push in
+     */
+    public static void separate(Ball3D ball, HitBox border, Vector3 offset) {
+        final Vector3 normal = border.getNormal();
+        final float face = border.getPosition().dot(normal)
+                - Math.abs(border.getHalfExtents().dot(normal));
+        final float depth = ball.getCoordinates(offset).dot(normal)
+                + ball.getRadius() * Ball3D.hitBoxRatio - face;
+        if (depth > 0) {
+            ball.translate(offset.set(normal).scl(-depth));
+        }
+    }
+
     /**
      * Calculates new speeds for the given collision scenario, given
      * the direction & speed of the collider & collidee, and the direction
-     * from collider to collidee.
+     * from collider to collidee. The balls use resolveCollision instead,
+     * which gives the same speeds without any trigonometry.
      * @param direction1     Collider direction
      * @param speed1         Collider speed
      * @param directionTo    Direction from collider to collidee
@@ -56,7 +160,7 @@ public class PhysicsUtils {
         double theta1 = acos(direction1.x);
 
         double theta2 = acos(direction2.x);
-        theta2 = checkAngle(direction2.x, theta2);
+        theta2 = checkAngle(direction2.z, theta2);
         phi = checkAngle(directionTo.z, phi);
         theta1 = checkAngle(direction1.z, theta1);
 
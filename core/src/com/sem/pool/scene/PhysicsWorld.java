@@ -0,0 +1,512 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.math.Vector3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collision detection and response for the pool balls on a table.
+ * The physics world does not depend on any rendering objects, so it is
+ * shared between the rendered Scene3D and the headless Simulation.
+ * Only the balls that are awake (moving) are moved and checked against
+ * the table and the other balls. Balls at rest are asleep until an awake
+ * ball hits them, and potted balls are left out until the next shot,
+ * so the work per step scales with the number of moving balls.
+ * The collisions of fast balls are swept over the step by the
+ * ContinuousCollision, instead of only being checked after the move.
+ * Optionally, the hit boxes are checked by a BulletCollisionWorld in a
+ * single call per step, of which the contacts drive the same reactions.
+ * Contacts are tracked over the steps by a ContactCache, so a collision
+ * only gets an impulse and a sound in the step it begins; while the hit
+ * boxes keep overlapping, the balls are only pushed apart.
+ */
+public class PhysicsWorld {
+    private final transient List<Ball3D> poolBalls;
+    private final transient Table3D table;
+    private final transient CollisionListener listener;
+
+    // Represents the first ball touched on the last
+    // check of trigger collisions.
+    private transient Ball3D firstTouched = new NullBall();
+
+    // Broadphase used to cull ball pairs that cannot collide
+    private final transient BroadPhaseGrid broadPhase =
+            new BroadPhaseGrid(Table3D.xBound, Table3D.zBound);
+    private transient int[] candidates = new int[0];
+
+    // Sweeps the collisions of fast balls over the physics step
+    private final transient ContinuousCollision continuousCollision =
+            new ContinuousCollision();
+
+    // Indices of the awake balls in ascending order, and whether each ball is awake
+    private transient int[] active = new int[0];
+    private transient int activeCount;
+    private transient boolean[] awake = new boolean[0];
+    private final transient List<Ball3D> activeBalls = new ArrayList<>();
+
+    // Balls woken by a collision in the current step, which are awake from the next step
+    private transient int[] woken = new int[0];
+    private transient int wokenCount;
+    private transient boolean[] wakePending = new boolean[0];
+
+    // Whether all balls have to be scanned for motion, and the broadphase
+    // rebuilt, since balls may have been moved outside of the physics step.
+    private transient boolean rescan = true;
+    private transient boolean rebuild = true;
+
+    // Contacts of the previous and the current step
+    private transient ContactCache contacts = new ContactCache(0, 0);
+    private final transient Vector3 separation = new Vector3();
+
+    // Collision world that detects the contacts of the hit boxes, if any
+    private transient BulletCollisionWorld collisionWorld;
+    private final transient WorldContacts worldContacts = new WorldContacts();
+
+    /**
+     * Creates a new physics world for the specified balls and table.
+     * @param poolBalls  List of pool balls in the world
+     * @param table  Table the balls are on
+     * @param listener  Listener to notify of the detected collisions
+     */
+    public PhysicsWorld(List<Ball3D> poolBalls, Table3D table, CollisionListener listener) {
+        this.poolBalls = poolBalls;
+        this.table = table;
+        this.listener = listener;
+    }
+
+    /**
+     * Checks collisions between the balls and the board,
+     * and handles the reactions of the collisions.
+     *
+     * @return the List of balls that have been potted immediately
+     *         after the collision, or an empty List if no Ball has been potted.
+     */
+    // Suppress false positive for Dataflow Anomalies caused by the
+    // defined loop in the method.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public List<Ball3D> triggerCollisions() {
+        if (needsRescan()) {
+            updateActiveBalls();
+        }
+        contacts.nextStep();
+        List<Ball3D> potted = new ArrayList<>();
+        if (collisionWorld != null) {
+            worldContacts.potted = potted;
+            collisionWorld.detect(worldContacts);
+            return potted;
+        }
+        updateBroadPhase();
+        continuousCollision.reset();
+
+        for (int k = 0; k < activeCount; k++) {
+            int i = active[k];
+            Ball3D ball = poolBalls.get(i);
+
+            // Check collisions between the board and
+            // every ball in the scene
+            int cushion = table.findCollision(ball);
+            if (cushion != Table3D.NO_COLLISION) {
+                onCushionContact(i, cushion);
+            }
+
+            // Check if ball is potted
+            if (table.checkIfPot(ball)) {
+                listener.onPot(ball);
+                potted.add(ball);
+            }
+
+            // Only check the balls that the broadphase did not cull;
+            // candidates are sorted, so pairs are visited in the same order.
+            int count = broadPhase.neighboursOf(i, awake, candidates);
+            for (int c = 0; c < count; c++) {
+                checkPair(i, candidates[c]);
+            }
+        }
+
+        return potted;
+    }
+
+    /**
+     * Checks whether an awake ball collides with another ball in this step.
+     * Only a contact that begins gets an impulse and a sound; the balls of a
+     * contact that persists are pushed apart, and a contact that was already
+     * handled in this step from the other ball is skipped.
+     *
+     * @param index  Index of the awake ball
+     * @param otherIndex  Index of the other ball
+     */
+    private void checkPair(int index, int otherIndex) {
+        final int key = contacts.pairKey(index, otherIndex);
+        if (contacts.isTouching(key)) {
+            return;
+        }
+        Ball3D ball = poolBalls.get(index);
+        Ball3D other = poolBalls.get(otherIndex);
+        if (contacts.wasTouching(key)) {
+            if (overlaps(ball, other)) {
+                PhysicsUtils.separate(ball, other, awake[otherIndex], separation);
+                contacts.touch(key);
+            }
+            return;
+        }
+        boolean collided = checkCollision(ball, other, otherIndex);
+        if (collided) {
+            contacts.touch(key);
+            listener.onBallCollision(ball, other);
+            wake(otherIndex);
+        }
+        updateFirstTouched(ball, other, collided);
+    }
+
+    private static boolean overlaps(Ball3D ball, Ball3D other) {
+        return !ball.isPotted() && !other.isPotted() && ball.getCollisionHandler()
+                .checkHitBoxCollision(ball.getHitBox(), other.getHitBox());
+    }
+
+    /**
+     * Reacts to a ball that touches a border of the table. The ball bounces
+     * off the border when the contact begins, and is pushed back out of the
+     * border while the contact persists, instead of bouncing back into it.
+     *
+     * @param index  Index of the ball
+     * @param cushion  Index of the border in the hit boxes of the table
+     */
+    private void onCushionContact(int index, int cushion) {
+        final int key = contacts.cushionKey(index, cushion);
+        Ball3D ball = poolBalls.get(index);
+        HitBox border = table.getHitBoxes().get(cushion);
+        if (contacts.wasTouching(key)) {
+            PhysicsUtils.separate(ball, border, separation);
+        } else {
+            table.bounce(ball, border);
+            listener.onTableCollision(ball);
+        }
+        contacts.touch(key);
+    }
+
+    /**
+     * Checks whether two balls collide in this step. Fast balls are swept
+     * over the step, so that they neither pass through each other nor
+     * overlap deeply; slow balls are only checked for overlaps.
+     *
+     * @param ball  Awake ball that moved in this step
+     * @param other  Other ball to check
+     * @param index  Index of the other ball
+     * @return  True if the balls collided
+     */
+    private boolean checkCollision(Ball3D ball, Ball3D other, int index) {
+        if (continuousCollision.isFast(ball, other)) {
+            return continuousCollision.collide(ball, other, awake[index]);
+        }
+        return ball.checkCollision(other);
+    }
+
+    /**
+     * Wakes up all balls that are in motion at the start of the next step.
+     * To be called whenever balls were set in motion or moved outside of
+     * the physics step, e.g. when a shot is taken.
+     */
+    public void wakeAll() {
+        rescan = true;
+        contacts.clear();
+    }
+
+    /**
+     * Updates the set of awake balls at the start of a physics step.
+     * Balls that came to rest or were potted fall asleep, and balls that
+     * were hit by an awake ball in the previous step wake up.
+     *
+     * @return  Awake balls, in the order of the pool balls
+     */
+    public List<Ball3D> updateActiveBalls() {
+        if (needsRescan()) {
+            scanActiveBalls();
+        } else {
+            refreshActiveBalls();
+        }
+
+        activeBalls.clear();
+        for (int k = 0; k < activeCount; k++) {
+            activeBalls.add(poolBalls.get(active[k]));
+        }
+        return activeBalls;
+    }
+
+    /**
+     * Returns whether at least one of the balls is in motion. Only the
+     * awake balls are checked, unless all balls have to be scanned.
+     *
+     * @return  True if at least one ball is in motion
+     */
+    public boolean isInMotion() {
+        if (needsRescan()) {
+            return poolBalls.stream().anyMatch(Ball3D::isInMotion);
+        }
+        for (int k = 0; k < activeCount; k++) {
+            if (poolBalls.get(active[k]).isInMotion()) {
+                return true;
+            }
+        }
+        for (int w = 0; w < wokenCount; w++) {
+            if (poolBalls.get(woken[w]).isInMotion()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public List<Ball3D> getActiveBalls() {
+        return activeBalls;
+    }
+
+    private boolean needsRescan() {
+        return rescan || awake.length != poolBalls.size();
+    }
+
+    /**
+     * Scans all balls for motion, and marks the broadphase to be rebuilt.
+     */
+    private void scanActiveBalls() {
+        int size = poolBalls.size();
+        if (awake.length != size) {
+            contacts = new ContactCache(size, table.getHitBoxes().size());
+            active = new int[size];
+            awake = new boolean[size];
+            woken = new int[size];
+            wakePending = new boolean[size];
+            candidates = new int[size];
+        }
+
+        activeCount = 0;
+        for (int i = 0; i < size; i++) {
+            awake[i] = isAwake(poolBalls.get(i));
+            wakePending[i] = false;
+            if (awake[i]) {
+                active[activeCount++] = i;
+            }
+        }
+
+        wokenCount = 0;
+        rescan = false;
+        rebuild = true;
+    }
+
+    /**
+     * Puts the awake balls that came to rest to sleep, and wakes up the balls
+     * that were hit in the previous step. Balls that fall asleep are moved to
+     * their final cell, and are no longer interpolated from stale positions.
+     */
+    private void refreshActiveBalls() {
+        int kept = 0;
+        for (int k = 0; k < activeCount; k++) {
+            int i = active[k];
+            Ball3D ball = poolBalls.get(i);
+            if (isAwake(ball)) {
+                active[kept++] = i;
+            } else {
+                awake[i] = false;
+                ball.storePreviousPosition();
+                if (!rebuild) {
+                    broadPhase.update(i, ball);
+                }
+            }
+        }
+        activeCount = kept;
+
+        for (int w = 0; w < wokenCount; w++) {
+            int i = woken[w];
+            wakePending[i] = false;
+            if (!awake[i] && isAwake(poolBalls.get(i))) {
+                awake[i] = true;
+                active[activeCount++] = i;
+            }
+        }
+        wokenCount = 0;
+        Arrays.sort(active, 0, activeCount);
+    }
+
+    /**
+     * Updates the broadphase with the balls that moved in this step.
+     * The broadphase is rebuilt from all balls after a rescan.
+     */
+    private void updateBroadPhase() {
+        if (rebuild) {
+            broadPhase.rebuild(poolBalls);
+            rebuild = false;
+        } else {
+            for (int k = 0; k < activeCount; k++) {
+                broadPhase.update(active[k], poolBalls.get(active[k]));
+            }
+        }
+    }
+
+    /**
+     * Wakes up the specified ball from the next step on, if it is asleep.
+     *
+     * @param index  Index of the ball that was hit
+     */
+    private void wake(int index) {
+        if (!awake[index] && !wakePending[index]) {
+            wakePending[index] = true;
+            woken[wokenCount++] = index;
+        }
+    }
+
+    private static boolean isAwake(Ball3D ball) {
+        return ball.isInMotion() && !ball.isPotted();
+    }
+
+    /**
+     * Returns the first ball touched by the Cue Ball
+     * on previous calls of trigger collisions.
+     *
+     * @return Ball object of first ball touched, or a NullBall if does not apply.
+     */
+    public Ball3D getFirstTouched() {
+        return firstTouched;
+    }
+
+    /**
+     * Clears the first ball that is tracked as touched by the Cue Ball.
+     * To be called at the end of a turn.
+     */
+    public void clearFirstTouched() {
+        firstTouched = new NullBall();
+    }
+
+    public BulletCollisionWorld getCollisionWorld() {
+        return collisionWorld;
+    }
+
+    /**
+     * Sets the collision world that detects the collisions from now on,
+     * instead of checking the pairs of hit boxes one by one.
+     * @param collisionWorld  Collision world with the hit boxes of the balls
+     *                        and the table, or null to check pairs
+     */
+    public void setCollisionWorld(BulletCollisionWorld collisionWorld) {
+        this.collisionWorld = collisionWorld;
+    }
+
+    /**
+     * Disposes the collision world, if any. To be called
+     * before the hit boxes in the world are disposed.
+     */
+    public void dispose() {
+        if (collisionWorld != null) {
+            collisionWorld.dispose();
+        }
+    }
+
+    public ContinuousCollision getContinuousCollision() {
+        return continuousCollision;
+    }
+
+    public ContactCache getContacts() {
+        return contacts;
+    }
+
+    public BroadPhaseGrid getBroadPhase() {
+        return broadPhase;
+    }
+
+    public List<Ball3D> getPoolBalls() {
+        return poolBalls;
+    }
+
+    public Table3D getTable() {
+        return table;
+    }
+
+    /**
+     * Updates the first ball touched based on the balls that collided.
+     * Is only effective when one of the balls is a Cue Ball and when
+     * the balls collide. Otherwise, the method does nothing.
+     *
+     * @param ball1    First ball that collided
+     * @param ball2    Second ball that collided
+     * @param collided True if the two balls collided, and false otherwise
+     */
+    private void updateFirstTouched(Ball3D ball1, Ball3D ball2, boolean collided) {
+        if (collided && firstTouched instanceof NullBall) {
+            firstTouched = distinguishCueBall(ball1, ball2);
+        }
+    }
+
+    /**
+     * Helper method to distinguish the Cue Ball between the two balls.
+     * Returns the ball that is not the Cue Ball, or a NullBall if both of
+     * the balls are non-cue balls.
+     * NOTE: An assumption is made that at least
+     * one of the balls is NOT a cue ball!
+     *
+     * @param ball1 First ball to check
+     * @param ball2 Second ball to check
+     * @return NullBall if none of the balls is a cue ball, and
+     *              the non-cue ball if one of them is.
+     */
+    static Ball3D distinguishCueBall(Ball3D ball1, Ball3D ball2) {
+        if (ball1 instanceof CueBall3D) {
+            return ball2;
+        } else if (ball2 instanceof CueBall3D) {
+            return ball1;
+        } else {
+            return new NullBall();
+        }
+    }
+
+    /**
+     * Reacts to the contacts detected by the collision world in the same way
+     * as to the collisions of the pairwise checks. Contacts between balls
+     * that are both asleep are resting contacts, and are ignored.
+     */
+    private final class WorldContacts implements ContactHandler {
+        private transient List<Ball3D> potted;
+        private final transient Vector3 normal = new Vector3();
+        private final transient Vector3 velocity = new Vector3();
+        private final transient Vector3 otherVelocity = new Vector3();
+
+        @Override
+        public void onBallContact(int first, int second) {
+            if (!awake[first] && !awake[second]) {
+                return;
+            }
+            // The awake ball is the one that hit the other
+            final int index = awake[first] ? first : second;
+            final int otherIndex = index == first ? second : first;
+            Ball3D ball = poolBalls.get(index);
+            Ball3D other = poolBalls.get(otherIndex);
+            if (ball.isPotted() || other.isPotted()) {
+                return;
+            }
+            final int key = contacts.pairKey(index, otherIndex);
+            contacts.touch(key);
+            if (contacts.wasTouching(key)) {
+                PhysicsUtils.separate(ball, other, awake[otherIndex], separation);
+                return;
+            }
+            PhysicsUtils.resolveCollision(ball, other, normal, velocity, otherVelocity);
+            listener.onBallCollision(ball, other);
+            wake(otherIndex);
+            updateFirstTouched(ball, other, true);
+        }
+
+        @Override
+        public void onCushionContact(int index, int cushion) {
+            if (awake[index]) {
+                PhysicsWorld.this.onCushionContact(index, cushion);
+            }
+        }
+
+        @Override
+        public void onPotContact(int index) {
+            Ball3D ball = poolBalls.get(index);
+            if (awake[index] && !potted.contains(ball)) {
+                listener.onPot(ball);
+                potted.add(ball);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.game.GameConstants;
+
+/**
+ * Ring buffer of the positions of all balls over the last physics steps,
+ * for the instant replay of a shot. The frames are stored in a single
+ * preallocated float array, so that recording a frame in the physics step
+ * does not allocate anything, and the memory of the buffer is bounded by
+ * its capacity. When the buffer is full, the oldest frame is overwritten.
+ */
+public class ReplayBuffer {
+    // Floats per ball in a frame
+    private static final int STRIDE = 3;
+
+    private final transient int ballCount;
+    private final transient int capacity;
+    private final transient float[] frames;
+
+    // Slot of the oldest frame, and the number of frames in the buffer
+    private transient int start;
+    private transient int count;
+
+    /**
+     * Creates a new empty replay buffer.
+     * @param ballCount  Number of balls per frame
+     * @param capacity  Maximum number of frames in the buffer
+     */
+    public ReplayBuffer(int ballCount, int capacity) {
+        assert capacity > 0;
+        this.ballCount = ballCount;
+        this.capacity = capacity;
+        this.frames = new float[ballCount * capacity * STRIDE];
+    }
+
+    /**
+     * Creates a new empty replay buffer that holds the specified
+     * duration of physics steps, e.g. 16 balls for 30 seconds.
+     * @param ballCount  Number of balls per frame
+     * @param seconds  Duration of the frames in the buffer
+     * @return  New ReplayBuffer object instance
+     */
+    public static ReplayBuffer forDuration(int ballCount, float seconds) {
+        return new ReplayBuffer(ballCount, Math.max(1,
+                (int) Math.ceil(seconds / GameConstants.PHYSICS_STEP)));
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getFrameCount() {
+        return count;
+    }
+
+    /**
+     * Returns the duration between the oldest and the newest frame.
+     * @return  Duration of the frames in seconds
+     */
+    public float getDuration() {
+        return Math.max(0, count - 1) * GameConstants.PHYSICS_STEP;
+    }
+
+    /**
+     * Removes all frames, e.g. when a new shot starts.
+     */
+    public void clear() {
+        start = 0;
+        count = 0;
+    }
+
+    /**
+     * Appends the current positions of the balls as the newest frame,
+     * overwriting the oldest frame if the buffer is full.
+     * Balls without a slot in the states are not recorded.
+     * @param states  Physics state of the balls, with a slot per ball
+     */
+    // False positive for DU anomalies caused by the loop.
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
+    public void record(BallStateBuffer states) {
+        int slot = (start + count) % capacity;
+        if (count == capacity) {
+            start = (start + 1) % capacity;
+        } else {
+            count++;
+        }
+        int offset = slot * ballCount * STRIDE;
+        int balls = Math.min(ballCount, states.size());
+        for (int i = 0; i < balls; i++) {
+            frames[offset++] = states.getX(i);
+            frames[offset++] = states.getY(i);
+            frames[offset++] = states.getZ(i);
+        }
+    }
+
+    /**
+     * Writes the position of a ball at the specified time of the replay to
+     * the output vector, interpolated between the two frames around that time.
+     * @param ball  Index of the ball
+     * @param time  Time since the oldest frame in seconds, clamped to the frames
+     * @param out  Vector to write the position to
+     * @return  The output vector
+     */
+    public Vector3 getPosition(int ball, float time, Vector3 out) {
+        assert count > 0;
+        float frame = Math.min(Math.max(0, time / GameConstants.PHYSICS_STEP), count - 1);
+        int before = (int) frame;
+        int after = Math.min(before + 1, count - 1);
+        float alpha = frame - before;
+        int from = offset(before, ball);
+        int to = offset(after, ball);
+        return out.set(frames[from] + alpha * (frames[to] - frames[from]),
+                frames[from + 1] + alpha * (frames[to + 1] - frames[from + 1]),
+                frames[from + 2] + alpha * (frames[to + 2] - frames[from + 2]));
+    }
+
+    private int offset(int frame, int ball) {
+        return (((start + frame) % capacity) * ballCount + ball) * STRIDE;
+    }
+}
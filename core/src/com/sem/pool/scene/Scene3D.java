@@ -9,12 +9,15 @@ import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.math.Vector3;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * 3D Scene representation of a single Pool game.
+ * The physics of the balls are handled by the PhysicsWorld of the scene,
+ * and the scene plays the sounds of the collisions it reports.
  */
-public class Scene3D {
+public class Scene3D implements CollisionListener {
     // ModelBatch LibGDX dependency that allows rendering
     private final transient ModelBatch modelBatch;
 
@@ -25,9 +28,19 @@ public class Scene3D {
     // Game elements
     private final transient GameElements gameElements;
 
-    // Represents the first ball touched on the last
-    // check of trigger collisions.
-    private transient Ball3D firstTouched = new NullBall();
+    // Collision detection and response for the balls of the scene
+    private final transient PhysicsWorld physicsWorld;
+
+    // Physics state of the pool balls, kept outside of their models
+    private final transient BallStateBuffer ballStates;
+
+    // Native collision infrastructure shared by the hit boxes of the scene, if any
+    private transient CollisionContext collisionContext;
+
+    // Physics positions of the balls while they are rendered interpolated,
+    // kept between frames so that rendering does not allocate
+    private transient Vector3[] positions = new Vector3[0];
+    private final transient Vector3 interpolated = new Vector3();
 
     /**
      * Creates an instance of a 3D Pool Game scene from the specified
@@ -48,10 +61,15 @@ public class Scene3D {
         models.add(gameElements.getTable().getModel());
         models.add(gameElements.getCue().getModel());
 
+        this.ballStates = new BallStateBuffer(gameElements.getPoolBalls().size());
         for (Ball3D ball : gameElements.getPoolBalls()) {
             models.add(ball.getModel());
             ball.setUpBoxes();
+            ball.bindState(ballStates);
         }
+
+        this.physicsWorld = new PhysicsWorld(gameElements.getPoolBalls(),
+                gameElements.getTable(), this);
     }
 
     /**
@@ -65,58 +83,116 @@ public class Scene3D {
     }
 
     /**
-     * Disposes & completely cleans up the scene of models.
+     * Renders the scene with the balls interpolated between their
+     * previous and current physics step. Afterwards, the models of
+     * the balls are synchronized with their physics positions.
+     *
+     * @param alpha  Interpolation factor, where 0 is the previous and 1 the current step
+     */
+    public void render(float alpha) {
+        List<Ball3D> poolBalls = gameElements.getPoolBalls();
+        final int count = poolBalls.size();
+        if (positions.length < count) {
+            positions = Arrays.copyOf(positions, count);
+            for (int i = 0; i < count; i++) {
+                if (positions[i] == null) {
+                    positions[i] = new Vector3();
+                }
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            Ball3D ball = poolBalls.get(i);
+            ball.getCoordinates(positions[i]);
+            ball.getModel().transform.setTranslation(
+                    ball.getInterpolatedPosition(alpha, interpolated));
+        }
+
+        render();
+
+        for (int i = 0; i < count; i++) {
+            poolBalls.get(i).getModel().transform.setTranslation(positions[i]);
+        }
+    }
+
+    /**
+     * Disposes & completely cleans up the scene of models,
+     * and releases the native objects of the collision world,
+     * the hit boxes and the collision context of the scene, in that order.
      * To be used when the lifecycle of the game making use
      * of the 3D scene ends.
      */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags ball
+    // as a UR anomaly / being undefined
     public void dispose() {
         modelBatch.dispose();
         models.clear();
+        physicsWorld.dispose();
+        for (Ball3D ball : gameElements.getPoolBalls()) {
+            if (ball.getHitBox() != null) {
+                ball.getHitBox().dispose();
+            }
+        }
+        Table3D table = gameElements.getTable();
+        table.dispose();
+        if (table.getCollisionHandler() != null) {
+            table.getCollisionHandler().dispose();
+        }
+        if (collisionContext != null) {
+            collisionContext.dispose();
+        }
     }
 
     /**
      * Checks collisions between the balls and the board,
      * and handles the reactions of the collisions.
-     * TODO: Refactor this to it's own class, preferably
-     *       This method should probably not even belong in the Scene class.
+     * The checks are delegated to the PhysicsWorld of the scene.
      *
      * @return the List of balls that have been potted immediately
      *         after the collision, or an empty List if no Ball has been potted.
      */
-    // Suppress false positive for Dataflow Anomalies caused by the
-    // defined loop in the method.
-    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     public List<Ball3D> triggerCollisions() {
-        List<Ball3D> poolBalls = gameElements.getPoolBalls();
-        List<Ball3D> potted = new ArrayList<>();
+        return physicsWorld.triggerCollisions();
+    }
 
-        for (int i = 0; i < poolBalls.size(); i++) {
-            Ball3D ball = poolBalls.get(i);
+    /**
+     * Updates the balls that are awake at the start of a physics step.
+     * @return  Balls that are in motion, and have to be moved in the step
+     */
+    public List<Ball3D> updateActiveBalls() {
+        return physicsWorld.updateActiveBalls();
+    }
 
-            // Check collisions between the board and
-            // every ball in the scene
-            if (gameElements.getTable().checkCollision(ball)) {
-                sceneElements.getSoundPlayer().playTableCollisionSound();
-            }
+    /**
+     * Returns whether at least one of the pool balls is in motion.
+     * Only the awake balls of the physics world are checked, unless
+     * all balls have to be scanned after a shot.
+     * @return  True if at least one ball is in motion
+     */
+    public boolean isInMotion() {
+        return physicsWorld.isInMotion();
+    }
 
-            // Check if ball is potted
-            boolean potResult = gameElements.getTable().checkIfPot(ball);
-            if (potResult) {
-                sceneElements.getSoundPlayer().playPotSound();
-                potted.add(ball);
-            }
+    /**
+     * Wakes up all balls in motion, to be called when a shot is taken.
+     */
+    public void wakeBalls() {
+        physicsWorld.wakeAll();
+    }
 
-            for (int j = i + 1; j < poolBalls.size(); j++) {
-                Ball3D other = poolBalls.get(j);
-                boolean collided = ball.checkCollision(other);
-                if (collided) {
-                    sceneElements.getSoundPlayer().playBallCollisionSound();
-                }
-                updateFirstTouched(ball, other, collided);
-            }
-        }
+    @Override
+    public void onTableCollision(Ball3D ball) {
+        sceneElements.getSoundPlayer().playTableCollisionSound();
+    }
+
+    @Override
+    public void onBallCollision(Ball3D ball, Ball3D other) {
+        sceneElements.getSoundPlayer().playBallCollisionSound();
+    }
 
-        return potted;
+    @Override
+    public void onPot(Ball3D ball) {
+        sceneElements.getSoundPlayer().playPotSound();
     }
 
     /**
@@ -137,7 +213,7 @@ public class Scene3D {
      * @return Ball object of first ball touched, or null if does not apply.
      */
     public Ball3D getFirstTouched() {
-        return firstTouched;
+        return physicsWorld.getFirstTouched();
     }
 
     /**
@@ -145,40 +221,42 @@ public class Scene3D {
      * To be called at the end of a turn.
      */
     public void clearFirstTouched() {
-        firstTouched = new NullBall();
+        physicsWorld.clearFirstTouched();
     }
 
     /**
      * Lets the player choose the location of the cue ball after it has been potted.
-     * PMD errors are ignored, as this is a bug within PMD.
-     * It gives an error of an undefined variable in the foreach,
-     * but it's defined in the block.
      * @param input The input handler.
      * @return True iff the cue ball was placed correctly
      */
-    @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     public boolean placeCueBall(Input input) {
-        CueBall3D ball = this.getCueBall();
-        
         if (input.isButtonPressed(Input.Buttons.LEFT)) {
-            Vector3 mousePosition = this.getUnprojectedMousePosition();
-            ball.getModel().transform
-                    .setTranslation(new Vector3(mousePosition.x, 0.28f, mousePosition.z));
-            ball.getHitBox().updateLocation(ball.getModel().transform);
-
-            // Move the cue ball to the desired spot and check if it collides with any balls
-            boolean doesCollide = existsCollidingBall(ball);
-
-            // If the cue ball does not collide with any balls already on the table,
-            // and it is within bounds of the table, return true
-            if (!doesCollide && ball.checkWithinBounds()) {
-                return true;
-            }
+            return placeCueBall(this.getUnprojectedMousePosition());
         }
         
         return false;
     }
 
+    /**
+     * Places the cue ball at the specified position after it has been potted.
+     * @param position The position to place the cue ball at (y is ignored).
+     * @return True iff the cue ball was placed correctly
+     */
+    public boolean placeCueBall(Vector3 position) {
+        CueBall3D ball = this.getCueBall();
+        ball.getModel().transform
+                .setTranslation(new Vector3(position.x, 0.28f, position.z));
+        ball.getHitBox().updateLocation(ball.getModel().transform);
+        ball.syncFromModel();
+
+        // Move the cue ball to the desired spot and check if it collides with any balls
+        boolean doesCollide = existsCollidingBall(ball);
+
+        // If the cue ball does not collide with any balls already on the table,
+        // and it is within bounds of the table, return true
+        return !doesCollide && ball.checkWithinBounds();
+    }
+
     /**
      * Checks whether there exists a ball that collides with the
      * indicated ball.
@@ -204,42 +282,24 @@ public class Scene3D {
         return false;
     }
 
-    /**
-     * Updates the first ball touched variable in the Scene
-     * based on the balls that collided. Is only effective
-     * when one of the balls is a Cue Ball and when the balls
-     * collide. Otherwise, the method does nothing.
-     *
-     * @param ball1    First ball that collided
-     * @param ball2    Second ball that collided
-     * @param collided True if the two balls collided, and false otherwise
-     */
-    private void updateFirstTouched(Ball3D ball1, Ball3D ball2, boolean collided) {
-        if (collided && firstTouched instanceof NullBall) {
-            firstTouched = distinguishCueBall(ball1, ball2);
-        }
+    public CollisionContext getCollisionContext() {
+        return collisionContext;
     }
 
-    /**
-     * Helper method to distinguish the Cue Ball between the two balls.
-     * Returns the ball that is not the Cue Ball, or null if both of
-     * the balls are non-cue balls.
-     * NOTE: An assumption is made that at least
-     * one of the balls is NOT a cue ball!
-     *
-     * @param ball1 First ball to check
-     * @param ball2 Second ball to check
-     * @return Null if none of the balls is a cue ball, and
-     *              the non-cue ball if one of them is.
-     */
-    private Ball3D distinguishCueBall(Ball3D ball1, Ball3D ball2) {
-        if (ball1 instanceof CueBall3D) {
-            return ball2;
-        } else if (ball2 instanceof CueBall3D) {
-            return ball1;
-        } else {
-            return new NullBall();
-        }
+    public void setCollisionContext(CollisionContext collisionContext) {
+        this.collisionContext = collisionContext;
+    }
+
+    public BallStateBuffer getBallStates() {
+        return ballStates;
+    }
+
+    public BroadPhaseGrid getBroadPhase() {
+        return physicsWorld.getBroadPhase();
+    }
+
+    public PhysicsWorld getPhysicsWorld() {
+        return physicsWorld;
     }
 
     public Environment getEnvironment() {
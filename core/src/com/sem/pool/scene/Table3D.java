@@ -10,14 +10,19 @@ import java.util.ArrayList;
  */
 public class Table3D extends Object3D {
     private transient ArrayList<HitBox> hitBoxes;
+    private final transient ArrayList<HitBox> potHitBoxes;
     private transient CollisionHandler collisionHandler;
-
-    public static ArrayList<HitBox> potHitBoxes;
+    // Compiled borders and pots for the analytic checks, or null to
+    // check the hit boxes through the collision handler
+    private transient TableGeometry geometry;
 
     // bounding borders for the board
     public static final float xBound = 3.05f;
     public static final float zBound = 1.45f;
 
+    // Returned when a ball does not collide with any hit box of the table
+    public static final int NO_COLLISION = -1;
+
     /**
      * Constructs a new 3D Board instance with the specified model.
      * @param model  Model object of the Board
@@ -25,6 +30,7 @@ public class Table3D extends Object3D {
     public Table3D(ModelInstance model) {
         super(model);
         this.hitBoxes = new ArrayList<>();
+        this.potHitBoxes = new ArrayList<>();
     }
 
     public ArrayList<HitBox> getHitBoxes() {
@@ -53,29 +59,78 @@ public class Table3D extends Object3D {
         this.collisionHandler = collisionHandler;
     }
 
+    public TableGeometry getGeometry() {
+        return geometry;
+    }
+
+    public void setGeometry(TableGeometry geometry) {
+        this.geometry = geometry;
+    }
+
     public ArrayList<HitBox> getPotHitBoxes() {
         return potHitBoxes;
     }
 
+    /**
+     * Disposes the hit boxes and the pot hit boxes of the table.
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags hit box
+    // as a UR anomaly / being undefined
+    public void dispose() {
+        for (HitBox hitBox : hitBoxes) {
+            hitBox.dispose();
+        }
+        hitBoxes.clear();
+        for (HitBox pot : potHitBoxes) {
+            pot.dispose();
+        }
+        potHitBoxes.clear();
+    }
+
     /**
      * Checks whether a ball has collided with any of the hit boxes of the table.
      * @param ball Ball that we check collisions with.
      * @return whether the ball collided with the table.
      */
-    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags hit box
-    // as a UR anomaly / being undefined
-    // Checking for UR anomalies has been removed in updated versions of PMD: https://pmd.github.io/2019/10/31/PMD-6.19.0/
     public boolean checkCollision(Ball3D ball) {
-        for (HitBox hitBox: hitBoxes) {
-            if (collisionHandler.checkHitBoxCollision(ball.getHitBox(), hitBox)) {
-                Vector3 newDirection = PhysicsUtils.reflectVector(
-                        new Vector3(ball.getDirection()),
-                        new Vector3(hitBox.getNormal()));
-                ball.setDirection(newDirection);
-                return true;
+        int index = findCollision(ball);
+        if (index == NO_COLLISION) {
+            return false;
+        }
+        bounce(ball, hitBoxes.get(index));
+        return true;
+    }
+
+    /**
+     * Returns the index of the first hit box of the table that the ball collided with.
+     * @param ball Ball that we check collisions with.
+     * @return index of the hit box in the hit boxes of the table,
+     *         or NO_COLLISION if the ball did not collide with the table.
+     */
+    public int findCollision(Ball3D ball) {
+        if (geometry != null) {
+            HitBox sphere = ball.getHitBox();
+            return geometry.findBorder(sphere.getPosition(), sphere.getHalfExtents().x);
+        }
+        for (int i = 0; i < hitBoxes.size(); i++) {
+            if (collisionHandler.checkHitBoxCollision(ball.getHitBox(), hitBoxes.get(i))) {
+                return i;
             }
         }
-        return false;
+        return NO_COLLISION;
+    }
+
+    /**
+     * Reflects the direction of a ball that collided with a
+     * border of the table in the normal of the border.
+     * @param ball Ball that collided with the border.
+     * @param hitBox HitBox of the border.
+     */
+    public void bounce(Ball3D ball, HitBox hitBox) {
+        Vector3 newDirection = PhysicsUtils.reflectVector(
+                new Vector3(ball.getDirection()),
+                new Vector3(hitBox.getNormal()));
+        ball.setDirection(newDirection);
     }
 
     /**
@@ -88,7 +143,12 @@ public class Table3D extends Object3D {
     // as a UR anomaly / being undefined
     // Checking for UR anomalies has been removed in updated versions of PMD: https://pmd.github.io/2019/10/31/PMD-6.19.0/
     public boolean checkIfPot(Ball3D ball) {
-        for (HitBox pot: Table3D.potHitBoxes) {
+        if (geometry != null) {
+            HitBox sphere = ball.getHitBox();
+            return geometry.findPot(sphere.getPosition(), sphere.getHalfExtents().x)
+                    != TableGeometry.NO_POT;
+        }
+        for (HitBox pot: potHitBoxes) {
             if (collisionHandler.checkHitBoxCollision(ball.getHitBox(), pot)) {
                 return true;
             }
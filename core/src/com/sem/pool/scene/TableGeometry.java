@@ -0,0 +1,199 @@
+package com.sem.pool.scene;
+
+import com.badlogic.gdx.math.Vector3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compiled geometry of the borders and pots of a table, for the analytic
+ * collision checks of the physics steps. The borders are half-planes bounded
+ * by their inner faces, and the pots are bucketed by the borders that they
+ * cut into. A ball is only checked against the pots of a border when it is
+ * within capture distance of that border, so a ball in the middle of the
+ * table costs four plane tests and no pot tests. The geometry is immutable
+ * and does not refer to the hit boxes it was compiled from, so one instance
+ * can be shared by every table with the same layout.
+ */
+public final class TableGeometry {
+    // Returned when a ball does not overlap any pot
+    public static final int NO_POT = -1;
+    // Tolerance for pots that exactly touch the inner face of a border
+    private static final float EPSILON = 1e-4f;
+
+    // Borders as the half-planes (normal . position < offset) inside their inner faces
+    private final transient float[] normalX;
+    private final transient float[] normalZ;
+    private final transient float[] offset;
+    // Distance from the inner face of a border, beyond the radius
+    // of a ball, within which the ball can reach one of its pots
+    private final transient float[] reach;
+    // Indices of the pots that cut into each border
+    private final transient int[][] regions;
+
+    // Pots as cylinders aligned with the y axis
+    private final transient Vector3[] potCenters;
+    private final transient Vector3[] potExtents;
+
+    /**
+     * Compiles the geometry of a table from the hit boxes of its borders and pots.
+     * The layout is validated: there is at least one border, the pots do not
+     * overlap each other, and every pot cuts into the inner face of a border,
+     * as a pot that a ball cannot reach from the table would never be checked.
+     * @param borders  Box hit boxes of the borders, with their normals facing outwards
+     * @param pots  Cylinder hit boxes of the pots
+     * @throws IllegalArgumentException  If the layout of the borders and pots is invalid
+     */
+    public TableGeometry(List<HitBox> borders, List<HitBox> pots) {
+        if (borders.isEmpty()) {
+            throw new IllegalArgumentException("A table needs at least one border");
+        }
+        int count = borders.size();
+        normalX = new float[count];
+        normalZ = new float[count];
+        offset = new float[count];
+        for (int c = 0; c < count; c++) {
+            Vector3 normal = borders.get(c).getNormal();
+            Vector3 center = borders.get(c).getPosition();
+            Vector3 extents = borders.get(c).getHalfExtents();
+            normalX[c] = normal.x;
+            normalZ[c] = normal.z;
+            offset[c] = normal.x * center.x + normal.z * center.z
+                    - Math.abs(normal.x * extents.x) - Math.abs(normal.z * extents.z);
+        }
+
+        potCenters = new Vector3[pots.size()];
+        potExtents = new Vector3[pots.size()];
+        for (int p = 0; p < pots.size(); p++) {
+            potCenters[p] = new Vector3(pots.get(p).getPosition());
+            potExtents[p] = new Vector3(pots.get(p).getHalfExtents());
+        }
+        validatePots();
+
+        reach = new float[count];
+        regions = new int[count][];
+        boolean[] covered = new boolean[pots.size()];
+        for (int c = 0; c < count; c++) {
+            regions[c] = bucket(c, covered);
+        }
+        for (int p = 0; p < covered.length; p++) {
+            if (!covered[p]) {
+                throw new IllegalArgumentException("Pot " + p + " at " + potCenters[p]
+                        + " does not reach a border of the table");
+            }
+        }
+    }
+
+    /**
+     * Checks that no two pots overlap, which also rejects pots that were placed twice.
+     */
+    private void validatePots() {
+        for (int p = 0; p < potCenters.length; p++) {
+            for (int q = p + 1; q < potCenters.length; q++) {
+                if (AnalyticCollisionBackend.sphereSphere(potCenters[p], potExtents[p].x,
+                        potCenters[q], potExtents[q].x)) {
+                    throw new IllegalArgumentException("Pots " + p + " and " + q
+                            + " overlap at " + potCenters[p] + " and " + potCenters[q]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the pots that cut into the inner face of a border, and the
+     * distance from that face within which a ball can reach one of them.
+     * @param border  Index of the border
+     * @param covered  Marks the pots that were collected for any border
+     * @return  Indices of the pots of the border
+     */
+    private int[] bucket(int border, boolean[] covered) {
+        List<Integer> region = new ArrayList<>();
+        float maxReach = 0;
+        for (int p = 0; p < potCenters.length; p++) {
+            // How far the center of the pot lies beyond the inner face
+            float beyond = normalX[border] * potCenters[p].x
+                    + normalZ[border] * potCenters[p].z - offset[border];
+            float radius = potExtents[p].x;
+            if (beyond + radius + EPSILON >= 0) {
+                region.add(p);
+                covered[p] = true;
+                maxReach = Math.max(maxReach, radius - beyond);
+            }
+        }
+        reach[border] = maxReach;
+        int[] indices = new int[region.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = region.get(i);
+        }
+        return indices;
+    }
+
+    public int getBorderCount() {
+        return offset.length;
+    }
+
+    public int getPotCount() {
+        return potCenters.length;
+    }
+
+    /**
+     * Returns the pots that cut into a border, which are the only pots
+     * that a ball close to the border is checked against.
+     * @param border  Index of the border
+     * @return  Copy of the indices of the pots of the border
+     */
+    public int[] getRegion(int border) {
+        return Arrays.copyOf(regions[border], regions[border].length);
+    }
+
+    /**
+     * Returns the distance from a ball to the inner face of a border.
+     * @param border  Index of the border
+     * @param center  Center of the ball
+     * @return  Distance from the center to the face, negative beyond the face
+     */
+    public float distance(int border, Vector3 center) {
+        return offset[border] - normalX[border] * center.x - normalZ[border] * center.z;
+    }
+
+    /**
+     * Returns the first border that a ball overlaps. Unlike a box, the
+     * half-plane of a border also catches a ball that passed through it.
+     * @param center  Center of the ball
+     * @param radius  Radius of the ball
+     * @return  Index of the border, or Table3D.NO_COLLISION if the ball overlaps none
+     */
+    public int findBorder(Vector3 center, float radius) {
+        for (int c = 0; c < offset.length; c++) {
+            if (distance(c, center) < radius) {
+                return c;
+            }
+        }
+        return Table3D.NO_COLLISION;
+    }
+
+    /**
+     * Returns the pot that a ball overlaps. Only the pots of the borders
+     * that the ball is within capture distance of are checked.
+     * @param center  Center of the ball
+     * @param radius  Radius of the ball
+     * @return  Index of the pot, or NO_POT if the ball does not overlap any pot
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags pot
+    // as a UR anomaly / being undefined
+    public int findPot(Vector3 center, float radius) {
+        for (int c = 0; c < offset.length; c++) {
+            if (distance(c, center) >= radius + reach[c]) {
+                continue;
+            }
+            for (int pot : regions[c]) {
+                if (AnalyticCollisionBackend.sphereCylinder(center, radius,
+                        potCenters[pot], potExtents[pot])) {
+                    return pot;
+                }
+            }
+        }
+        return NO_POT;
+    }
+}
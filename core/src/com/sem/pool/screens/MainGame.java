@@ -11,6 +11,7 @@ public class MainGame extends Game {
     private User player;
     private User opponent;
     private User winner;
+    private boolean computerOpponent;
 
     /**
      * Create the game.
@@ -39,6 +40,14 @@ public class MainGame extends Game {
         this.opponent = opponent;
     }
 
+    public boolean isComputerOpponent() {
+        return this.computerOpponent;
+    }
+
+    public void setComputerOpponent(boolean computerOpponent) {
+        this.computerOpponent = computerOpponent;
+    }
+
     public void setWinner(User winner) {
         this.winner = winner;
     }
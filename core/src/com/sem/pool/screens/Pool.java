@@ -11,13 +11,15 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.sem.pool.database.Database;
 import com.sem.pool.database.controllers.ResultController;
-import com.sem.pool.database.controllers.UserController;
 import com.sem.pool.database.models.User;
 
 import com.sem.pool.factories.AssetLoader;
 import com.sem.pool.factories.GameInitializer;
+import com.sem.pool.game.ComputerPlayer;
 import com.sem.pool.game.Game;
+import com.sem.pool.game.GameEventBus;
 import com.sem.pool.game.Player;
+import com.sem.pool.scene.InstantReplay;
 import com.sem.pool.scene.Scene3D;
 
 import java.util.ArrayList;
@@ -94,7 +96,10 @@ public class Pool extends GameScreen {
         // Create the players
         ArrayList<Player> players = new ArrayList<>();
         players.add(new Player(this.game.getPlayer().getUserID()));
-        players.add(new Player(this.game.getOpponent().getUserID()));
+        User opponent = this.game.getOpponent();
+        players.add(this.game.isComputerOpponent()
+                ? new ComputerPlayer(opponent.getUserID())
+                : new Player(opponent.getUserID()));
 
         // Instantiate the game & retrieve the scene from the game
         this.poolGame = gameInitializer.createGame(players);
@@ -104,7 +109,9 @@ public class Pool extends GameScreen {
         this.scene.getCamera().update();
 
         // Make the Pool game observe the Game loop class to receive events.
-        this.poolGame.addObserver(this);
+        // The result of the game is stored in the database when it ends,
+        // so the events are received in the background.
+        this.poolGame.addObserver(this, GameEventBus.Delivery.BACKGROUND);
 
         // Start the game.
         this.poolGame.startGame();
@@ -126,7 +133,15 @@ public class Pool extends GameScreen {
 
         // Advance the game loop of the game & render scene
         this.poolGame.advanceGameLoop(deltaTime);
-        this.scene.render();
+
+        InstantReplay replay = this.poolGame.getInstantReplay();
+        if (replay.isPlaying()) {
+            // The next interpolated render moves the balls back to their positions
+            replay.apply(this.scene.getPoolBalls());
+            this.scene.render();
+        } else {
+            this.scene.render(this.poolGame.getInterpolationAlpha());
+        }
     }
 
     /**
@@ -180,20 +195,22 @@ public class Pool extends GameScreen {
 
     @Override
     public void onGameEnded(Player winnerPlayer, List<Player> players) {
-        // Store the result.
-        UserController userController = new UserController(Database.getInstance());
+        // Store the result, which is written to the database in the background.
+        // The computer is not a registered user, so its results are
+        // not joined with a user, and it is not on the leaderboard.
         ResultController resultController = new ResultController(Database.getInstance());
 
-        User winner = userController.getUser(winnerPlayer.getId());
-        User loser = winnerPlayer.getId() == this.game.getPlayer().getUserID()
-                ? this.game.getOpponent()
-                : this.game.getPlayer();
-        this.game.setWinner(winner);
-
-        resultController.createResult(winner, loser);
-
-        // Go to the leaderboard screen.
-        this.game.setScreen(new Leaderboard(this.game));
+        boolean playerWon = winnerPlayer.getId() == this.game.getPlayer().getUserID();
+        User winner = playerWon ? this.game.getPlayer() : this.game.getOpponent();
+        User loser = playerWon ? this.game.getOpponent() : this.game.getPlayer();
+        resultController.submitResult(winner, loser);
+
+        // Go to the leaderboard screen, on the render thread as
+        // the events are received in the background.
+        Gdx.app.postRunnable(() -> {
+            this.game.setWinner(winner);
+            this.game.setScreen(new Leaderboard(this.game));
+        });
     }
 
     @Override
@@ -10,6 +10,7 @@ import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.sem.pool.database.Database;
 import com.sem.pool.database.controllers.UserController;
 import com.sem.pool.database.models.User;
+import com.sem.pool.game.ComputerPlayer;
 
 import java.util.ArrayList;
 
@@ -62,26 +63,31 @@ public class SelectOpponent extends UiScreen {
      * @return The list added.
      */
     private List<User> showList() {
-        List<User> out = new List<>(this.skin);
-
+        // The computer can always be chosen. It is not a registered user,
+        // so older databases may still hold a user with its reserved name.
         ArrayList<User> userList = this.userController.getUsers();
         userList.remove(this.game.getPlayer());
-        User[] users = userList.toArray(new User[0]);
-        out.setItems(users);
+        userList.removeIf(user -> ComputerPlayer.USERNAME.equalsIgnoreCase(user.getUsername()));
 
         if (userList.size() == 0) {
             this.showEmpty();
         }
 
+        userList.add(0, new User(ComputerPlayer.USER_ID, ComputerPlayer.USERNAME, null));
+        User[] users = userList.toArray(new User[0]);
+        List<User> out = new List<>(this.skin);
+        out.setItems(users);
+
         this.table.add(out).row();
         return out;
     }
 
     /**
-     * Show a message that there are no available opponents.
+     * Show a message that there are no other players, so only the computer can be chosen.
      */
     private void showEmpty() {
-        Label out = new Label("There are no opponents to choose from :(", this.skin);
+        Label out = new Label("There are no other players, but you can play the computer",
+                this.skin);
         out.setColor(1, 0, 0, 1);
         this.table.add(out).row();
     }
@@ -111,7 +117,9 @@ public class SelectOpponent extends UiScreen {
             return;
         }
 
-        this.game.setOpponent(this.list.getSelected());
+        User opponent = this.list.getSelected();
+        this.game.setOpponent(opponent);
+        this.game.setComputerOpponent(opponent.getUserID() == ComputerPlayer.USER_ID);
         this.game.setScreen(new Pool(this.game));
     }
 
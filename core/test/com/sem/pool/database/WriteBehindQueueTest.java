@@ -0,0 +1,125 @@
+package com.sem.pool.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the WriteBehindQueue class.
+ */
+class WriteBehindQueueTest {
+    private static final int ROWS = 1000;
+
+    /**
+     * Test case to verify that all submitted rows are written in order
+     * and in bounded batches once the queue is flushed.
+     * @throws InterruptedException  If the test was interrupted while waiting
+     */
+    @Test
+    void testFlush() throws InterruptedException {
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("test-writer", batch -> {
+            batchSizes.add(batch.size());
+            written.addAll(batch);
+        });
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            queue.submit(i);
+            expected.add(i);
+        }
+        queue.flush();
+
+        assertEquals(expected, written);
+        assertTrue(batchSizes.stream().allMatch(size -> size <= WriteBehindQueue.MAX_BATCH));
+        queue.close();
+    }
+
+    /**
+     * Test case to verify that closing the queue writes the queued rows,
+     * and that rows cannot be submitted afterwards.
+     * @throws InterruptedException  If the test was interrupted while waiting
+     */
+    @Test
+    void testClose() throws InterruptedException {
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("test-writer",
+                written::addAll);
+
+        queue.submit(1);
+        queue.submit(2);
+        queue.close();
+
+        assertEquals(2, written.size());
+        assertThrows(IllegalStateException.class, () -> queue.submit(3));
+    }
+
+    /**
+     * Test case to verify that a batch which fails to be written
+     * does not block the flush or the rows after it.
+     * @throws InterruptedException  If the test was interrupted while waiting
+     */
+    @Test
+    void testFailedBatch() throws InterruptedException {
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("test-writer", batch -> {
+            if (batch.contains(1)) {
+                throw new SQLException("Failed batch");
+            }
+            written.addAll(batch);
+        });
+
+        queue.submit(1);
+        queue.flush();
+        queue.submit(2);
+        queue.flush();
+
+        assertEquals(Collections.singletonList(2), written);
+        queue.close();
+    }
+
+    /**
+     * Test case to verify that a batch which fails with a runtime exception
+     * is dropped as well, and that the writer keeps writing afterwards.
+     * @throws InterruptedException  If the test was interrupted while waiting
+     */
+    @Test
+    void testFailedBatchRuntimeException() throws InterruptedException {
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("test-writer", batch -> {
+            if (batch.contains(1)) {
+                throw new IllegalStateException("Failed batch");
+            }
+            written.addAll(batch);
+        });
+
+        queue.submit(1);
+        queue.flush();
+        queue.submit(2);
+        queue.close();
+
+        assertEquals(Collections.singletonList(2), written);
+    }
+
+    /**
+     * Test case to verify that closing the queue on an interrupted thread
+     * restores the interrupt, instead of throwing.
+     */
+    @Test
+    void testCloseInterrupted() {
+        WriteBehindQueue<Integer> queue = new WriteBehindQueue<>("test-writer", batch -> { });
+
+        Thread.currentThread().interrupt();
+        queue.close();
+
+        assertTrue(Thread.interrupted());
+    }
+}
@@ -2,6 +2,7 @@ package com.sem.pool.database.controllers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.sem.pool.database.Database;
 import com.sem.pool.database.models.Result;
@@ -40,6 +41,21 @@ public class ResultControllerTest {
         assertFalse(result.createResult(player, player));
     }
 
+    /**
+     * Test saving a result in the background.
+     */
+    @Test
+    public void submitResult() throws InterruptedException {
+        Database db = Mockito.mock(Database.class);
+        ResultTable table = Mockito.mock(ResultTable.class);
+        Mockito.when(db.table(Mockito.anyString())).thenReturn(table);
+        User winner = new User(1, "winner", "pass");
+        User loser = new User(2, "loser", "pass");
+
+        assertTrue(new ResultController(db).submitResult(winner, loser));
+        Mockito.verify(table).saveLater(new Result(winner, loser));
+    }
+
     /**
      * Test failing to get all result.
      */
@@ -6,7 +6,9 @@ import com.sem.pool.database.Database;
 import com.sem.pool.database.models.Result;
 import com.sem.pool.database.models.Stats;
 import com.sem.pool.database.models.User;
+import com.sem.pool.database.tables.PlayerStatsTable;
 import com.sem.pool.database.tables.ResultTable;
+import com.sem.pool.database.tables.UserTable;
 import java.sql.SQLException;
 import java.util.ArrayList;
 
@@ -20,23 +22,25 @@ public class StatsControllerTest {
      */
     @Test
     public void getTopTest() throws SQLException {
-        ArrayList<Result> results = new ArrayList<>();
-        User user0 = new User(42, "Hello", "hashedpassword");
-        User user1 = new User(666, "World", "password");
-        User user2 = new User(69, "!", "!@#$%^%&$##$%$#");
-        User user3 = new User(111, "?", "--..--.--..-..--..-");
-        results.add(new Result(42, user0, user1));
-        results.add(new Result(42 / 2, user2, user0));
-        results.add(new Result(42 * 2, user2, user1));
-        results.add(new Result(42 * 2, user2, user3));
+        Database.setTestMode();
+        UserTable userTable = (UserTable) Database.getInstance().table(UserTable.TABLE_NAME);
+        userTable.save(new User(42, "Hello", "hashedpassword"));
+        userTable.save(new User(666, "World", "password"));
+        userTable.save(new User(69, "!", "!@#$%^%&$##$%$#"));
+        userTable.save(new User(111, "?", "--..--.--..-..--..-"));
+        User user0 = userTable.getUser("Hello");
+        User user1 = userTable.getUser("World");
+        User user2 = userTable.getUser("!");
+        User user3 = userTable.getUser("?");
 
-        Database db = Mockito.mock(Database.class);
-        ResultTable table = Mockito.mock(ResultTable.class);
-
-        Mockito.when(db.table(Mockito.anyString())).thenReturn(table);
-        Mockito.when(table.getAll()).thenReturn(results);
+        ResultTable resultTable = (ResultTable) Database.getInstance()
+                .table(ResultTable.TABLE_NAME);
+        resultTable.save(new Result(user0, user1));
+        resultTable.save(new Result(user2, user0));
+        resultTable.save(new Result(user2, user1));
+        resultTable.save(new Result(user2, user3));
 
-        StatsController statsController = new StatsController(db);
+        StatsController statsController = new StatsController(Database.getInstance());
         ArrayList<Stats> result = statsController.getTop();
 
         assertEquals(4, result.size());
@@ -52,5 +56,46 @@ public class StatsControllerTest {
         assertEquals(user3, result.get(3).getUser());
         assertEquals(0f, result.get(3).getWinLossRatio());
         assertEquals(1, result.get(3).getGameCount());
+
+        assertEquals(result.subList(0, 2), statsController.getTop(2));
+    }
+
+    /**
+     * Test if a result that is still being saved in the
+     * background is counted in the top statistics.
+     * @throws SQLException SQL error, should not occur.
+     */
+    @Test
+    public void getTopSubmittedTest() throws SQLException {
+        Database.setTestMode();
+        UserTable userTable = (UserTable) Database.getInstance().table(UserTable.TABLE_NAME);
+        userTable.save(new User(0, "Hello", "password"));
+        userTable.save(new User(1, "World", "123456"));
+        User winner = userTable.getUser("Hello");
+        User loser = userTable.getUser("World");
+
+        new ResultController(Database.getInstance()).submitResult(winner, loser);
+        ArrayList<Stats> result = new StatsController(Database.getInstance()).getTop();
+
+        assertEquals(2, result.size());
+        assertEquals(winner, result.get(0).getUser());
+        assertEquals(1, result.get(0).getGameCount());
+        assertEquals(1, result.get(1).getLosses());
+    }
+
+    /**
+     * Test failing to get the top statistics.
+     * @throws SQLException Mocked error.
+     */
+    @Test
+    public void failedGetting() throws SQLException {
+        Database db = Mockito.mock(Database.class);
+        PlayerStatsTable table = Mockito.mock(PlayerStatsTable.class);
+
+        Mockito.when(db.table(PlayerStatsTable.TABLE_NAME)).thenReturn(table);
+        Mockito.when(db.table(ResultTable.TABLE_NAME)).thenReturn(Mockito.mock(ResultTable.class));
+        Mockito.when(table.getTop(Mockito.anyInt())).thenThrow(SQLException.class);
+
+        assertEquals(new ArrayList<Stats>(), new StatsController(db).getTop());
     }
 }
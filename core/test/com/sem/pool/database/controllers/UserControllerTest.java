@@ -10,6 +10,7 @@ import com.sem.pool.database.models.Result;
 import com.sem.pool.database.models.User;
 import com.sem.pool.database.tables.ResultTable;
 import com.sem.pool.database.tables.UserTable;
+import com.sem.pool.game.ComputerPlayer;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,6 +54,16 @@ public class UserControllerTest {
         assertNull(this.userController.login("notreal", "foobar"));
     }
 
+    /**
+     * Test if the username of the computer opponent cannot be registered.
+     */
+    @Test
+    public void registerReserved() {
+        assertNull(this.userController.register(ComputerPlayer.USERNAME, "foobar"));
+        assertNull(this.userController.register("computer", "foobar"));
+        assertFalse(this.userController.exists(ComputerPlayer.USERNAME));
+    }
+
     /**
      * Test if registering works.
      */
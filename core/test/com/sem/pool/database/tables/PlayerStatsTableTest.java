@@ -0,0 +1,113 @@
+package com.sem.pool.database.tables;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.sem.pool.database.Database;
+import com.sem.pool.database.models.Result;
+import com.sem.pool.database.models.Stats;
+import com.sem.pool.database.models.User;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class PlayerStatsTableTest {
+    private transient PlayerStatsTable statsTable;
+    private transient ResultTable resultTable;
+    private transient User user0;
+    private transient User user1;
+
+    /**
+     * Sets up the database in test (in-memory) mode, with two users.
+     * @throws SQLException Database error, should not happen.
+     */
+    @BeforeEach
+    public void setUp() throws SQLException {
+        Database.setTestMode();
+        this.statsTable = (PlayerStatsTable) Database.getInstance().table("PlayerStats");
+        this.resultTable = (ResultTable) Database.getInstance().table("Result");
+
+        UserTable userTable = (UserTable) Database.getInstance().table("User");
+        userTable.save(new User(0, "Hello", "password"));
+        userTable.save(new User(1, "World", "123456"));
+        this.user0 = userTable.getUser("Hello");
+        this.user1 = userTable.getUser("World");
+    }
+
+    /**
+     * Test if saving results updates the statistics of both players.
+     * @throws SQLException Database error, should not happen.
+     */
+    @Test
+    public void testSaveUpdatesStats() throws SQLException {
+        this.resultTable.save(new Result(this.user0, this.user1));
+        List<Result> results = new ArrayList<>();
+        results.add(new Result(this.user0, this.user1));
+        results.add(new Result(this.user1, this.user0));
+        this.resultTable.saveAll(results);
+
+        ArrayList<Stats> top = this.statsTable.getTop(2);
+
+        assertEquals(new Stats(this.user0, 2, 3), top.get(0));
+        assertEquals(new Stats(this.user1, 1, 3), top.get(1));
+        assertEquals(1, top.get(0).getLosses());
+    }
+
+    /**
+     * Test if the top statistics are limited to the requested count.
+     * @throws SQLException Database error, should not happen.
+     */
+    @Test
+    public void testGetTopLimit() throws SQLException {
+        this.resultTable.save(new Result(this.user1, this.user0));
+
+        ArrayList<Stats> top = this.statsTable.getTop(1);
+
+        assertEquals(1, top.size());
+        assertEquals(this.user1, top.get(0).getUser());
+    }
+
+    /**
+     * Test if a database with results but without statistics
+     * is filled from the results when the table is created.
+     * @throws SQLException Database error, should not happen.
+     */
+    @Test
+    public void testBackfill() throws SQLException {
+        try (Connection conn = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            UserTable userTable = new UserTable(conn);
+            userTable.save(new User(0, "Hello", "password"));
+            userTable.save(new User(1, "World", "123456"));
+            User hello = userTable.getUser("Hello");
+            User world = userTable.getUser("World");
+            ResultTable results = new ResultTable(conn);
+            results.save(new Result(hello, world));
+            results.save(new Result(hello, world));
+            ArrayList<Stats> expected = results.getPlayerStats().getTop(2);
+            assertEquals(new Stats(hello, 2, 2), expected.get(0));
+
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("drop table PlayerStats");
+            }
+            PlayerStatsTable created = new PlayerStatsTable(conn);
+
+            assertEquals(expected, created.getTop(2));
+            created.backfill();
+            assertEquals(expected, created.getTop(2));
+        }
+    }
+
+    /**
+     * Test if the table name matches.
+     * This is to catch regression bugs.
+     */
+    @Test
+    public void testTableName() {
+        assertEquals("PlayerStats", this.statsTable.getTableName());
+    }
+}
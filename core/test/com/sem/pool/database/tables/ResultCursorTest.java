@@ -0,0 +1,49 @@
+package com.sem.pool.database.tables;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class ResultCursorTest {
+    /**
+     * Test if the statement is closed when the query fails.
+     * PMD error ignored as this is a mock object.
+     * @throws SQLException Mocked error.
+     */
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    public void testQueryFailed() throws SQLException {
+        PreparedStatement stmt = Mockito.mock(PreparedStatement.class);
+        Mockito.when(stmt.executeQuery()).thenThrow(SQLException.class);
+
+        assertThrows(SQLException.class, () -> new ResultCursor(stmt, new Object()));
+        Mockito.verify(stmt).close();
+    }
+
+    /**
+     * Test if errors while reading a row are wrapped by the iterator.
+     * PMD error ignored as this is a mock object.
+     * @throws SQLException Mocked error.
+     */
+    @Test
+    @SuppressWarnings("PMD.CloseResource")
+    public void testReadFailed() throws SQLException {
+        PreparedStatement stmt = Mockito.mock(PreparedStatement.class);
+        ResultSet res = Mockito.mock(ResultSet.class);
+        Mockito.when(stmt.executeQuery()).thenReturn(res);
+        Mockito.when(res.next()).thenThrow(SQLException.class);
+
+        ResultCursor cursor = new ResultCursor(stmt, new Object());
+        assertThrows(IllegalStateException.class, cursor::hasNext);
+        assertThrows(SQLException.class, cursor::fetch);
+
+        cursor.close();
+        Mockito.verify(res).close();
+        Mockito.verify(stmt).close();
+    }
+}
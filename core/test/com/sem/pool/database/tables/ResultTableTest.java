@@ -3,6 +3,8 @@ package com.sem.pool.database.tables;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.sem.pool.database.Database;
@@ -14,6 +16,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -77,6 +81,69 @@ public class ResultTableTest {
         assertFalse(table.save(result));
     }
 
+    /**
+     * Test if saving a list of results saves all of them in order.
+     * @throws SQLException Database error, should not happen.
+     */
+    @Test
+    public void testSaveAll() throws SQLException {
+        UserTable userTable = (UserTable) Database.getInstance().table("User");
+        userTable.save(new User(0, "Hello", "password"));
+        userTable.save(new User(1, "World", "123456"));
+        User user0DB = userTable.getUser("Hello");
+        User user1DB = userTable.getUser("World");
+
+        List<Result> results = new ArrayList<>();
+        results.add(new Result(user0DB, user1DB));
+        results.add(new Result(user1DB, user0DB));
+        this.resultTable.saveAll(results);
+
+        assertEquals(results, this.resultTable.getAll());
+    }
+
+    /**
+     * Test if a result that is saved in the background
+     * is returned when fetching all results.
+     * @throws SQLException Database error, should not happen.
+     * @throws InterruptedException If the test was interrupted.
+     */
+    @Test
+    public void testSaveLater() throws SQLException, InterruptedException {
+        UserTable userTable = (UserTable) Database.getInstance().table("User");
+        userTable.save(new User(0, "Hello", "password"));
+        userTable.save(new User(1, "World", "123456"));
+        Result result = new Result(userTable.getUser("Hello"), userTable.getUser("World"));
+
+        this.resultTable.saveLater(result);
+
+        ArrayList<Result> results = this.resultTable.getAll();
+        assertEquals(1, results.size());
+        assertEquals(result, results.get(0));
+    }
+
+    /**
+     * Test if users that are saved while results are written in the background
+     * are all saved, together with all the results.
+     * @throws SQLException Database error, should not happen.
+     * @throws InterruptedException If the test was interrupted.
+     */
+    @Test
+    public void testSaveUsersWhileSavingLater() throws SQLException, InterruptedException {
+        UserTable userTable = (UserTable) Database.getInstance().table("User");
+        userTable.save(new User(0, "Hello", "password"));
+        userTable.save(new User(1, "World", "123456"));
+        Result result = new Result(userTable.getUser("Hello"), userTable.getUser("World"));
+
+        final int count = 200;
+        for (int i = 0; i < count; i++) {
+            this.resultTable.saveLater(result);
+            assertTrue(userTable.save(new User(0, "user" + i, "password")));
+        }
+
+        assertEquals(count, this.resultTable.getAll().size());
+        assertEquals(count + 2, userTable.getUsers().size());
+    }
+
     /**
      * Test if you can insert the same result twice.
      * @throws SQLException Throws an error if not successfully.
@@ -101,6 +168,34 @@ public class ResultTableTest {
         assertTrue(this.resultTable.save(result));
     }
 
+    /**
+     * Test if the cursor returns the results in order, with the usernames
+     * of the users and without their passwords.
+     * @throws SQLException Database error, should not happen.
+     */
+    @Test
+    public void testCursor() throws SQLException {
+        UserTable userTable = (UserTable) Database.getInstance().table("User");
+        userTable.save(new User(0, "Hello", "password"));
+        userTable.save(new User(1, "World", "123456"));
+        User user0DB = userTable.getUser("Hello");
+        User user1DB = userTable.getUser("World");
+        this.resultTable.save(new Result(user0DB, user1DB));
+        this.resultTable.save(new Result(user1DB, user0DB));
+
+        try (ResultCursor cursor = this.resultTable.cursor()) {
+            assertTrue(cursor.hasNext());
+            Result first = cursor.next();
+            assertEquals(user0DB.getUserID(), first.getWinner().getUserID());
+            assertEquals("World", first.getLoser().getUsername());
+            assertNull(first.getWinner().getPassword());
+
+            assertEquals(new Result(user1DB, user0DB), cursor.next());
+            assertFalse(cursor.hasNext());
+            assertThrows(NoSuchElementException.class, cursor::next);
+        }
+    }
+
     /**
      * Test if the table name matches.
      * This is to catch regression bugs.
@@ -0,0 +1,92 @@
+package com.sem.pool.factories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.physics.bullet.Bullet;
+import com.sem.pool.scene.AnalyticCollisionBackend;
+import com.sem.pool.scene.BulletCollisionBackend;
+import com.sem.pool.scene.CollisionContext;
+import com.sem.pool.scene.CollisionHandler;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the CollisionHandlerFactory class.
+ */
+class CollisionHandlerFactoryTest {
+
+    /**
+     * Test case to verify that the analytic backend is used by default.
+     */
+    @Test
+    void testDefaultBackend() {
+        CollisionHandlerFactory factory = new CollisionHandlerFactory();
+        assertEquals(CollisionHandlerFactory.Backend.ANALYTIC, factory.getBackend());
+
+        CollisionHandler handler = factory.createCollisionHandler();
+        assertTrue(handler.getBackend() instanceof AnalyticCollisionBackend);
+    }
+
+    /**
+     * Test case to verify that the Bullet backend can still be chosen.
+     */
+    @Test
+    void testBulletBackend() {
+        Bullet.init();
+        CollisionHandlerFactory factory = new CollisionHandlerFactory();
+        factory.setBackend(CollisionHandlerFactory.Backend.BULLET);
+        assertEquals(CollisionHandlerFactory.Backend.BULLET, factory.getBackend());
+
+        CollisionHandler handler = factory.createCollisionHandler();
+        assertTrue(handler.getBackend() instanceof BulletCollisionBackend);
+    }
+
+    /**
+     * Test case to verify that the handlers of a scene are shared, and that
+     * a new handler with a new context is created after the context is released.
+     */
+    @Test
+    void testSharedHandler() {
+        Bullet.init();
+        CollisionHandlerFactory factory =
+                new CollisionHandlerFactory(CollisionHandlerFactory.Backend.BULLET);
+
+        CollisionHandler handler = factory.createCollisionHandler();
+        assertSame(handler, factory.createCollisionHandler());
+        assertEquals(1, factory.getContextCount());
+
+        CollisionContext context = factory.releaseContext();
+        assertSame(context.getDispatcher(),
+                ((BulletCollisionBackend) handler.getBackend()).getDispatcher());
+        assertNotSame(handler, factory.createCollisionHandler());
+        assertEquals(2, factory.getContextCount());
+        assertNotSame(context, factory.releaseContext());
+    }
+
+    /**
+     * Test case to verify that the analytic backend needs no native context.
+     */
+    @Test
+    void testAnalyticNoContext() {
+        CollisionHandlerFactory factory = new CollisionHandlerFactory();
+        factory.createCollisionHandler();
+
+        assertNull(factory.releaseContext());
+        assertEquals(0, factory.getContextCount());
+    }
+
+    /**
+     * Test case to verify that changing the backend creates a new handler.
+     */
+    @Test
+    void testSetBackendNewHandler() {
+        CollisionHandlerFactory factory = new CollisionHandlerFactory();
+        CollisionHandler handler = factory.createCollisionHandler();
+        factory.setBackend(CollisionHandlerFactory.Backend.ANALYTIC);
+
+        assertNotSame(handler, factory.createCollisionHandler());
+    }
+}
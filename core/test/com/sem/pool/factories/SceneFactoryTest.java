@@ -2,17 +2,29 @@ package com.sem.pool.factories;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.Model;
 import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.physics.bullet.Bullet;
 import com.sem.pool.game.GameConstants;
 import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.BulletCollisionWorld;
+import com.sem.pool.scene.CollisionContext;
+import com.sem.pool.scene.CollisionHandler;
 import com.sem.pool.scene.Cue3D;
+import com.sem.pool.scene.NativeTracker;
 import com.sem.pool.scene.Scene3D;
 import com.sem.pool.scene.SoundPlayer;
 import com.sem.pool.scene.Table3D;
 
+import java.util.ArrayList;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -147,4 +159,118 @@ class SceneFactoryTest {
         assertNotNull(scene.getTable());
     }
 
-}
\ No newline at end of file
+    /**
+     * Test case to verify that the scene does not get a collision
+     * context if the analytic collision backend is used.
+     */
+    @Test
+    public void testCreateSceneNoContext() {
+        Scene3D scene = sceneFactory.createScene();
+
+        assertNull(scene.getCollisionContext());
+        assertEquals(0, sceneFactory.getCollisionHandlerFactory().getContextCount());
+    }
+
+    /**
+     * Test case to verify that a single native collision context is
+     * created per scene with the Bullet backend, shared by all the balls
+     * and the table, and released when the scene is disposed.
+     */
+    @Test
+    public void testCreateSceneSharedContext() {
+        CollisionHandlerFactory collisionHandlerFactory = useBulletFactories();
+
+        Scene3D scene = sceneFactory.createScene();
+
+        assertEquals(1, collisionHandlerFactory.getContextCount());
+        CollisionHandler handler = scene.getTable().getCollisionHandler();
+        for (Ball3D ball : scene.getPoolBalls()) {
+            assertSame(handler, ball.getCollisionHandler());
+        }
+        CollisionContext context = scene.getCollisionContext();
+        assertNotNull(context);
+
+        scene.dispose();
+        assertTrue(context.isDisposed());
+
+        // The next scene gets a context of its own
+        Scene3D next = sceneFactory.createScene();
+        assertEquals(2, collisionHandlerFactory.getContextCount());
+        assertNotSame(context, next.getCollisionContext());
+    }
+
+    /**
+     * Test case to verify that the native objects of the hit boxes and the
+     * collision context are all released again when a scene is disposed,
+     * so that native memory stays flat over many consecutive scenes.
+     */
+    @Test
+    public void testCreateSceneSoak() {
+        final int scenes = 1000;
+        useBulletFactories();
+        NativeTracker.reset();
+        NativeTracker.setEnabled(true);
+        try {
+            Scene3D first = sceneFactory.createScene();
+            final int perScene = NativeTracker.getLiveCount();
+            first.dispose();
+            assertTrue(perScene > 0);
+            assertEquals(0, NativeTracker.getLiveCount());
+
+            for (int i = 1; i < scenes; i++) {
+                Scene3D scene = sceneFactory.createScene();
+                assertEquals(perScene, NativeTracker.getLiveCount());
+                scene.dispose();
+            }
+            assertEquals(0, NativeTracker.getLiveCount(),
+                    NativeTracker.getLiveCounts().toString());
+        } finally {
+            NativeTracker.setEnabled(false);
+            NativeTracker.reset();
+        }
+    }
+
+    /**
+     * Test case to verify that with the collision world mode, the hit boxes of
+     * all balls, borders and pots are registered in the collision world of the
+     * scene, and that the world is released with the scene.
+     */
+    @Test
+    public void testCreateSceneCollisionWorld() {
+        useBulletFactories().setBackend(CollisionHandlerFactory.Backend.BULLET_WORLD);
+        NativeTracker.reset();
+        NativeTracker.setEnabled(true);
+        try {
+            Scene3D scene = sceneFactory.createScene();
+
+            BulletCollisionWorld collisionWorld = scene.getPhysicsWorld().getCollisionWorld();
+            assertEquals(GameConstants.BALL_COUNT + scene.getTable().getHitBoxes().size()
+                    + scene.getTable().getPotHitBoxes().size(), collisionWorld.getObjectCount());
+
+            scene.dispose();
+            assertEquals(0, collisionWorld.getObjectCount());
+            assertEquals(0, NativeTracker.getLiveCount());
+        } finally {
+            NativeTracker.setEnabled(false);
+            NativeTracker.reset();
+        }
+    }
+
+    /**
+     * Replaces the mocked ball and table factories by real factories with
+     * the Bullet collision backend, which load empty models.
+     * @return  The collision handler factory used by the scene factory
+     */
+    private CollisionHandlerFactory useBulletFactories() {
+        Bullet.init();
+        AssetLoader assetLoader = Mockito.mock(AssetLoader.class);
+        Mockito.when(assetLoader.loadModel(Mockito.any()))
+                .thenAnswer(invocation -> new ModelInstance(new Model()));
+        sceneFactory.setBallFactory(new BallFactory(new ArrayList<>(), assetLoader));
+        sceneFactory.setTableFactory(new TableFactory(null, assetLoader));
+        CollisionHandlerFactory collisionHandlerFactory =
+                new CollisionHandlerFactory(CollisionHandlerFactory.Backend.BULLET);
+        sceneFactory.setCollisionHandlerFactory(collisionHandlerFactory);
+        return collisionHandlerFactory;
+    }
+}
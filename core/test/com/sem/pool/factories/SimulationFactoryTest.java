@@ -0,0 +1,88 @@
+package com.sem.pool.factories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.game.GameConstants;
+import com.sem.pool.game.Player;
+import com.sem.pool.game.Simulation;
+import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.CueBall3D;
+import com.sem.pool.scene.EightBall3D;
+import com.sem.pool.scene.Table3D;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the SimulationFactory class.
+ */
+class SimulationFactoryTest {
+    private transient SimulationFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        factory = new SimulationFactory();
+    }
+
+    /**
+     * Test case to verify the getter and setter of the collision handler factory.
+     */
+    @Test
+    void testCollisionHandlerFactory() {
+        CollisionHandlerFactory handlerFactory = new CollisionHandlerFactory();
+        factory.setCollisionHandlerFactory(handlerFactory);
+
+        assertEquals(handlerFactory, factory.getCollisionHandlerFactory());
+    }
+
+    /**
+     * Test case to verify that headless balls have the type
+     * and size of the balls of the interactive game.
+     */
+    @Test
+    void testCreateBall() {
+        Ball3D ball = factory.createBall(GameConstants.EIGHTBALL_ID);
+
+        assertTrue(ball instanceof EightBall3D);
+        assertEquals(SimulationFactory.BALL_RADIUS, ball.getRadius());
+        assertFalse(ball.getCollisionHandler().requiresNativeObjects());
+    }
+
+    /**
+     * Test case to verify that a headless table has the borders
+     * and pots of the interactive game, without Bullet objects.
+     */
+    @Test
+    void testCreateTable() {
+        Table3D table = factory.createTable();
+
+        assertEquals(4, table.getHitBoxes().size());
+        assertEquals(TableFactory.getPotLocations().size(), table.getPotHitBoxes().size());
+        assertNull(table.getHitBoxes().get(0).getObject());
+    }
+
+    /**
+     * Test case to verify that a new simulation is started,
+     * with the balls set up for the break shot.
+     */
+    @Test
+    void testCreateSimulation() {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        Simulation simulation = factory.createSimulation(players);
+
+        assertEquals(GameConstants.BALL_COUNT, simulation.getPoolBalls().size());
+        assertTrue(simulation.getCueBall() instanceof CueBall3D);
+        assertEquals(new Vector3(-1.75f, 0.28f, 0), simulation.getCueBall().getCoordinates());
+        assertNull(simulation.getCueBall().getHitBox().getObject());
+        assertTrue(simulation.getState().isIdle());
+    }
+}
@@ -1,6 +1,10 @@
 package com.sem.pool.factories;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
@@ -8,7 +12,12 @@ import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.bullet.Bullet;
 import com.badlogic.gdx.physics.bullet.collision.btCollisionObject;
+import com.sem.pool.scene.CollisionHandler;
+import com.sem.pool.scene.HitBox;
 import com.sem.pool.scene.Table3D;
+
+import java.util.HashSet;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -87,4 +96,88 @@ class TableFactoryTest {
                 factory.createObject(), mockedCollisionObject, new Vector3(0,0,1));
         Mockito.verify(mockedCollisionObject).setWorldTransform(Mockito.any());
     }
+
+    /**
+     * Test case to verify that the hit boxes of a table with the analytic
+     * collision backend are created without any Bullet objects.
+     */
+    @Test
+    public void testSetUpBoxesAnalytic() {
+        Table3D table = factory.createObject();
+        table.setCollisionHandler(new CollisionHandlerFactory(
+                CollisionHandlerFactory.Backend.ANALYTIC).createCollisionHandler());
+
+        assertNull(factory.createCollisionObject(table));
+
+        factory.setBoundingBoxes(table);
+        factory.setUpPotHitBoxes(table);
+
+        assertEquals(4, table.getHitBoxes().size());
+        assertEquals(TableFactory.getPotLocations().size(), table.getPotHitBoxes().size());
+        for (HitBox hitBox : table.getHitBoxes()) {
+            assertNull(hitBox.getObject());
+            assertEquals(HitBox.Type.BOX, hitBox.getType());
+        }
+        assertEquals(HitBox.Type.CYLINDER, table.getPotHitBoxes().get(0).getType());
+        assertEquals(TableFactory.getPotLocations().get(0),
+                table.getPotHitBoxes().get(0).getPosition());
+        // Every pot has half extents of its own
+        assertEquals(table.getPotHitBoxes().get(0).getHalfExtents(),
+                table.getPotHitBoxes().get(1).getHalfExtents());
+        assertNotSame(table.getPotHitBoxes().get(0).getHalfExtents(),
+                table.getPotHitBoxes().get(1).getHalfExtents());
+    }
+
+    /**
+     * Test case to verify that the tables with the analytic collision backend
+     * share one compiled geometry, and that no two pots are at the same location.
+     */
+    @Test
+    public void testSetUpGeometry() {
+        CollisionHandlerFactory handlerFactory = new CollisionHandlerFactory(
+                CollisionHandlerFactory.Backend.ANALYTIC);
+        factory.setCollisionHandlerFactory(handlerFactory);
+        Table3D table = factory.createObject();
+        factory.setBoundingBoxes(table);
+        factory.setUpPotHitBoxes(table);
+        factory.setUpGeometry(table);
+        Table3D other = factory.createObject();
+        factory.setBoundingBoxes(other);
+        factory.setUpPotHitBoxes(other);
+        factory.setUpGeometry(other);
+
+        assertNotNull(table.getGeometry());
+        assertSame(table.getGeometry(), other.getGeometry());
+        assertEquals(TableFactory.getPotLocations().size(),
+                new HashSet<>(TableFactory.getPotLocations()).size());
+    }
+
+    /**
+     * Test case to verify that changing the returned pot locations
+     * does not change the pots of the next tables.
+     */
+    @Test
+    public void testGetPotLocationsCopied() {
+        Vector3 location = TableFactory.getPotLocations().get(0);
+        Vector3 expected = location.cpy();
+
+        location.add(1, 1, 1);
+
+        assertEquals(expected, TableFactory.getPotLocations().get(0));
+    }
+
+    /**
+     * Test case to verify that a table with a Bullet collision
+     * backend keeps checking its hit boxes through the handler.
+     */
+    @Test
+    public void testSetUpGeometryBullet() {
+        Table3D table = factory.createObject();
+        table.setCollisionHandler(Mockito.mock(CollisionHandler.class));
+        Mockito.when(table.getCollisionHandler().requiresNativeObjects()).thenReturn(true);
+
+        factory.setUpGeometry(table);
+
+        assertNull(table.getGeometry());
+    }
 }
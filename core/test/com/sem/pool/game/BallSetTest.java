@@ -0,0 +1,53 @@
+package com.sem.pool.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.RegularBall3D;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test class containing unit tests for the BallSet class.
+ */
+class BallSetTest {
+
+    /**
+     * Test case to verify that the set of a ball only contains that ball.
+     */
+    @Test
+    void testOf() {
+        Ball3D ball = Mockito.mock(Ball3D.class);
+        Mockito.when(ball.getId()).thenReturn(5);
+
+        int set = BallSet.of(ball);
+        assertEquals(1, BallSet.size(set));
+        assertTrue(BallSet.contains(set, 5));
+        assertFalse(BallSet.contains(set, 4));
+        assertFalse(BallSet.contains(BallSet.EMPTY, 5));
+    }
+
+    /**
+     * Test case to verify that the sets of the types contain the
+     * full and striped balls, and neither the cue ball nor the eight ball.
+     */
+    @Test
+    void testOfType() {
+        int full = BallSet.ofType(RegularBall3D.Type.FULL);
+        int striped = BallSet.ofType(RegularBall3D.Type.STRIPED);
+
+        assertEquals(7, BallSet.size(full));
+        assertEquals(7, BallSet.size(striped));
+        assertEquals(BallSet.EMPTY, full & striped);
+        for (int id = 1; id < GameConstants.EIGHTBALL_ID; id++) {
+            assertTrue(BallSet.contains(full, id));
+            assertTrue(BallSet.contains(striped, id + GameConstants.EIGHTBALL_ID));
+        }
+        assertFalse(BallSet.contains(full | striped, GameConstants.CUEBALL_ID));
+        assertFalse(BallSet.contains(full | striped, GameConstants.EIGHTBALL_ID));
+        assertEquals(BallSet.EMPTY, BallSet.ofType(RegularBall3D.Type.UNASSIGNED));
+    }
+}
@@ -0,0 +1,25 @@
+package com.sem.pool.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.badlogic.gdx.math.Vector3;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the ComputerPlayer class.
+ */
+class ComputerPlayerTest {
+    /**
+     * Test case to verify that changing the returned cue ball spots
+     * does not change the spots of the next placements.
+     */
+    @Test
+    public void testGetCueBallSpotsCopied() {
+        Vector3 spot = ComputerPlayer.getCueBallSpots().get(0);
+        Vector3 expected = spot.cpy();
+
+        spot.add(1, 1, 1);
+
+        assertEquals(expected, ComputerPlayer.getCueBallSpots().get(0));
+    }
+}
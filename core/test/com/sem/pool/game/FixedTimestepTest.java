@@ -0,0 +1,123 @@
+package com.sem.pool.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.RegularBall3D;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test class containing unit tests for the FixedTimestep class.
+ */
+class FixedTimestepTest {
+    private static final float STEP = 0.25f;
+
+    /**
+     * Test case to verify that the constructor sets the step parameters.
+     */
+    @Test
+    void testConstructor() {
+        FixedTimestep timestep = new FixedTimestep(STEP, 3);
+
+        assertEquals(STEP, timestep.getStep());
+        assertEquals(3, timestep.getMaxSubSteps());
+        assertEquals(0, timestep.getAlpha());
+    }
+
+    /**
+     * Test case to verify that frame time is accumulated
+     * until a whole step can be taken.
+     */
+    @Test
+    void testAdvanceAccumulates() {
+        FixedTimestep timestep = new FixedTimestep(STEP, 3);
+
+        assertEquals(0, timestep.advance(0.125f));
+        assertEquals(0.5f, timestep.getAlpha());
+
+        assertEquals(1, timestep.advance(0.125f));
+        assertEquals(0, timestep.getAlpha());
+    }
+
+    /**
+     * Test case to verify that multiple steps are taken for
+     * a long frame, and the remainder is kept.
+     */
+    @Test
+    void testAdvanceMultipleSteps() {
+        FixedTimestep timestep = new FixedTimestep(STEP, 3);
+
+        assertEquals(2, timestep.advance(0.625f));
+        assertEquals(0.5f, timestep.getAlpha());
+    }
+
+    /**
+     * Test case to verify that the number of steps for a single frame
+     * is clamped, and that the remaining time is dropped.
+     */
+    @Test
+    void testAdvanceClamped() {
+        FixedTimestep timestep = new FixedTimestep(STEP, 3);
+
+        assertEquals(3, timestep.advance(10f));
+        assertEquals(0, timestep.getAlpha());
+        assertEquals(0, timestep.advance(0.125f));
+    }
+
+    /**
+     * Test case to verify that resetting clears the accumulated time.
+     */
+    @Test
+    void testReset() {
+        FixedTimestep timestep = new FixedTimestep(STEP, 3);
+        timestep.advance(0.125f);
+
+        timestep.reset();
+
+        assertEquals(0, timestep.getAlpha());
+        assertEquals(0, timestep.advance(0.125f));
+    }
+
+    /**
+     * Test case to verify that a shot simulated at 30, 60 and 144
+     * frames per second ends up at the exact same position.
+     */
+    @Test
+    void testFrameRateIndependence() {
+        Vector3 expected = simulateShot(30);
+
+        assertEquals(expected, simulateShot(60));
+        assertEquals(expected, simulateShot(144));
+    }
+
+    /**
+     * Simulates a single shot of a ball until it comes to rest,
+     * rendering at the specified frame rate.
+     *
+     * @param framesPerSecond  Frame rate to advance the simulation at
+     * @return  Final position of the ball
+     */
+    private Vector3 simulateShot(int framesPerSecond) {
+        ModelInstance model = Mockito.mock(ModelInstance.class);
+        model.transform = new Matrix4();
+        Ball3D ball = new RegularBall3D(1, model);
+        ball.setDirection(new Vector3(1, 0, 1));
+        ball.setSpeed(0.02f);
+
+        FixedTimestep timestep = new FixedTimestep(GameConstants.PHYSICS_STEP,
+                GameConstants.MAX_SUB_STEPS);
+        while (ball.isInMotion()) {
+            int steps = timestep.advance(1f / framesPerSecond);
+            for (int i = 0; i < steps; i++) {
+                ball.move(timestep.getStep());
+            }
+        }
+
+        return ball.getCoordinates();
+    }
+}
@@ -68,6 +68,7 @@ class GameAndStateIntegrationTest extends GameBaseTest {
     /**
      * Test case to verify that a running game with moving balls
      * will move the balls and trigger collisions when the advance game loop is called.
+     * The number of physics steps is clamped to the sub-step limit.
      */
     @Test
     void testAdvanceGameLoopMoveBalls() {
@@ -80,7 +81,8 @@ class GameAndStateIntegrationTest extends GameBaseTest {
         final float deltaTime = 42f;
         game.advanceGameLoop(deltaTime);
 
-        Mockito.verify(scene).triggerCollisions();
+        // A long frame results in multiple fixed physics steps
+        Mockito.verify(scene, Mockito.times(GameConstants.MAX_SUB_STEPS)).triggerCollisions();
     }
 
     @Test
@@ -2,6 +2,8 @@ package com.sem.pool.game;
 
 import com.badlogic.gdx.Input;
 import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.BallStateBuffer;
+import com.sem.pool.scene.RegularBall3D;
 import com.sem.pool.scene.Scene3D;
 import com.sem.pool.screens.MainGame;
 import java.util.ArrayList;
@@ -26,10 +28,14 @@ abstract class GameBaseTest {
     void setUp() {
         scene = Mockito.mock(Scene3D.class);
         input = Mockito.mock(Input.class);
+        Mockito.when(scene.getBallStates()).thenReturn(new BallStateBuffer(0));
 
         players = new ArrayList<>();
-        players.add(Mockito.mock(Player.class));
-        players.add(Mockito.mock(Player.class));
+        for (int i = 0; i < 2; i++) {
+            Player player = Mockito.mock(Player.class);
+            Mockito.when(player.getBallType()).thenReturn(RegularBall3D.Type.UNASSIGNED);
+            players.add(player);
+        }
 
         poolBalls = new ArrayList<>();
     }
@@ -38,13 +44,17 @@ abstract class GameBaseTest {
     @SuppressWarnings("PMD.DataflowAnomalyAnalysis")
     protected void setupScenePoolBallsHelper(boolean... motion) {
         List<Ball3D> balls = new ArrayList<>();
+        boolean inMotion = false;
 
         for (boolean b : motion) {
             Ball3D ball = Mockito.mock(Ball3D.class);
             Mockito.when(ball.isInMotion()).thenReturn(b);
             balls.add(ball);
+            inMotion |= b;
         }
 
         Mockito.when(scene.getPoolBalls()).thenReturn(balls);
+        Mockito.when(scene.isInMotion()).thenReturn(inMotion);
+        Mockito.when(scene.getBallStates()).thenReturn(new BallStateBuffer(0));
     }
 }
\ No newline at end of file
@@ -0,0 +1,154 @@
+package com.sem.pool.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sem.pool.scene.Ball3D;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+/**
+ * Test class containing unit tests for the GameEventBus class.
+ */
+class GameEventBusTest {
+    private static final int EVENTS = 1000;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    // Tasks submitted to the background executor, run by the tests
+    private transient List<Runnable> tasks;
+    private transient GameEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        tasks = new ArrayList<>();
+        bus = new GameEventBus(tasks::add);
+    }
+
+    /**
+     * Test case to verify that inline observers receive
+     * the events while they are published.
+     */
+    @Test
+    void testInline() {
+        GameObserver observer = Mockito.mock(GameObserver.class);
+        bus.subscribe(observer, GameEventBus.Delivery.INLINE);
+
+        bus.publish(GameObserver::onMotion);
+
+        Mockito.verify(observer).onMotion();
+        assertTrue(tasks.isEmpty());
+    }
+
+    /**
+     * Test case to verify that background observers receive the events in
+     * order on the executor, with a single task for all queued events.
+     */
+    @Test
+    void testBackground() {
+        GameObserver observer = Mockito.mock(GameObserver.class);
+        Ball3D ball = Mockito.mock(Ball3D.class);
+        bus.subscribe(observer, GameEventBus.Delivery.BACKGROUND);
+
+        bus.publish(GameObserver::onMotion);
+        bus.publish(o -> o.onBallPotted(ball));
+        bus.publish(o -> o.onMotionStop(ball));
+        Mockito.verifyNoInteractions(observer);
+        assertEquals(1, tasks.size());
+
+        tasks.remove(0).run();
+        InOrder order = Mockito.inOrder(observer);
+        order.verify(observer).onMotion();
+        order.verify(observer).onBallPotted(ball);
+        order.verify(observer).onMotionStop(ball);
+
+        bus.publish(GameObserver::onGameStarted);
+        assertEquals(1, tasks.size());
+    }
+
+    /**
+     * Test case to verify that an observer which throws an exception
+     * still receives the events that were queued after it.
+     */
+    @Test
+    void testBackgroundException() {
+        GameObserver observer = Mockito.mock(GameObserver.class);
+        Mockito.doThrow(new IllegalStateException()).when(observer).onMotion();
+        bus.subscribe(observer, GameEventBus.Delivery.BACKGROUND);
+
+        bus.publish(GameObserver::onMotion);
+        bus.publish(GameObserver::onGameStarted);
+        assertThrows(IllegalStateException.class, () -> tasks.remove(0).run());
+
+        tasks.remove(0).run();
+        Mockito.verify(observer).onGameStarted();
+        assertTrue(tasks.isEmpty());
+    }
+
+    /**
+     * Test case to verify that unsubscribed observers do not receive
+     * events anymore, and that the subscribers are kept in order.
+     */
+    @Test
+    void testUnsubscribe() {
+        GameObserver first = Mockito.mock(GameObserver.class);
+        GameObserver second = Mockito.mock(GameObserver.class);
+        bus.subscribe(first, GameEventBus.Delivery.INLINE);
+        bus.subscribe(second, GameEventBus.Delivery.BACKGROUND);
+        List<GameObserver> expected = new ArrayList<>();
+        expected.add(first);
+        expected.add(second);
+        assertEquals(expected, new ArrayList<>(bus.getSubscribers()));
+
+        bus.unsubscribe(first);
+        bus.publish(GameObserver::onMotion);
+
+        assertFalse(bus.getSubscribers().contains(first));
+        Mockito.verifyNoInteractions(first);
+        assertEquals(1, tasks.size());
+    }
+
+    /**
+     * Test case to verify that a slow background observer on real threads
+     * receives all events in order, while publishing blocks whenever its
+     * queue is full.
+     * @throws InterruptedException  If the test was interrupted while waiting
+     */
+    @Test
+    void testBackgroundThreads() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        GameEventBus threaded = new GameEventBus(executor);
+        List<Integer> received = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(EVENTS);
+        GameObserver observer = Mockito.mock(GameObserver.class);
+        Mockito.doAnswer(invocation -> {
+            received.add(invocation.getArgument(0, Ball3D.class).getId());
+            done.countDown();
+            return null;
+        }).when(observer).onBallPotted(Mockito.any());
+        threaded.subscribe(observer, GameEventBus.Delivery.BACKGROUND);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            Ball3D ball = Mockito.mock(Ball3D.class);
+            Mockito.when(ball.getId()).thenReturn(i);
+            threaded.publish(o -> o.onBallPotted(ball));
+            expected.add(i);
+        }
+
+        assertTrue(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(expected, received);
+    }
+}
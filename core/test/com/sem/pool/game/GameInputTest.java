@@ -1,6 +1,9 @@
 package com.sem.pool.game;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 
 import com.badlogic.gdx.Input;
@@ -13,8 +16,10 @@ import com.sem.pool.database.Database;
 import com.sem.pool.scene.Ball3D;
 import com.sem.pool.scene.Cue3D;
 import com.sem.pool.scene.CueBall3D;
+import com.sem.pool.scene.RegularBall3D;
 
 import com.sem.pool.scene.SoundPlayer;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -125,6 +130,38 @@ class GameInputTest extends GameBaseTest {
 
         Mockito.verify(cue, Mockito.times(1)).shoot(any(Ball3D.class));
         Mockito.verify(cue, Mockito.never()).toPosition(any(Vector3.class), any(Ball3D.class));
+
+        ReplayLog expected = new ReplayLog(gameState.getSeed());
+        expected.recordShot(scene.getCueBall().getDirection(), 1f);
+        assertArrayEquals(expected.toByteArray(), game.getReplayLog().toByteArray());
+    }
+
+    /**
+     * Test case to verify that pressing U after a shot restores the game to
+     * right before the shot, and removes the shot from the replay log.
+     */
+    @Test
+    public void testUndoLastShot() {
+        Mockito.when(scene.getSoundPlayer()).thenReturn(Mockito.mock(SoundPlayer.class));
+        Mockito.doNothing().when(cue).toDragPosition(any(Vector3.class), any(CueBall3D.class));
+        gameState.onGameStarted();
+        final int shooter = gameState.getTurnHandler().getPlayerTurn();
+        cue.setState(Cue3D.State.Dragging);
+        cue.setCurrentForce(1f);
+
+        game.processCueInput();
+        assertFalse(game.undoLastShot());
+        gameState.onMotionStop(null);
+        Mockito.when(input.isKeyJustPressed(Input.Keys.U)).thenReturn(true);
+        game.respondToInput();
+
+        assertTrue(gameState.isIdle());
+        assertEquals(shooter, gameState.getTurnHandler().getPlayerTurn());
+        assertEquals(0, gameState.getTurnHandler().getTurnCount());
+        assertArrayEquals(new ReplayLog(gameState.getSeed()).toByteArray(),
+                game.getReplayLog().toByteArray());
+        Mockito.verify(scene, Mockito.times(2)).wakeBalls();
+        assertFalse(game.undoLastShot());
     }
 
     /**
@@ -182,6 +219,91 @@ class GameInputTest extends GameBaseTest {
     }
 
 
+    /**
+     * Sets up the game with a mocked computer player as the active player,
+     * which chooses the specified shot.
+     * @param shot  Shot the computer player chooses
+     * @return  Mocked computer player
+     */
+    private ComputerPlayer setupComputerPlayer(Shot shot) {
+        ComputerPlayer computer = Mockito.mock(ComputerPlayer.class);
+        Mockito.when(computer.chooseShotAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(shot));
+        Mockito.when(computer.getBallType()).thenReturn(RegularBall3D.Type.UNASSIGNED);
+        players.set(0, computer);
+        Mockito.when(scene.getSoundPlayer()).thenReturn(Mockito.mock(SoundPlayer.class));
+        Mockito.doNothing().when(cue).hideCue();
+        return computer;
+    }
+
+    /**
+     * Test case to verify that the computer player takes the shot it
+     * chooses when it is their turn, without any input of the user.
+     */
+    @Test
+    public void testRespondToInputComputerPlayer() {
+        Shot shot = new Shot(new Vector3(0, 0, 1), 0.5f, 0);
+        ComputerPlayer computer = setupComputerPlayer(shot);
+
+        game.respondToInput();
+
+        Mockito.verify(computer).chooseShotAsync(scene.getPoolBalls());
+        assertEquals(shot.getDirection(), scene.getCueBall().getDirection());
+        assertEquals(shot.getForce(), scene.getCueBall().getSpeed());
+        Mockito.verify(cue).hideCue();
+        Mockito.verify(scene.getSoundPlayer()).playCueSound();
+        Mockito.verify(input, Mockito.never()).isButtonPressed(Mockito.anyInt());
+        assertFalse(gameState.isIdle());
+    }
+
+    /**
+     * Test case to verify that the game keeps running while the computer
+     * searches its shot, and that the shot is taken once it is found.
+     */
+    @Test
+    public void testRespondToInputComputerPlayerSearching() {
+        Shot shot = new Shot(new Vector3(0, 0, 1), 0.5f, 0);
+        ComputerPlayer computer = setupComputerPlayer(shot);
+        CompletableFuture<Shot> search = new CompletableFuture<>();
+        Mockito.when(computer.chooseShotAsync(any())).thenReturn(search);
+
+        game.respondToInput();
+        game.respondToInput();
+        Mockito.verify(cue, Mockito.never()).hideCue();
+        Mockito.verify(scene.getSoundPlayer(), Mockito.never()).playCueSound();
+
+        search.complete(shot);
+        game.respondToInput();
+
+        Mockito.verify(computer).chooseShotAsync(scene.getPoolBalls());
+        assertEquals(shot.getForce(), scene.getCueBall().getSpeed());
+        assertFalse(gameState.isIdle());
+    }
+
+    /**
+     * Test case to verify that the computer player places the cue ball
+     * on the first free spot after it has been potted.
+     */
+    @Test
+    public void testPlayComputerTurnCueBallPotted() {
+        ComputerPlayer computer = setupComputerPlayer(new Shot(new Vector3(1, 0, 0), 0.5f, 0));
+        gameState.getGameBallState().markCueBallAsPotted();
+        Mockito.when(scene.placeCueBall(any(Vector3.class))).thenReturn(false, true);
+
+        game.playComputerTurn(computer);
+
+        Mockito.verify(scene).placeCueBall(ComputerPlayer.getCueBallSpots().get(0));
+        Mockito.verify(scene).placeCueBall(ComputerPlayer.getCueBallSpots().get(1));
+        Mockito.verify(scene, Mockito.times(2)).placeCueBall(any(Vector3.class));
+        assertFalse(gameState.isCueBallPotted());
+
+        ReplayLog expected = new ReplayLog(gameState.getSeed());
+        expected.recordPlacement(ComputerPlayer.getCueBallSpots().get(1));
+        expected.recordShot(new Vector3(1, 0, 0), 0.5f);
+        assertArrayEquals(expected.toByteArray(), game.getReplayLog().toByteArray());
+    }
+
+
     /**
      * Helper method that makes a cue ball.
      * @return CueBall3D cue ball.
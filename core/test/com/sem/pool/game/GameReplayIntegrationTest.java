@@ -0,0 +1,152 @@
+package com.sem.pool.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.Cue3D;
+import com.sem.pool.scene.GameElements;
+import com.sem.pool.scene.Scene3D;
+import com.sem.pool.scene.SceneElements;
+import com.sem.pool.scene.SoundPlayer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test class for Game & ReplayLog integration testing: a match that is
+ * played in the interactive Game is replayed on a headless Simulation.
+ */
+class GameReplayIntegrationTest extends GameBaseTest {
+    private static final long SEED = 7;
+    // Shots after which the positions of the balls are compared
+    private static final int MATCH_SHOTS = 20;
+    private static final float FRAME_TIME = 1 / 60f;
+    // Upper bound of the frames of the match, so that a stuck game fails
+    private static final int MAX_FRAMES = 60 * 60 * 200;
+
+    private transient SimulationFactory factory;
+    private transient int shots;
+
+    /**
+     * Computer player that plays random shots, instead of searching them.
+     */
+    private final class RandomComputer extends ComputerPlayer {
+        private final transient Random random;
+
+        RandomComputer(int id) {
+            super(id, null);
+            this.random = new Random(SEED + id);
+        }
+
+        @Override
+        public CompletableFuture<Shot> chooseShotAsync(List<Ball3D> poolBalls) {
+            float angle = random.nextFloat() * MathUtils.PI2;
+            Vector3 direction = new Vector3(MathUtils.cos(angle), 0, MathUtils.sin(angle));
+            float force = random.nextFloat() * GameConstants.MAX_CUE_FORCE;
+            shots++;
+            return CompletableFuture.completedFuture(new Shot(direction, force, 0));
+        }
+    }
+
+    /**
+     * Sets up an interactive Game between two computer players, on a scene
+     * with the headless balls and table of the simulations.
+     */
+    @Override
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+        factory = new SimulationFactory();
+        players = new ArrayList<>();
+        players.add(new RandomComputer(0));
+        players.add(new RandomComputer(1));
+        // Balls positioned for the break shot, which are bound to the scene instead
+        poolBalls = factory.createSimulation(createPlayers(), SEED).getPoolBalls();
+
+        GameElements gameElements = new GameElements(poolBalls, factory.createTable(),
+                Mockito.mock(Cue3D.class));
+        SceneElements sceneElements = new SceneElements(Mockito.mock(Environment.class),
+                Mockito.mock(Camera.class), Mockito.mock(SoundPlayer.class));
+        scene = new Scene3D(Mockito.mock(ModelBatch.class), gameElements, sceneElements);
+
+        gameState = new GameState(players, poolBalls);
+        gameState.setSeed(SEED);
+        game = new Game(scene, input, gameState);
+    }
+
+    private static List<Player> createPlayers() {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        return players;
+    }
+
+    /**
+     * Returns the positions of the specified balls.
+     * @param balls  Balls to get the positions of
+     * @return  Positions of the balls, in order
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags ball
+    // as a UR anomaly / being undefined
+    private static List<Vector3> positions(List<Ball3D> balls) {
+        List<Vector3> positions = new ArrayList<>();
+        for (Ball3D ball : balls) {
+            positions.add(ball.getCoordinates());
+        }
+        return positions;
+    }
+
+    /**
+     * Test case to verify that replaying the log of a match that was played
+     * in the interactive Game on a new Simulation reproduces the match:
+     * the positions of the balls after a number of shots, and the winner.
+     * @throws IOException  If the log is corrupt
+     */
+    @Test
+    void testReplayReproducesGame() throws IOException {
+        // Positions and log once the balls came to rest after a number of shots
+        List<Vector3> positions = new ArrayList<>();
+        ByteArrayOutputStream prefix = new ByteArrayOutputStream();
+        GameObserver observer = Mockito.mock(GameObserver.class);
+        Mockito.doAnswer(invocation -> {
+            if (shots == MATCH_SHOTS) {
+                positions.addAll(positions(poolBalls));
+                game.getReplayLog().writeTo(prefix);
+            }
+            return null;
+        }).when(observer).onMotionStop(Mockito.any());
+        game.addObserver(observer);
+
+        game.startGame();
+        for (int frame = 0; frame < MAX_FRAMES && !gameState.getWinningPlayer().isPresent();
+                frame++) {
+            game.advanceGameLoop(FRAME_TIME);
+        }
+
+        ReplayLog log = game.getReplayLog();
+        Simulation replay = factory.createSimulation(createPlayers(), log.getSeed());
+        assertEquals(shots, log.replay(replay).size());
+        assertTrue(gameState.getWinningPlayer().isPresent());
+        assertEquals(gameState.getWinningPlayer().get().getId(),
+                replay.getState().getWinningPlayer().map(Player::getId).orElse(-1));
+
+        ReplayLog shortLog = ReplayLog.readFrom(new ByteArrayInputStream(prefix.toByteArray()));
+        Simulation shortReplay = factory.createSimulation(createPlayers(), shortLog.getSeed());
+        assertEquals(MATCH_SHOTS, shortLog.replay(shortReplay).size());
+        assertEquals(positions, positions(shortReplay.getPoolBalls()));
+    }
+}
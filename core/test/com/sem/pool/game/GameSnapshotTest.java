@@ -0,0 +1,169 @@
+package com.sem.pool.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.RegularBall3D;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the GameSnapshot class.
+ */
+class GameSnapshotTest {
+    private static final long SEED = 3;
+    private static final int SHOTS = 12;
+
+    private transient Simulation simulation;
+    private transient GameState state;
+
+    @BeforeEach
+    void setUp() {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        simulation = new SimulationFactory().createSimulation(players, SEED);
+        state = simulation.getState();
+    }
+
+    /**
+     * Plays random shots on the simulation until it is not idle anymore.
+     * @param random  Source of the directions and forces of the shots
+     * @param shots  Maximum number of shots to play
+     * @return  Outcomes of the shots
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags spot
+    // as a UR anomaly / being undefined
+    private List<ShotOutcome> play(Random random, int shots) {
+        List<ShotOutcome> outcomes = new ArrayList<>();
+        for (int shot = 0; shot < shots && state.isIdle(); shot++) {
+            for (Vector3 spot : ComputerPlayer.getCueBallSpots()) {
+                if (!state.isCueBallPotted()) {
+                    break;
+                }
+                simulation.placeCueBall(spot);
+            }
+            float angle = random.nextFloat() * MathUtils.PI2;
+            Vector3 direction = new Vector3(MathUtils.cos(angle), 0, MathUtils.sin(angle));
+            outcomes.add(simulation.shoot(direction,
+                    GameConstants.MAX_CUE_FORCE * random.nextFloat()));
+        }
+        return outcomes;
+    }
+
+    /**
+     * Returns the positions of the balls of the simulation.
+     * @return  Positions of the balls, in order
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags ball
+    // as a UR anomaly / being undefined
+    private List<Vector3> positions() {
+        List<Vector3> positions = new ArrayList<>();
+        for (Ball3D ball : simulation.getPoolBalls()) {
+            positions.add(ball.getCoordinates());
+        }
+        return positions;
+    }
+
+    /**
+     * Test case to verify that restoring a snapshot that was taken during
+     * a match replays the rest of the match exactly, including the balls,
+     * the turns, the ball types and the potted balls of the players.
+     */
+    @Test
+    void testRestoreReplaysMatch() {
+        play(new Random(SEED), SHOTS / 2);
+        final GameSnapshot snapshot = simulation.snapshot();
+        final List<Vector3> positions = positions();
+        final int remaining = state.getGameBallState().getRemainingBalls();
+
+        final List<ShotOutcome> outcomes = play(new Random(SEED + 1), SHOTS);
+        final List<Vector3> endPositions = positions();
+        final Player player = state.getTurnHandler().getPlayers().get(0);
+        final RegularBall3D.Type type = player.getBallType();
+        final int potted = player.getPottedBalls();
+        final int turn = state.getTurnHandler().getPlayerTurn();
+
+        simulation.restore(snapshot);
+
+        assertEquals(positions, positions());
+        assertEquals(remaining, state.getGameBallState().getRemainingBalls());
+
+        final List<ShotOutcome> replayed = play(new Random(SEED + 1), SHOTS);
+        assertEquals(outcomes.size(), replayed.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            assertEquals(outcomes.get(i).getPottedBalls(), replayed.get(i).getPottedBalls());
+            assertEquals(outcomes.get(i).getSteps(), replayed.get(i).getSteps());
+            assertEquals(outcomes.get(i).isTurnKept(), replayed.get(i).isTurnKept());
+        }
+        assertEquals(endPositions, positions());
+        assertEquals(type, player.getBallType());
+        assertEquals(potted, player.getPottedBalls());
+        assertEquals(turn, state.getTurnHandler().getPlayerTurn());
+    }
+
+    /**
+     * Test case to verify that the balls potted during a turn are restored
+     * in order, together with the first touched ball and the potting flags.
+     */
+    @Test
+    void testRestoreDuringTurn() {
+        Ball3D first = simulation.getPoolBalls().get(3);
+        Ball3D second = simulation.getPoolBalls().get(1);
+        state.onMotion();
+        state.onBallPotted(first);
+        state.onBallPotted(second);
+        GameBallState ballState = state.getGameBallState();
+        ballState.setFirstBallTouched(second);
+        ballState.markCueBallAsPotted();
+        ballState.addPreAssignedPottedBall(first);
+        final GameSnapshot snapshot = simulation.snapshot();
+
+        ballState.clearPottedBalls();
+        ballState.clearPreAssignedPottedBalls();
+        ballState.setFirstBallTouched(null);
+        ballState.resetBallPotFlags();
+        ballState.markEightBallAsPotted();
+        state.onMotionStop(null);
+        simulation.restore(snapshot);
+
+        List<Ball3D> expected = new ArrayList<>();
+        expected.add(first);
+        expected.add(second);
+        assertEquals(expected, ballState.getCurrentPottedBalls());
+        assertEquals(BallSet.of(first), ballState.getAllPottedBalls());
+        assertEquals(second, ballState.getFirstBallTouched());
+        assertTrue(ballState.isCueBallPotted());
+        assertFalse(ballState.isEightBallPotted());
+        assertTrue(state.isInMotion());
+    }
+
+    /**
+     * Test case to verify that the winner of a game is restored,
+     * and that a game without a winner is restored without one.
+     */
+    @Test
+    void testRestoreWinner() {
+        final GameSnapshot before = simulation.snapshot();
+        state.winGame(false);
+        final Player winner = state.getWinningPlayer().get();
+        final GameSnapshot after = simulation.snapshot();
+
+        simulation.restore(before);
+        assertNull(state.getWinningPlayer().orElse(null));
+
+        simulation.restore(after);
+        assertEquals(winner, state.getWinningPlayer().get());
+    }
+}
@@ -34,6 +34,7 @@ abstract class GameStateBaseTest {
 
     /**
      * Helper method to construct a List of Ball3D objects from the specified configuraion.
+     * The ids of the balls match their type, like in a game.
      *
      * @param cueBall   True to add the cue ball to resulting list
      * @param eightBall True to add he eight ball to resulting list
@@ -52,18 +53,21 @@ abstract class GameStateBaseTest {
 
         if (eightBall) {
             EightBall3D eightBall3D = Mockito.mock(EightBall3D.class);
+            Mockito.when(eightBall3D.getId()).thenReturn(GameConstants.EIGHTBALL_ID);
             result.add(eightBall3D);
         }
 
         for (int i = 0; i < solid; ++i) {
             RegularBall3D ball = Mockito.mock(RegularBall3D.class);
             Mockito.when(ball.getType()).thenReturn(RegularBall3D.Type.FULL);
+            Mockito.when(ball.getId()).thenReturn(1 + i);
             result.add(ball);
         }
 
         for (int i = 0; i < striped; ++i) {
             RegularBall3D ball = Mockito.mock(RegularBall3D.class);
             Mockito.when(ball.getType()).thenReturn(RegularBall3D.Type.STRIPED);
+            Mockito.when(ball.getId()).thenReturn(GameConstants.EIGHTBALL_ID + 1 + i);
             result.add(ball);
         }
 
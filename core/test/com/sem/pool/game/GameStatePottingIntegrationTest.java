@@ -32,14 +32,16 @@ class GameStatePottingIntegrationTest extends GameStateBaseTest {
 
         // Verify that ball is contained in remaining set (handled
         // in constructor)
-        assertTrue(gameState.getGameBallState().getRemainingBalls().contains(ball));
+        assertTrue(BallSet.contains(
+                gameState.getGameBallState().getRemainingBalls(), ball.getId()));
 
         // Pot the ball
         gameState.onBallPotted(ball);
         gameState.advanceTurn();
 
         // Assert ball is no longer contained in remaining ball set
-        assertFalse(gameState.getGameBallState().getRemainingBalls().contains(ball));
+        assertFalse(BallSet.contains(
+                gameState.getGameBallState().getRemainingBalls(), ball.getId()));
     }
 
     /**
@@ -64,7 +66,8 @@ class GameStatePottingIntegrationTest extends GameStateBaseTest {
 
         // Verify the active player (which is the first Player by default
         // after constructing GameState object) pots the ball
-        assertTrue(gameState.getGameBallState().getAllPottedBalls().contains(ball));
+        assertTrue(BallSet.contains(
+                gameState.getGameBallState().getAllPottedBalls(), ball.getId()));
 
         // Ensure that both player types are not updated
         // since the ball was potted in the first turn (break shot)
@@ -202,12 +205,13 @@ class GameStatePottingIntegrationTest extends GameStateBaseTest {
         for (int i = 0; i < potCount; ++i) {
             RegularBall3D ball = Mockito.mock(RegularBall3D.class);
             Mockito.when(ball.getType()).thenReturn(type);
+            Mockito.when(ball.getId()).thenReturn(1 + i);
             gameState.onBallPotted(ball);
         }
 
         gameState.advanceTurn();
 
-        assertEquals(potCount, player.getPottedBalls().size());
+        assertEquals(potCount, BallSet.size(player.getPottedBalls()));
     }
 
     /**
@@ -227,12 +231,14 @@ class GameStatePottingIntegrationTest extends GameStateBaseTest {
 
         Mockito.when(ball1.getType()).thenReturn(RegularBall3D.Type.FULL);
         Mockito.when(ball2.getType()).thenReturn(RegularBall3D.Type.STRIPED);
+        Mockito.when(ball1.getId()).thenReturn(1);
+        Mockito.when(ball2.getId()).thenReturn(GameConstants.EIGHTBALL_ID + 1);
 
         gameState.getBallPottingHandler().potRegularBall(ball1, gameState.getTurnHandler());
         gameState.getBallPottingHandler().potRegularBall(ball2, gameState.getTurnHandler());
 
         gameState.advanceTurn();
-        assertEquals(1, player.getPottedBalls().size());
+        assertEquals(1, BallSet.size(player.getPottedBalls()));
     }
 
     /**
@@ -387,8 +393,10 @@ class GameStatePottingIntegrationTest extends GameStateBaseTest {
         gameState.onBallPotted(balls.get(2));
         gameState.onBallPotted(balls.get(0));
         gameState.advanceTurn(); // handle turn events
-        assertTrue(gameState.getGameBallState().getAllPottedBalls().contains(balls.get(2)));
-        assertFalse(gameState.getGameBallState().getAllPottedBalls().contains(balls.get(0)));
+        assertTrue(BallSet.contains(
+                gameState.getGameBallState().getAllPottedBalls(), balls.get(2).getId()));
+        assertFalse(BallSet.contains(
+                gameState.getGameBallState().getAllPottedBalls(), balls.get(0).getId()));
     }
 
     /**
@@ -444,9 +452,9 @@ class GameStatePottingIntegrationTest extends GameStateBaseTest {
         gameState.onMotionStop(balls.get(2)); // handle turn
         assertEquals(players.get(0).getBallType(), RegularBall3D.Type.FULL);
         assertEquals(players.get(1).getBallType(), RegularBall3D.Type.STRIPED);
-        assertTrue(players.get(0).getPottedBalls().contains(balls.get(2)));
-        assertTrue(players.get(0).getPottedBalls().contains(balls.get(3)));
-        assertTrue(players.get(1).getPottedBalls().contains(balls.get(5)));
+        assertTrue(BallSet.contains(players.get(0).getPottedBalls(), balls.get(2).getId()));
+        assertTrue(BallSet.contains(players.get(0).getPottedBalls(), balls.get(3).getId()));
+        assertTrue(BallSet.contains(players.get(1).getPottedBalls(), balls.get(5).getId()));
     }
 
     /**
@@ -467,11 +475,11 @@ class GameStatePottingIntegrationTest extends GameStateBaseTest {
         gameState.onMotionStop(balls.get(5));
         assertEquals(players.get(1).getBallType(), RegularBall3D.Type.STRIPED);
         assertEquals(players.get(0).getBallType(), RegularBall3D.Type.FULL);
-        assertTrue(players.get(0).getPottedBalls().contains(balls.get(2)));
-        assertTrue(players.get(0).getPottedBalls().contains(balls.get(3)));
-        assertTrue(players.get(1).getPottedBalls().contains(balls.get(5)));
-        assertFalse(players.get(0).getPottedBalls().contains(balls.get(1)));
-        assertFalse(players.get(1).getPottedBalls().contains(balls.get(1)));
+        assertTrue(BallSet.contains(players.get(0).getPottedBalls(), balls.get(2).getId()));
+        assertTrue(BallSet.contains(players.get(0).getPottedBalls(), balls.get(3).getId()));
+        assertTrue(BallSet.contains(players.get(1).getPottedBalls(), balls.get(5).getId()));
+        assertFalse(BallSet.contains(players.get(0).getPottedBalls(), balls.get(1).getId()));
+        assertFalse(BallSet.contains(players.get(1).getPottedBalls(), balls.get(1).getId()));
     }
 
 
@@ -496,7 +504,7 @@ class GameStatePottingIntegrationTest extends GameStateBaseTest {
         assertEquals(players.get(1).getBallType(), RegularBall3D.Type.STRIPED);
         // Player 1 pots a full ball, should be added to player 2's potted balls
         gameState.onBallPotted(balls.get(3));
-        assertTrue(players.get(0).getPottedBalls().contains(balls.get(3)));
+        assertTrue(BallSet.contains(players.get(0).getPottedBalls(), balls.get(3).getId()));
     }
 
     /**
@@ -512,8 +520,8 @@ class GameStatePottingIntegrationTest extends GameStateBaseTest {
         gameState.onBallPotted(balls.get(5));
         // if this happens the game should immediately end.
         gameState.advanceTurn();
-        assertFalse(players.get(0).getPottedBalls().contains(balls.get(5)));
-        assertFalse(players.get(1).getPottedBalls().contains(balls.get(5)));
+        assertFalse(BallSet.contains(players.get(0).getPottedBalls(), balls.get(5).getId()));
+        assertFalse(BallSet.contains(players.get(1).getPottedBalls(), balls.get(5).getId()));
     }
 
     /**
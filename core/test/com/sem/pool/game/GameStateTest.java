@@ -32,7 +32,8 @@ class GameStateTest extends GameStateBaseTest {
         GameState gameState2 = new GameState(players, balls);
 
         assertEquals(players, gameState2.getTurnHandler().getPlayers());
-        assertEquals(expectedBalls, gameState2.getGameBallState().getRemainingBalls().size());
+        assertEquals(expectedBalls,
+                BallSet.size(gameState2.getGameBallState().getRemainingBalls()));
     }
 
 
@@ -43,12 +44,30 @@ class GameStateTest extends GameStateBaseTest {
     @Test
     void testInitStartingPlayer() {
         for (int i = 0; i < 10; i++) {
-            gameState.getTurnHandler().initializeStartingPlayer();
+            gameState.getTurnHandler().initializeStartingPlayer(i);
             int playerTurn = gameState.getTurnHandler().getPlayerTurn();
             assertTrue(playerTurn == 1 || playerTurn == 0);
         }
     }
 
+    /**
+     * Tests that the starting player is picked from the seed of
+     * the game state, so that the start of a game can be replayed.
+     */
+    @Test
+    void testStartingPlayerSeed() {
+        final long seed = 42;
+        gameState.setSeed(seed);
+        gameState.onGameStarted();
+        GameState other = new GameState(players, balls);
+        other.setSeed(seed);
+        other.onGameStarted();
+
+        assertEquals(seed, gameState.getSeed());
+        assertEquals(gameState.getTurnHandler().getPlayerTurn(),
+                other.getTurnHandler().getPlayerTurn());
+    }
+
     /**
      * Tests the transition of starting the game, which
      * transitions from a newly created (stopped) game state
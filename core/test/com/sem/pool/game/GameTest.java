@@ -14,6 +14,7 @@ import com.sem.pool.scene.Scene3D;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -78,7 +79,7 @@ public class GameTest extends GameBaseTest {
 
     /**
      * Test case to verify that the move balls method moves all
-     * the balls present in the scene upon calling the move balls
+     * the active balls of the scene upon calling the move balls
      * method.
      */
     @Test
@@ -91,7 +92,7 @@ public class GameTest extends GameBaseTest {
         poolBalls.add(ball);
         poolBalls.add(ball2);
 
-        Mockito.when(scene.getPoolBalls()).thenReturn(poolBalls);
+        Mockito.when(scene.updateActiveBalls()).thenReturn(poolBalls);
         // Start the game and attempt to move the balls
         game.startGame();
         final float deltaTime = 3.14159f;
@@ -101,6 +102,46 @@ public class GameTest extends GameBaseTest {
         Mockito.verify(ball2).move(deltaTime);
     }
 
+    /**
+     * Test case to verify that the balls are moved in fixed physics
+     * steps, regardless of the time of the frame.
+     */
+    @Test
+    void testAdvanceGameLoopFixedSteps() {
+        setupScenePoolBallsHelper(true);
+        final List<Ball3D> balls = scene.getPoolBalls();
+        final Ball3D ball = balls.get(0);
+        Mockito.when(scene.updateActiveBalls()).thenReturn(balls);
+        Mockito.when(gameState.isStarted()).thenReturn(true);
+        Mockito.when(gameState.isInMotion()).thenReturn(true);
+        Mockito.when(gameState.getWinningPlayer()).thenReturn(Optional.empty());
+        game.setTimestep(new FixedTimestep(0.25f, 4));
+
+        game.advanceGameLoop(0.625f);
+
+        Mockito.verify(ball, Mockito.times(2)).move(0.25f);
+        assertEquals(0.5f, game.getInterpolationAlpha());
+    }
+
+    /**
+     * Test case to verify that the accumulated time is cleared,
+     * and the current state is rendered, when the balls are not in motion.
+     */
+    @Test
+    void testAdvanceGameLoopNotInMotionResets() {
+        Mockito.when(gameState.isStarted()).thenReturn(true);
+        Mockito.when(gameState.getWinningPlayer()).thenReturn(Optional.empty());
+        FixedTimestep timestep = new FixedTimestep(0.25f, 4);
+        timestep.advance(0.125f);
+        game.setTimestep(timestep);
+
+        game.advanceGameLoop(0.125f);
+
+        assertEquals(0, timestep.getAlpha());
+        assertEquals(1f, game.getInterpolationAlpha());
+        assertEquals(timestep, game.getTimestep());
+    }
+
     /**
      * Test case to verify that when all the balls are in motion,
      * the Game determines that it is in motion for the current iteration.
@@ -281,6 +322,27 @@ public class GameTest extends GameBaseTest {
         game.endGame(winner, players);
     }
 
+    /**
+     * Test case to verify that the end of the game is published once,
+     * even if frames are played after the game was won.
+     */
+    @Test
+    void testEndGameOnce() {
+        final int frames = 5;
+        GameObserver observer = Mockito.mock(GameObserver.class);
+        game.addObserver(observer);
+        Player winner = Mockito.mock(Player.class);
+        Mockito.when(gameState.isStarted()).thenReturn(true);
+        Mockito.when(gameState.getWinningPlayer()).thenReturn(Optional.of(winner));
+        Mockito.when(gameState.getTurnHandler()).thenReturn(Mockito.mock(TurnHandler.class));
+
+        for (int i = 0; i < frames; i++) {
+            game.advanceGameLoop(1f);
+        }
+
+        Mockito.verify(observer).onGameEnded(Mockito.eq(winner), Mockito.any());
+    }
+
     /*
      * Test if the recenterCue method is called when potting the cue ball.
      */
@@ -485,6 +547,58 @@ public class GameTest extends GameBaseTest {
         Mockito.verify(scene).clearFirstTouched();
     }
 
+    /**
+     * Test case to verify that the last shot is replayed when the game
+     * is idle, and that no input is handled while the replay plays.
+     */
+    @Test
+    void testReplayLastShot() {
+        setupScenePoolBallsHelper(false);
+        game.startMotion();
+        game.moveBalls(GameConstants.PHYSICS_STEP);
+        Mockito.when(gameState.isStarted()).thenReturn(true);
+        Mockito.when(gameState.isIdle()).thenReturn(true);
+
+        assertTrue(game.replayLastShot(1));
+        assertEquals(2, game.getInstantReplay().getBuffer().getFrameCount());
+
+        game.advanceGameLoop(GameConstants.PHYSICS_STEP);
+
+        assertFalse(game.getInstantReplay().isPlaying());
+        Mockito.verifyNoInteractions(input);
+    }
+
+    /**
+     * Test case to verify that the last shot is not replayed
+     * while the balls of the next shot are moving.
+     */
+    @Test
+    void testReplayLastShotNotIdle() {
+        setupScenePoolBallsHelper(false);
+        game.startMotion();
+
+        assertFalse(game.replayLastShot(1));
+    }
+
+    /**
+     * Test case to verify that pressing R with shift replays
+     * the last shot in slow motion instead of playing the turn.
+     */
+    @Test
+    void testRespondToInputReplay() {
+        setupScenePoolBallsHelper(false);
+        game.startMotion();
+        Mockito.when(gameState.isIdle()).thenReturn(true);
+        Mockito.when(input.isKeyJustPressed(Input.Keys.R)).thenReturn(true);
+        Mockito.when(input.isKeyPressed(Input.Keys.SHIFT_LEFT)).thenReturn(true);
+
+        game.respondToInput();
+
+        assertTrue(game.getInstantReplay().isPlaying());
+        assertEquals(GameConstants.REPLAY_SLOW_MOTION, game.getInstantReplay().getSpeed());
+        Mockito.verify(gameState, never()).getTurnHandler();
+    }
+
     /**
      * Helper method to set up the specified number of mock observers.
      * @param count  Number of observers to create
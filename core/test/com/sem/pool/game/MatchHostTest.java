@@ -0,0 +1,151 @@
+package com.sem.pool.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.scene.Ball3D;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test class containing unit tests for the MatchHost class.
+ */
+class MatchHostTest {
+    private static final int MATCHES = 16;
+    private static final long TIMEOUT = 60;
+    private static final float AIM_SPREAD = 0.2f;
+
+    private transient ForkJoinPool pool;
+    private transient MatchHost host;
+    private transient SimulationFactory factory;
+
+    /**
+     * Computer player that shoots at the eight ball with full force,
+     * so that the matches of the tests end within a few turns.
+     */
+    private static class EightBallPlayer extends ComputerPlayer {
+        private final transient Random random;
+
+        EightBallPlayer(int id) {
+            super(id, null);
+            random = new Random(id);
+        }
+
+        @Override
+        public Shot chooseShot(List<Ball3D> poolBalls) {
+            Vector3 direction = poolBalls.get(GameConstants.EIGHTBALL_ID).getCoordinates()
+                    .sub(poolBalls.get(GameConstants.CUEBALL_ID).getCoordinates()).nor();
+            direction.rotateRad(Vector3.Y, (random.nextFloat() - 0.5f) * AIM_SPREAD);
+            return new Shot(direction, GameConstants.MAX_CUE_FORCE, 0);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        host = new MatchHost(pool, 0);
+        factory = new SimulationFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        host.shutdown();
+    }
+
+    /**
+     * Creates a match between two computer players.
+     * @param first  ID of the first player
+     * @return  Simulation of the match
+     */
+    private Simulation createMatch(int first) {
+        List<Player> players = new ArrayList<>();
+        players.add(new EightBallPlayer(first));
+        players.add(new EightBallPlayer(first + 1));
+        return factory.createSimulation(players);
+    }
+
+    /**
+     * Test case to verify that all matches of the host are played until they
+     * end, that the observers are notified of every match that ended, and
+     * that the metrics count the steps and matches of all tables.
+     */
+    @Test
+    void testPlayMatches() throws InterruptedException {
+        GameObserver observer = Mockito.mock(GameObserver.class);
+        host.addObserver(observer);
+        List<Simulation> matches = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            matches.add(createMatch(2 * i));
+            host.addMatch(matches.get(i));
+        }
+
+        assertTrue(host.awaitMatches(TIMEOUT, TimeUnit.SECONDS));
+
+        for (Simulation match : matches) {
+            List<Player> players = match.getState().getTurnHandler().getPlayers();
+            Player winner = match.getState().getWinningPlayer().get();
+            Mockito.verify(observer).onGameEnded(winner, players);
+        }
+        assertEquals(MATCHES, host.getCompletedMatches());
+        assertTrue(host.getSteps() > 0);
+        assertTrue(host.getStepsPerSecond() > 0);
+        assertTrue(host.getMatchesPerMinute() > 0);
+    }
+
+    /**
+     * Test case to verify that removed observers are not notified anymore.
+     */
+    @Test
+    void testRemoveObserver() throws InterruptedException {
+        GameObserver observer = Mockito.mock(GameObserver.class);
+        host.addObserver(observer);
+        host.removeObserver(observer);
+
+        host.addMatch(createMatch(0));
+
+        assertTrue(host.awaitMatches(TIMEOUT, TimeUnit.SECONDS));
+        Mockito.verifyNoInteractions(observer);
+        assertEquals(1, host.getCompletedMatches());
+    }
+
+    /**
+     * Test case to verify that the players created by the host search their
+     * shots on a worker of the host, and that the steps of the searches are
+     * counted by the host.
+     */
+    @Test
+    void testCreatePlayer() throws InterruptedException, ExecutionException {
+        ComputerPlayer player = host.createPlayer(0, 1);
+        List<Ball3D> poolBalls = createMatch(0).getPoolBalls();
+
+        Shot shot = pool.submit(() -> player.chooseShot(poolBalls)).get();
+
+        assertNotNull(shot);
+        assertEquals(0, player.getSearch().getBudgetMillis());
+        assertTrue(player.getSearch().getSimulatedSteps() > 0);
+        assertEquals(player.getSearch().getSimulatedSteps(), host.getSteps());
+    }
+
+    /**
+     * Test case to verify that a host without matches reports no progress.
+     */
+    @Test
+    void testNoMatches() throws InterruptedException {
+        assertTrue(host.awaitMatches(TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(0, host.getSteps());
+        assertEquals(0, host.getMatchesPerMinute());
+    }
+}
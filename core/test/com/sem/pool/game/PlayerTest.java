@@ -2,13 +2,9 @@ package com.sem.pool.game;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import com.sem.pool.scene.Ball3D;
 import com.sem.pool.scene.RegularBall3D;
-import java.util.HashSet;
-import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -24,8 +20,7 @@ class PlayerTest {
         Player player = new Player(id);
 
         assertEquals(id, player.getId());
-        assertNotNull(player.getPottedBalls());
-        assertEquals(0, player.getPottedBalls().size());
+        assertEquals(BallSet.EMPTY, player.getPottedBalls());
         // TODO: Test for unassigned ball type
     }
 
@@ -42,12 +37,14 @@ class PlayerTest {
 
         RegularBall3D ball = Mockito.mock(RegularBall3D.class);
         Mockito.when(ball.getType()).thenReturn(type);
+        Mockito.when(ball.getId()).thenReturn(GameConstants.EIGHTBALL_ID + 1);
 
         Player player = new Player(id);
         player.assignBallType(type);
         player.potBall(ball);
 
-        assertTrue(player.getPottedBalls().contains(ball));
+        assertTrue(BallSet.contains(player.getPottedBalls(), ball.getId()));
+        assertTrue(player.getPottedCorrectBall());
     }
 
     /**
@@ -74,7 +71,7 @@ class PlayerTest {
     @Test
     public void testCheckAllBallsPottedUnassignedType() {
         final int id = 0;
-        final Set<Ball3D> unpotted = new HashSet<>();
+        final int unpotted = BallSet.EMPTY;
         Player player = new Player(id);
 
         assertEquals(RegularBall3D.Type.UNASSIGNED, player.getBallType());
@@ -89,7 +86,7 @@ class PlayerTest {
     @Test
     public void testCheckAllBallsPottedAssignedType() {
         final int id = 0;
-        final Set<Ball3D> unpotted = new HashSet<>();
+        final int unpotted = BallSet.STRIPED | BallSet.of(GameConstants.EIGHTBALL_ID);
         Player player = new Player(id);
 
 
@@ -107,11 +104,7 @@ class PlayerTest {
     public void testCheckAllBallsNotPotted() {
         final int id = 0;
         final RegularBall3D.Type type = RegularBall3D.Type.FULL;
-        final Set<Ball3D> unpotted = new HashSet<>();
-        final RegularBall3D ball = Mockito.mock(RegularBall3D.class);
-
-        Mockito.when(ball.getType()).thenReturn(type);
-        unpotted.add(ball);
+        final int unpotted = BallSet.of(1);
 
         Player player = new Player(id);
 
@@ -130,9 +123,12 @@ class PlayerTest {
 
         RegularBall3D ball = Mockito.mock(RegularBall3D.class);
         Mockito.when(ball.getType()).thenReturn(RegularBall3D.Type.STRIPED);
+        Mockito.when(ball.getId()).thenReturn(GameConstants.EIGHTBALL_ID + 1);
 
+        player.assignBallType(RegularBall3D.Type.FULL);
         player.potBall(ball);
 
-        assertFalse(player.getPottedBalls().contains(ball));
+        assertFalse(BallSet.contains(player.getPottedBalls(), ball.getId()));
+        assertFalse(player.getPottedCorrectBall());
     }
 }
\ No newline at end of file
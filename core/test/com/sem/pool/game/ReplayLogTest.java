@@ -0,0 +1,186 @@
+package com.sem.pool.game;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.scene.Ball3D;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the ReplayLog class.
+ */
+class ReplayLogTest {
+    private static final long SEED = 7;
+    private static final int MATCH_SHOTS = 30;
+    // Upper bound of the encoded size of a single turn
+    private static final int TURN_BYTES = 25;
+
+    private transient SimulationFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        factory = new SimulationFactory();
+    }
+
+    private static List<Player> createPlayers() {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        return players;
+    }
+
+    /**
+     * Plays a match with random shots, and records its inputs.
+     * @param match  Simulation of the match
+     * @param log  Log to record the inputs in
+     * @return  Outcomes of the shots of the match
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags spot
+    // as a UR anomaly / being undefined
+    private static List<ShotOutcome> playMatch(Simulation match, ReplayLog log) {
+        Random random = new Random(SEED);
+        List<ShotOutcome> outcomes = new ArrayList<>();
+        for (int shot = 0; shot < MATCH_SHOTS && match.getState().isIdle(); shot++) {
+            for (Vector3 spot : ComputerPlayer.getCueBallSpots()) {
+                if (!match.getState().isCueBallPotted()) {
+                    break;
+                }
+                if (match.placeCueBall(spot)) {
+                    log.recordPlacement(spot);
+                }
+            }
+            float angle = random.nextFloat() * MathUtils.PI2;
+            Vector3 direction = new Vector3(MathUtils.cos(angle), 0, MathUtils.sin(angle));
+            float force = random.nextFloat() * GameConstants.MAX_CUE_FORCE;
+            log.recordShot(direction, force);
+            outcomes.add(match.shoot(direction, force));
+        }
+        return outcomes;
+    }
+
+    /**
+     * Returns the positions of the balls of a simulation.
+     * @param simulation  Simulation to get the positions of
+     * @return  Positions of the balls, in order
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags ball
+    // as a UR anomaly / being undefined
+    private static List<Vector3> positions(Simulation simulation) {
+        List<Vector3> positions = new ArrayList<>();
+        for (Ball3D ball : simulation.getPoolBalls()) {
+            positions.add(ball.getCoordinates());
+        }
+        return positions;
+    }
+
+    /**
+     * Test case to verify that replaying the log of a match on a new
+     * simulation with the seed of the log reproduces the match exactly,
+     * and that the log only takes a few bytes per turn.
+     * @throws IOException  If the log is corrupt
+     */
+    @Test
+    void testReplayReproducesMatch() throws IOException {
+        Simulation match = factory.createSimulation(createPlayers(), SEED);
+        ReplayLog log = new ReplayLog(match.getState().getSeed());
+        List<ShotOutcome> outcomes = playMatch(match, log);
+
+        Simulation replay = factory.createSimulation(createPlayers(), log.getSeed());
+        final List<ShotOutcome> replayed = log.replay(replay);
+
+        assertEquals(outcomes.size(), replayed.size());
+        for (int i = 0; i < outcomes.size(); i++) {
+            assertEquals(outcomes.get(i).getPottedBalls(), replayed.get(i).getPottedBalls());
+            assertEquals(outcomes.get(i).getFirstTouched(), replayed.get(i).getFirstTouched());
+            assertEquals(outcomes.get(i).getSteps(), replayed.get(i).getSteps());
+            assertEquals(outcomes.get(i).isTurnKept(), replayed.get(i).isTurnKept());
+        }
+        assertEquals(positions(match), positions(replay));
+        assertEquals(match.getState().getTurnHandler().getPlayerTurn(),
+                replay.getState().getTurnHandler().getPlayerTurn());
+        assertTrue(log.size() < outcomes.size() * TURN_BYTES);
+    }
+
+    /**
+     * Test case to verify that a log that is written and read
+     * back has the same seed and records, also for negative seeds.
+     * @throws IOException  If the log could not be written or read
+     */
+    @Test
+    void testWriteAndRead() throws IOException {
+        ReplayLog log = new ReplayLog(-SEED);
+        log.recordPlacement(new Vector3(-1.75f, 0.28f, 0.5f));
+        log.recordShot(new Vector3(1, 0, -0.25f), GameConstants.MAX_CUE_FORCE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        log.writeTo(out);
+
+        ReplayLog read = ReplayLog.readFrom(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(-SEED, read.getSeed());
+        assertArrayEquals(log.toByteArray(), read.toByteArray());
+    }
+
+    /**
+     * Test case to verify that a truncated log is rejected.
+     * @throws IOException  If the seed of the log could not be read
+     */
+    @Test
+    void testTruncated() throws IOException {
+        ReplayLog log = new ReplayLog(Long.MAX_VALUE);
+        log.recordShot(new Vector3(-1, 0, 0), 1);
+        byte[] bytes = log.toByteArray();
+        ReplayLog truncated = ReplayLog.readFrom(
+                new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)));
+        Simulation simulation = factory.createSimulation(createPlayers(), SEED);
+
+        assertThrows(IOException.class, () -> truncated.replay(simulation));
+    }
+
+    /**
+     * Test case to verify that a log with an unknown record is rejected.
+     * @throws IOException  If the seed of the log could not be read
+     */
+    @Test
+    void testUnknownRecord() throws IOException {
+        byte[] bytes = {0, ReplayLog.PLACEMENT + 1};
+        ReplayLog log = ReplayLog.readFrom(new ByteArrayInputStream(bytes));
+        Simulation simulation = factory.createSimulation(createPlayers(), SEED);
+
+        assertThrows(IOException.class, () -> log.replay(simulation));
+    }
+
+    /**
+     * Test case to verify that truncating a log removes the records
+     * after the specified size, and that new records can be appended.
+     */
+    @Test
+    void testTruncate() {
+        ReplayLog log = new ReplayLog(SEED);
+        log.recordPlacement(new Vector3(1, 0, 1));
+        final int size = log.size();
+        log.recordShot(new Vector3(1, 0, 0), 1);
+
+        log.truncate(size);
+        log.recordShot(new Vector3(0, 0, 1), 1);
+
+        ReplayLog expected = new ReplayLog(SEED);
+        expected.recordPlacement(new Vector3(1, 0, 1));
+        expected.recordShot(new Vector3(0, 0, 1), 1);
+        assertArrayEquals(expected.toByteArray(), log.toByteArray());
+    }
+}
@@ -0,0 +1,112 @@
+package com.sem.pool.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.scene.RegularBall3D;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the ShotScorer class.
+ */
+class ShotScorerTest {
+    private static final int FULL_BALL = 1;
+    private static final int STRIPED_BALL = 9;
+
+    private transient Simulation simulation;
+    private transient Player player;
+
+    @BeforeEach
+    void setUp() {
+        player = new Player(1);
+        List<Player> players = new ArrayList<>();
+        players.add(player);
+        players.add(new Player(2));
+        simulation = new SimulationFactory().createSimulation(players);
+    }
+
+    /**
+     * Creates an outcome with the specified potted balls and first touched ball.
+     * @param firstTouched  ID of the first touched ball
+     * @param potted  IDs of the potted balls
+     * @return  New ShotOutcome instance
+     */
+    private ShotOutcome outcome(int firstTouched, Integer... potted) {
+        List<Integer> pottedBalls = Arrays.asList(potted);
+        return new ShotOutcome(pottedBalls, firstTouched,
+                pottedBalls.contains(GameConstants.CUEBALL_ID), false, null, 1, 0);
+    }
+
+    /**
+     * Test case to verify that touching any regular ball before the
+     * types are assigned is legal, and touching nothing is not.
+     */
+    @Test
+    void testTouchUnassigned() {
+        assertEquals(0, ShotScorer.score(outcome(FULL_BALL), simulation, player));
+        assertEquals(0, ShotScorer.score(outcome(STRIPED_BALL), simulation, player));
+        assertEquals(ShotScorer.WRONG_TOUCH,
+                ShotScorer.score(outcome(ShotOutcome.NO_BALL), simulation, player));
+        assertEquals(ShotScorer.WRONG_TOUCH,
+                ShotScorer.score(outcome(GameConstants.EIGHTBALL_ID), simulation, player));
+    }
+
+    /**
+     * Test case to verify that own pots are rewarded and
+     * opponent pots are penalized once the types are assigned.
+     */
+    @Test
+    void testPotsAssigned() {
+        player.assignBallType(RegularBall3D.Type.FULL);
+
+        assertEquals(2 * ShotScorer.OWN_POT + ShotScorer.OPPONENT_POT,
+                ShotScorer.score(outcome(FULL_BALL, FULL_BALL, 2, STRIPED_BALL),
+                        simulation, player));
+        assertEquals(ShotScorer.WRONG_TOUCH + ShotScorer.OPPONENT_POT,
+                ShotScorer.score(outcome(STRIPED_BALL, STRIPED_BALL), simulation, player));
+    }
+
+    /**
+     * Test case to verify that potting the cue ball is penalized.
+     */
+    @Test
+    void testScratch() {
+        assertEquals(ShotScorer.SCRATCH + ShotScorer.OWN_POT,
+                ShotScorer.score(outcome(FULL_BALL, FULL_BALL, GameConstants.CUEBALL_ID),
+                        simulation, player));
+    }
+
+    /**
+     * Test case to verify that potting the eight ball loses the game,
+     * unless all balls of the player have been potted.
+     */
+    @Test
+    void testEightBall() {
+        assertEquals(ShotScorer.LOSS, ShotScorer.score(
+                outcome(FULL_BALL, GameConstants.EIGHTBALL_ID), simulation, player));
+
+        // Pot all full balls of the player
+        player.assignBallType(RegularBall3D.Type.FULL);
+        List<Vector3> positions = new ArrayList<>();
+        for (int i = 0; i < GameConstants.BALL_COUNT; i++) {
+            boolean potted = i > 0 && i <= GameConstants.EIGHTBALL_ID;
+            positions.add(potted ? new Vector3(0, -100, 0) : new Vector3(i, 0.28f, 0));
+        }
+        simulation.setPositions(positions);
+
+        assertEquals(ShotScorer.WIN, ShotScorer.score(
+                outcome(FULL_BALL, GameConstants.EIGHTBALL_ID), simulation, player));
+        assertEquals(ShotScorer.LOSS, ShotScorer.score(
+                outcome(FULL_BALL, GameConstants.EIGHTBALL_ID, GameConstants.CUEBALL_ID),
+                simulation, player));
+        assertEquals(Collections.emptyList(), outcome(FULL_BALL).getPottedBalls());
+    }
+}
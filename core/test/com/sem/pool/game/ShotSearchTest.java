@@ -0,0 +1,164 @@
+package com.sem.pool.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.scene.Ball3D;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the ShotSearch class.
+ */
+class ShotSearchTest {
+    private static final long SEED = 42;
+
+    private transient ForkJoinPool pool;
+    private transient Simulation simulation;
+    private transient Player player;
+    private transient GameSnapshot breakShot;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        player = new Player(1);
+        List<Player> players = new ArrayList<>();
+        players.add(player);
+        players.add(new Player(2));
+        simulation = new SimulationFactory().createSimulation(players);
+        breakShot = simulation.snapshot();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Test case to verify that a search without any time budget
+     * still evaluates candidates and finds a shot.
+     */
+    @Test
+    void testFindShotNoBudget() {
+        ShotSearch search = new ShotSearch(pool, 0, SEED);
+
+        Shot shot = search.findShot(simulation.getPoolBalls(), player);
+
+        assertNotNull(shot);
+        assertEquals(0, search.getBudgetMillis());
+        assertTrue(search.getEvaluatedShots() > 0);
+        assertTrue(shot.getForce() >= ShotSearch.MIN_FORCE_RATIO * GameConstants.MAX_CUE_FORCE);
+        assertTrue(shot.getForce() <= GameConstants.MAX_CUE_FORCE);
+    }
+
+    /**
+     * Test case to verify that the search can run in the background,
+     * and finds the same shot as the blocking search.
+     */
+    @Test
+    void testFindShotAsync() {
+        ShotSearch search = new ShotSearch(pool, 0, SEED);
+
+        Shot shot = search.findShotAsync(simulation.getPoolBalls(), player).join();
+
+        assertEquals(search.findShot(simulation.getPoolBalls(), player).getDirection(),
+                shot.getDirection());
+    }
+
+    /**
+     * Moves the balls of the simulation so that only the cue ball and a
+     * single ball are on the table, with that ball in front of a pot.
+     */
+    private void setUpSingleBall() {
+        List<Vector3> positions = new ArrayList<>();
+        // Cue ball, ball and the bottom left pot are on a straight line
+        positions.add(new Vector3(-1.08f, 0.28f, 0.606f));
+        positions.add(new Vector3(-2f, 0.28f, 1f));
+        for (int i = 2; i < GameConstants.BALL_COUNT; i++) {
+            positions.add(new Vector3(0, -100, 0));
+        }
+        simulation.setPositions(positions);
+    }
+
+    /**
+     * Test case to verify that the search finds a shot that pots
+     * the only ball on the table, which lies in front of a pot.
+     */
+    @Test
+    void testFindShotPotsBall() {
+        setUpSingleBall();
+
+        ShotSearch search = new ShotSearch(pool, 300, SEED);
+        Shot shot = search.findShot(simulation.getPoolBalls(), player);
+
+        assertEquals(ShotScorer.OWN_POT, shot.getScore());
+    }
+
+    /**
+     * Test case to verify that the simulations that are kept by the threads
+     * are reset between searches: a search after a search on other
+     * positions, with potted balls, finds the same shot as a new search.
+     */
+    @Test
+    void testFindShotReusesSimulations() {
+        final List<Ball3D> poolBalls = simulation.getPoolBalls();
+        ShotSearch search = new ShotSearch(pool, 0, SEED);
+        final Shot expected = new ShotSearch(pool, 0, SEED).findShot(poolBalls, player);
+        setUpSingleBall();
+        search.findShot(poolBalls, player);
+
+        simulation.restore(breakShot);
+        Shot shot = search.findShot(poolBalls, player);
+
+        assertEquals(expected.getDirection(), shot.getDirection());
+        assertEquals(expected.getScore(), shot.getScore());
+    }
+
+    /**
+     * Test case to verify that candidates only depend on the seed and
+     * their index, and that aimed candidates point at a target ball.
+     */
+    @Test
+    void testSample() {
+        List<Vector3> positions = new ArrayList<>();
+        positions.add(new Vector3(0, 0.28f, 0));
+        List<Vector3> targets = new ArrayList<>();
+        targets.add(new Vector3(1, 0.28f, 0));
+        ShotSearch.Search input = new ShotSearch.Search(positions, targets, player, 0);
+        ShotSearch search = new ShotSearch(pool, 0, SEED);
+
+        Shot aimed = search.sample(input, 0);
+        assertEquals(aimed.getDirection(), search.sample(input, 0).getDirection());
+        assertEquals(aimed.getForce(), search.sample(input, 0).getForce());
+        assertTrue(aimed.getDirection().x > Math.cos(ShotSearch.AIM_SPREAD));
+        assertEquals(1, search.sample(input, 1).getDirection().len(), 1e-5);
+    }
+
+    /**
+     * Test case to verify that the best shot is kept, preferring
+     * the first shot on equal scores.
+     */
+    @Test
+    void testBetter() {
+        Shot low = new Shot(new Vector3(1, 0, 0), 0.1f, 0);
+        final Shot high = new Shot(new Vector3(1, 0, 0), 0.1f, 10);
+        final Shot same = new Shot(new Vector3(0, 0, 1), 0.1f, 10);
+
+        assertNull(ShotSearch.better(null, null));
+        assertEquals(low, ShotSearch.better(null, low));
+        assertEquals(low, ShotSearch.better(low, null));
+        assertEquals(high, ShotSearch.better(low, high));
+        assertEquals(high, ShotSearch.better(high, low));
+        assertEquals(high, ShotSearch.better(high, same));
+    }
+}
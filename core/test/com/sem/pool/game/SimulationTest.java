@@ -0,0 +1,362 @@
+package com.sem.pool.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g3d.Environment;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.scene.Ball3D;
+import com.sem.pool.scene.Cue3D;
+import com.sem.pool.scene.GameElements;
+import com.sem.pool.scene.NullBall;
+import com.sem.pool.scene.Scene3D;
+import com.sem.pool.scene.SceneElements;
+import com.sem.pool.scene.SoundPlayer;
+import com.sem.pool.scene.Table3D;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test class containing unit tests for the headless Simulation,
+ * and its integration with the interactive Game.
+ */
+class SimulationTest {
+    private static final Vector3 BREAK_DIRECTION = new Vector3(1, 0, 0.02f);
+    private static final int MATCHES = 64;
+    private static final int MATCH_SHOTS = 8;
+    private static final int THREADS = 8;
+
+    private transient SimulationFactory factory;
+    private transient List<Player> players;
+    private transient Simulation simulation;
+
+    @BeforeEach
+    void setUp() {
+        factory = new SimulationFactory();
+        players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        simulation = factory.createSimulation(players);
+    }
+
+    /**
+     * Test case to verify that a new simulation starts at the break shot.
+     */
+    @Test
+    void testConstructor() {
+        assertEquals(GameConstants.BALL_COUNT, simulation.getPoolBalls().size());
+        assertEquals(simulation.getPoolBalls().get(0), simulation.getCueBall());
+        assertTrue(simulation.getState().isIdle());
+        assertEquals(simulation.getPoolBalls(), simulation.getPhysicsWorld().getPoolBalls());
+    }
+
+    /**
+     * Test case to verify that a shot without force does not move
+     * any ball, and passes the turn to the other player.
+     */
+    @Test
+    void testShootNoForce() {
+        final Player shooter = simulation.getState().getTurnHandler().getActivePlayer();
+        ShotOutcome outcome = simulation.shoot(BREAK_DIRECTION, 0);
+
+        assertEquals(0, outcome.getSteps());
+        assertEquals(ShotOutcome.NO_BALL, outcome.getFirstTouched());
+        assertTrue(outcome.getPottedBalls().isEmpty());
+        assertFalse(outcome.isTurnKept());
+        assertFalse(outcome.getWinner().isPresent());
+        assertEquals(shooter, simulation.getState().getTurnHandler().getNextInactivePlayer());
+        assertTrue(simulation.getState().isIdle());
+    }
+
+    /**
+     * Test case to verify that the break shot hits the rack,
+     * and that all balls are at rest afterwards.
+     */
+    @Test
+    void testShootBreak() {
+        ShotOutcome outcome = simulation.shoot(BREAK_DIRECTION, GameConstants.MAX_CUE_FORCE);
+
+        assertTrue(outcome.getSteps() > 0);
+        assertTrue(outcome.getBallCollisions() > 0);
+        assertEquals(1, outcome.getFirstTouched());
+        assertTrue(simulation.getPoolBalls().stream().noneMatch(Ball3D::isInMotion));
+        assertTrue(simulation.getState().isIdle());
+    }
+
+    /**
+     * Test case to verify that the break shot in the kinetic mode hits
+     * the rack, and that all balls are at rest afterwards.
+     */
+    @Test
+    void testShootBreakKinetic() {
+        simulation.setMode(Simulation.Mode.KINETIC);
+        ShotOutcome outcome = simulation.shoot(BREAK_DIRECTION, GameConstants.MAX_CUE_FORCE);
+
+        assertEquals(Simulation.Mode.KINETIC, simulation.getMode());
+        assertTrue(outcome.getSteps() > 0);
+        assertTrue(outcome.getBallCollisions() > 0);
+        assertEquals(1, outcome.getFirstTouched());
+        assertTrue(simulation.getPoolBalls().stream().noneMatch(Ball3D::isInMotion));
+        assertTrue(simulation.getState().isIdle());
+    }
+
+    /**
+     * Test case to verify that a ball potted in the kinetic mode
+     * is potted in the game state, like in the stepped mode.
+     */
+    @Test
+    void testShootCueBallPottedKinetic() {
+        simulation.setMode(Simulation.Mode.KINETIC);
+        simulation.getCueBall().getModel().transform.setTranslation(0, 0.28f, 1);
+        simulation.getCueBall().syncFromModel();
+        ShotOutcome outcome = simulation.shoot(new Vector3(0, 0, 1), GameConstants.MAX_CUE_FORCE);
+
+        assertTrue(outcome.isCueBallPotted());
+        assertTrue(simulation.getState().isCueBallPotted());
+        assertTrue(simulation.getCueBall().isPotted());
+    }
+
+    /**
+     * Test case to verify that simulating a shot in the kinetic mode
+     * does not apply the rules to the game state.
+     */
+    @Test
+    void testSimulateKinetic() {
+        final Player shooter = simulation.getState().getTurnHandler().getActivePlayer();
+        simulation.setMode(Simulation.Mode.KINETIC);
+        ShotOutcome outcome = simulation.simulate(BREAK_DIRECTION, GameConstants.MAX_CUE_FORCE);
+
+        assertEquals(1, outcome.getFirstTouched());
+        assertEquals(shooter, simulation.getState().getTurnHandler().getActivePlayer());
+        assertEquals(BallSet.EMPTY, simulation.getState().getGameBallState().getAllPottedBalls());
+    }
+
+    /**
+     * Test case to verify that the force of a shot is capped
+     * to the maximum cue force.
+     */
+    @Test
+    void testShootForceCapped() {
+        Simulation other = factory.createSimulation(players);
+
+        ShotOutcome capped = simulation.shoot(BREAK_DIRECTION, GameConstants.MAX_CUE_FORCE);
+        ShotOutcome outcome = other.shoot(BREAK_DIRECTION, 2 * GameConstants.MAX_CUE_FORCE);
+
+        assertEquals(capped.getSteps(), outcome.getSteps());
+        assertEquals(capped.getPottedBalls(), outcome.getPottedBalls());
+    }
+
+    /**
+     * Test case to verify that the same shot gives the same outcome
+     * when simulated twice.
+     */
+    @Test
+    void testShootDeterministic() {
+        Simulation other = factory.createSimulation(players);
+
+        ShotOutcome outcome = simulation.shoot(BREAK_DIRECTION, GameConstants.MAX_CUE_FORCE);
+        ShotOutcome otherOutcome = other.shoot(BREAK_DIRECTION, GameConstants.MAX_CUE_FORCE);
+
+        assertEquals(outcome.getSteps(), otherOutcome.getSteps());
+        assertEquals(outcome.getPottedBalls(), otherOutcome.getPottedBalls());
+        assertEquals(outcome.getBallCollisions(), otherOutcome.getBallCollisions());
+        for (int i = 0; i < GameConstants.BALL_COUNT; i++) {
+            assertEquals(simulation.getPoolBalls().get(i).getCoordinates(),
+                    other.getPoolBalls().get(i).getCoordinates());
+        }
+    }
+
+    /**
+     * Test case to verify that potting the cue ball requires it to be
+     * placed again, and that it can only be placed on a free spot.
+     */
+    @Test
+    void testShootCueBallPotted() {
+        // Shoot the cue ball straight into the pot in the middle of the table
+        simulation.getCueBall().getModel().transform.setTranslation(0, 0.28f, 1);
+        simulation.getCueBall().syncFromModel();
+        ShotOutcome outcome = simulation.shoot(new Vector3(0, 0, 1), GameConstants.MAX_CUE_FORCE);
+
+        assertTrue(outcome.isCueBallPotted());
+        assertTrue(outcome.getPottedBalls().contains(GameConstants.CUEBALL_ID));
+        assertTrue(simulation.getState().isCueBallPotted());
+
+        // Occupied by one of the balls of the rack
+        Vector3 rack = simulation.getPoolBalls().get(1).getCoordinates();
+        assertFalse(simulation.placeCueBall(rack));
+        assertFalse(simulation.placeCueBall(new Vector3(Table3D.xBound, 0, 0)));
+        assertTrue(simulation.getState().isCueBallPotted());
+
+        assertTrue(simulation.placeCueBall(new Vector3(-1.75f, 0, 0)));
+        assertFalse(simulation.getState().isCueBallPotted());
+        assertFalse(simulation.getCueBall().isPotted());
+    }
+
+    /**
+     * Test case to verify that simulating a shot moves the balls,
+     * but does not apply the rules to the game state.
+     */
+    @Test
+    void testSimulateNoRules() {
+        final Player shooter = simulation.getState().getTurnHandler().getActivePlayer();
+        final Vector3 start = simulation.getCueBall().getCoordinates();
+        ShotOutcome outcome = simulation.simulate(BREAK_DIRECTION, GameConstants.MAX_CUE_FORCE);
+
+        assertEquals(1, outcome.getFirstTouched());
+        assertFalse(outcome.isTurnKept());
+        assertFalse(outcome.getWinner().isPresent());
+        assertFalse(start.equals(simulation.getCueBall().getCoordinates()));
+        assertEquals(shooter, simulation.getState().getTurnHandler().getActivePlayer());
+        assertEquals(BallSet.EMPTY, simulation.getState().getGameBallState().getAllPottedBalls());
+    }
+
+    /**
+     * Test case to verify that resetting the positions of the balls
+     * makes a simulated shot repeatable, also after balls were potted.
+     */
+    @Test
+    void testSetPositions() {
+        List<Vector3> positions = new ArrayList<>();
+        for (Ball3D ball : simulation.getPoolBalls()) {
+            positions.add(ball.getCoordinates());
+        }
+        positions.set(2, new Vector3(0, -100, 0));
+
+        simulation.setPositions(positions);
+        assertTrue(simulation.getBall(2).isPotted());
+        ShotOutcome outcome = simulation.simulate(BREAK_DIRECTION, GameConstants.MAX_CUE_FORCE);
+
+        simulation.setPositions(positions);
+        ShotOutcome repeated = simulation.simulate(BREAK_DIRECTION, GameConstants.MAX_CUE_FORCE);
+
+        assertEquals(outcome.getSteps(), repeated.getSteps());
+        assertEquals(outcome.getPottedBalls(), repeated.getPottedBalls());
+        assertFalse(repeated.getPottedBalls().contains(2));
+    }
+
+    /**
+     * Test case to verify that balls are looked up by their id.
+     */
+    @Test
+    void testGetBall() {
+        assertEquals(simulation.getCueBall(), simulation.getBall(GameConstants.CUEBALL_ID));
+        assertEquals(GameConstants.EIGHTBALL_ID,
+                simulation.getBall(GameConstants.EIGHTBALL_ID).getId());
+        assertTrue(simulation.getBall(ShotOutcome.NO_BALL) instanceof NullBall);
+    }
+
+    /**
+     * Test case to verify that a shot simulated headless ends up with the
+     * same ball positions as the same shot played in the interactive Game.
+     */
+    @Test
+    void testShootMatchesGame() {
+        Simulation played = factory.createSimulation(players);
+        List<Ball3D> poolBalls = played.getPoolBalls();
+        GameElements gameElements = new GameElements(poolBalls,
+                played.getPhysicsWorld().getTable(), Mockito.mock(Cue3D.class));
+        SceneElements sceneElements = new SceneElements(Mockito.mock(Environment.class),
+                Mockito.mock(Camera.class), Mockito.mock(SoundPlayer.class));
+        Scene3D scene = new Scene3D(Mockito.mock(ModelBatch.class), gameElements, sceneElements);
+        GameState gameState = new GameState(players, poolBalls);
+        Game game = new Game(scene, Mockito.mock(Input.class), gameState);
+
+        // Play the shot like the cue does, rendering at 60 frames per second
+        game.startGame();
+        game.startMotion();
+        poolBalls.get(0).setDirection(new Vector3(BREAK_DIRECTION));
+        poolBalls.get(0).setSpeed(GameConstants.MAX_CUE_FORCE);
+        while (gameState.isInMotion()) {
+            game.advanceGameLoop(1f / 60f);
+        }
+
+        ShotOutcome outcome = simulation.shoot(BREAK_DIRECTION, GameConstants.MAX_CUE_FORCE);
+
+        for (int i = 0; i < GameConstants.BALL_COUNT; i++) {
+            assertEquals(poolBalls.get(i).getCoordinates(),
+                    simulation.getPoolBalls().get(i).getCoordinates());
+        }
+        assertEquals(BallSet.size(gameState.getGameBallState().getAllPottedBalls()),
+                outcome.getPottedBalls().size());
+    }
+
+    /**
+     * Plays a headless match with random shots, and records everything
+     * that happened in it, up to the final positions of the balls.
+     * @param factory  Factory to create the simulation of the match with
+     * @param seed  Seed of the random shots of the match
+     * @return  Record of the outcomes of the shots and the final positions
+     */
+    @SuppressWarnings("PMD.DataflowAnomalyAnalysis") // Suppressed as PMD flags spot
+    // as a UR anomaly / being undefined
+    private static String playMatch(SimulationFactory factory, long seed) {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        Simulation match = factory.createSimulation(players);
+        Random random = new Random(seed);
+        StringBuilder record = new StringBuilder();
+        for (int shot = 0; shot < MATCH_SHOTS; shot++) {
+            for (Vector3 spot : ComputerPlayer.getCueBallSpots()) {
+                if (!match.getState().isCueBallPotted() || match.placeCueBall(spot)) {
+                    break;
+                }
+            }
+            float angle = random.nextFloat() * MathUtils.PI2;
+            ShotOutcome outcome = match.shoot(new Vector3(MathUtils.cos(angle), 0,
+                    MathUtils.sin(angle)), random.nextFloat() * GameConstants.MAX_CUE_FORCE);
+            record.append(outcome.getPottedBalls()).append(outcome.getFirstTouched())
+                    .append(outcome.getSteps()).append(outcome.getBallCollisions());
+            if (outcome.getWinner().isPresent()) {
+                break;
+            }
+        }
+        for (Ball3D ball : match.getPoolBalls()) {
+            record.append(ball.getCoordinates());
+        }
+        return record.toString();
+    }
+
+    /**
+     * Test case to verify that many matches can run in parallel in one process,
+     * by checking that every match played on a thread pool has exactly the
+     * same result as when it is played on its own.
+     * @throws Exception  If a match failed or was interrupted
+     */
+    @Test
+    void testParallelMatches() throws Exception {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            expected.add(playMatch(new SimulationFactory(), i));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            final long seed = i;
+            results.add(pool.submit(() -> playMatch(factory, seed)));
+        }
+        try {
+            for (int i = 0; i < MATCHES; i++) {
+                assertEquals(expected.get(i), results.get(i).get(), "Match " + i);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
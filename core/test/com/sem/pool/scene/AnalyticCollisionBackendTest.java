@@ -0,0 +1,106 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the AnalyticCollisionBackend class.
+ */
+class AnalyticCollisionBackendTest extends CollisionBackendTest {
+
+    @Override
+    protected CollisionBackend getBackend() {
+        return new AnalyticCollisionBackend();
+    }
+
+    @Override
+    protected HitBox getHitBox(HitBox.Type type, Vector3 halfExtents, Vector3 position) {
+        HitBox hitBox = new HitBox(null, null, type, halfExtents);
+        hitBox.getPosition().set(position);
+        return hitBox;
+    }
+
+    /**
+     * Test case to verify that the order of the hit boxes does not matter.
+     */
+    @Test
+    void testSwappedArguments() {
+        HitBox ball = getHitBox(HitBox.Type.SPHERE, new Vector3(RADIUS, RADIUS, RADIUS),
+                new Vector3(0, HEIGHT, 1.3f));
+        HitBox cushion = getHitBox(HitBox.Type.BOX, new Vector3(10f, 10f, 0.1f),
+                new Vector3(0, 0, 1.45f));
+
+        assertTrue(backend.checkHitBoxCollision(cushion, ball));
+    }
+
+    /**
+     * Test case to verify that two hit boxes without a sphere never collide.
+     */
+    @Test
+    void testNoSphere() {
+        HitBox cushion = getHitBox(HitBox.Type.BOX, new Vector3(10f, 10f, 0.1f),
+                new Vector3(0, 0, 1.45f));
+        HitBox pot = getHitBox(HitBox.Type.CYLINDER, new Vector3(0.175f, 10f, 0.175f),
+                new Vector3(0, 0, 1.45f));
+
+        assertFalse(backend.checkHitBoxCollision(cushion, pot));
+    }
+
+    /**
+     * Test case to verify that a hit box without an analytic shape never collides.
+     */
+    @Test
+    void testNoAnalyticShape() {
+        HitBox ball = getHitBox(HitBox.Type.SPHERE, new Vector3(RADIUS, RADIUS, RADIUS),
+                new Vector3());
+        HitBox other = getHitBox(null, new Vector3(), new Vector3());
+
+        assertFalse(backend.checkHitBoxCollision(ball, other));
+    }
+
+    /**
+     * Test case to verify that spheres that only touch do not collide.
+     */
+    @Test
+    void testSpheresTouching() {
+        assertFalse(AnalyticCollisionBackend.sphereSphere(new Vector3(), 1,
+                new Vector3(2, 0, 0), 1));
+        assertTrue(AnalyticCollisionBackend.sphereSphere(new Vector3(), 1,
+                new Vector3(1.99f, 0, 0), 1));
+    }
+
+    /**
+     * Test case to verify that the box test measures the distance
+     * to the closest corner of the box.
+     */
+    @Test
+    void testSphereBoxCorner() {
+        Vector3 halfExtents = new Vector3(1, 1, 1);
+
+        assertFalse(AnalyticCollisionBackend.sphereBox(new Vector3(1.8f, 0, 1.8f), 1,
+                new Vector3(), halfExtents));
+        assertTrue(AnalyticCollisionBackend.sphereBox(new Vector3(1.5f, 0, 1.5f), 1,
+                new Vector3(), halfExtents));
+    }
+
+    /**
+     * Test case to verify that the cylinder test measures the distance
+     * to the round side and to the caps of the cylinder.
+     */
+    @Test
+    void testSphereCylinder() {
+        Vector3 halfExtents = new Vector3(1, 1, 1);
+
+        assertFalse(AnalyticCollisionBackend.sphereCylinder(new Vector3(1.5f, 0, 1.5f), 1,
+                new Vector3(), halfExtents));
+        assertTrue(AnalyticCollisionBackend.sphereCylinder(new Vector3(1.2f, 0, 1.2f), 1,
+                new Vector3(), halfExtents));
+        assertFalse(AnalyticCollisionBackend.sphereCylinder(new Vector3(0, 2.5f, 0), 1,
+                new Vector3(), halfExtents));
+        assertTrue(AnalyticCollisionBackend.sphereCylinder(new Vector3(0, 1.5f, 0), 1,
+                new Vector3(), halfExtents));
+    }
+}
@@ -3,6 +3,7 @@ package com.sem.pool.scene;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
@@ -269,6 +270,29 @@ abstract class Ball3DTest {
         assertEquals(expectedRadius, radius);
     }
 
+    /**
+     * Test case to verify that the hit box of a ball has no Bullet objects
+     * when its collision handler does not need them.
+     */
+    @Test
+    public void testSetUpBoxesAnalytic() {
+        ModelInstance model = Mockito.mock(ModelInstance.class);
+        model.transform = new Matrix4().setToTranslation(1, 0, 0);
+        BoundingBox box = new BoundingBox();
+        box.ext(2, 2, 2);
+        Mockito.when(model.calculateBoundingBox(Mockito.any(BoundingBox.class)))
+                .thenReturn(box);
+
+        Ball3D ball = getBall(0, model);
+        ball.setCollisionHandler(new CollisionHandler(new AnalyticCollisionBackend()));
+        ball.setUpBoxes();
+
+        assertEquals(null, ball.getHitBox().getObject());
+        assertEquals(HitBox.Type.SPHERE, ball.getHitBox().getType());
+        assertEquals(Ball3D.hitBoxRatio, ball.getHitBox().getHalfExtents().x);
+        assertEquals(new Vector3(1, 0, 0), ball.getHitBox().getPosition());
+    }
+
     /**
      * Tests that the move method calls the translate method for the matrix.
      */
@@ -295,12 +319,123 @@ abstract class Ball3DTest {
         final Vector3 translation = new Vector3(1f, 0, 0);
         ball.setDirection(new Vector3(1,0,0));
         ball.setSpeed(1f);
-        // set our translation scaled to what we expect the ball to have
-        translation.scl((ball.getSpeed() - GameConstants.DRAG_COEFFICIENT));
+        // set our translation scaled to what we expect the ball to have,
+        // converted from speed per frame to distance over the time step
+        translation.scl((ball.getSpeed() - GameConstants.DRAG_COEFFICIENT)
+                * GameConstants.REFERENCE_FRAME_RATE);
         ball.move(1);
         Mockito.verify(mockMatrix, Mockito.times(1)).trn(translation);
     }
 
+    /**
+     * Test case to verify that the interpolated position lies between
+     * the previous and the current position of the ball.
+     */
+    @Test
+    public void testInterpolatedPosition() {
+        ModelInstance model = Mockito.mock(ModelInstance.class);
+        model.transform = new Matrix4();
+        Ball3D ball = getBall(0, model);
+
+        // No previous step known yet
+        assertEquals(new Vector3(), ball.getInterpolatedPosition(0.5f, new Vector3()));
+
+        ball.storePreviousPosition();
+        ball.translate(new Vector3(2, 0, 0));
+
+        assertEquals(new Vector3(), ball.getInterpolatedPosition(0, new Vector3()));
+        assertEquals(new Vector3(1, 0, 0), ball.getInterpolatedPosition(0.5f, new Vector3()));
+        assertEquals(new Vector3(2, 0, 0), ball.getInterpolatedPosition(1, new Vector3()));
+    }
+
+    /**
+     * Test case to verify that potting a ball is not interpolated.
+     */
+    @Test
+    public void testInterpolatedPositionPotted() {
+        ModelInstance model = Mockito.mock(ModelInstance.class);
+        model.transform = new Matrix4();
+        Ball3D ball = getBall(0, model);
+
+        ball.storePreviousPosition();
+        ball.pot();
+
+        assertEquals(ball.getCoordinates(), ball.getInterpolatedPosition(0, new Vector3()));
+    }
+
+    /**
+     * Test case to verify that a ball bound to a state buffer keeps its
+     * physics state in the buffer, and leaves its model untouched.
+     */
+    @Test
+    public void testBoundState() {
+        ModelInstance model = Mockito.mock(ModelInstance.class);
+        model.transform = new Matrix4().setToTranslation(1, 0.28f, 0);
+        Ball3D ball = getBall(0, model);
+        HitBox hitBox = Mockito.mock(HitBox.class);
+        ball.setHitBox(hitBox);
+        BallStateBuffer buffer = new BallStateBuffer(1);
+
+        ball.bindState(buffer);
+        ball.setDirection(new Vector3(2, 0, 0));
+        ball.setSpeed(0.5f);
+        ball.move(1 / GameConstants.REFERENCE_FRAME_RATE);
+
+        // The ball is moved in the buffer only
+        assertEquals(0.5f - GameConstants.DRAG_COEFFICIENT / GameConstants.REFERENCE_FRAME_RATE,
+                buffer.getSpeed(0));
+        assertEquals(new Vector3(1, 0, 0), ball.getDirection());
+        assertEquals(buffer.getX(0), ball.getCoordinates().x);
+        assertTrue(ball.getCoordinates().x > 1);
+        assertEquals(new Vector3(1, 0.28f, 0), model.transform.getTranslation(new Vector3()));
+        assertTrue(ball.isInMotion());
+        assertTrue(ball.checkWithinBounds());
+        Mockito.verify(hitBox).updateLocation(Mockito.any(Matrix4.class));
+    }
+
+    /**
+     * Test case to verify that the coordinates of a bound ball are
+     * written to the specified vector, and its direction to its own
+     * vector, instead of a new one.
+     */
+    @Test
+    public void testBoundStateCoordinatesOut() {
+        ModelInstance model = Mockito.mock(ModelInstance.class);
+        model.transform = new Matrix4().setToTranslation(1, 0.28f, 0);
+        Ball3D ball = getBall(0, model);
+        ball.bindState(new BallStateBuffer(1));
+        Vector3 out = new Vector3();
+
+        assertSame(out, ball.getCoordinates(out));
+        assertEquals(new Vector3(1, 0.28f, 0), out);
+        assertSame(out, ball.getInterpolatedPosition(1, out));
+        assertEquals(new Vector3(1, 0.28f, 0), out);
+        assertSame(ball.getDirection(), ball.getDirection());
+    }
+
+    /**
+     * Test case to verify that potting a bound ball flags it as potted,
+     * and that placing it back on the table clears that flag.
+     */
+    @Test
+    public void testBoundStatePotted() {
+        ModelInstance model = Mockito.mock(ModelInstance.class);
+        model.transform = new Matrix4();
+        Ball3D ball = getBall(0, model);
+        BallStateBuffer buffer = new BallStateBuffer(1);
+        ball.bindState(buffer);
+
+        ball.pot();
+        assertTrue(ball.isPotted());
+        assertEquals(-100, ball.getCoordinates().y);
+        assertEquals(ball.getCoordinates(), ball.getInterpolatedPosition(0, new Vector3()));
+
+        model.transform.setToTranslation(1, 0.28f, 0);
+        ball.syncFromModel();
+        assertFalse(ball.isPotted());
+        assertEquals(new Vector3(1, 0.28f, 0), ball.getCoordinates());
+    }
+
     /**
      * Tests whether the boundary for the move method that changes the speed works properly.
      */
@@ -580,8 +715,9 @@ abstract class Ball3DTest {
         ball.setSpeed(5 + 5 * GameConstants.DRAG_COEFFICIENT);
         // move our ball
         ball.move(5);
-        // verify that we first move forward.
-        Mockito.verify(mockMatrix, Mockito.times(1)).trn(translation.scl(5));
+        // verify that we first move forward (speed 5 over a time step of 5).
+        Mockito.verify(mockMatrix, Mockito.times(1))
+                .trn(translation.scl(5 * 5 * GameConstants.REFERENCE_FRAME_RATE));
         // verify that we move back as we realise we're out of bounds.
         Mockito.verify(mockMatrix, Mockito.times(1)).trn(translation.scl(-1));
     }
@@ -0,0 +1,138 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the BallStateBuffer class.
+ */
+class BallStateBufferTest {
+    private transient BallStateBuffer buffer;
+    private transient int slot;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new BallStateBuffer(2);
+        buffer.add(new Vector3(), new Vector3(), 0);
+        slot = buffer.add(new Vector3(1, 2, 1), new Vector3(1, 0, 0), 0.5f);
+    }
+
+    /**
+     * Test case to verify that adding balls assigns consecutive
+     * slots, and stores the state of the ball.
+     */
+    @Test
+    void testAdd() {
+        assertEquals(1, slot);
+        assertEquals(2, buffer.size());
+        assertEquals(1, buffer.getX(slot));
+        assertEquals(2, buffer.getY(slot));
+        assertEquals(1, buffer.getZ(slot));
+        assertEquals(new Vector3(1, 0, 0), buffer.getDirection(slot, new Vector3()));
+        assertEquals(0.5f, buffer.getSpeed(slot));
+        assertEquals(new Vector3(1, 2, 1),
+                buffer.getInterpolatedPosition(slot, 0, new Vector3()));
+    }
+
+    /**
+     * Test case to verify that the state of a ball can be updated
+     * without affecting the other balls.
+     */
+    @Test
+    void testSetters() {
+        buffer.setPosition(slot, new Vector3(2, 0, 0));
+        buffer.translate(slot, 0, 1, 0);
+        buffer.setDirection(slot, new Vector3(0, 0, 1));
+        buffer.setSpeed(slot, 2);
+
+        assertEquals(new Vector3(2, 1, 0),
+                buffer.getInterpolatedPosition(slot, 1, new Vector3()));
+        assertEquals(new Vector3(0, 0, 1), buffer.getDirection(slot, new Vector3()));
+        assertEquals(2, buffer.getSpeed(slot));
+        assertEquals(0, buffer.getX(0));
+    }
+
+    /**
+     * Test case to verify that advancing a ball moves it along its direction.
+     */
+    @Test
+    void testAdvance() {
+        buffer.advance(slot, 0.5f);
+
+        assertEquals(1.5f, buffer.getX(slot));
+        assertEquals(1, buffer.getZ(slot));
+    }
+
+    /**
+     * Test case to verify that a ball is not moved outside of the table bounds.
+     */
+    @Test
+    void testAdvanceOutOfBounds() {
+        buffer.advance(slot, 5);
+
+        assertEquals(1, buffer.getX(slot));
+        assertTrue(buffer.isWithinBounds(slot));
+
+        buffer.setPosition(slot, new Vector3(0, 0, Table3D.zBound));
+        assertFalse(buffer.isWithinBounds(slot));
+    }
+
+    /**
+     * Test case to verify that the position is interpolated between
+     * the previous and current position.
+     */
+    @Test
+    void testInterpolatedPosition() {
+        buffer.storePreviousPosition(slot);
+        buffer.translate(slot, 1, 0, -1);
+
+        Vector3 out = new Vector3();
+        assertEquals(out, buffer.getInterpolatedPosition(slot, 0.5f, out));
+        assertEquals(new Vector3(1.5f, 2, 0.5f), out);
+    }
+
+    /**
+     * Test case to verify that flags can be set and cleared per ball.
+     */
+    @Test
+    void testFlags() {
+        assertFalse(buffer.isFlagSet(slot, BallStateBuffer.POTTED));
+
+        buffer.setFlag(slot, BallStateBuffer.POTTED);
+        assertTrue(buffer.isFlagSet(slot, BallStateBuffer.POTTED));
+        assertFalse(buffer.isFlagSet(0, BallStateBuffer.POTTED));
+
+        buffer.clearFlag(slot, BallStateBuffer.POTTED);
+        assertFalse(buffer.isFlagSet(slot, BallStateBuffer.POTTED));
+    }
+
+    /**
+     * Test case to verify that a saved state is restored, including the
+     * flags, and that the restored balls are not interpolated.
+     */
+    @Test
+    void testSaveAndRestoreState() {
+        buffer.setFlag(slot, BallStateBuffer.POTTED);
+        final float[] saved = buffer.saveState();
+
+        buffer.storePreviousPosition(slot);
+        buffer.translate(slot, 1, 0, 1);
+        buffer.setDirection(slot, new Vector3(0, 0, 1));
+        buffer.setSpeed(slot, 0);
+        buffer.clearFlag(slot, BallStateBuffer.POTTED);
+        buffer.restoreState(saved);
+
+        assertEquals(2 * BallStateBuffer.SAVED_FLOATS, saved.length);
+        assertEquals(new Vector3(1, 2, 1),
+                buffer.getInterpolatedPosition(slot, 0, new Vector3()));
+        assertEquals(new Vector3(1, 0, 0), buffer.getDirection(slot, new Vector3()));
+        assertEquals(0.5f, buffer.getSpeed(slot));
+        assertTrue(buffer.isFlagSet(slot, BallStateBuffer.POTTED));
+    }
+}
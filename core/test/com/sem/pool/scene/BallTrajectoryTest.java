@@ -0,0 +1,69 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the BallTrajectory class.
+ */
+class BallTrajectoryTest {
+    private static final float EPSILON = 1e-4f;
+    private static final float SPEED = 0.1f;
+
+    private transient BallTrajectory trajectory;
+
+    @BeforeEach
+    void setUp() {
+        trajectory = new BallTrajectory();
+    }
+
+    /**
+     * Test case to verify that the position within a segment follows
+     * the motion of the ball, and is clamped at the start of the shot.
+     */
+    @Test
+    public void testGetPositionSingleSegment() {
+        trajectory.add(0, new Vector3(1, 0.28f, 0), new Vector3(0, 0, 1), SPEED);
+        Vector3 out = new Vector3();
+
+        assertEquals(new Vector3(1, 0.28f, 0), trajectory.getPosition(-1, out));
+        float distance = (float) KineticSolver.travel(SPEED, 0.5);
+        assertTrue(new Vector3(1, 0.28f, distance)
+                .epsilonEquals(trajectory.getPosition(0.5f, out), EPSILON));
+    }
+
+    /**
+     * Test case to verify that the segment that started last before
+     * the time is used, also after the segments had to grow.
+     */
+    @Test
+    public void testGetPositionManySegments() {
+        final int segments = 20;
+        for (int i = 0; i < segments; i++) {
+            trajectory.add(i, new Vector3(i, 0, 0), new Vector3(1, 0, 0), 0);
+        }
+        Vector3 out = new Vector3();
+
+        assertEquals(segments, trajectory.size());
+        assertEquals(new Vector3(0, 0, 0), trajectory.getPosition(0.5f, out));
+        assertEquals(new Vector3(7, 0, 0), trajectory.getPosition(7, out));
+        assertEquals(new Vector3(13, 0, 0), trajectory.getPosition(13.9f, out));
+        assertEquals(new Vector3(19, 0, 0), trajectory.getPosition(100, out));
+    }
+
+    /**
+     * Test case to verify that clearing the trajectory removes all segments.
+     */
+    @Test
+    public void testClear() {
+        trajectory.add(0, new Vector3(), new Vector3(), 0);
+        trajectory.clear();
+
+        assertEquals(0, trajectory.size());
+    }
+}
@@ -0,0 +1,300 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.badlogic.gdx.math.Vector3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test class containing unit tests for the BroadPhaseGrid class.
+ */
+class BroadPhaseGridTest {
+    private static final float RADIUS = 0.1f;
+
+    private transient BroadPhaseGrid grid;
+    private transient List<Ball3D> balls;
+
+    @BeforeEach
+    void setUp() {
+        grid = new BroadPhaseGrid(Table3D.xBound, Table3D.zBound);
+        balls = new ArrayList<>();
+    }
+
+    /**
+     * Creates a mock ball at the specified position with the test radius.
+     * A null position results in a ball without coordinates.
+     *
+     * @param position  Position of the ball
+     * @return  Mock ball at the specified position
+     */
+    private Ball3D addBall(Vector3 position) {
+        Ball3D ball = Mockito.mock(Ball3D.class);
+        Mockito.when(ball.getCoordinates(Mockito.any())).thenReturn(position);
+        Mockito.when(ball.getRadius()).thenReturn(RADIUS);
+        balls.add(ball);
+        return ball;
+    }
+
+    /**
+     * Returns the neighbours of the specified ball as a trimmed array,
+     * with all balls awake, so that only the balls after it are returned.
+     *
+     * @param index  Index of the ball to get the neighbours for
+     * @return  Neighbours of the ball after it
+     */
+    private int[] awakeNeighboursOf(int index) {
+        boolean[] awake = new boolean[balls.size()];
+        Arrays.fill(awake, true);
+        return neighboursOf(index, awake);
+    }
+
+    /**
+     * Test case to verify that two touching balls are paired,
+     * and counted as tested.
+     */
+    @Test
+    void testNearbyBallsPaired() {
+        addBall(new Vector3(0, 0.28f, 0));
+        addBall(new Vector3(0.15f, 0.28f, 0));
+        grid.rebuild(balls);
+
+        assertArrayEquals(new int[] {1}, awakeNeighboursOf(0));
+        assertArrayEquals(new int[0], awakeNeighboursOf(1));
+        assertEquals(1, grid.getPairsTested());
+        // The pair was already returned for the first ball
+        assertEquals(1, grid.getPairsCulled());
+    }
+
+    /**
+     * Test case to verify that balls in neighbouring cells,
+     * across a cell border, are still paired.
+     */
+    @Test
+    void testNeighbouringCellsPaired() {
+        // Cells are 0.2 wide and start at -xBound, so these
+        // balls are on either side of a cell border.
+        addBall(new Vector3(-Table3D.xBound + 0.19f, 0, -Table3D.zBound + 0.19f));
+        addBall(new Vector3(-Table3D.xBound + 0.21f, 0, -Table3D.zBound + 0.21f));
+        grid.rebuild(balls);
+
+        assertArrayEquals(new int[] {1}, awakeNeighboursOf(0));
+    }
+
+    /**
+     * Test case to verify that balls far apart are culled.
+     */
+    @Test
+    void testFarBallsCulled() {
+        addBall(new Vector3(-2, 0, 0));
+        addBall(new Vector3(2, 0, 0));
+        addBall(new Vector3(0, 0, 1));
+        grid.rebuild(balls);
+
+        assertArrayEquals(new int[0], awakeNeighboursOf(0));
+        assertArrayEquals(new int[0], awakeNeighboursOf(1));
+        assertEquals(0, grid.getPairsTested());
+        assertEquals(4, grid.getPairsCulled());
+    }
+
+    /**
+     * Test case to verify that the candidates are returned in
+     * ascending order, regardless of the cells they are in.
+     */
+    @Test
+    void testCandidatesSorted() {
+        addBall(new Vector3(0, 0, 0));
+        addBall(new Vector3(0.15f, 0, 0));
+        addBall(new Vector3(-0.15f, 0, 0));
+        addBall(new Vector3(0, 0, 0.15f));
+        addBall(new Vector3(0.05f, 0, 0.05f));
+        grid.rebuild(balls);
+
+        assertArrayEquals(new int[] {1, 2, 3, 4}, awakeNeighboursOf(0));
+    }
+
+    /**
+     * Test case to verify that balls without coordinates are
+     * conservatively paired with all other balls.
+     */
+    @Test
+    void testUnplacedBallsPaired() {
+        addBall(null);
+        addBall(new Vector3(-2, 0, 0));
+        addBall(new Vector3(2, 0, 0));
+        addBall(null);
+        grid.rebuild(balls);
+
+        assertArrayEquals(new int[] {1, 2, 3}, awakeNeighboursOf(0));
+        assertArrayEquals(new int[] {3}, awakeNeighboursOf(1));
+    }
+
+    /**
+     * Test case to verify that potted balls below the table are
+     * never paired with any other ball.
+     */
+    @Test
+    void testPottedBallsCulled() {
+        addBall(null);
+        addBall(new Vector3(0, -100, 0));
+        addBall(new Vector3(0, 0, 0));
+        grid.rebuild(balls);
+
+        assertArrayEquals(new int[] {2}, awakeNeighboursOf(0));
+        assertArrayEquals(new int[0], awakeNeighboursOf(1));
+        assertEquals(1, grid.getPairsTested());
+        assertEquals(0, grid.getPairsCulled());
+    }
+
+    /**
+     * Test case to verify that balls without a radius end up in a single
+     * cell covering the whole table, and are thus always paired.
+     */
+    @Test
+    void testZeroRadiusSingleCell() {
+        Ball3D ball1 = Mockito.mock(Ball3D.class);
+        Ball3D ball2 = Mockito.mock(Ball3D.class);
+        Mockito.when(ball1.getCoordinates(Mockito.any())).thenReturn(new Vector3(-2, 0, 0));
+        Mockito.when(ball2.getCoordinates(Mockito.any())).thenReturn(new Vector3(2, 0, 0));
+        balls.add(ball1);
+        balls.add(ball2);
+        grid.rebuild(balls);
+
+        assertArrayEquals(new int[] {1}, awakeNeighboursOf(0));
+    }
+
+    /**
+     * Test case to verify that balls outside of the table bounds
+     * are clamped into the border cells.
+     */
+    @Test
+    void testOutOfBoundsClamped() {
+        addBall(new Vector3(Table3D.xBound + 5, 0, Table3D.zBound + 5));
+        addBall(new Vector3(Table3D.xBound - 0.05f, 0, Table3D.zBound - 0.05f));
+        grid.rebuild(balls);
+
+        assertArrayEquals(new int[] {1}, awakeNeighboursOf(0));
+    }
+
+    /**
+     * Test case to verify that rebuilding the grid reflects the new
+     * ball positions, and that the counters can be reset.
+     */
+    @Test
+    void testRebuildAndResetCounters() {
+        addBall(new Vector3(0, 0, 0));
+        Ball3D moving = addBall(new Vector3(0.15f, 0, 0));
+        grid.rebuild(balls);
+        awakeNeighboursOf(0);
+
+        Mockito.when(moving.getCoordinates(Mockito.any())).thenReturn(new Vector3(2, 0, 0));
+        grid.rebuild(balls);
+        assertArrayEquals(new int[0], awakeNeighboursOf(0));
+        assertEquals(1, grid.getPairsTested());
+        assertEquals(1, grid.getPairsCulled());
+
+        grid.resetCounters();
+        assertEquals(0, grid.getPairsTested());
+        assertEquals(0, grid.getPairsCulled());
+    }
+
+    /**
+     * Returns the neighbours of the specified moving ball as a trimmed array.
+     *
+     * @param index  Index of the ball to get the neighbours for
+     * @param awake  Whether each ball is awake
+     * @return  Neighbours of the ball
+     */
+    private int[] neighboursOf(int index, boolean... awake) {
+        int[] candidates = new int[balls.size()];
+        int count = grid.neighboursOf(index, awake, candidates);
+        return Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Test case to verify that a moving ball is paired with the sleeping
+     * balls around it, but not with awake balls that were queried before it.
+     */
+    @Test
+    void testNeighboursOfSkipsAwakePairs() {
+        addBall(new Vector3(0, 0, 0));
+        addBall(new Vector3(0.15f, 0, 0));
+        addBall(new Vector3(0.3f, 0, 0));
+        addBall(new Vector3(2, 0, 0));
+        grid.rebuild(balls);
+
+        assertArrayEquals(new int[] {0, 2}, neighboursOf(1, false, true, true, false));
+        assertArrayEquals(new int[] {0}, neighboursOf(2, false, true, true, false));
+        assertArrayEquals(new int[] {0, 1}, neighboursOf(2, false, false, true, false));
+        assertEquals(5, grid.getPairsTested());
+        assertEquals(4, grid.getPairsCulled());
+    }
+
+    /**
+     * Test case to verify that unplaced balls are paired with moving
+     * balls, and that potted balls have no neighbours.
+     */
+    @Test
+    void testNeighboursOfUnplacedAndPotted() {
+        addBall(null);
+        addBall(new Vector3(2, 0, 0));
+        addBall(new Vector3(0, -100, 0));
+        grid.rebuild(balls);
+
+        assertArrayEquals(new int[] {0}, neighboursOf(1, false, true, false));
+        assertArrayEquals(new int[] {1}, neighboursOf(0, true, false, false));
+        assertArrayEquals(new int[0], neighboursOf(2, false, false, true));
+    }
+
+    /**
+     * Test case to verify that updating a single ball moves it to the cell
+     * of its new position, without rebuilding the grid.
+     */
+    @Test
+    void testUpdateMovesBall() {
+        addBall(new Vector3(0, 0, 0));
+        Ball3D moving = addBall(new Vector3(0.01f, 0, 0));
+        addBall(new Vector3(0.02f, 0, 0));
+        grid.rebuild(balls);
+
+        Mockito.when(moving.getCoordinates(Mockito.any())).thenReturn(new Vector3(2, 0, 0));
+        grid.update(1, moving);
+        assertArrayEquals(new int[] {2}, awakeNeighboursOf(0));
+
+        Mockito.when(moving.getCoordinates(Mockito.any())).thenReturn(new Vector3(0, 0, 0.05f));
+        grid.update(1, moving);
+        assertArrayEquals(new int[] {1, 2}, awakeNeighboursOf(0));
+    }
+
+    /**
+     * Test case to verify that updating a potted ball removes it from the
+     * grid, and that updating a ball without coordinates pairs it with all balls.
+     */
+    @Test
+    void testUpdatePottedAndUnplaced() {
+        addBall(new Vector3(0, 0, 0));
+        Ball3D potted = addBall(new Vector3(0.15f, 0, 0));
+        grid.rebuild(balls);
+
+        Mockito.when(potted.getCoordinates(Mockito.any())).thenReturn(new Vector3(0, -100, 0));
+        grid.update(1, potted);
+        assertArrayEquals(new int[0], neighboursOf(0, true, false));
+        assertEquals(0, grid.getPairsCulled());
+
+        Mockito.when(potted.getCoordinates(Mockito.any())).thenReturn(null);
+        grid.update(1, potted);
+        assertArrayEquals(new int[] {1}, awakeNeighboursOf(0));
+
+        Mockito.when(potted.getCoordinates(Mockito.any())).thenReturn(new Vector3(-2, 0, 0));
+        grid.update(1, potted);
+        assertArrayEquals(new int[0], neighboursOf(0, true, false));
+        assertEquals(1, grid.getPairsCulled());
+    }
+}
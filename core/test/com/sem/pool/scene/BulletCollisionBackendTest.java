@@ -0,0 +1,99 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.physics.bullet.Bullet;
+import com.badlogic.gdx.physics.bullet.collision.CollisionObjectWrapper;
+import com.badlogic.gdx.physics.bullet.collision.btBoxShape;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionAlgorithm;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionAlgorithmConstructionInfo;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionDispatcher;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionObject;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionShape;
+import com.badlogic.gdx.physics.bullet.collision.btCylinderShape;
+import com.badlogic.gdx.physics.bullet.collision.btDefaultCollisionConfiguration;
+import com.badlogic.gdx.physics.bullet.collision.btDispatcherInfo;
+import com.badlogic.gdx.physics.bullet.collision.btManifoldResult;
+import com.badlogic.gdx.physics.bullet.collision.btPersistentManifold;
+import com.badlogic.gdx.physics.bullet.collision.btSphereShape;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test class containing unit tests for the BulletCollisionBackend class.
+ */
+class BulletCollisionBackendTest extends CollisionBackendTest {
+
+    @Override
+    protected CollisionBackend getBackend() {
+        Bullet.init();
+        btDefaultCollisionConfiguration configuration = new btDefaultCollisionConfiguration();
+        btCollisionDispatcher dispatcher = new btCollisionDispatcher(configuration);
+        return new BulletCollisionBackend(configuration, dispatcher,
+                new btCollisionAlgorithmConstructionInfo(), new btDispatcherInfo());
+    }
+
+    @Override
+    protected HitBox getHitBox(HitBox.Type type, Vector3 halfExtents, Vector3 position) {
+        btCollisionShape shape;
+
+        if (type == HitBox.Type.SPHERE) {
+            shape = new btSphereShape(halfExtents.x);
+        } else if (type == HitBox.Type.BOX) {
+            shape = new btBoxShape(halfExtents);
+        } else {
+            shape = new btCylinderShape(halfExtents);
+        }
+
+        btCollisionObject object = new btCollisionObject();
+        object.setCollisionShape(shape);
+        HitBox hitBox = new HitBox(shape, object, type, halfExtents);
+        hitBox.updateLocation(new Matrix4().setToTranslation(position));
+        return hitBox;
+    }
+
+    /**
+     * Tests the constructor and get methods.
+     */
+    @Test
+    public void testConstructor() {
+        Bullet.init();
+        btDefaultCollisionConfiguration configuration = new btDefaultCollisionConfiguration();
+        btCollisionDispatcher dispatcher = new btCollisionDispatcher(configuration);
+        btCollisionAlgorithmConstructionInfo constructionInfo =
+                new btCollisionAlgorithmConstructionInfo();
+        btDispatcherInfo dispatcherInfo = new btDispatcherInfo();
+        BulletCollisionBackend bulletBackend = new BulletCollisionBackend(configuration,
+                dispatcher, constructionInfo, dispatcherInfo);
+        assertEquals(bulletBackend.getCollisionConfig(), configuration);
+        assertEquals(bulletBackend.getDispatcher(), dispatcher);
+        assertEquals(bulletBackend.getConstructionInfo(), constructionInfo);
+        assertEquals(bulletBackend.getDispatcherInfo(), dispatcherInfo);
+    }
+
+    /**
+     * Tests the collision algorithm method.
+     */
+    @Test
+    public void testCollisionAlgorithm() {
+        final BulletCollisionBackend bulletBackend = (BulletCollisionBackend) getBackend();
+
+        final CollisionObjectWrapper mockedCO0 = Mockito.mock(CollisionObjectWrapper.class);
+        final CollisionObjectWrapper mockedCO1 = Mockito.mock(CollisionObjectWrapper.class);
+        btCollisionAlgorithm mockedAlgorithm = Mockito.mock(btCollisionAlgorithm.class);
+        btManifoldResult mockedResult = Mockito.mock(btManifoldResult.class);
+        btPersistentManifold mockedPersistentManifold = Mockito.mock(btPersistentManifold.class);
+        mockedResult.setPersistentManifold(mockedPersistentManifold);
+
+        Mockito.doNothing().when(mockedAlgorithm).processCollision(Mockito.any(),
+                Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.when(mockedResult.getPersistentManifold()).thenReturn(mockedPersistentManifold);
+        Mockito.when(mockedPersistentManifold.getNumContacts()).thenReturn(1);
+        assertTrue(bulletBackend.checkCollisionAlgorithm(mockedAlgorithm,
+                mockedCO0, mockedCO1, mockedResult));
+    }
+}
@@ -0,0 +1,183 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.physics.bullet.collision.btBroadphaseInterface;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionObject;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionWorld;
+import com.badlogic.gdx.physics.bullet.collision.btDispatcher;
+import com.badlogic.gdx.physics.bullet.collision.btPersistentManifold;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.game.GameConstants;
+import com.sem.pool.game.Player;
+import com.sem.pool.game.Simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test class containing unit tests for the BulletCollisionWorld class, and
+ * for the reactions of the PhysicsWorld to the contacts of a collision world.
+ */
+class BulletCollisionWorldTest {
+    private static final float HEIGHT = 0.28f;
+
+    private transient btDispatcher dispatcher;
+    private transient btBroadphaseInterface broadphase;
+    private transient btCollisionWorld world;
+    private transient BulletCollisionWorld collisionWorld;
+    private transient ContactHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = Mockito.mock(btDispatcher.class);
+        broadphase = Mockito.mock(btBroadphaseInterface.class);
+        world = Mockito.mock(btCollisionWorld.class);
+        collisionWorld = new BulletCollisionWorld(dispatcher, broadphase, world);
+        handler = Mockito.mock(ContactHandler.class);
+    }
+
+    /**
+     * Creates a mocked contact manifold between two hit boxes.
+     * @param first  User value of the first hit box
+     * @param second  User value of the second hit box
+     * @param contacts  Number of contact points in the manifold
+     * @return  Mocked manifold
+     */
+    private static btPersistentManifold manifold(int first, int second, int contacts) {
+        btCollisionObject body0 = Mockito.mock(btCollisionObject.class);
+        btCollisionObject body1 = Mockito.mock(btCollisionObject.class);
+        Mockito.when(body0.getUserValue()).thenReturn(first);
+        Mockito.when(body1.getUserValue()).thenReturn(second);
+        btPersistentManifold manifold = Mockito.mock(btPersistentManifold.class);
+        Mockito.when(manifold.getNumContacts()).thenReturn(contacts);
+        Mockito.when(manifold.getBody0()).thenReturn(body0);
+        Mockito.when(manifold.getBody1()).thenReturn(body1);
+        return manifold;
+    }
+
+    /**
+     * Test case to verify that the user values of the hit boxes
+     * are passed on to the handler as the right kind of contact.
+     */
+    @Test
+    public void testDispatch() {
+        BulletCollisionWorld.dispatch(3, 1, handler);
+        BulletCollisionWorld.dispatch(BulletCollisionWorld.CUSHION + 2, 4, handler);
+        BulletCollisionWorld.dispatch(5, BulletCollisionWorld.POT + 1, handler);
+
+        Mockito.verify(handler).onBallContact(1, 3);
+        Mockito.verify(handler).onCushionContact(4, 2);
+        Mockito.verify(handler).onPotContact(5);
+    }
+
+    /**
+     * Test case to verify that a single detection call is made per step,
+     * and that only the manifolds with contact points are reported.
+     */
+    @Test
+    public void testDetect() {
+        btPersistentManifold touching = manifold(0, 1, 1);
+        btPersistentManifold near = manifold(2, 3, 0);
+        Mockito.when(dispatcher.getNumManifolds()).thenReturn(2);
+        Mockito.when(dispatcher.getManifoldByIndexInternal(0)).thenReturn(touching);
+        Mockito.when(dispatcher.getManifoldByIndexInternal(1)).thenReturn(near);
+
+        collisionWorld.detect(handler);
+
+        Mockito.verify(world).performDiscreteCollisionDetection();
+        Mockito.verify(handler).onBallContact(0, 1);
+        Mockito.verifyNoMoreInteractions(handler);
+    }
+
+    /**
+     * Test case to verify that the hit boxes of the balls and the table are
+     * registered with their user values, and removed when the world is disposed.
+     */
+    @Test
+    public void testAddAndDispose() {
+        btCollisionObject ballObject = Mockito.mock(btCollisionObject.class);
+        Ball3D ball = Mockito.mock(Ball3D.class);
+        Mockito.when(ball.getHitBox()).thenReturn(new HitBox(null, ballObject));
+        btCollisionObject potObject = Mockito.mock(btCollisionObject.class);
+        Table3D table = Mockito.mock(Table3D.class);
+        Mockito.when(table.getHitBoxes()).thenReturn(new ArrayList<>());
+        ArrayList<HitBox> pots = new ArrayList<>();
+        pots.add(new HitBox(null, potObject));
+        Mockito.when(table.getPotHitBoxes()).thenReturn(pots);
+
+        List<Ball3D> balls = new ArrayList<>();
+        balls.add(ball);
+        collisionWorld.add(balls, table);
+
+        assertEquals(2, collisionWorld.getObjectCount());
+        Mockito.verify(ballObject).setUserValue(0);
+        Mockito.verify(potObject).setUserValue(BulletCollisionWorld.POT);
+        Mockito.verify(world).addCollisionObject(potObject,
+                BulletCollisionWorld.TABLE_GROUP, BulletCollisionWorld.BALL_GROUP);
+
+        collisionWorld.dispose();
+        collisionWorld.dispose();
+
+        Mockito.verify(world).removeCollisionObject(ballObject);
+        Mockito.verify(world).removeCollisionObject(potObject);
+        Mockito.verify(world).dispose();
+        Mockito.verify(broadphase).dispose();
+        assertEquals(0, collisionWorld.getObjectCount());
+    }
+
+    /**
+     * Test case to verify that the contacts of a collision world drive the
+     * same collision response, wake-up, first touch and pot logic as the
+     * pairwise checks, and that resting contacts are ignored.
+     */
+    @Test
+    public void testPhysicsWorldContacts() {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        Simulation simulation = new SimulationFactory().createSimulation(players);
+        List<Vector3> positions = new ArrayList<>();
+        for (int i = 0; i < GameConstants.BALL_COUNT; i++) {
+            positions.add(new Vector3(-2 + 0.2f * i, HEIGHT, 1));
+        }
+        simulation.setPositions(positions);
+        List<Ball3D> poolBalls = simulation.getPoolBalls();
+        Ball3D cueBall = poolBalls.get(0);
+        cueBall.setDirection(new Vector3(1, 0, 0));
+        cueBall.setSpeed(0.1f);
+
+        PhysicsWorld physicsWorld = simulation.getPhysicsWorld();
+        BulletCollisionWorld contacts = Mockito.mock(BulletCollisionWorld.class);
+        Mockito.doAnswer(invocation -> {
+            ContactHandler worldContacts = invocation.getArgument(0);
+            worldContacts.onBallContact(1, 0);
+            worldContacts.onBallContact(2, 3);
+            worldContacts.onCushionContact(0, 0);
+            worldContacts.onCushionContact(4, 0);
+            worldContacts.onPotContact(0);
+            worldContacts.onPotContact(0);
+            return null;
+        }).when(contacts).detect(Mockito.any());
+        physicsWorld.setCollisionWorld(contacts);
+        physicsWorld.wakeAll();
+
+        final List<Ball3D> potted = physicsWorld.triggerCollisions();
+
+        assertEquals(poolBalls.get(1), physicsWorld.getFirstTouched());
+        assertTrue(poolBalls.get(1).isInMotion());
+        assertEquals(0, poolBalls.get(2).getSpeed());
+        assertEquals(0, poolBalls.get(4).getSpeed());
+        assertEquals(1, potted.size());
+        assertEquals(cueBall, potted.get(0));
+
+        physicsWorld.dispose();
+        Mockito.verify(contacts).dispose();
+    }
+}
@@ -0,0 +1,130 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing the collision scenarios of the Ball3D and Table3D tests,
+ * which every collision backend has to agree on.
+ */
+abstract class CollisionBackendTest {
+    protected static final float RADIUS = 0.1f;
+    protected static final float HEIGHT = 0.28f;
+
+    protected transient CollisionBackend backend;
+
+    /**
+     * Returns the collision backend under test.
+     * @return Instance of CollisionBackend.
+     */
+    protected abstract CollisionBackend getBackend();
+
+    /**
+     * Returns a hit box of the specified shape at the specified position,
+     * which can be used by the backend under test.
+     * @param type shape of the hit box.
+     * @param halfExtents half extents of the hit box.
+     * @param position position of the hit box.
+     * @return Instance of HitBox.
+     */
+    protected abstract HitBox getHitBox(HitBox.Type type, Vector3 halfExtents, Vector3 position);
+
+    @BeforeEach
+    void setUp() {
+        backend = getBackend();
+    }
+
+    private HitBox ball(float x, float z) {
+        return getHitBox(HitBox.Type.SPHERE, new Vector3(RADIUS, RADIUS, RADIUS),
+                new Vector3(x, HEIGHT, z));
+    }
+
+    private HitBox cushion(Vector3 halfExtents, Vector3 position) {
+        return getHitBox(HitBox.Type.BOX, halfExtents, position);
+    }
+
+    private HitBox pot(Vector3 position) {
+        return getHitBox(HitBox.Type.CYLINDER, new Vector3(0.175f, 10f, 0.175f),
+                position);
+    }
+
+    /**
+     * Test case to verify that two overlapping balls collide.
+     */
+    @Test
+    void testBallsOverlapping() {
+        assertTrue(backend.checkHitBoxCollision(ball(0, 0), ball(0.15f, 0)));
+        assertTrue(backend.checkHitBoxCollision(ball(0, 0), ball(0, 0.15f)));
+    }
+
+    /**
+     * Test case to verify that two balls far apart do not collide.
+     */
+    @Test
+    void testBallsApart() {
+        assertFalse(backend.checkHitBoxCollision(ball(0, 0), ball(0.5f, 0)));
+        assertFalse(backend.checkHitBoxCollision(ball(0, 0), ball(0, 0.5f)));
+    }
+
+    /**
+     * Test case to verify that a ball touching the long cushion collides with it.
+     */
+    @Test
+    void testBallHitsCushion() {
+        HitBox cushion = cushion(new Vector3(10f, 10f, 0.1f), new Vector3(0, 0, 1.45f));
+        assertTrue(backend.checkHitBoxCollision(ball(0, 1.3f), cushion));
+    }
+
+    /**
+     * Test case to verify that a ball touching the short cushion collides with it.
+     */
+    @Test
+    void testBallHitsSideCushion() {
+        HitBox cushion = cushion(new Vector3(0.1f, 10f, 10f), new Vector3(3.05f, 0, 0));
+        assertTrue(backend.checkHitBoxCollision(ball(2.9f, 0), cushion));
+    }
+
+    /**
+     * Test case to verify that a ball in the middle of the table
+     * does not collide with a cushion.
+     */
+    @Test
+    void testBallMissesCushion() {
+        HitBox cushion = cushion(new Vector3(10f, 10f, 0.1f), new Vector3(0, 0, 1.45f));
+        assertFalse(backend.checkHitBoxCollision(ball(0, 0), cushion));
+    }
+
+    /**
+     * Test case to verify that a ball over a pot collides with the pot.
+     */
+    @Test
+    void testBallInPot() {
+        HitBox pot = pot(new Vector3(3.05f, 0, 1.45f));
+        assertTrue(backend.checkHitBoxCollision(ball(3.0f, 1.4f), pot));
+    }
+
+    /**
+     * Test case to verify that a ball away from a pot does not collide with the pot.
+     */
+    @Test
+    void testBallNotInPot() {
+        HitBox pot = pot(new Vector3(3.05f, 0, 1.45f));
+        assertFalse(backend.checkHitBoxCollision(ball(2.5f, 1.0f), pot));
+    }
+
+    /**
+     * Test case to verify that a ball placed below the table
+     * (after potting) does not collide with the pot anymore.
+     */
+    @Test
+    void testPottedBallBelowPot() {
+        HitBox pot = pot(new Vector3(3.05f, 0, 1.45f));
+        HitBox potted = getHitBox(HitBox.Type.SPHERE, new Vector3(RADIUS, RADIUS, RADIUS),
+                new Vector3(3.05f, -100, 1.45f));
+        assertFalse(backend.checkHitBoxCollision(potted, pot));
+    }
+}
@@ -0,0 +1,49 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.physics.bullet.Bullet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the CollisionContext class.
+ */
+class CollisionContextTest {
+    private transient CollisionContext context;
+
+    @BeforeEach
+    void setUp() {
+        Bullet.init();
+        context = new CollisionContext();
+    }
+
+    /**
+     * Test case to verify that the native objects are created with the context.
+     */
+    @Test
+    public void testConstructor() {
+        assertNotNull(context.getConfiguration());
+        assertNotNull(context.getDispatcher());
+        assertNotNull(context.getConstructionInfo());
+        assertNotNull(context.getDispatcherInfo());
+        assertFalse(context.isDisposed());
+    }
+
+    /**
+     * Test case to verify that disposing the context releases the native
+     * objects, and that disposing it again has no effect.
+     */
+    @Test
+    public void testDispose() {
+        context.dispose();
+        context.dispose();
+
+        assertTrue(context.isDisposed());
+        assertTrue(context.getDispatcher().isDisposed());
+        assertTrue(context.getConfiguration().isDisposed());
+    }
+}
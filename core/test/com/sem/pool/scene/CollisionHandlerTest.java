@@ -1,18 +1,9 @@
 package com.sem.pool.scene;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import com.badlogic.gdx.physics.bullet.Bullet;
-import com.badlogic.gdx.physics.bullet.collision.CollisionObjectWrapper;
-import com.badlogic.gdx.physics.bullet.collision.btCollisionAlgorithm;
-import com.badlogic.gdx.physics.bullet.collision.btCollisionAlgorithmConstructionInfo;
-import com.badlogic.gdx.physics.bullet.collision.btCollisionDispatcher;
-import com.badlogic.gdx.physics.bullet.collision.btDefaultCollisionConfiguration;
-import com.badlogic.gdx.physics.bullet.collision.btDispatcherInfo;
-import com.badlogic.gdx.physics.bullet.collision.btManifoldResult;
-import com.badlogic.gdx.physics.bullet.collision.btPersistentManifold;
-
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -23,47 +14,48 @@ public class CollisionHandlerTest {
      */
     @Test
     public void testConstructor() {
-        Bullet.init();
-        btDefaultCollisionConfiguration configuration = new btDefaultCollisionConfiguration();
-        btCollisionDispatcher dispatcher = new btCollisionDispatcher(configuration);
-        btCollisionAlgorithmConstructionInfo constructionInfo =
-                new btCollisionAlgorithmConstructionInfo();
-        btDispatcherInfo dispatcherInfo = new btDispatcherInfo();
-        CollisionHandler collisionHandler = new CollisionHandler(configuration, dispatcher,
-                constructionInfo, dispatcherInfo);
-        assertEquals(collisionHandler.getCollisionConfig(), configuration);
-        assertEquals(collisionHandler.getDispatcher(), dispatcher);
-        assertEquals(collisionHandler.getConstructionInfo(), constructionInfo);
-        assertEquals(collisionHandler.getDispatcherInfo(), dispatcherInfo);
+        CollisionBackend backend = Mockito.mock(CollisionBackend.class);
+        CollisionHandler collisionHandler = new CollisionHandler(backend);
+        assertEquals(backend, collisionHandler.getBackend());
     }
 
     /**
-     * Tests the collision algorithm method.
+     * Tests that only the Bullet backend requires native objects.
      */
     @Test
-    public void testCollisionAlgorithm() {
-        Bullet.init();
-        btDefaultCollisionConfiguration configuration = new btDefaultCollisionConfiguration();
-        btCollisionDispatcher dispatcher =
-                new btCollisionDispatcher(configuration);
-        btCollisionAlgorithmConstructionInfo constructionInfo =
-                new btCollisionAlgorithmConstructionInfo();
-        btDispatcherInfo dispatcherInfo = new btDispatcherInfo();
-        final CollisionHandler collisionHandler = new CollisionHandler(configuration,
-                dispatcher, constructionInfo, dispatcherInfo);
+    public void testRequiresNativeObjects() {
+        CollisionBackend backend = Mockito.mock(BulletCollisionBackend.class);
+        Mockito.when(backend.requiresNativeObjects()).thenCallRealMethod();
+
+        assertTrue(new CollisionHandler(backend).requiresNativeObjects());
+        assertFalse(new CollisionHandler(new AnalyticCollisionBackend())
+                .requiresNativeObjects());
+    }
 
-        final CollisionObjectWrapper mockedCO0 = Mockito.mock(CollisionObjectWrapper.class);
-        final CollisionObjectWrapper mockedCO1 = Mockito.mock(CollisionObjectWrapper.class);
-        btCollisionAlgorithm mockedAlgorithm = Mockito.mock(btCollisionAlgorithm.class);
-        btManifoldResult mockedResult = Mockito.mock(btManifoldResult.class);
-        btPersistentManifold mockedPersistentManifold = Mockito.mock(btPersistentManifold.class);
-        mockedResult.setPersistentManifold(mockedPersistentManifold);
+    /**
+     * Tests that the collision check is delegated to the backend.
+     */
+    @Test
+    public void testCheckHitBoxCollision() {
+        CollisionBackend backend = Mockito.mock(CollisionBackend.class);
+        HitBox hitBox1 = Mockito.mock(HitBox.class);
+        HitBox hitBox2 = Mockito.mock(HitBox.class);
+        Mockito.when(backend.checkHitBoxCollision(hitBox1, hitBox2)).thenReturn(true);
+        CollisionHandler collisionHandler = new CollisionHandler(backend);
+
+        assertTrue(collisionHandler.checkHitBoxCollision(hitBox1, hitBox2));
+        assertFalse(collisionHandler.checkHitBoxCollision(hitBox2, hitBox1));
+        Mockito.verify(backend).checkHitBoxCollision(hitBox1, hitBox2);
+    }
+
+    /**
+     * Test case to verify that disposing the handler disposes its backend.
+     */
+    @Test
+    void testDispose() {
+        CollisionBackend backend = Mockito.mock(CollisionBackend.class);
+        new CollisionHandler(backend).dispose();
 
-        Mockito.doNothing().when(mockedAlgorithm).processCollision(Mockito.any(),
-                Mockito.any(), Mockito.any(), Mockito.any());
-        Mockito.when(mockedResult.getPersistentManifold()).thenReturn(mockedPersistentManifold);
-        Mockito.when(mockedPersistentManifold.getNumContacts()).thenReturn(1);
-        assertTrue(collisionHandler.checkCollisionAlgorithm(mockedAlgorithm,
-                mockedCO0, mockedCO1, mockedResult));
+        Mockito.verify(backend).dispose();
     }
 }
@@ -0,0 +1,160 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.game.GameConstants;
+import com.sem.pool.game.Player;
+import com.sem.pool.game.Simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test class containing unit tests for the ContactCache class, and for
+ * the reactions of the PhysicsWorld to contacts that begin and persist.
+ */
+class ContactCacheTest {
+    private static final float HEIGHT = 0.28f;
+    private static final float EPSILON = 1e-4f;
+
+    private transient ContactCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ContactCache(GameConstants.BALL_COUNT, 4);
+    }
+
+    /**
+     * Test case to verify that every contact has its own key,
+     * and that the key of a pair does not depend on the order.
+     */
+    @Test
+    public void testKeys() {
+        assertEquals(cache.pairKey(3, 7), cache.pairKey(7, 3));
+        assertNotEquals(cache.pairKey(3, 7), cache.pairKey(3, 8));
+        assertNotEquals(cache.cushionKey(0, 3), cache.cushionKey(1, 0));
+        assertTrue(cache.cushionKey(0, 0) > cache.pairKey(15, 15));
+    }
+
+    /**
+     * Test case to verify that a contact begins, persists while it
+     * is touched in every step, and ends when it is not touched.
+     */
+    @Test
+    public void testBeginPersistEnd() {
+        final int key = cache.pairKey(0, 1);
+        cache.nextStep();
+        assertFalse(cache.wasTouching(key));
+        cache.touch(key);
+        assertTrue(cache.isTouching(key));
+
+        cache.nextStep();
+        assertTrue(cache.wasTouching(key));
+        assertFalse(cache.isTouching(key));
+        cache.touch(key);
+        assertEquals(1, cache.size());
+
+        cache.nextStep();
+        cache.nextStep();
+        assertFalse(cache.wasTouching(key));
+    }
+
+    /**
+     * Test case to verify that clearing the cache ends all contacts.
+     */
+    @Test
+    public void testClear() {
+        cache.touch(cache.cushionKey(2, 1));
+        cache.nextStep();
+        cache.clear();
+
+        assertFalse(cache.wasTouching(cache.cushionKey(2, 1)));
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Creates a physics world for the balls of a simulation, in which only the
+     * cue ball and the ball with index 1 are on the table.
+     * @param listener  Listener of the collisions
+     * @param cueBall  Position of the cue ball
+     * @param ball  Position of the ball with index 1
+     * @return  The physics world
+     */
+    private static PhysicsWorld createWorld(CollisionListener listener,
+                                            Vector3 cueBall, Vector3 ball) {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        final Simulation simulation = new SimulationFactory().createSimulation(players);
+        List<Vector3> positions = new ArrayList<>();
+        for (int i = 0; i < GameConstants.BALL_COUNT; i++) {
+            positions.add(new Vector3(0, -100, 0));
+        }
+        positions.set(0, cueBall);
+        positions.set(1, ball);
+        simulation.setPositions(positions);
+        return new PhysicsWorld(simulation.getPoolBalls(),
+                simulation.getPhysicsWorld().getTable(), listener);
+    }
+
+    /**
+     * Test case to verify that balls that keep overlapping only collide
+     * once, and are pushed apart while the contact persists.
+     */
+    @Test
+    public void testPhysicsWorldBallContactPersists() {
+        CollisionListener listener = Mockito.mock(CollisionListener.class);
+        PhysicsWorld world = createWorld(listener,
+                new Vector3(-0.15f, HEIGHT, 0), new Vector3(0, HEIGHT, 0));
+        Ball3D cueBall = world.getPoolBalls().get(0);
+        final Ball3D ball = world.getPoolBalls().get(1);
+        final float contact = 2 * cueBall.getRadius() * Ball3D.hitBoxRatio;
+        cueBall.setDirection(new Vector3(0, 0, 1));
+        cueBall.setSpeed(0.01f);
+        world.wakeAll();
+
+        world.triggerCollisions();
+        world.updateActiveBalls();
+        world.triggerCollisions();
+
+        Mockito.verify(listener).onBallCollision(cueBall, ball);
+        assertEquals(contact, cueBall.getCoordinates().dst(ball.getCoordinates()), EPSILON);
+        assertTrue(world.getContacts().wasTouching(world.getContacts().pairKey(0, 1)));
+    }
+
+    /**
+     * Test case to verify that a ball that keeps overlapping with a border
+     * bounces off it once, and is pushed back out of the border after that.
+     */
+    @Test
+    public void testPhysicsWorldCushionContactPersists() {
+        CollisionListener listener = Mockito.mock(CollisionListener.class);
+        PhysicsWorld world = createWorld(listener,
+                new Vector3(2.9f, HEIGHT, 0), new Vector3(0, HEIGHT, 0));
+        Ball3D cueBall = world.getPoolBalls().get(0);
+        cueBall.setDirection(new Vector3(1, 0, 0));
+        cueBall.setSpeed(0.01f);
+        world.wakeAll();
+
+        world.triggerCollisions();
+        assertEquals(new Vector3(-1, 0, 0), cueBall.getDirection());
+        world.updateActiveBalls();
+        world.triggerCollisions();
+
+        Mockito.verify(listener).onTableCollision(cueBall);
+        // The ball still moves away from the border, and no longer sinks into it
+        assertEquals(new Vector3(-1, 0, 0), cueBall.getDirection());
+        final float face = Table3D.xBound - 0.1f;
+        assertTrue(cueBall.getCoordinates().x
+                <= face - cueBall.getRadius() * Ball3D.hitBoxRatio + EPSILON);
+    }
+}
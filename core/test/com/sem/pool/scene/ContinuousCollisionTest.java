@@ -0,0 +1,229 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.game.GameConstants;
+import com.sem.pool.game.Player;
+import com.sem.pool.game.Simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the ContinuousCollision class.
+ */
+class ContinuousCollisionTest {
+    private static final float HEIGHT = 0.28f;
+    private static final float EPSILON = 1e-4f;
+
+    private transient Simulation simulation;
+    private transient Ball3D cueBall;
+    private transient Ball3D ball;
+    private transient float contact;
+    private transient ContinuousCollision continuousCollision;
+
+    @BeforeEach
+    void setUp() {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        simulation = new SimulationFactory().createSimulation(players);
+        cueBall = simulation.getPoolBalls().get(0);
+        ball = simulation.getPoolBalls().get(1);
+        contact = 2 * cueBall.getRadius() * Ball3D.hitBoxRatio;
+        continuousCollision = new ContinuousCollision();
+    }
+
+    /**
+     * Places the cue ball and the ball with index 1 on the table,
+     * and pots all other balls.
+     * @param cueBallX  X of the cue ball
+     * @param ballX  X of the ball with index 1
+     */
+    private void place(float cueBallX, float ballX) {
+        List<Vector3> positions = new ArrayList<>();
+        for (int i = 0; i < GameConstants.BALL_COUNT; i++) {
+            positions.add(new Vector3(0, -100, 0));
+        }
+        positions.set(0, new Vector3(cueBallX, HEIGHT, 0));
+        positions.set(1, new Vector3(ballX, HEIGHT, 0));
+        simulation.setPositions(positions);
+    }
+
+    /**
+     * Test case to verify the time of impact of spheres that
+     * touch within the step.
+     */
+    @Test
+    public void testTimeOfImpact() {
+        Vector3 start = new Vector3(2, 0, 0);
+        Vector3 motion = new Vector3(-4, 0, 0);
+
+        assertEquals(0.25f, ContinuousCollision.timeOfImpact(start, motion, 1), EPSILON);
+        // Already touching at the start of the step
+        assertEquals(0, ContinuousCollision.timeOfImpact(start, motion, 3), EPSILON);
+    }
+
+    /**
+     * Test case to verify that spheres which move apart, pass each other
+     * or do not reach each other within the step have no time of impact.
+     */
+    @Test
+    public void testTimeOfImpactNone() {
+        Vector3 start = new Vector3(2, 0, 0);
+
+        assertEquals(ContinuousCollision.NO_IMPACT,
+                ContinuousCollision.timeOfImpact(start, new Vector3(1, 0, 0), 1));
+        assertEquals(ContinuousCollision.NO_IMPACT,
+                ContinuousCollision.timeOfImpact(start, new Vector3(), 1));
+        assertEquals(ContinuousCollision.NO_IMPACT,
+                ContinuousCollision.timeOfImpact(start, new Vector3(-4, 0, 4), 1));
+        assertEquals(ContinuousCollision.NO_IMPACT,
+                ContinuousCollision.timeOfImpact(start, new Vector3(-0.5f, 0, 0), 1));
+    }
+
+    /**
+     * Test case to verify that only collisions with a ball that moves further
+     * than the threshold in a step are swept, as long as the budget lasts.
+     */
+    @Test
+    public void testIsFast() {
+        place(-1, 0);
+        cueBall.setSpeed(0.01f);
+        assertFalse(continuousCollision.isFast(cueBall, ball));
+        assertFalse(continuousCollision.isFast(ball, cueBall));
+
+        cueBall.setSpeed(GameConstants.MAX_CUE_FORCE);
+        assertTrue(continuousCollision.isFast(cueBall, ball));
+        assertTrue(continuousCollision.isFast(ball, cueBall));
+    }
+
+    /**
+     * Test case to verify that a fast ball which passed through a ball at
+     * rest within the step collides with it at the point of contact.
+     */
+    @Test
+    public void testCollideTunnelling() {
+        place(-contact - 0.01f, 0);
+        cueBall.setDirection(new Vector3(1, 0, 0));
+        cueBall.setSpeed(GameConstants.MAX_CUE_FORCE);
+        // Moved through the ball in a single step
+        cueBall.translate(new Vector3(2 * contact, 0, 0));
+
+        assertTrue(continuousCollision.collide(cueBall, ball, false));
+
+        assertEquals(1, continuousCollision.getSubSteps());
+        assertEquals(contact, cueBall.getCoordinates().dst(ball.getCoordinates()), EPSILON);
+        assertEquals(0, cueBall.getSpeed(), EPSILON);
+        assertEquals(GameConstants.MAX_CUE_FORCE, ball.getSpeed(), EPSILON);
+        assertEquals(new Vector3(1, 0, 0), ball.getDirection());
+    }
+
+    /**
+     * Test case to verify that two moving balls are both moved back to
+     * the point of contact, and on over the rest of the step.
+     */
+    @Test
+    public void testCollideBothMoving() {
+        // Both balls move into each other by 0.02 over the step of 0.075
+        final float step = GameConstants.MAX_CUE_FORCE * GameConstants.PHYSICS_STEP
+                * GameConstants.REFERENCE_FRAME_RATE;
+        place(-contact / 2 - step + 0.02f, contact / 2 + step - 0.02f);
+        cueBall.setDirection(new Vector3(1, 0, 0));
+        cueBall.setSpeed(GameConstants.MAX_CUE_FORCE);
+        ball.setDirection(new Vector3(-1, 0, 0));
+        ball.setSpeed(GameConstants.MAX_CUE_FORCE);
+        cueBall.translate(new Vector3(step, 0, 0));
+        ball.translate(new Vector3(-step, 0, 0));
+
+        assertTrue(continuousCollision.collide(cueBall, ball, true));
+
+        // The balls exchanged their velocities, and moved apart after the contact
+        assertEquals(new Vector3(-1, 0, 0), cueBall.getDirection());
+        assertEquals(new Vector3(1, 0, 0), ball.getDirection());
+        assertEquals(contact + 0.04f, cueBall.getCoordinates().dst(ball.getCoordinates()),
+                EPSILON);
+    }
+
+    /**
+     * Test case to verify that balls which do not meet within the step,
+     * and potted balls, do not collide.
+     */
+    @Test
+    public void testCollideNone() {
+        place(-1, 0);
+        cueBall.setDirection(new Vector3(1, 0, 0));
+        cueBall.setSpeed(GameConstants.MAX_CUE_FORCE);
+        cueBall.translate(new Vector3(0.05f, 0, 0));
+        assertFalse(continuousCollision.collide(cueBall, ball, false));
+
+        ball.pot();
+        assertFalse(continuousCollision.collide(cueBall, ball, false));
+        assertEquals(0, continuousCollision.getSubSteps());
+    }
+
+    /**
+     * Test case to verify that balls which already overlapped at the start
+     * of the step are checked for overlaps instead.
+     */
+    @Test
+    public void testCollideOverlapping() {
+        place(-contact / 2, 0);
+        cueBall.setDirection(new Vector3(1, 0, 0));
+        cueBall.setSpeed(GameConstants.MAX_CUE_FORCE);
+
+        assertTrue(continuousCollision.collide(cueBall, ball, false));
+        assertEquals(0, continuousCollision.getSubSteps());
+    }
+
+    /**
+     * Test case to verify that the number of swept collisions in a step
+     * is bounded, and reset at the start of the next step.
+     */
+    @Test
+    public void testSubStepBudget() {
+        for (int i = 0; i < GameConstants.MAX_CCD_SUB_STEPS; i++) {
+            place(-contact - 0.01f, 0);
+            cueBall.setDirection(new Vector3(1, 0, 0));
+            cueBall.setSpeed(GameConstants.MAX_CUE_FORCE);
+            cueBall.translate(new Vector3(0.05f, 0, 0));
+            assertTrue(continuousCollision.isFast(cueBall, ball));
+            assertTrue(continuousCollision.collide(cueBall, ball, false));
+        }
+        assertFalse(continuousCollision.isFast(cueBall, ball));
+
+        continuousCollision.reset();
+        assertTrue(continuousCollision.isFast(cueBall, ball));
+    }
+
+    /**
+     * Test case to verify that a shot at full force does not leave the
+     * cue ball deeply inside the ball it hits.
+     */
+    @Test
+    public void testPhysicsWorldNoDeepOverlap() {
+        place(-1, 0);
+        PhysicsWorld world = simulation.getPhysicsWorld();
+        cueBall.setDirection(new Vector3(1, 0, 0));
+        cueBall.setSpeed(GameConstants.MAX_CUE_FORCE);
+        world.wakeAll();
+
+        for (int step = 0; step < 100 && ball.getSpeed() == 0; step++) {
+            for (Ball3D moving : world.updateActiveBalls()) {
+                moving.storePreviousPosition();
+                moving.move(GameConstants.PHYSICS_STEP);
+            }
+            world.triggerCollisions();
+        }
+
+        assertEquals(1, world.getContinuousCollision().getSubSteps());
+        assertEquals(contact, cueBall.getCoordinates().dst(ball.getCoordinates()), 1e-3f);
+    }
+}
@@ -29,6 +29,22 @@ public class HitBoxTest {
         assertEquals(hitBox.getObject(), mockObject);
     }
 
+    /**
+     * Test method to verify that a HitBox can be constructed without
+     * any Bullet objects, and still be moved.
+     */
+    @Test
+    void testConstructorAnalytic() {
+        Vector3 halfExtents = new Vector3(1, 1, 1);
+        HitBox hitBox = new HitBox(HitBox.Type.SPHERE, halfExtents);
+        hitBox.updateLocation(new Matrix4().setToTranslation(1, 2, 3));
+
+        assertEquals(HitBox.Type.SPHERE, hitBox.getType());
+        assertEquals(halfExtents, hitBox.getHalfExtents());
+        assertEquals(new Vector3(1, 2, 3), hitBox.getPosition());
+        assertNotEquals(hitBox, new HitBox(HitBox.Type.SPHERE, halfExtents));
+    }
+
     @Test
     void testEquals() {
         btCollisionShape mockShape = Mockito.mock(btCollisionShape.class);
@@ -46,7 +62,7 @@ public class HitBoxTest {
 
 
     /**
-     * Tests the hashcode method.
+     * Tests the hashcode method, which is equal for equal hit boxes.
      */
     @Test
     void testHashCode() {
@@ -57,8 +73,12 @@ public class HitBoxTest {
         HitBox hitBox2 = new HitBox(mockShape, Mockito.mock(btCollisionObject.class));
 
         assertEquals(hitBox.hashCode(), hitBox.hashCode());
-        assertNotEquals(hitBox.hashCode(), hitBox1.hashCode());
+        assertEquals(hitBox.hashCode(), hitBox1.hashCode());
         assertNotEquals(hitBox.hashCode(), hitBox2.hashCode());
+
+        HitBox analytic = new HitBox(HitBox.Type.SPHERE, new Vector3(1, 1, 1));
+        assertEquals(analytic, analytic);
+        assertEquals(System.identityHashCode(analytic), analytic.hashCode());
     }
 
     /**
@@ -88,4 +108,41 @@ public class HitBoxTest {
 
         Mockito.verify(mockObject).setWorldTransform(mockMatrix);
     }
+
+    /**
+     * Test case to verify that the analytic shape is stored, and that
+     * the position of the hit box follows the translation matrix.
+     */
+    @Test
+    void testAnalyticShape() {
+        btCollisionShape mockShape = Mockito.mock(btCollisionShape.class);
+        btCollisionObject mockObject = Mockito.mock(btCollisionObject.class);
+        Vector3 halfExtents = new Vector3(1, 2, 3);
+        HitBox hitBox = new HitBox(mockShape, mockObject, HitBox.Type.BOX, halfExtents);
+
+        hitBox.updateLocation(new Matrix4().setToTranslation(4, 5, 6));
+
+        assertEquals(HitBox.Type.BOX, hitBox.getType());
+        assertEquals(halfExtents, hitBox.getHalfExtents());
+        assertEquals(new Vector3(4, 5, 6), hitBox.getPosition());
+    }
+
+    /**
+     * Test method to verify that disposing a HitBox disposes its Bullet
+     * objects only once, and that a HitBox without them can be disposed.
+     */
+    @Test
+    void testDispose() {
+        btCollisionShape mockShape = Mockito.mock(btCollisionShape.class);
+        btCollisionObject mockObject = Mockito.mock(btCollisionObject.class);
+        HitBox hitBox = new HitBox(mockShape, mockObject);
+        hitBox.dispose();
+        Mockito.when(mockShape.isDisposed()).thenReturn(true);
+        Mockito.when(mockObject.isDisposed()).thenReturn(true);
+        hitBox.dispose();
+
+        Mockito.verify(mockShape).dispose();
+        Mockito.verify(mockObject).dispose();
+        new HitBox(HitBox.Type.SPHERE, new Vector3(1, 1, 1)).dispose();
+    }
 }
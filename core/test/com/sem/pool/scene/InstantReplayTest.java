@@ -0,0 +1,120 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.game.GameConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test class containing unit tests for the InstantReplay class.
+ */
+class InstantReplayTest {
+    private static final int FRAMES = 5;
+    private static final float DURATION = (FRAMES - 1) * GameConstants.PHYSICS_STEP;
+
+    private transient ReplayBuffer buffer;
+    private transient InstantReplay replay;
+
+    /**
+     * Records the frames of a ball that moves a unit along x every physics step.
+     */
+    @BeforeEach
+    void setUp() {
+        buffer = new ReplayBuffer(1, FRAMES);
+        BallStateBuffer states = new BallStateBuffer(1);
+        states.add(new Vector3(), new Vector3(), 0);
+        for (int i = 0; i < FRAMES; i++) {
+            states.setPosition(0, new Vector3(i, 0, 0));
+            buffer.record(states);
+        }
+        replay = new InstantReplay(buffer);
+    }
+
+    /**
+     * Test case to verify that the replay plays the frames at the speed
+     * it was started with, and stops after the newest frame.
+     */
+    @Test
+    void testAdvance() {
+        replay.start(GameConstants.REPLAY_SLOW_MOTION);
+        replay.advance(GameConstants.PHYSICS_STEP);
+
+        assertTrue(replay.isPlaying());
+        assertEquals(GameConstants.PHYSICS_STEP * GameConstants.REPLAY_SLOW_MOTION,
+                replay.getTime());
+
+        replay.setSpeed(1);
+        replay.advance(DURATION);
+
+        assertFalse(replay.isPlaying());
+        assertEquals(DURATION, replay.getTime());
+    }
+
+    /**
+     * Test case to verify that a stopped replay does not advance.
+     */
+    @Test
+    void testStop() {
+        replay.start(1);
+        replay.stop();
+        replay.advance(GameConstants.PHYSICS_STEP);
+
+        assertFalse(replay.isPlaying());
+        assertEquals(0, replay.getTime());
+    }
+
+    /**
+     * Test case to verify that nothing is played without frames.
+     */
+    @Test
+    void testStartEmpty() {
+        buffer.clear();
+        replay.start(1);
+
+        assertFalse(replay.isPlaying());
+        assertEquals(1, replay.getSpeed());
+        assertEquals(buffer, replay.getBuffer());
+    }
+
+    /**
+     * Test case to verify that seeking is clamped to the recorded frames.
+     */
+    @Test
+    void testSeek() {
+        replay.seek(-1);
+        assertEquals(0, replay.getTime());
+
+        replay.seek(1);
+        assertEquals(DURATION, replay.getTime());
+    }
+
+    /**
+     * Test case to verify that applying the replay moves the model
+     * of the ball to its interpolated position at the replay time.
+     */
+    @Test
+    void testApply() {
+        Ball3D ball = Mockito.mock(Ball3D.class);
+        ModelInstance model = Mockito.mock(ModelInstance.class);
+        model.transform = new Matrix4();
+        Mockito.when(ball.getModel()).thenReturn(model);
+        List<Ball3D> poolBalls = new ArrayList<>();
+        poolBalls.add(ball);
+
+        replay.seek(GameConstants.PHYSICS_STEP * 1.5f);
+        replay.apply(poolBalls);
+
+        assertEquals(1.5f, model.transform.getTranslation(new Vector3()).x, 1e-4f);
+    }
+}
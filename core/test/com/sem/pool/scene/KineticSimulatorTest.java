@@ -0,0 +1,203 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.game.Player;
+import com.sem.pool.game.Simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test class containing unit tests for the event-driven KineticSimulator.
+ */
+class KineticSimulatorTest {
+    private static final float HEIGHT = 0.28f;
+    private static final float EPSILON = 1e-3f;
+    private static final double MAX_TIME = 60;
+
+    private transient Simulation simulation;
+    private transient List<Ball3D> poolBalls;
+    private transient CollisionListener listener;
+    private transient KineticSimulator simulator;
+
+    @BeforeEach
+    void setUp() {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        simulation = new SimulationFactory().createSimulation(players);
+        poolBalls = simulation.getPoolBalls();
+        listener = Mockito.mock(CollisionListener.class);
+        simulator = new KineticSimulator(poolBalls,
+                simulation.getPhysicsWorld().getTable(), listener);
+    }
+
+    /**
+     * Places the cue ball and the ball with index 1 on the table,
+     * and pots all other balls.
+     * @param cueBall  Position of the cue ball
+     * @param ball  Position of the ball with index 1
+     */
+    private void place(Vector3 cueBall, Vector3 ball) {
+        List<Vector3> positions = new ArrayList<>();
+        for (int i = 0; i < poolBalls.size(); i++) {
+            positions.add(new Vector3(0, -100, 0));
+        }
+        positions.set(0, cueBall);
+        positions.set(1, ball);
+        simulation.setPositions(positions);
+    }
+
+    /**
+     * Shoots the cue ball in the specified direction.
+     * @param direction  Direction of the shot
+     * @param speed  Speed of the shot
+     */
+    private void shoot(Vector3 direction, float speed) {
+        poolBalls.get(0).setDirection(direction);
+        poolBalls.get(0).setSpeed(speed);
+    }
+
+    /**
+     * Test case to verify that a ball that hits nothing stops
+     * after the distance it travels in closed form.
+     */
+    @Test
+    public void testRunFreeMotion() {
+        place(new Vector3(-1, HEIGHT, 0), new Vector3(1, HEIGHT, 1));
+        shoot(new Vector3(0, 0, 1), 0.01f);
+
+        assertTrue(simulator.run(MAX_TIME).isEmpty());
+
+        Ball3D cueBall = poolBalls.get(0);
+        assertEquals(KineticSolver.travel(0.01, MAX_TIME), cueBall.getCoordinates().z, EPSILON);
+        assertEquals(KineticSolver.stopTime(0.01), simulator.getEndTime(), EPSILON);
+        assertFalse(cueBall.isInMotion());
+        assertEquals(1, simulator.getEventCount());
+        Mockito.verifyNoInteractions(listener);
+    }
+
+    /**
+     * Test case to verify that a ball bounces back off a cushion.
+     */
+    @Test
+    public void testRunCushion() {
+        place(new Vector3(2.5f, HEIGHT, 0), new Vector3(1, HEIGHT, 1));
+        shoot(new Vector3(1, 0, 0), 0.05f);
+
+        simulator.run(MAX_TIME);
+
+        double toCushion = 2.8377 - 2.5;
+        double expected = 2.8377 - (KineticSolver.travel(0.05, MAX_TIME) - toCushion);
+        assertEquals(expected, poolBalls.get(0).getCoordinates().x, EPSILON);
+        Mockito.verify(listener).onTableCollision(poolBalls.get(0));
+    }
+
+    /**
+     * Test case to verify that a ball that hits the cushion at a pot is potted.
+     */
+    @Test
+    public void testRunPot() {
+        place(new Vector3(0, HEIGHT, 0), new Vector3(1, HEIGHT, 1));
+        shoot(new Vector3(0, 0, 1), 0.1f);
+
+        List<Ball3D> potted = simulator.run(MAX_TIME);
+
+        assertEquals(1, potted.size());
+        assertEquals(poolBalls.get(0), potted.get(0));
+        Mockito.verify(listener).onPot(poolBalls.get(0));
+        Mockito.verify(listener, Mockito.never()).onTableCollision(Mockito.any());
+    }
+
+    /**
+     * Test case to verify that a head-on collision passes the speed of
+     * the cue ball on to the ball it hits, and tracks the first touched ball.
+     */
+    @Test
+    public void testRunBallCollision() {
+        place(new Vector3(-1, HEIGHT, 0), new Vector3(0, HEIGHT, 0));
+        shoot(new Vector3(1, 0, 0), 0.05f);
+
+        simulator.run(MAX_TIME);
+
+        Ball3D cueBall = poolBalls.get(0);
+        Ball3D ball = poolBalls.get(1);
+        double contact = 2 * cueBall.getRadius() * Ball3D.hitBoxRatio;
+        assertTrue(cueBall.getCoordinates().x < ball.getCoordinates().x - contact);
+        // The speed left at the contact moves the ball on
+        double total = KineticSolver.travel(0.05, MAX_TIME);
+        assertEquals(-1 + total + contact, ball.getCoordinates().x, EPSILON);
+        assertEquals(0, ball.getCoordinates().z, EPSILON);
+        assertEquals(ball, simulator.getFirstTouched());
+        Mockito.verify(listener).onBallCollision(cueBall, ball);
+
+        simulator.clearFirstTouched();
+        assertTrue(simulator.getFirstTouched() instanceof NullBall);
+    }
+
+    /**
+     * Test case to verify that balls that overlap only collide
+     * if they approach each other.
+     */
+    @Test
+    public void testRunOverlapping() {
+        place(new Vector3(-0.2f, HEIGHT, 0), new Vector3(0, HEIGHT, 0));
+        shoot(new Vector3(-1, 0, 0), 0.02f);
+        simulator.run(MAX_TIME);
+        Mockito.verify(listener, Mockito.never()).onBallCollision(Mockito.any(), Mockito.any());
+
+        place(new Vector3(-0.2f, HEIGHT, 0), new Vector3(0, HEIGHT, 0));
+        shoot(new Vector3(1, 0, 0), 0.02f);
+        simulator.run(MAX_TIME);
+        Mockito.verify(listener).onBallCollision(poolBalls.get(0), poolBalls.get(1));
+    }
+
+    /**
+     * Test case to verify that the simulation stops at the time limit,
+     * and leaves the ball moving with its remaining speed.
+     */
+    @Test
+    public void testRunTimeLimit() {
+        place(new Vector3(-1, HEIGHT, 0), new Vector3(1, HEIGHT, 1));
+        shoot(new Vector3(0, 0, 1), 0.05f);
+
+        simulator.run(0.1);
+
+        Ball3D cueBall = poolBalls.get(0);
+        assertEquals(0.1, simulator.getEndTime(), EPSILON);
+        assertEquals(KineticSolver.travel(0.05, 0.1), cueBall.getCoordinates().z, EPSILON);
+        assertEquals(KineticSolver.speedAfter(0.05, 0.1), cueBall.getSpeed(), EPSILON);
+        assertTrue(cueBall.isInMotion());
+    }
+
+    /**
+     * Test case to verify that the positions of the balls during the shot
+     * can be reconstructed from their trajectories.
+     */
+    @Test
+    public void testGetPosition() {
+        place(new Vector3(-1, HEIGHT, 0), new Vector3(0, HEIGHT, 0));
+        shoot(new Vector3(1, 0, 0), 0.05f);
+        simulator.run(MAX_TIME);
+
+        Vector3 out = new Vector3();
+        assertTrue(new Vector3(-1, HEIGHT, 0).epsilonEquals(
+                simulator.getPosition(0, 0, out), EPSILON));
+        assertTrue(new Vector3(0, HEIGHT, 0).epsilonEquals(
+                simulator.getPosition(1, 0, out), EPSILON));
+        float end = (float) simulator.getEndTime();
+        assertTrue(poolBalls.get(1).getCoordinates().epsilonEquals(
+                simulator.getPosition(1, end, out), EPSILON));
+        // Start of the shot, and the collision after which the cue ball is at rest
+        assertEquals(2, simulator.getTrajectory(0).size());
+    }
+}
@@ -0,0 +1,193 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the KineticSolver class.
+ */
+class KineticSolverTest {
+    private static final int SAMPLES = 1000;
+    private static final double EPSILON = 1e-6;
+
+    private final transient double[] roots = new double[3];
+
+    /**
+     * Returns the sorted roots found by a solve method.
+     * @param count  Number of roots found
+     * @return  Sorted roots
+     */
+    private double[] sortedRoots(int count) {
+        double[] sorted = Arrays.copyOf(roots, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Test case to verify that a ball stops after its stop time,
+     * and does not travel any further afterwards.
+     */
+    @Test
+    public void testTravelStopsAtRest() {
+        final double speed = 0.3;
+        final double stopTime = KineticSolver.stopTime(speed);
+
+        assertEquals(0, KineticSolver.speedAfter(speed, stopTime), EPSILON);
+        assertEquals(0, KineticSolver.speedAfter(speed, stopTime * 2));
+        assertEquals(90, KineticSolver.travel(speed, stopTime), 1e-4);
+        assertEquals(90, KineticSolver.travel(speed, stopTime * 2), 1e-4);
+    }
+
+    /**
+     * Test case to verify that the distance travelled follows the linear
+     * and quadratic terms until the ball stops.
+     */
+    @Test
+    public void testTravelTerms() {
+        final double speed = 0.2;
+        final double time = 1.5;
+        double expected = KineticSolver.linearTerm(speed) * time
+                + KineticSolver.quadraticTerm(speed) * time * time;
+
+        assertEquals(expected, KineticSolver.travel(speed, time), EPSILON);
+        assertEquals(0, KineticSolver.quadraticTerm(0));
+    }
+
+    /**
+     * Property test to verify that the time to travel a distance is
+     * the inverse of the distance travelled in a time.
+     */
+    @Test
+    public void testTimeToTravelInverse() {
+        Random random = new Random(0);
+        for (int i = 0; i < SAMPLES; i++) {
+            double speed = random.nextDouble() * 0.3;
+            double time = random.nextDouble() * KineticSolver.stopTime(speed);
+            double distance = KineticSolver.travel(speed, time);
+
+            assertEquals(time, KineticSolver.timeToTravel(speed, distance), 1e-4);
+        }
+    }
+
+    /**
+     * Test case to verify the time to travel distances that are
+     * already reached, or that are never reached.
+     */
+    @Test
+    public void testTimeToTravelLimits() {
+        assertEquals(0, KineticSolver.timeToTravel(0.1, 0));
+        assertEquals(0, KineticSolver.timeToTravel(0.1, -1));
+        assertEquals(KineticSolver.NO_CONTACT, KineticSolver.timeToTravel(0.1, 100));
+        assertEquals(KineticSolver.NO_CONTACT, KineticSolver.timeToTravel(0, 1));
+    }
+
+    /**
+     * Test case to verify the distance a ray travels before it enters a circle.
+     */
+    @Test
+    public void testCircleEntry() {
+        assertEquals(1, KineticSolver.circleEntry(-2, 0, 1, 0, 1), EPSILON);
+        assertEquals(0, KineticSolver.circleEntry(-0.5, 0, 1, 0, 1));
+        // Moving away from the circle
+        assertEquals(KineticSolver.NO_CONTACT, KineticSolver.circleEntry(2, 0, 1, 0, 1));
+        // Passing the circle
+        assertEquals(KineticSolver.NO_CONTACT, KineticSolver.circleEntry(-2, 2, 1, 0, 1));
+    }
+
+    /**
+     * Test case to verify that a cubic with three real roots is solved.
+     */
+    @Test
+    public void testSolveCubicThreeRoots() {
+        // (x - 1)(x - 2)(x - 3)
+        int count = KineticSolver.solveCubic(1, -6, 11, -6, roots);
+        assertArrayEquals(new double[] {1, 2, 3}, sortedRoots(count), EPSILON);
+    }
+
+    /**
+     * Test case to verify that a cubic with a single real root is solved.
+     */
+    @Test
+    public void testSolveCubicOneRoot() {
+        // (x - 2)(x^2 + 1)
+        int count = KineticSolver.solveCubic(2, -4, 2, -4, roots);
+        assertArrayEquals(new double[] {2}, sortedRoots(count), EPSILON);
+    }
+
+    /**
+     * Test case to verify that a cubic without a cubic term is solved as a quadratic.
+     */
+    @Test
+    public void testSolveCubicQuadratic() {
+        // (x + 1)(x - 4)
+        int count = KineticSolver.solveCubic(0, 1, -3, -4, roots);
+        assertArrayEquals(new double[] {-1, 4}, sortedRoots(count), EPSILON);
+    }
+
+    /**
+     * Test case to verify the degenerate cases of the quadratic.
+     */
+    @Test
+    public void testSolveQuadraticDegenerate() {
+        assertEquals(0, KineticSolver.solveQuadratic(1, 0, 1, roots));
+        assertEquals(0, KineticSolver.solveQuadratic(0, 0, 1, roots));
+
+        assertEquals(1, KineticSolver.solveQuadratic(0, 2, -4, roots));
+        assertEquals(2, roots[0], EPSILON);
+
+        assertEquals(1, KineticSolver.solveQuadratic(1, 0, 0, roots));
+        assertEquals(0, roots[0], EPSILON);
+    }
+
+    /**
+     * Test case to verify that the first root of a quartic is found,
+     * and only if it lies within the horizon.
+     */
+    @Test
+    public void testFirstRoot() {
+        // (t - 1)(t - 2)(t - 3)(t - 4)
+        double[] quartic = {24, -50, 35, -10, 1};
+
+        assertEquals(1, KineticSolver.firstRoot(quartic, 10, roots), EPSILON);
+        assertEquals(KineticSolver.NO_CONTACT, KineticSolver.firstRoot(quartic, 0.5, roots));
+    }
+
+    /**
+     * Test case to verify that the root is found when the quartic
+     * has no critical points, and that a quartic that stays positive has none.
+     */
+    @Test
+    public void testFirstRootMonotone() {
+        assertEquals(1, KineticSolver.firstRoot(new double[] {1, -1, 0, 0, 0}, 2, roots),
+                EPSILON);
+        assertEquals(KineticSolver.NO_CONTACT,
+                KineticSolver.firstRoot(new double[] {1, 0, 1, 0, 0}, 2, roots));
+    }
+
+    /**
+     * Property test to verify that the coefficients of the squared distance
+     * give the squared length of the vector at random times.
+     */
+    @Test
+    public void testSquaredDistance() {
+        Random random = new Random(1);
+        double[] c = new double[5];
+        for (int i = 0; i < SAMPLES; i++) {
+            double[] v = new double[6];
+            for (int k = 0; k < v.length; k++) {
+                v[k] = random.nextDouble() * 2 - 1;
+            }
+            double t = random.nextDouble();
+            KineticSolver.squaredDistance(c, v[0], v[1], v[2], v[3], v[4], v[5]);
+
+            double x = v[0] + v[2] * t + v[4] * t * t;
+            double z = v[1] + v[3] * t + v[5] * t * t;
+            assertEquals(x * x + z * z, KineticSolver.evaluate(c, t), EPSILON);
+        }
+    }
+}
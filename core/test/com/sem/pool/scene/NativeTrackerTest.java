@@ -0,0 +1,87 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.physics.bullet.collision.btBoxShape;
+import com.badlogic.gdx.physics.bullet.collision.btCollisionObject;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the NativeTracker class.
+ */
+class NativeTrackerTest {
+
+    @BeforeEach
+    void setUp() {
+        NativeTracker.reset();
+        NativeTracker.setEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        NativeTracker.setEnabled(false);
+        NativeTracker.reset();
+    }
+
+    /**
+     * Test case to verify that the live objects are counted per type,
+     * and that releasing an object twice only counts once.
+     */
+    @Test
+    public void testLiveCounts() {
+        btCollisionObject object = new btCollisionObject();
+        btCollisionObject other = new btCollisionObject();
+        NativeTracker.track(object);
+        NativeTracker.track(other);
+        NativeTracker.track(new btBoxShape(new Vector3(1, 1, 1)));
+        NativeTracker.track(null);
+
+        Map<String, Integer> counts = NativeTracker.getLiveCounts();
+        assertEquals(2, counts.get("btCollisionObject"));
+        assertEquals(1, counts.get("btBoxShape"));
+        assertEquals(3, NativeTracker.getLiveCount());
+
+        NativeTracker.release(object);
+        NativeTracker.release(object);
+        assertEquals(2, NativeTracker.getLiveCount());
+    }
+
+    /**
+     * Test case to verify that objects are not tracked while the tracker is disabled.
+     */
+    @Test
+    public void testDisabled() {
+        NativeTracker.setEnabled(false);
+        NativeTracker.track(new btCollisionObject());
+
+        assertEquals(0, NativeTracker.getLiveCount());
+        assertTrue(NativeTracker.getLiveCounts().isEmpty());
+    }
+
+    /**
+     * Test case to verify that a hit box and a collision context
+     * release all the objects they track when they are disposed.
+     */
+    @Test
+    public void testDisposeReleases() {
+        btBoxShape shape = new btBoxShape(new Vector3(1, 1, 1));
+        btCollisionObject object = new btCollisionObject();
+        HitBox hitBox = new HitBox(shape, object);
+        CollisionContext context = new CollisionContext();
+        assertEquals(6, NativeTracker.getLiveCount());
+
+        hitBox.dispose();
+        context.dispose();
+
+        assertEquals(0, NativeTracker.getLiveCount());
+        assertTrue(shape.isDisposed());
+        assertTrue(object.isDisposed());
+    }
+}
@@ -1,10 +1,26 @@
 package com.sem.pool.scene;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.game.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
 class PhysicsUtilsTest {
+    private static final int SAMPLES = 1000;
+    private static final float EPSILON = 1e-4f;
+    // The angles of getSpeedOnCollision lose precision for directions close to an axis
+    private static final float ANGLE_EPSILON = 1e-2f;
+
     /**
      * Asserts that the calculateSpeed methods
      * returns the root of the summed squares.
@@ -16,4 +32,137 @@ class PhysicsUtilsTest {
         final double speed = 5;
         assertEquals(PhysicsUtils.calculateBallSpeed(Vx, Vz), speed);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns a random normalized direction on the table.
+     * @param random  Random generator to use
+     * @return  Normalized direction with a y of 0
+     */
+    private Vector3 randomDirection(Random random) {
+        double angle = random.nextDouble() * 2 * Math.PI;
+        return new Vector3((float) Math.cos(angle), 0, (float) Math.sin(angle));
+    }
+
+    /**
+     * Property test to verify that resolving a collision conserves the
+     * momentum and the kinetic energy of the balls, for random collisions.
+     */
+    @Test
+    public void testResolveCollisionConservation() {
+        Random random = new Random(0);
+        for (int i = 0; i < SAMPLES; i++) {
+            Vector3 velocity1 = randomDirection(random).scl(random.nextFloat());
+            Vector3 velocity2 = randomDirection(random).scl(random.nextFloat());
+            Vector3 momentum = new Vector3(velocity1).add(velocity2);
+            float energy = velocity1.len2() + velocity2.len2();
+
+            PhysicsUtils.resolveCollision(velocity1, velocity2, randomDirection(random));
+
+            assertTrue(momentum.epsilonEquals(new Vector3(velocity1).add(velocity2), EPSILON));
+            assertEquals(energy, velocity1.len2() + velocity2.len2(), EPSILON);
+        }
+    }
+
+    /**
+     * Property test to verify that resolving a collision results in the same
+     * speeds as the angle based getSpeedOnCollision, for random collisions.
+     */
+    @Test
+    public void testResolveCollisionMatchesSpeedOnCollision() {
+        Random random = new Random(1);
+        for (int i = 0; i < SAMPLES; i++) {
+            Vector3 direction1 = randomDirection(random);
+            Vector3 direction2 = randomDirection(random);
+            Vector3 normal = randomDirection(random);
+            float speed1 = random.nextFloat();
+            float speed2 = random.nextFloat();
+
+            Vector3 velocity1 = new Vector3(direction1).scl(speed1);
+            Vector3 velocity2 = new Vector3(direction2).scl(speed2);
+            if (!PhysicsUtils.resolveCollision(velocity1, velocity2, normal)) {
+                continue;
+            }
+
+            float[] expected = PhysicsUtils.getSpeedOnCollision(direction1, speed1,
+                    normal, direction2, speed2);
+            assertEquals(expected[0], velocity1.len(), ANGLE_EPSILON);
+            assertEquals(expected[1], velocity2.len(), ANGLE_EPSILON);
+        }
+    }
+
+    /**
+     * Test case to verify that a head-on collision with a ball at rest
+     * stops the collider, and gives all of its speed to the collidee.
+     */
+    @Test
+    public void testResolveCollisionHeadOn() {
+        Vector3 velocity1 = new Vector3(0.5f, 0, 0);
+        Vector3 velocity2 = new Vector3();
+
+        assertTrue(PhysicsUtils.resolveCollision(velocity1, velocity2, new Vector3(1, 0, 0)));
+        assertEquals(new Vector3(), velocity1);
+        assertEquals(new Vector3(0.5f, 0, 0), velocity2);
+    }
+
+    /**
+     * Test case to verify that balls that move apart are not changed.
+     */
+    @Test
+    public void testResolveCollisionMovingApart() {
+        Vector3 velocity1 = new Vector3(-0.5f, 0, 0);
+        Vector3 velocity2 = new Vector3(0.2f, 0, 0.1f);
+
+        assertFalse(PhysicsUtils.resolveCollision(velocity1, velocity2, new Vector3(1, 0, 0)));
+        assertEquals(new Vector3(-0.5f, 0, 0), velocity1);
+        assertEquals(new Vector3(0.2f, 0, 0.1f), velocity2);
+    }
+
+    /**
+     * Test case to verify that overlapping balls are pushed apart
+     * until they just touch, and only the ball if the other is at rest.
+     */
+    @Test
+    public void testSeparateBalls() {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        List<Ball3D> balls = new SimulationFactory().createSimulation(players).getPoolBalls();
+        Ball3D ball = balls.get(0);
+        Ball3D other = balls.get(1);
+        final float contact = 2 * ball.getRadius() * Ball3D.hitBoxRatio;
+        ball.translate(new Vector3(ball.getCoordinates()).scl(-1));
+        other.translate(new Vector3(other.getCoordinates()).scl(-1).add(contact / 2, 0, 0));
+
+        PhysicsUtils.separate(ball, other, false, new Vector3());
+        assertEquals(-contact / 2, ball.getCoordinates().x, EPSILON);
+        assertEquals(contact / 2, other.getCoordinates().x, EPSILON);
+
+        ball.translate(new Vector3(contact / 2, 0, 0));
+        PhysicsUtils.separate(ball, other, true, new Vector3());
+        assertEquals(contact / 4 - contact / 2, ball.getCoordinates().x, EPSILON);
+        assertEquals(contact / 4 + contact / 2, other.getCoordinates().x, EPSILON);
+    }
+
+    /**
+     * Test case to verify that a ball that overlaps with a border
+     * is pushed back along the normal of the border.
+     */
+    @Test
+    public void testSeparateBorder() {
+        List<Player> players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        Ball3D ball = new SimulationFactory().createSimulation(players).getPoolBalls().get(0);
+        ball.translate(new Vector3(ball.getCoordinates()).scl(-1).add(1, 0, 0));
+        HitBox border = new HitBox(HitBox.Type.BOX, new Vector3(0.1f, 10, 10));
+        border.updateLocation(new Matrix4().setToTranslation(1.1f, 0, 0));
+        border.setNormal(new Vector3(1, 0, 0));
+
+        PhysicsUtils.separate(ball, border, new Vector3());
+
+        assertEquals(1 - ball.getRadius() * Ball3D.hitBoxRatio, ball.getCoordinates().x, EPSILON);
+        // A ball that does not overlap is not moved
+        PhysicsUtils.separate(ball, border, new Vector3());
+        assertEquals(1 - ball.getRadius() * Ball3D.hitBoxRatio, ball.getCoordinates().x, EPSILON);
+    }
+}
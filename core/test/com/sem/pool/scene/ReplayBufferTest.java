@@ -0,0 +1,111 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.game.GameConstants;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the ReplayBuffer class.
+ */
+class ReplayBufferTest {
+    private static final int CAPACITY = 3;
+
+    private transient ReplayBuffer buffer;
+    private transient BallStateBuffer states;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ReplayBuffer(2, CAPACITY);
+        states = new BallStateBuffer(2);
+        states.add(new Vector3(), new Vector3(), 0);
+        states.add(new Vector3(1, 0, 1), new Vector3(), 0);
+    }
+
+    /**
+     * Records a frame with the first ball at the specified x coordinate.
+     * @param x  X coordinate of the first ball
+     */
+    private void recordFrame(float x) {
+        states.setPosition(0, new Vector3(x, 0, 0));
+        buffer.record(states);
+    }
+
+    /**
+     * Test case to verify that a buffer for a duration has
+     * a frame for every physics step of the duration.
+     */
+    @Test
+    void testForDuration() {
+        ReplayBuffer replay = ReplayBuffer.forDuration(GameConstants.BALL_COUNT, 1);
+
+        assertEquals(Math.round(1 / GameConstants.PHYSICS_STEP), replay.getCapacity());
+        assertEquals(0, replay.getFrameCount());
+        assertEquals(0, replay.getDuration());
+    }
+
+    /**
+     * Test case to verify that the positions of the recorded frames are
+     * returned, and that positions between frames are interpolated.
+     */
+    @Test
+    void testGetPosition() {
+        recordFrame(0);
+        recordFrame(2);
+
+        assertEquals(2, buffer.getFrameCount());
+        assertEquals(GameConstants.PHYSICS_STEP, buffer.getDuration());
+        assertEquals(new Vector3(0, 0, 0), buffer.getPosition(0, 0, new Vector3()));
+        assertEquals(new Vector3(1, 0, 0),
+                buffer.getPosition(0, GameConstants.PHYSICS_STEP / 2, new Vector3()));
+        assertEquals(new Vector3(1, 0, 1), buffer.getPosition(1, 1, new Vector3()));
+        assertEquals(new Vector3(0, 0, 0), buffer.getPosition(0, -1, new Vector3()));
+    }
+
+    /**
+     * Test case to verify that the oldest frame is overwritten
+     * when a frame is recorded in a full buffer.
+     */
+    @Test
+    void testRecordFull() {
+        for (int i = 0; i <= CAPACITY; i++) {
+            recordFrame(i);
+        }
+
+        assertEquals(CAPACITY, buffer.getFrameCount());
+        assertEquals(new Vector3(1, 0, 0), buffer.getPosition(0, 0, new Vector3()));
+        assertEquals(new Vector3(CAPACITY, 0, 0),
+                buffer.getPosition(0, buffer.getDuration(), new Vector3()));
+    }
+
+    /**
+     * Test case to verify that clearing the buffer removes all frames,
+     * and that recording continues from the start of the buffer.
+     */
+    @Test
+    void testClear() {
+        recordFrame(1);
+        recordFrame(2);
+        buffer.clear();
+        recordFrame(3);
+
+        assertEquals(1, buffer.getFrameCount());
+        assertEquals(new Vector3(3, 0, 0), buffer.getPosition(0, 1, new Vector3()));
+    }
+
+    /**
+     * Test case to verify that only the balls that have
+     * a slot in the states are recorded.
+     */
+    @Test
+    void testRecordFewerStates() {
+        ReplayBuffer replay = new ReplayBuffer(GameConstants.BALL_COUNT, 1);
+        replay.record(states);
+
+        assertEquals(new Vector3(1, 0, 1), replay.getPosition(1, 0, new Vector3()));
+        assertEquals(new Vector3(), replay.getPosition(2, 0, new Vector3()));
+    }
+}
@@ -12,7 +12,6 @@ import com.badlogic.gdx.graphics.g3d.ModelBatch;
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
-import com.sem.pool.game.GameConstants;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -53,6 +52,7 @@ class Scene3DTest {
         environment = Mockito.mock(Environment.class);
 
         table = Mockito.mock(Table3D.class);
+        Mockito.when(table.findCollision(Mockito.any())).thenReturn(Table3D.NO_COLLISION);
         poolBalls = new ArrayList<>();
         cue = Mockito.mock(Cue3D.class);
         soundPlayer = Mockito.mock(SoundPlayer.class);
@@ -134,6 +134,30 @@ class Scene3DTest {
         Mockito.verify(batch).end();
     }
 
+    /**
+     * Test case to verify that rendering with interpolation renders
+     * the balls at their interpolated position, and restores
+     * their physics position afterwards.
+     */
+    @Test
+    public void testRenderInterpolated() {
+        ModelInstance model = Mockito.mock(ModelInstance.class);
+        model.transform = new Matrix4();
+        Ball3D ball = new RegularBall3D(1, model);
+        ball.storePreviousPosition();
+        ball.translate(new Vector3(2, 0, 0));
+        scene.getPoolBalls().add(ball);
+
+        List<Vector3> rendered = new ArrayList<>();
+        Mockito.doAnswer(invocation -> rendered.add(ball.getCoordinates()))
+                .when(batch).render(Mockito.anyList(), Mockito.any(Environment.class));
+
+        scene.render(0.25f);
+
+        assertEquals(new Vector3(0.5f, 0, 0), rendered.get(0));
+        assertEquals(new Vector3(2, 0, 0), ball.getCoordinates());
+    }
+
     /**
      * Test case to ensure that after calling the dispose method
      * on the scene, all the necessary calls are made to clean
@@ -147,6 +171,41 @@ class Scene3DTest {
         assertEquals(0, scene.getModels().size());
     }
 
+    /**
+     * Test case to verify that disposing the scene disposes the hit
+     * boxes of the balls and the table, and their collision handler.
+     */
+    @Test
+    public void testDisposeNativeObjects() {
+        Ball3D ball = Mockito.mock(Ball3D.class);
+        HitBox hitBox = Mockito.mock(HitBox.class);
+        Mockito.when(ball.getHitBox()).thenReturn(hitBox);
+        poolBalls.add(ball);
+        poolBalls.add(Mockito.mock(Ball3D.class));
+        CollisionHandler handler = Mockito.mock(CollisionHandler.class);
+        Mockito.when(table.getCollisionHandler()).thenReturn(handler);
+
+        scene.dispose();
+
+        Mockito.verify(hitBox).dispose();
+        Mockito.verify(table).dispose();
+        Mockito.verify(handler).dispose();
+    }
+
+    /**
+     * Test case to verify that disposing the scene releases
+     * its collision context.
+     */
+    @Test
+    public void testDisposeCollisionContext() {
+        CollisionContext context = Mockito.mock(CollisionContext.class);
+        scene.setCollisionContext(context);
+        scene.dispose();
+
+        assertEquals(context, scene.getCollisionContext());
+        Mockito.verify(context).dispose();
+    }
+
     /**
      * Test case to verify that the collisions are checked between
      * all the balls and the table of the game upon triggering
@@ -158,6 +217,8 @@ class Scene3DTest {
         Ball3D ball1 = Mockito.mock(Ball3D.class);
         Ball3D ball2 = Mockito.mock(Ball3D.class);
 
+        Mockito.when(ball1.isInMotion()).thenReturn(true);
+        Mockito.when(ball2.isInMotion()).thenReturn(true);
         scene.getPoolBalls().add(ball1);
         scene.getPoolBalls().add(ball2);
 
@@ -166,8 +227,30 @@ class Scene3DTest {
 
         // Verify that the collisions are checked between
         // the balls and the table.
-        Mockito.verify(table).checkCollision(ball1);
-        Mockito.verify(table).checkCollision(ball2);
+        Mockito.verify(table).findCollision(ball1);
+        Mockito.verify(table).findCollision(ball2);
+    }
+
+    /**
+     * Test case to verify that a ball at rest is not checked against
+     * the table, until it is hit by a moving ball and wakes up.
+     */
+    @Test
+    public void testTriggerCollisionsSleepingBallWokenByCollision() {
+        Ball3D moving = Mockito.mock(Ball3D.class);
+        Ball3D resting = Mockito.mock(Ball3D.class);
+        Mockito.when(moving.isInMotion()).thenReturn(true);
+        Mockito.when(moving.checkCollision(resting)).thenReturn(true);
+        scene.getPoolBalls().add(moving);
+        scene.getPoolBalls().add(resting);
+
+        scene.triggerCollisions();
+        Mockito.verify(table).findCollision(moving);
+        Mockito.verify(table, Mockito.never()).findCollision(resting);
+
+        // The hit sets the resting ball in motion
+        Mockito.when(resting.isInMotion()).thenReturn(true);
+        assertEquals(poolBalls, scene.updateActiveBalls());
     }
 
     /**
@@ -179,7 +262,7 @@ class Scene3DTest {
     public void testTriggerCollisionsBallPotted() {
         Ball3D ball = Mockito.mock(Ball3D.class);
         scene.getPoolBalls().add(ball);
-        ball.setSpeed(GameConstants.MIN_SPEED + 1);
+        Mockito.when(ball.isInMotion()).thenReturn(true);
         // Set ball to be potted
         Mockito.when(table.checkIfPot(ball)).thenReturn(true);
 
@@ -203,6 +286,7 @@ class Scene3DTest {
         // Create specified number of balls & set ball to be potted
         for (int i = 0; i < ballCount; ++i) {
             Ball3D ball = Mockito.mock(Ball3D.class);
+            Mockito.when(ball.isInMotion()).thenReturn(true);
             Mockito.when(table.checkIfPot(ball)).thenReturn(true);
             scene.getPoolBalls().add(ball);
         }
@@ -224,7 +308,7 @@ class Scene3DTest {
     public void testTriggerCollisionsNoBallPotted() {
         Ball3D ball = Mockito.mock(Ball3D.class);
         scene.getPoolBalls().add(ball);
-        ball.setSpeed(GameConstants.MIN_SPEED + 1);
+        Mockito.when(ball.isInMotion()).thenReturn(true);
         // Set ball to be potted
         Mockito.when(table.checkIfPot(ball)).thenReturn(false);
 
@@ -250,6 +334,7 @@ class Scene3DTest {
         scene.getPoolBalls().add(ball2);
 
         // Make the two balls collide
+        Mockito.when(ball1.isInMotion()).thenReturn(true);
         Mockito.when(ball1.checkCollision(ball2)).thenReturn(true);
 
         // Trigger collisions for the scene
@@ -276,6 +361,7 @@ class Scene3DTest {
         scene.getPoolBalls().add(ball2);
 
         // Make the two balls collide
+        Mockito.when(ball1.isInMotion()).thenReturn(true);
         Mockito.when(ball1.checkCollision(ball2)).thenReturn(true);
 
         // Trigger collisions for the scene
@@ -302,6 +388,7 @@ class Scene3DTest {
         scene.getPoolBalls().add(ball3);
 
         // Make the two balls collide
+        Mockito.when(ball1.isInMotion()).thenReturn(true);
         Mockito.when(ball1.checkCollision(ball2)).thenReturn(true);
         Mockito.when(ball1.checkCollision(ball3)).thenReturn(true);
 
@@ -338,6 +425,44 @@ class Scene3DTest {
         assertTrue(scene.getFirstTouched() instanceof NullBall);
     }
 
+    /**
+     * Test case to verify that balls which are far apart are culled
+     * by the broadphase, and never reach the narrowphase check.
+     */
+    @Test
+    public void testTriggerCollisionsFarBallsCulled() {
+        Ball3D ball1 = Mockito.mock(CueBall3D.class);
+        Ball3D ball2 = Mockito.mock(Ball3D.class);
+        Mockito.when(ball1.getCoordinates(Mockito.any())).thenReturn(new Vector3(-2, 0.28f, 0));
+        Mockito.when(ball2.getCoordinates(Mockito.any())).thenReturn(new Vector3(2, 0.28f, 0));
+        Mockito.when(ball1.getRadius()).thenReturn(0.1f);
+        Mockito.when(ball2.getRadius()).thenReturn(0.1f);
+        Mockito.when(ball1.isInMotion()).thenReturn(true);
+
+        scene.getPoolBalls().add(ball1);
+        scene.getPoolBalls().add(ball2);
+        scene.triggerCollisions();
+
+        Mockito.verify(ball1, Mockito.never()).checkCollision(ball2);
+        assertEquals(0, scene.getBroadPhase().getPairsTested());
+        assertEquals(1, scene.getBroadPhase().getPairsCulled());
+        assertTrue(scene.getFirstTouched() instanceof NullBall);
+    }
+
+    /**
+     * Test case to verify that the scene is in motion when
+     * one of its balls is in motion, and at rest otherwise.
+     */
+    @Test
+    public void testIsInMotion() {
+        Ball3D ball = Mockito.mock(Ball3D.class);
+        scene.getPoolBalls().add(ball);
+        assertFalse(scene.isInMotion());
+
+        Mockito.when(ball.isInMotion()).thenReturn(true);
+        assertTrue(scene.isInMotion());
+    }
+
     /**
      * Test if getting the cue ball will actually return the cue ball.
      */
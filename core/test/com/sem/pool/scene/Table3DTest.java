@@ -1,9 +1,11 @@
 package com.sem.pool.scene;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 
 import java.util.ArrayList;
@@ -23,13 +25,12 @@ class Table3DTest {
     private transient Table3D board;
 
     /**
-     * For every test, set up a fresh Table3D and potHitBoxes list.
+     * For every test, set up a fresh Table3D.
      */
     @BeforeEach
     public void setUp() {
         ModelInstance model = Mockito.mock(ModelInstance.class);
         this.board = new Table3D(model);
-        Table3D.potHitBoxes = new ArrayList<>();
     }
 
     /**
@@ -168,4 +169,49 @@ class Table3DTest {
         Mockito.verify(mockedBall, Mockito.times(0)).pot();
     }
 
-}
\ No newline at end of file
+    /**
+     * Test case to verify that disposing the table disposes
+     * and removes its hit boxes and pot hit boxes.
+     */
+    @Test
+    public void testDispose() {
+        HitBox hitBox = Mockito.mock(HitBox.class);
+        HitBox pot = Mockito.mock(HitBox.class);
+        board.addHitBox(hitBox);
+        board.addPotHitBox(pot);
+
+        board.dispose();
+
+        Mockito.verify(hitBox).dispose();
+        Mockito.verify(pot).dispose();
+        assertTrue(board.getHitBoxes().isEmpty());
+        assertTrue(board.getPotHitBoxes().isEmpty());
+    }
+
+    /**
+     * Test case to verify that a table with a compiled geometry checks
+     * the borders and pots through the geometry, and not the collision handler.
+     */
+    @Test
+    public void testGeometry() {
+        CollisionHandler mockedHandler = Mockito.mock(CollisionHandler.class);
+        board.setCollisionHandler(mockedHandler);
+        HitBox border = new HitBox(HitBox.Type.BOX, new Vector3(10, 10, 0.1f));
+        border.updateLocation(new Matrix4().trn(0, 0, 1.45f));
+        border.setNormal(new Vector3(0, 0, 1));
+        ArrayList<HitBox> borders = new ArrayList<>();
+        borders.add(border);
+        TableGeometry geometry = new TableGeometry(borders, new ArrayList<>());
+        board.setGeometry(geometry);
+        assertEquals(geometry, board.getGeometry());
+
+        Ball3D mockedBall = Mockito.mock(Ball3D.class);
+        HitBox sphere = new HitBox(HitBox.Type.SPHERE, new Vector3(0.1f, 0.1f, 0.1f));
+        sphere.updateLocation(new Matrix4().trn(0, 0, 1.3f));
+        Mockito.when(mockedBall.getHitBox()).thenReturn(sphere);
+
+        assertEquals(0, board.findCollision(mockedBall));
+        assertFalse(board.checkIfPot(mockedBall));
+        Mockito.verifyNoInteractions(mockedHandler);
+    }
+}
@@ -0,0 +1,146 @@
+package com.sem.pool.scene;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class containing unit tests for the TableGeometry class.
+ */
+class TableGeometryTest {
+    private static final float RADIUS = SimulationFactory.BALL_RADIUS * Ball3D.hitBoxRatio;
+    private static final float HEIGHT = 0.28f;
+    private static final float STEP = 0.01f;
+
+    private transient Table3D table;
+    private transient TableGeometry geometry;
+
+    @BeforeEach
+    void setUp() {
+        table = new SimulationFactory().createTable();
+        geometry = table.getGeometry();
+    }
+
+    /**
+     * Creates a pot hit box at the specified position.
+     * @param x  X coordinate of the pot
+     * @param z  Z coordinate of the pot
+     * @return  Cylinder hit box of the pot
+     */
+    private static HitBox pot(float x, float z) {
+        HitBox pot = new HitBox(HitBox.Type.CYLINDER, new Vector3(0.175f, 10f, 0.175f));
+        pot.updateLocation(new Matrix4().trn(x, 0, z));
+        return pot;
+    }
+
+    /**
+     * Test case to verify that the corner pots are bucketed with both of their
+     * borders, and the middle pots only with the long borders.
+     */
+    @Test
+    public void testRegions() {
+        assertEquals(4, geometry.getBorderCount());
+        assertEquals(6, geometry.getPotCount());
+        assertArrayEquals(new int[] {0, 1, 4}, geometry.getRegion(0));
+        assertArrayEquals(new int[] {2, 3, 5}, geometry.getRegion(1));
+        assertArrayEquals(new int[] {0, 2}, geometry.getRegion(2));
+        assertArrayEquals(new int[] {1, 3}, geometry.getRegion(3));
+    }
+
+    /**
+     * Test case to verify that the regions can not be changed from outside.
+     */
+    @Test
+    public void testRegionCopy() {
+        geometry.getRegion(0)[0] = 3;
+        assertEquals(0, geometry.getRegion(0)[0]);
+    }
+
+    /**
+     * Test case to verify that the borders and pots of the geometry report the
+     * same collisions as checking the hit boxes of the table, for positions
+     * all over the table.
+     */
+    @Test
+    public void testMatchesHitBoxes() {
+        CollisionHandler handler = table.getCollisionHandler();
+        HitBox sphere = new HitBox(HitBox.Type.SPHERE, new Vector3(RADIUS, RADIUS, RADIUS));
+        for (float x = -3.1f; x <= 3.1f; x += STEP) {
+            for (float z = -1.5f; z <= 1.5f; z += STEP) {
+                sphere.updateLocation(new Matrix4().trn(x, HEIGHT, z));
+                Vector3 center = sphere.getPosition();
+
+                int border = Table3D.NO_COLLISION;
+                for (int c = table.getHitBoxes().size() - 1; c >= 0; c--) {
+                    if (handler.checkHitBoxCollision(sphere, table.getHitBoxes().get(c))) {
+                        border = c;
+                    }
+                }
+                assertEquals(border, geometry.findBorder(center, RADIUS), center.toString());
+
+                int pot = TableGeometry.NO_POT;
+                for (int p = 0; p < table.getPotHitBoxes().size(); p++) {
+                    if (handler.checkHitBoxCollision(sphere, table.getPotHitBoxes().get(p))) {
+                        pot = p;
+                    }
+                }
+                assertEquals(pot, geometry.findPot(center, RADIUS), center.toString());
+            }
+        }
+    }
+
+    /**
+     * Test case to verify that a ball that passed through a border still
+     * collides with it, unlike with the box of the border.
+     */
+    @Test
+    public void testBeyondBorder() {
+        assertEquals(2, geometry.findBorder(new Vector3(4, HEIGHT, 0), RADIUS));
+        assertEquals(Table3D.NO_COLLISION, geometry.findBorder(new Vector3(), RADIUS));
+    }
+
+    /**
+     * Test case to verify that a layout with a pot placed twice is rejected.
+     */
+    @Test
+    public void testDuplicatePot() {
+        List<HitBox> pots = new ArrayList<>(table.getPotHitBoxes());
+        pots.add(pot(-3.05f, 1.45f));
+
+        List<HitBox> borders = table.getHitBoxes();
+        assertThrows(IllegalArgumentException.class, () -> new TableGeometry(borders, pots));
+    }
+
+    /**
+     * Test case to verify that a layout with a pot that does not reach
+     * any border, and which would thus never be checked, is rejected.
+     */
+    @Test
+    public void testUnreachablePot() {
+        List<HitBox> pots = new ArrayList<>(table.getPotHitBoxes());
+        pots.add(pot(0, 0));
+
+        List<HitBox> borders = table.getHitBoxes();
+        assertThrows(IllegalArgumentException.class, () -> new TableGeometry(borders, pots));
+    }
+
+    /**
+     * Test case to verify that a layout without borders is rejected.
+     */
+    @Test
+    public void testNoBorders() {
+        List<HitBox> borders = new ArrayList<>();
+        List<HitBox> pots = table.getPotHitBoxes();
+        assertThrows(IllegalArgumentException.class, () -> new TableGeometry(borders, pots));
+    }
+}
@@ -0,0 +1,93 @@
+package com.sem.pool.desktop;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.scene.PhysicsUtils;
+
+import java.util.Random;
+
+/**
+ * Benchmark that compares the angle based collision response of
+ * PhysicsUtils.getSpeedOnCollision with the vector based resolveCollision.
+ * Prints the average time per resolved collision of both.
+ * Usage: benchmarkCollision [collisions per round] [rounds]
+ */
+public class CollisionBenchmark {
+
+    private static final int DEFAULT_COLLISIONS = 1_000_000;
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int INPUTS = 1024;
+
+    // Prevents the JIT from removing the benchmarked calls
+    private static float sink;
+
+    /**
+     * Runs both collision responses on the same random inputs.
+     * The first round of each is a warm-up, and is not measured.
+     * @param args  Optional number of collisions per round and number of rounds
+     */
+    public static void main(String[] args) {
+        int collisions = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_COLLISIONS;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+        Random random = new Random(0);
+        Vector3[] directions = new Vector3[INPUTS];
+        float[] speeds = new float[INPUTS];
+        for (int i = 0; i < INPUTS; i++) {
+            double angle = random.nextDouble() * 2 * Math.PI;
+            directions[i] = new Vector3((float) Math.cos(angle), 0, (float) Math.sin(angle));
+            speeds[i] = random.nextFloat();
+        }
+
+        long trig = 0;
+        long vector = 0;
+        for (int round = 0; round <= rounds; round++) {
+            long start = System.nanoTime();
+            runTrig(directions, speeds, collisions);
+            long middle = System.nanoTime();
+            runVector(directions, speeds, collisions);
+            if (round > 0) {
+                trig += middle - start;
+                vector += System.nanoTime() - middle;
+            }
+        }
+
+        double total = (double) collisions * rounds;
+        System.out.printf("getSpeedOnCollision: %6.1f ns/collision%n", trig / total);
+        System.out.printf("resolveCollision:    %6.1f ns/collision%n", vector / total);
+        System.out.println(sink);
+    }
+
+    /**
+     * Resolves the collisions with the angle based implementation.
+     * @param directions  Random directions to take the inputs from
+     * @param speeds  Random speeds to take the inputs from
+     * @param collisions  Number of collisions to resolve
+     */
+    private static void runTrig(Vector3[] directions, float[] speeds, int collisions) {
+        for (int i = 0; i < collisions; i++) {
+            float[] result = PhysicsUtils.getSpeedOnCollision(
+                    directions[i % INPUTS], speeds[i % INPUTS],
+                    directions[(i + 1) % INPUTS],
+                    directions[(i + 2) % INPUTS], speeds[(i + 2) % INPUTS]);
+            sink += result[0] + result[1];
+        }
+    }
+
+    /**
+     * Resolves the collisions with the vector based implementation,
+     * reusing the same storage for every collision.
+     * @param directions  Random directions to take the inputs from
+     * @param speeds  Random speeds to take the inputs from
+     * @param collisions  Number of collisions to resolve
+     */
+    private static void runVector(Vector3[] directions, float[] speeds, int collisions) {
+        Vector3 velocity1 = new Vector3();
+        Vector3 velocity2 = new Vector3();
+        for (int i = 0; i < collisions; i++) {
+            velocity1.set(directions[i % INPUTS]).scl(speeds[i % INPUTS]);
+            velocity2.set(directions[(i + 2) % INPUTS]).scl(speeds[(i + 2) % INPUTS]);
+            PhysicsUtils.resolveCollision(velocity1, velocity2, directions[(i + 1) % INPUTS]);
+            sink += velocity1.len() + velocity2.len();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.sem.pool.desktop;
+
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.game.Player;
+import com.sem.pool.game.ShotSearch;
+import com.sem.pool.game.Simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark of the shot search of the computer player. Searches the break
+ * shot with an increasing number of threads, and prints the number of
+ * shots simulated per second to show how the search scales.
+ * Usage: benchmarkAi [budget in milliseconds] [rounds]
+ */
+public class ShotSearchBenchmark {
+
+    private static final long DEFAULT_BUDGET = 1000;
+    private static final int DEFAULT_ROUNDS = 3;
+    private static final long SEED = 42;
+
+    /**
+     * Runs the benchmark for 1 up to the number of available processors.
+     * The first round of each run is a warm-up, and is not measured.
+     * @param args  Optional time budget per search and number of rounds
+     */
+    public static void main(String[] args) {
+        long budget = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_BUDGET;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+        Player player = new Player(0);
+        List<Player> players = new ArrayList<>();
+        players.add(player);
+        players.add(new Player(1));
+        Simulation simulation = new SimulationFactory().createSimulation(players);
+
+        double baseline = 0;
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= processors; threads++) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            ShotSearch search = new ShotSearch(pool, budget, SEED);
+
+            long shots = 0;
+            long nanos = 0;
+            for (int round = 0; round <= rounds; round++) {
+                long start = System.nanoTime();
+                search.findShot(simulation.getPoolBalls(), player);
+                if (round > 0) {
+                    nanos += System.nanoTime() - start;
+                    shots += search.getEvaluatedShots();
+                }
+            }
+            pool.shutdown();
+
+            double perSecond = shots / (nanos / 1e9);
+            if (threads == 1) {
+                baseline = perSecond;
+            }
+            System.out.printf("%2d threads: %8.1f shots/s (%.2fx)%n",
+                    threads, perSecond, perSecond / baseline);
+        }
+    }
+}
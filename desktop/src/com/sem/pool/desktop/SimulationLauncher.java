@@ -0,0 +1,48 @@
+package com.sem.pool.desktop;
+
+import com.badlogic.gdx.math.Vector3;
+import com.sem.pool.factories.SimulationFactory;
+import com.sem.pool.game.Player;
+import com.sem.pool.game.ShotOutcome;
+import com.sem.pool.game.Simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Launcher to simulate a single break shot from the command line,
+ * without opening a window or loading any assets.
+ * Usage: simulate [angle in degrees] [force]
+ */
+public class SimulationLauncher {
+
+    private static final float DEFAULT_ANGLE = 0f;
+    private static final float DEFAULT_FORCE = 0.3f;
+
+    /**
+     * Simulates a break shot and prints its outcome.
+     * @param args  Optional angle of the shot in degrees and force of the shot
+     */
+    public static void main(String[] args) {
+        float angle = args.length > 0 ? Float.parseFloat(args[0]) : DEFAULT_ANGLE;
+        float force = args.length > 1 ? Float.parseFloat(args[1]) : DEFAULT_FORCE;
+
+        List<Player> players = new ArrayList<>();
+        players.add(new Player(0));
+        players.add(new Player(1));
+        Simulation simulation = new SimulationFactory().createSimulation(players);
+
+        double radians = Math.toRadians(angle);
+        Vector3 direction = new Vector3((float) Math.cos(radians), 0, (float) Math.sin(radians));
+        ShotOutcome outcome = simulation.shoot(direction, force);
+
+        System.out.println("Steps: " + outcome.getSteps());
+        System.out.println("First touched: " + outcome.getFirstTouched());
+        System.out.println("Ball collisions: " + outcome.getBallCollisions());
+        System.out.println("Potted: " + outcome.getPottedBalls());
+        System.out.println("Cue ball potted: " + outcome.isCueBallPotted());
+        System.out.println("Turn kept: " + outcome.isTurnKept());
+        outcome.getWinner().ifPresent(winner ->
+                System.out.println("Winner: player " + winner.getId()));
+    }
+}